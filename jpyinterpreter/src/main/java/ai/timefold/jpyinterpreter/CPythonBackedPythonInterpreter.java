@@ -3,12 +3,10 @@ package ai.timefold.jpyinterpreter;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
-import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -22,7 +20,7 @@ import ai.timefold.jpyinterpreter.types.errors.PythonTraceback;
 import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 import ai.timefold.jpyinterpreter.types.wrappers.OpaquePythonReference;
 import ai.timefold.jpyinterpreter.types.wrappers.PythonObjectWrapper;
-import ai.timefold.jpyinterpreter.util.ConcurrentWeakIdentityHashMap;
+import ai.timefold.jpyinterpreter.util.PythonIdMap;
 import ai.timefold.jpyinterpreter.util.function.PentaFunction;
 import ai.timefold.jpyinterpreter.util.function.QuadConsumer;
 import ai.timefold.jpyinterpreter.util.function.QuadFunction;
@@ -35,10 +33,7 @@ public class CPythonBackedPythonInterpreter implements PythonInterpreter {
 
     Map<ModuleSpec, PythonModule> moduleSpecToModuleMap = new HashMap<>();
 
-    final Set<PythonLikeObject> hasReferenceSet =
-            Collections.newSetFromMap(new ConcurrentWeakIdentityHashMap<>());
-
-    public static Map<Number, Object> pythonObjectIdToConvertedObjectMap = new HashMap<>();
+    public static Map<Number, Object> pythonObjectIdToConvertedObjectMap = new PythonIdMap<>();
 
     public static Function<OpaquePythonReference, Number> lookupPythonReferenceIdPythonFunction;
 
@@ -138,15 +133,18 @@ public class CPythonBackedPythonInterpreter implements PythonInterpreter {
 
     @Override
     public boolean hasValidPythonReference(PythonLikeObject instance) {
-        return hasReferenceSet.contains(instance);
+        // The id is only set by setPythonReference, so objects created with a reference (such as wrappers),
+        // objects sharing the reference of another object (such as planning clones)
+        // and objects without a reference never have a valid reference
+        return instance instanceof CPythonBackedPythonLikeObject backedObject
+                && backedObject.$cpythonId != CPythonBackedPythonLikeObject.NO_CPYTHON_ID;
     }
 
     @Override
     public void setPythonReference(PythonLikeObject instance, OpaquePythonReference reference) {
         if (instance instanceof CPythonBackedPythonLikeObject backedObject) {
             backedObject.$cpythonReference = reference;
-            backedObject.$cpythonId = PythonInteger.valueOf(getPythonReferenceId(reference).longValue());
-            hasReferenceSet.add(backedObject);
+            backedObject.$cpythonId = getPythonReferenceId(reference).longValue();
         } else {
             throw new IllegalArgumentException(
                     "Can only call this method on %s objects.".formatted(CPythonBackedPythonLikeObject.class.getSimpleName()));
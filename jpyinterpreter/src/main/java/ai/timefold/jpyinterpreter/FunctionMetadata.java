@@ -19,4 +19,7 @@ public class FunctionMetadata {
     public PythonCompiledFunction pythonCompiledFunction;
     public Map<Integer, Label> bytecodeCounterToLabelMap;
     public Map<Integer, List<Runnable>> bytecodeCounterToCodeArgumenterList;
+
+    // True if yielded values are passed to the action of PythonGenerator.forEachWhile instead of returned
+    public boolean isGeneratorForEachWhile;
 }
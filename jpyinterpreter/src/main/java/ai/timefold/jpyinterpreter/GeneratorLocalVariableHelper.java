@@ -2,7 +2,9 @@ package ai.timefold.jpyinterpreter;
 
 import java.lang.reflect.Modifier;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import ai.timefold.jpyinterpreter.types.PythonCell;
 
@@ -21,7 +23,17 @@ public class GeneratorLocalVariableHelper extends LocalVariableHelper {
 
     final int freeStart;
 
-    int maxTemps;
+    /**
+     * The slots that already have a field in the generator class;
+     * shared by every helper of the class, so methods translated separately reuse the same temp fields.
+     */
+    final Set<Integer> declaredTempSlots;
+
+    /**
+     * The type descriptors of the fields that hold the stack of a suspended generator, by field name;
+     * shared by every helper of the class.
+     */
+    final Map<String, String> savedStackFieldToDescriptor;
 
     Map<Integer, String> slotToLocalName;
 
@@ -29,9 +41,26 @@ public class GeneratorLocalVariableHelper extends LocalVariableHelper {
 
     public GeneratorLocalVariableHelper(ClassWriter classWriter, String classInternalName,
             Type[] parameters, PythonCompiledFunction compiledFunction) {
+        this(classWriter, classInternalName, parameters, compiledFunction, new HashSet<>(), new HashMap<>());
+    }
+
+    /**
+     * Creates a helper for another method of the same generator class, which shares the class fields of the given helper.
+     */
+    GeneratorLocalVariableHelper(ClassWriter classWriter, String classInternalName,
+            Type[] parameters, PythonCompiledFunction compiledFunction, GeneratorLocalVariableHelper classFieldsHelper) {
+        this(classWriter, classInternalName, parameters, compiledFunction, classFieldsHelper.declaredTempSlots,
+                classFieldsHelper.savedStackFieldToDescriptor);
+    }
+
+    private GeneratorLocalVariableHelper(ClassWriter classWriter, String classInternalName,
+            Type[] parameters, PythonCompiledFunction compiledFunction, Set<Integer> declaredTempSlots,
+            Map<String, String> savedStackFieldToDescriptor) {
         super(parameters, compiledFunction);
         this.classWriter = classWriter;
         this.classInternalName = classInternalName;
+        this.declaredTempSlots = declaredTempSlots;
+        this.savedStackFieldToDescriptor = savedStackFieldToDescriptor;
         cellStart =
                 compiledFunction.co_varnames.size();
         freeStart = compiledFunction.co_varnames.size() + compiledFunction.co_cellvars.size();
@@ -71,8 +100,8 @@ public class GeneratorLocalVariableHelper extends LocalVariableHelper {
             int pythonFreeVariablesStart, int pythonLocalVariablesSlotEnd,
             int pythonBoundVariables, int pythonFreeVariables, Map<Integer, Integer> boundCellIndexToVariableIndex,
             int currentExceptionVariableSlot, int callKeywordsSlot, Map<Integer, Integer> exceptionTableTargetToSavedStackMap,
-            ClassWriter classWriter, String classInternalName, int maxTemps,
-            int cellStart, int freeStart, Map<Integer, String> slotToLocalName,
+            ClassWriter classWriter, String classInternalName, Set<Integer> declaredTempSlots,
+            Map<String, String> savedStackFieldToDescriptor, int cellStart, int freeStart, Map<Integer, String> slotToLocalName,
             Map<Integer, String> slotToLocalTypeDescriptor) {
         super(parameters, argcount, parameterSlotsEnd, pythonCellVariablesStart,
                 pythonFreeVariablesStart, pythonLocalVariablesSlotEnd,
@@ -80,7 +109,8 @@ public class GeneratorLocalVariableHelper extends LocalVariableHelper {
                 currentExceptionVariableSlot, callKeywordsSlot, exceptionTableTargetToSavedStackMap);
         this.classWriter = classWriter;
         this.classInternalName = classInternalName;
-        this.maxTemps = maxTemps;
+        this.declaredTempSlots = declaredTempSlots;
+        this.savedStackFieldToDescriptor = savedStackFieldToDescriptor;
         this.cellStart = cellStart;
         this.freeStart = freeStart;
         this.slotToLocalName = new HashMap<>(slotToLocalName);
@@ -93,7 +123,8 @@ public class GeneratorLocalVariableHelper extends LocalVariableHelper {
                 pythonFreeVariablesStart, pythonLocalVariablesSlotEnd, pythonBoundVariables, pythonFreeVariables,
                 boundCellIndexToVariableIndex, currentExceptionVariableSlot, callKeywordsSlot,
                 exceptionTableTargetToSavedStackMap,
-                classWriter, classInternalName, maxTemps, cellStart, freeStart, slotToLocalName, slotToLocalTypeDescriptor);
+                classWriter, classInternalName, declaredTempSlots, savedStackFieldToDescriptor, cellStart, freeStart,
+                slotToLocalName, slotToLocalTypeDescriptor);
         out.usedLocals = usedLocals;
         return out;
     }
@@ -102,12 +133,62 @@ public class GeneratorLocalVariableHelper extends LocalVariableHelper {
         return "$temp" + slot;
     }
 
+    private static String getSavedStackFieldName(int generatorState, int stackIndex) {
+        return PythonGeneratorTranslator.GENERATOR_STACK + generatorState + "$" + stackIndex;
+    }
+
+    private String getSavedStackFieldDescriptor(String fieldName) {
+        String descriptor = savedStackFieldToDescriptor.get(fieldName);
+        if (descriptor == null) {
+            throw new IllegalStateException("No field was declared for saved stack slot (" + fieldName + ").");
+        }
+        return descriptor;
+    }
+
+    /**
+     * Declares a field for each stack slot that is live when the generator is suspended in the given state.
+     */
+    public void declareSavedStackFields(int generatorState, StackMetadata stackMetadata) {
+        for (int i = 0; i < stackMetadata.getStackSize(); i++) {
+            String fieldName = getSavedStackFieldName(generatorState, i);
+            String descriptor = stackMetadata.getTypeAtStackIndex(i).getJavaTypeDescriptor();
+            if (savedStackFieldToDescriptor.putIfAbsent(fieldName, descriptor) == null) {
+                classWriter.visitField(Modifier.PRIVATE, fieldName, descriptor, null, null);
+            }
+        }
+    }
+
+    /**
+     * Stores TOS in the field for the given stack slot of the given generator state.
+     */
+    public void writeSavedStackSlot(MethodVisitor methodVisitor, int generatorState, int stackIndex) {
+        String fieldName = getSavedStackFieldName(generatorState, stackIndex);
+        String descriptor = getSavedStackFieldDescriptor(fieldName);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getType(descriptor).getInternalName());
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitInsn(Opcodes.SWAP);
+        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, classInternalName, fieldName, descriptor);
+    }
+
+    /**
+     * Pushes the field for the given stack slot of the given generator state, and clears the field
+     * so the generator does not keep the value alive.
+     */
+    public void readSavedStackSlot(MethodVisitor methodVisitor, int generatorState, int stackIndex) {
+        String fieldName = getSavedStackFieldName(generatorState, stackIndex);
+        String descriptor = getSavedStackFieldDescriptor(fieldName);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, classInternalName, fieldName, descriptor);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitInsn(Opcodes.ACONST_NULL);
+        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, classInternalName, fieldName, descriptor);
+    }
+
     @Override
     public int newLocal() {
         int slot = pythonLocalVariablesSlotEnd + usedLocals;
         usedLocals++;
-        if (usedLocals > maxTemps) {
-            maxTemps = usedLocals;
+        if (declaredTempSlots.add(slot)) {
             classWriter.visitField(Modifier.PRIVATE, slotToFieldName(slot), Type.getDescriptor(Object.class), null, null);
         }
         return slot;
@@ -11,4 +11,29 @@ public final class InterpreterStartupOptions {
      * Where to output class files; defaults to null (which cause not class files to not be written)
      */
     public static Path classOutputRootPath = null;
+
+    /**
+     * Whether {@link ai.timefold.jpyinterpreter.types.errors.lookup.LookupError} (such as KeyError and IndexError)
+     * and {@link ai.timefold.jpyinterpreter.types.errors.AttributeError} capture the Java stack trace when created;
+     * defaults to false, since they are commonly raised and caught as part of normal control flow
+     * (ex: try: d[k] except KeyError: ...). When false, the stack trace (which the Python traceback is built from)
+     * is captured when the error is raised outside a try block of a translated function, since it then escapes
+     * the function; frames below that function (such as the builtin that raised it) are not included.
+     */
+    public static boolean captureLookupErrorStackTraces = false;
+
+    /**
+     * Whether functions are simplified by {@link ai.timefold.jpyinterpreter.opcodes.OpcodeOptimizer} before they are
+     * translated (folding constant arithmetic, pruning branches on constants, and removing discarded values);
+     * defaults to true. Only literals are folded, unless {@link #freezeConstantGlobals} is enabled.
+     */
+    public static boolean optimizeBytecode = true;
+
+    /**
+     * Whether {@link #optimizeBytecode} treats module globals named like constants (ex: MAX_HOURS, DEBUG)
+     * that hold a scalar when a function is translated as frozen, and folds them into the function; defaults to false.
+     * This is only correct if nothing rebinds such a global after the functions using it are translated:
+     * not other functions, not module code, and not Python code that is not translated.
+     */
+    public static boolean freezeConstantGlobals = false;
 }
@@ -3,9 +3,13 @@ package ai.timefold.jpyinterpreter;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
+import ai.timefold.jpyinterpreter.types.numeric.PythonFloat;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -29,6 +33,17 @@ public class LocalVariableHelper {
 
     int usedLocals;
 
+    /**
+     * Maps local variables that are kept as an unboxed double to their (two slot wide) double slot.
+     */
+    Map<Integer, Integer> unboxedFloatLocalToSlotMap = Map.of();
+
+    /**
+     * Maps counted loop variables to the (two slot wide) long slot that holds their value
+     * while their {@link PythonLikeObject} slot is null.
+     */
+    Map<Integer, Integer> countedLoopLocalToSlotMap = Map.of();
+
     public LocalVariableHelper(Type[] parameters, PythonCompiledFunction compiledFunction) {
         this.argcount = compiledFunction.totalArgCount();
         this.parameters = parameters;
@@ -91,6 +106,8 @@ public class LocalVariableHelper {
                 pythonBoundVariables, pythonFreeVariables, boundCellIndexToVariableIndex, currentExceptionVariableSlot,
                 callKeywordsSlot, exceptionTableTargetToSavedStackMap);
         out.usedLocals = usedLocals;
+        out.unboxedFloatLocalToSlotMap = unboxedFloatLocalToSlotMap;
+        out.countedLoopLocalToSlotMap = countedLoopLocalToSlotMap;
         return out;
     }
 
@@ -157,11 +174,106 @@ public class LocalVariableHelper {
         return usedLocals;
     }
 
+    /**
+     * Keeps the given local variables in unboxed double slots instead of their {@link PythonLikeObject} slot.
+     * Each local variable must hold a {@link PythonFloat} whenever it is read or written.
+     * Must be called before any temporary local is allocated, since the double slots are never freed.
+     *
+     * @param methodVisitor the method visitor, used to initialize the double slots
+     * @param locals the local variables to unbox
+     */
+    public void unboxFloatLocals(MethodVisitor methodVisitor, Set<Integer> locals) {
+        if (locals.isEmpty()) {
+            return;
+        }
+        Map<Integer, Integer> localToSlotMap = new HashMap<>();
+        for (int local : locals) {
+            int slot = newLocal();
+            newLocal(); // doubles take two slots
+            // Initialize the slot so it is a double at every point of the method, including exception handlers
+            methodVisitor.visitInsn(Opcodes.DCONST_0);
+            methodVisitor.visitVarInsn(Opcodes.DSTORE, slot);
+            localToSlotMap.put(local, slot);
+        }
+        unboxedFloatLocalToSlotMap = localToSlotMap;
+    }
+
+    public boolean isUnboxedFloatLocal(int local) {
+        return unboxedFloatLocalToSlotMap.containsKey(local);
+    }
+
+    public int getUnboxedFloatLocalSlot(int local) {
+        return unboxedFloatLocalToSlotMap.get(local);
+    }
+
+    /**
+     * Gives the given loop variables a long slot, which {@code FOR_ITER} writes directly when it iterates a
+     * range whose values fit in a long, storing null in the {@link PythonLikeObject} slot instead of a boxed int.
+     * The int is only boxed when the variable is read, and the box is kept until the next iteration.
+     * Any other value stored in the variable is kept in its {@link PythonLikeObject} slot as usual,
+     * so the variable must never be deleted or checked for being unbound.
+     * Must be called before any temporary local is allocated, since the long slots are never freed.
+     *
+     * @param methodVisitor the method visitor, used to initialize the long slots
+     * @param locals the loop variables to give a long slot
+     */
+    public void unboxCountedLoopLocals(MethodVisitor methodVisitor, Set<Integer> locals) {
+        if (locals.isEmpty()) {
+            return;
+        }
+        Map<Integer, Integer> localToSlotMap = new HashMap<>();
+        for (int local : locals) {
+            int slot = newLocal();
+            newLocal(); // longs take two slots
+            // Initialize the slot so it is a long at every point of the method, including exception handlers
+            methodVisitor.visitInsn(Opcodes.LCONST_0);
+            methodVisitor.visitVarInsn(Opcodes.LSTORE, slot);
+            localToSlotMap.put(local, slot);
+        }
+        countedLoopLocalToSlotMap = localToSlotMap;
+    }
+
+    public boolean isCountedLoopLocal(int local) {
+        return countedLoopLocalToSlotMap.containsKey(local);
+    }
+
+    public int getCountedLoopLocalSlot(int local) {
+        return countedLoopLocalToSlotMap.get(local);
+    }
+
     public void readLocal(MethodVisitor methodVisitor, int local) {
+        Integer unboxedSlot = unboxedFloatLocalToSlotMap.get(local);
+        if (unboxedSlot != null) {
+            methodVisitor.visitVarInsn(Opcodes.DLOAD, unboxedSlot);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonFloat.class), "valueOf",
+                    Type.getMethodDescriptor(Type.getType(PythonFloat.class), Type.DOUBLE_TYPE), false);
+            return;
+        }
         methodVisitor.visitVarInsn(Opcodes.ALOAD, getPythonLocalVariableSlot(local));
+        Integer countedLoopSlot = countedLoopLocalToSlotMap.get(local);
+        if (countedLoopSlot != null) {
+            Label isBoxed = new Label();
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitJumpInsn(Opcodes.IFNONNULL, isBoxed);
+            methodVisitor.visitInsn(Opcodes.POP);
+            methodVisitor.visitVarInsn(Opcodes.LLOAD, countedLoopSlot);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonInteger.class), "valueOf",
+                    Type.getMethodDescriptor(Type.getType(PythonInteger.class), Type.LONG_TYPE), false);
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitVarInsn(Opcodes.ASTORE, getPythonLocalVariableSlot(local));
+            methodVisitor.visitLabel(isBoxed);
+        }
     }
 
     public void writeLocal(MethodVisitor methodVisitor, int local) {
+        Integer unboxedSlot = unboxedFloatLocalToSlotMap.get(local);
+        if (unboxedSlot != null) {
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonFloat.class));
+            methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(PythonFloat.class), "value",
+                    Type.DOUBLE_TYPE.getDescriptor());
+            methodVisitor.visitVarInsn(Opcodes.DSTORE, unboxedSlot);
+            return;
+        }
         methodVisitor.visitVarInsn(Opcodes.ASTORE, getPythonLocalVariableSlot(local));
     }
 
@@ -8,6 +8,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -15,11 +16,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import ai.timefold.jpyinterpreter.builtins.GlobalBuiltins;
 import ai.timefold.jpyinterpreter.dag.FlowGraph;
 import ai.timefold.jpyinterpreter.implementors.CollectionImplementor;
 import ai.timefold.jpyinterpreter.implementors.ExceptionImplementor;
@@ -29,10 +32,25 @@ import ai.timefold.jpyinterpreter.implementors.StackManipulationImplementor;
 import ai.timefold.jpyinterpreter.implementors.VariableImplementor;
 import ai.timefold.jpyinterpreter.opcodes.AbstractOpcode;
 import ai.timefold.jpyinterpreter.opcodes.Opcode;
+import ai.timefold.jpyinterpreter.opcodes.OpcodeOptimizer;
 import ai.timefold.jpyinterpreter.opcodes.OpcodeWithoutSource;
 import ai.timefold.jpyinterpreter.opcodes.SelfOpcodeWithoutSource;
+import ai.timefold.jpyinterpreter.opcodes.collection.GetIterOpcode;
+import ai.timefold.jpyinterpreter.opcodes.controlflow.ForIterOpcode;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.GeneratorOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.VariableOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.dunder.BinaryDunderOpcode;
+import ai.timefold.jpyinterpreter.opcodes.dunder.UniDunerOpcode;
+import ai.timefold.jpyinterpreter.opcodes.function.CallFunctionOpcode;
+import ai.timefold.jpyinterpreter.opcodes.function.CallOpcode;
+import ai.timefold.jpyinterpreter.opcodes.object.IsOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.DeleteFastOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.LoadConstantOpcode;
 import ai.timefold.jpyinterpreter.opcodes.variable.LoadFastAndClearOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.LoadFoldedConstantOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.LoadFastOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.LoadGlobalOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.StoreFastOpcode;
 import ai.timefold.jpyinterpreter.types.BuiltinTypes;
 import ai.timefold.jpyinterpreter.types.PythonLikeFunction;
 import ai.timefold.jpyinterpreter.types.PythonLikeType;
@@ -44,6 +62,7 @@ import ai.timefold.jpyinterpreter.types.wrappers.OpaquePythonReference;
 import ai.timefold.jpyinterpreter.types.wrappers.PythonObjectWrapper;
 import ai.timefold.jpyinterpreter.util.JavaPythonClassWriter;
 import ai.timefold.jpyinterpreter.util.MethodVisitorAdapters;
+import ai.timefold.jpyinterpreter.util.TranslatedFunctionEquality;
 import ai.timefold.jpyinterpreter.util.arguments.ArgumentSpec;
 
 import org.objectweb.asm.ClassWriter;
@@ -68,6 +87,8 @@ public class PythonBytecodeToJavaBytecodeTranslator {
 
     public static final String GLOBALS_MAP_STATIC_FIELD_NAME = "__globals__";
 
+    public static final String BUILTINS_STATIC_FIELD_NAME = "__builtins__";
+
     public static final String CLASS_CELL_STATIC_FIELD_NAME = "__class_cell__";
 
     public static final String ARGUMENT_SPEC_GETTER_STATIC_FIELD_NAME = "__spec_getter__";
@@ -88,7 +109,15 @@ public class PythonBytecodeToJavaBytecodeTranslator {
     public static final String INTERPRETER_INSTANCE_FIELD_NAME = "__interpreter__";
 
     public static final String PYTHON_WRAPPER_FUNCTION_INSTANCE_FIELD_NAME = "__function__";
-    public static final Map<String, Integer> classNameToSharedInstanceCount = new HashMap<>();
+
+    public static final String DIRECT_CALL_METHOD_NAME = "$callDirect";
+
+    /**
+     * Functions with at most this many instructions get a direct call entry point;
+     * see {@link #hasDirectCallEntryPoint(PythonCompiledFunction)}.
+     */
+    public static final int DIRECT_CALL_MAX_INSTRUCTION_COUNT = 64;
+    public static final Map<String, Integer> classNameToSharedInstanceCount = new ConcurrentHashMap<>();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PythonBytecodeToJavaBytecodeTranslator.class);
     public static Path classOutputRootPath = InterpreterStartupOptions.classOutputRootPath;
@@ -146,25 +175,28 @@ public class PythonBytecodeToJavaBytecodeTranslator {
     public static <T> T translatePythonBytecode(PythonCompiledFunction pythonCompiledFunction,
             Class<T> javaFunctionalInterfaceType) {
         Class<T> compiledClass = translatePythonBytecodeToClass(pythonCompiledFunction, javaFunctionalInterfaceType);
-        PythonLikeTuple annotationTuple = pythonCompiledFunction.typeAnnotations.entrySet()
-                .stream()
-                .map(entry -> PythonLikeTuple.fromItems(PythonString.valueOf(entry.getKey()),
-                        entry.getValue() != null ? entry.getValue().type() : BuiltinTypes.BASE_TYPE))
-                .collect(Collectors.toCollection(PythonLikeTuple::new));
-        return FunctionImplementor.createInstance(pythonCompiledFunction.defaultPositionalArguments,
-                pythonCompiledFunction.defaultKeywordArguments,
-                annotationTuple, pythonCompiledFunction.closure,
-                PythonString.valueOf(compiledClass.getName()),
-                compiledClass, PythonInterpreter.DEFAULT);
+        return createInstance(compiledClass, pythonCompiledFunction);
     }
 
     public static <T> T translatePythonBytecode(PythonCompiledFunction pythonCompiledFunction,
             Class<T> javaFunctionalInterfaceType, List<Class<?>> genericTypeArgumentList) {
         Class<T> compiledClass =
                 translatePythonBytecodeToClass(pythonCompiledFunction, javaFunctionalInterfaceType, genericTypeArgumentList);
+        return createInstance(compiledClass, pythonCompiledFunction);
+    }
+
+    /**
+     * Creates an instance of a class translated from the bytecode of pythonCompiledFunction
+     * (or of another function with the same code), using the defaults, annotations and closure
+     * of pythonCompiledFunction.
+     * Functions that share code (such as lambdas created by the same factory function) can thus share
+     * their generated class, and compare equal when their closures hold the same values.
+     */
+    public static <T> T createInstance(Class<T> compiledClass, PythonCompiledFunction pythonCompiledFunction) {
         PythonLikeTuple annotationTuple = pythonCompiledFunction.typeAnnotations.entrySet()
                 .stream()
-                .map(entry -> PythonLikeTuple.fromItems(PythonString.valueOf(entry.getKey()), entry.getValue().type()))
+                .map(entry -> PythonLikeTuple.fromItems(PythonString.valueOf(entry.getKey()),
+                        entry.getValue() != null ? entry.getValue().type() : BuiltinTypes.BASE_TYPE))
                 .collect(Collectors.toCollection(PythonLikeTuple::new));
         return FunctionImplementor.createInstance(pythonCompiledFunction.defaultPositionalArguments,
                 pythonCompiledFunction.defaultKeywordArguments,
@@ -259,6 +291,14 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         translatePythonBytecodeToMethod(methodDescriptor, internalClassName, methodVisitor, pythonCompiledFunction,
                 isPythonLikeFunction, isVirtual);
 
+        if (isPythonLikeFunction && !isVirtual && hasDirectCallEntryPoint(pythonCompiledFunction)) {
+            createDirectCallMethod(classWriter, internalClassName, pythonCompiledFunction);
+        }
+
+        if (!isPythonLikeFunction && !canRebindClosure(pythonCompiledFunction)) {
+            createEqualsAndHashCode(classWriter, internalClassName);
+        }
+
         classWriter.visitEnd();
 
         writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter.toByteArray());
@@ -273,6 +313,138 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         }
     }
 
+    /**
+     * Returns true if the translated function class gets a direct call entry point in addition to
+     * {@link PythonLikeFunction#$call(List, Map, PythonLikeObject)}.
+     * The entry point takes exactly the function's positional parameters, so call sites that pass
+     * every parameter positionally can skip argument list extraction and default argument lookup,
+     * and the JIT sees a small monomorphic method it can inline into the caller.
+     * Only small, non-generator functions without *args, **kwargs, keyword-only parameters or nested
+     * functions get one, since the body is translated a second time for it.
+     */
+    public static boolean hasDirectCallEntryPoint(PythonCompiledFunction pythonCompiledFunction) {
+        if (pythonCompiledFunction.instructionList.size() > DIRECT_CALL_MAX_INSTRUCTION_COUNT
+                || pythonCompiledFunction.supportExtraPositionalArgs
+                || pythonCompiledFunction.supportExtraKeywordsArgs
+                || pythonCompiledFunction.co_kwonlyargcount != 0
+                || getFunctionType(pythonCompiledFunction) != PythonFunctionType.FUNCTION) {
+            return false;
+        }
+        for (PythonBytecodeInstruction instruction : pythonCompiledFunction.instructionList) {
+            if (instruction.opname().equals("MAKE_FUNCTION")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static MethodDescriptor getDirectCallMethodDescriptor(String internalClassName, int argumentCount) {
+        Type[] parameterTypes = new Type[argumentCount];
+        Arrays.fill(parameterTypes, Type.getType(PythonLikeObject.class));
+        return new MethodDescriptor(internalClassName, MethodDescriptor.MethodType.VIRTUAL, DIRECT_CALL_METHOD_NAME,
+                Type.getMethodDescriptor(Type.getType(PythonLikeObject.class), parameterTypes));
+    }
+
+    /**
+     * Returns true if the function can rebind a variable of its closure, either by assigning or deleting
+     * a free variable, or by passing its cell to a nested function.
+     * The closure of such a function changes after it is created, so its instances must not be compared
+     * by the values of their closure.
+     */
+    public static boolean canRebindClosure(PythonCompiledFunction pythonCompiledFunction) {
+        for (PythonBytecodeInstruction instruction : pythonCompiledFunction.instructionList) {
+            switch (instruction.opname()) {
+                case "STORE_DEREF", "DELETE_DEREF", "LOAD_CLOSURE" -> {
+                    // Same free variable check as VariableImplementor.getCellIndex
+                    if (instruction.arg() >= pythonCompiledFunction.co_cellvars.size()) {
+                        return true;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Implements equals and hashCode of a class translated to a Java functional interface, so instances
+     * whose closure and default arguments hold the same values are equal (see {@link TranslatedFunctionEquality}).
+     * Only done for functional interfaces whose closure cannot be rebound (see {@link #canRebindClosure}),
+     * since Python functions compare by identity.
+     */
+    private static void createEqualsAndHashCode(ClassWriter classWriter, String internalClassName) {
+        String tupleDescriptor = Type.getDescriptor(PythonLikeTuple.class);
+        String dictDescriptor = Type.getDescriptor(PythonLikeDict.class);
+        String equalityInternalName = Type.getInternalName(TranslatedFunctionEquality.class);
+
+        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "equals",
+                Type.getMethodDescriptor(Type.BOOLEAN_TYPE, Type.getType(Object.class)), null, null);
+        methodVisitor.visitCode();
+        visitGeneratedLineNumber(methodVisitor);
+
+        Label notEqual = new Label();
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitTypeInsn(Opcodes.INSTANCEOF, internalClassName);
+        methodVisitor.visitJumpInsn(Opcodes.IFEQ, notEqual);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, internalClassName);
+        methodVisitor.visitVarInsn(Opcodes.ASTORE, 2);
+
+        for (String fieldName : new String[] { CELLS_INSTANCE_FIELD_NAME, DEFAULT_POSITIONAL_ARGS_INSTANCE_FIELD_NAME,
+                DEFAULT_KEYWORD_ARGS_INSTANCE_FIELD_NAME }) {
+            String fieldDescriptor =
+                    fieldName.equals(DEFAULT_KEYWORD_ARGS_INSTANCE_FIELD_NAME) ? dictDescriptor : tupleDescriptor;
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+            methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalClassName, fieldName, fieldDescriptor);
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 2);
+            methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalClassName, fieldName, fieldDescriptor);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, equalityInternalName, "areEqual",
+                    "(" + fieldDescriptor + fieldDescriptor + ")Z", false);
+            methodVisitor.visitJumpInsn(Opcodes.IFEQ, notEqual);
+        }
+        methodVisitor.visitInsn(Opcodes.ICONST_1);
+        methodVisitor.visitInsn(Opcodes.IRETURN);
+
+        methodVisitor.visitLabel(notEqual);
+        methodVisitor.visitInsn(Opcodes.ICONST_0);
+        methodVisitor.visitInsn(Opcodes.IRETURN);
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+
+        methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "hashCode",
+                Type.getMethodDescriptor(Type.INT_TYPE), null, null);
+        methodVisitor.visitCode();
+        visitGeneratedLineNumber(methodVisitor);
+        methodVisitor.visitLdcInsn(Type.getObjectType(internalClassName));
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(System.class), "identityHashCode",
+                Type.getMethodDescriptor(Type.INT_TYPE, Type.getType(Object.class)), false);
+        methodVisitor.visitIntInsn(Opcodes.BIPUSH, 31);
+        methodVisitor.visitInsn(Opcodes.IMUL);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalClassName, CELLS_INSTANCE_FIELD_NAME, tupleDescriptor);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, equalityInternalName, "hashCode",
+                "(" + tupleDescriptor + ")I", false);
+        methodVisitor.visitInsn(Opcodes.IADD);
+        methodVisitor.visitInsn(Opcodes.IRETURN);
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+    }
+
+    private static void createDirectCallMethod(ClassWriter classWriter, String internalClassName,
+            PythonCompiledFunction pythonCompiledFunction) {
+        MethodDescriptor directCallMethodDescriptor =
+                getDirectCallMethodDescriptor(internalClassName, pythonCompiledFunction.co_argcount);
+        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC,
+                directCallMethodDescriptor.getMethodName(),
+                directCallMethodDescriptor.getMethodDescriptor(),
+                null,
+                null);
+
+        translatePythonBytecodeToMethod(directCallMethodDescriptor, internalClassName, methodVisitor, pythonCompiledFunction,
+                false, false);
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> Class<T> translatePythonBytecodeToClass(PythonCompiledFunction pythonCompiledFunction,
             MethodDescriptor methodDescriptor, Method methodWithoutGenerics,
@@ -326,6 +498,10 @@ public class PythonBytecodeToJavaBytecodeTranslator {
             methodVisitor.visitMaxs(-1, -1);
             methodVisitor.visitEnd();
         }
+
+        if (!isPythonLikeFunction && !canRebindClosure(pythonCompiledFunction)) {
+            createEqualsAndHashCode(classWriter, internalClassName);
+        }
         classWriter.visitEnd();
 
         writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter.toByteArray());
@@ -883,6 +1059,8 @@ public class PythonBytecodeToJavaBytecodeTranslator {
                 VARIABLE_NAMES_STATIC_FIELD_NAME, Type.getDescriptor(List.class), null, null);
         classWriter.visitField(Modifier.PUBLIC | Modifier.STATIC,
                 GLOBALS_MAP_STATIC_FIELD_NAME, Type.getDescriptor(Map.class), null, null);
+        classWriter.visitField(Modifier.PUBLIC | Modifier.STATIC,
+                BUILTINS_STATIC_FIELD_NAME, Type.getDescriptor(PythonLikeObject[].class), null, null);
         classWriter.visitField(Modifier.PUBLIC | Modifier.STATIC,
                 CLASS_CELL_STATIC_FIELD_NAME, Type.getDescriptor(PythonLikeType.class), null, null);
         classWriter.visitField(Modifier.PUBLIC | Modifier.STATIC,
@@ -909,6 +1087,13 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         try {
             compiledClass.getField(CONSTANTS_STATIC_FIELD_NAME).set(null, pythonCompiledFunction.co_constants);
             compiledClass.getField(GLOBALS_MAP_STATIC_FIELD_NAME).set(null, pythonCompiledFunction.globalsMap);
+
+            // Builtins are resolved once here; see VariableImplementor.loadGlobalVariable
+            PythonLikeObject[] builtins = new PythonLikeObject[pythonCompiledFunction.co_names.size()];
+            for (int i = 0; i < builtins.length; i++) {
+                builtins[i] = GlobalBuiltins.lookupInterpreterIndependent(pythonCompiledFunction.co_names.get(i));
+            }
+            compiledClass.getField(BUILTINS_STATIC_FIELD_NAME).set(null, (Object) builtins);
             compiledClass.getField(ARGUMENT_SPEC_GETTER_STATIC_FIELD_NAME).set(null,
                     pythonCompiledFunction.getArgumentSpecMapper());
 
@@ -936,6 +1121,9 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         for (PythonBytecodeInstruction instruction : pythonCompiledFunction.instructionList) {
             opcodeList.add(Opcode.lookupOpcodeForInstruction(instruction, pythonCompiledFunction.pythonVersion));
         }
+        if (InterpreterStartupOptions.optimizeBytecode) {
+            OpcodeOptimizer.optimize(pythonCompiledFunction, opcodeList);
+        }
         return opcodeList;
     }
 
@@ -1016,7 +1204,8 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         methodVisitor = MethodVisitorAdapters.adapt(methodVisitor, method);
 
         for (int i = 0; i < method.getParameterTypes().length; i++) {
-            if (!isPythonLikeFunction) {
+            // Implicit parameters (such as a comprehension's ".0") are not valid Java parameter names
+            if (!isPythonLikeFunction && !pythonCompiledFunction.co_varnames.get(i).startsWith(".")) {
                 methodVisitor.visitParameter(pythonCompiledFunction.co_varnames.get(i), 0);
             } else {
                 methodVisitor.visitParameter(null, 0);
@@ -1079,11 +1268,25 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         FlowGraph flowGraph = FlowGraph.createFlowGraph(functionMetadata, initialStackMetadata, opcodeList);
         List<StackMetadata> stackMetadataForOpcodeIndex = flowGraph.getStackMetadataForOperations();
 
+        localVariableHelper.unboxFloatLocals(methodVisitor,
+                getUnboxedFloatLocals(pythonCompiledFunction, localVariableHelper, stackMetadataForOpcodeIndex, opcodeList));
+        localVariableHelper.unboxCountedLoopLocals(methodVisitor,
+                getCountedLoopLocals(pythonCompiledFunction, localVariableHelper, stackMetadataForOpcodeIndex, opcodeList));
+
         writeInstructionsForOpcodes(functionMetadata, stackMetadataForOpcodeIndex, opcodeList);
 
         methodVisitor.visitLabel(end);
 
         for (int i = method.getParameterTypes().length; i < localVariableHelper.getNumberOfLocalVariables(); i++) {
+            if (localVariableHelper.isUnboxedFloatLocal(i)) {
+                methodVisitor.visitLocalVariable(pythonCompiledFunction.co_varnames.get(i),
+                        Type.DOUBLE_TYPE.getDescriptor(),
+                        null,
+                        start,
+                        end,
+                        localVariableHelper.getUnboxedFloatLocalSlot(i));
+                continue;
+            }
             methodVisitor.visitLocalVariable(pythonCompiledFunction.co_varnames.get(i),
                     Type.getDescriptor(PythonLikeObject.class),
                     null,
@@ -1105,6 +1308,208 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         methodVisitor.visitEnd();
     }
 
+    /**
+     * Returns the local variables that can be kept in an unboxed double slot:
+     * those that are a float every time they are stored or loaded.
+     * The float is only boxed when the variable is loaded, so a loop-carried float (such as an accumulator)
+     * does not allocate a box that outlives its iteration, which lets the JIT scalar replace it.
+     * <p>
+     * Only floats produced by constants and arithmetic are unboxed, since those are never null.
+     * Parameters, cell variables, and variables that can be deleted or unbound
+     * (see {@link #getPossiblyUnboundLocals}) keep their boxed slot.
+     * Functions that use {@code is} keep all their variables boxed, since reboxing changes a float's identity.
+     * Ints are only unboxed as counted loop variables (see {@link #getCountedLoopLocals}),
+     * since they are arbitrary precision.
+     */
+    static Set<Integer> getUnboxedFloatLocals(PythonCompiledFunction pythonCompiledFunction,
+            LocalVariableHelper localVariableHelper, List<StackMetadata> stackMetadataForOpcodeIndex,
+            List<Opcode> opcodeList) {
+        Set<Integer> candidateSet = new TreeSet<>();
+        Set<Integer> excludedSet = new HashSet<>(localVariableHelper.boundCellIndexToVariableIndex.values());
+        for (int i = 0; i < pythonCompiledFunction.totalArgCount(); i++) {
+            excludedSet.add(i);
+        }
+        excludedSet.addAll(getPossiblyUnboundLocals(pythonCompiledFunction, opcodeList));
+
+        for (int i = 0; i < opcodeList.size(); i++) {
+            StackMetadata stackMetadata = stackMetadataForOpcodeIndex.get(i);
+            if (stackMetadata.isDeadCode()) {
+                continue;
+            }
+            Opcode opcode = opcodeList.get(i);
+            PythonBytecodeInstruction instruction = pythonCompiledFunction.instructionList.get(i);
+            if (opcode instanceof IsOpcode) {
+                return Set.of();
+            } else if (opcode instanceof StoreFastOpcode) {
+                if (isNonNullFloat(stackMetadata.getTOSValueSource())) {
+                    candidateSet.add(instruction.arg());
+                } else {
+                    excludedSet.add(instruction.arg());
+                }
+            } else if (opcode instanceof LoadFastOpcode) {
+                ValueSourceInfo valueSource = stackMetadata.getLocalVariableValueSource(instruction.arg());
+                if (valueSource == null || valueSource.getValueType() != BuiltinTypes.FLOAT_TYPE
+                        || AbstractOpcode.lookupInstruction(instruction.opname()) == VariableOpDescriptor.LOAD_FAST_CHECK) {
+                    excludedSet.add(instruction.arg());
+                }
+            } else if (opcode instanceof LoadFastAndClearOpcode || opcode instanceof DeleteFastOpcode) {
+                excludedSet.add(instruction.arg());
+            }
+        }
+        candidateSet.removeAll(excludedSet);
+        return candidateSet;
+    }
+
+    /**
+     * Returns the local variables that some path can load before storing them (or after deleting them).
+     * These must keep their boxed slot, since an unboxed slot has no unset value and would read as 0.
+     * Only Python 3.12+ marks these loads with {@code LOAD_FAST_CHECK}, and the flow analysis unifies
+     * an unset variable with the type it has on other paths, so this tracks which variables are assigned
+     * on every path to each opcode.
+     * An exception handler only gets the variables assigned when its try block starts.
+     */
+    static Set<Integer> getPossiblyUnboundLocals(PythonCompiledFunction pythonCompiledFunction, List<Opcode> opcodeList) {
+        // The variables assigned on every path to each opcode; null if no path to the opcode was found yet
+        BitSet[] assignedLocalsBeforeOpcode = new BitSet[opcodeList.size()];
+        BitSet parameters = new BitSet();
+        parameters.set(0, pythonCompiledFunction.totalArgCount());
+        assignedLocalsBeforeOpcode[0] = parameters;
+
+        boolean hasChanged;
+        do {
+            hasChanged = false;
+            for (int i = 0; i < opcodeList.size(); i++) {
+                if (assignedLocalsBeforeOpcode[i] == null) {
+                    continue;
+                }
+                Opcode opcode = opcodeList.get(i);
+                BitSet assignedLocalsAfterOpcode = (BitSet) assignedLocalsBeforeOpcode[i].clone();
+                if (opcode instanceof StoreFastOpcode) {
+                    assignedLocalsAfterOpcode.set(pythonCompiledFunction.instructionList.get(i).arg());
+                } else if (opcode instanceof LoadFastAndClearOpcode || opcode instanceof DeleteFastOpcode) {
+                    assignedLocalsAfterOpcode.clear(pythonCompiledFunction.instructionList.get(i).arg());
+                }
+                for (int nextIndex : opcode.getPossibleNextBytecodeIndexList()) {
+                    hasChanged |= intersectAssignedLocals(assignedLocalsBeforeOpcode, nextIndex, assignedLocalsAfterOpcode);
+                }
+            }
+            for (ExceptionBlock exceptionBlock : pythonCompiledFunction.co_exceptiontable.getEntries()) {
+                BitSet assignedLocalsAtBlockStart =
+                        assignedLocalsBeforeOpcode[exceptionBlock.getBlockStartInstructionInclusive()];
+                if (assignedLocalsAtBlockStart != null) {
+                    hasChanged |= intersectAssignedLocals(assignedLocalsBeforeOpcode, exceptionBlock.getTargetInstruction(),
+                            assignedLocalsAtBlockStart);
+                }
+            }
+        } while (hasChanged);
+
+        Set<Integer> out = new HashSet<>();
+        for (int i = 0; i < opcodeList.size(); i++) {
+            if (opcodeList.get(i) instanceof LoadFastOpcode && assignedLocalsBeforeOpcode[i] != null
+                    && !assignedLocalsBeforeOpcode[i].get(pythonCompiledFunction.instructionList.get(i).arg())) {
+                out.add(pythonCompiledFunction.instructionList.get(i).arg());
+            }
+        }
+        return out;
+    }
+
+    private static boolean intersectAssignedLocals(BitSet[] assignedLocalsBeforeOpcode, int index,
+            BitSet assignedLocals) {
+        BitSet existingAssignedLocals = assignedLocalsBeforeOpcode[index];
+        if (existingAssignedLocals == null) {
+            assignedLocalsBeforeOpcode[index] = (BitSet) assignedLocals.clone();
+            return true;
+        }
+        BitSet intersection = (BitSet) existingAssignedLocals.clone();
+        intersection.and(assignedLocals);
+        if (intersection.equals(existingAssignedLocals)) {
+            return false;
+        }
+        assignedLocalsBeforeOpcode[index] = intersection;
+        return true;
+    }
+
+    /**
+     * Returns the local variables that are the target of a {@code for} loop over a call to {@code range},
+     * which get a long slot {@code FOR_ITER} writes to directly (see {@link LocalVariableHelper#unboxCountedLoopLocals}).
+     * The call is checked at runtime, since {@code range} can be shadowed, and so are ranges too large for a long;
+     * other iterables and values stored in the variable use its boxed slot.
+     * <p>
+     * Parameters, cell variables (which are captured by nested functions),
+     * and variables that can be deleted or unbound (see {@link #getPossiblyUnboundLocals}) keep only their boxed slot.
+     */
+    static Set<Integer> getCountedLoopLocals(PythonCompiledFunction pythonCompiledFunction,
+            LocalVariableHelper localVariableHelper, List<StackMetadata> stackMetadataForOpcodeIndex,
+            List<Opcode> opcodeList) {
+        Set<Integer> candidateSet = new TreeSet<>();
+        Set<Integer> excludedSet = new HashSet<>(localVariableHelper.boundCellIndexToVariableIndex.values());
+        for (int i = 0; i < pythonCompiledFunction.totalArgCount(); i++) {
+            excludedSet.add(i);
+        }
+        excludedSet.addAll(localVariableHelper.unboxedFloatLocalToSlotMap.keySet());
+        excludedSet.addAll(getPossiblyUnboundLocals(pythonCompiledFunction, opcodeList));
+
+        for (int i = 0; i < opcodeList.size(); i++) {
+            StackMetadata stackMetadata = stackMetadataForOpcodeIndex.get(i);
+            if (stackMetadata.isDeadCode()) {
+                continue;
+            }
+            Opcode opcode = opcodeList.get(i);
+            PythonBytecodeInstruction instruction = pythonCompiledFunction.instructionList.get(i);
+            if (opcode instanceof StoreFastOpcode && i > 0 && opcodeList.get(i - 1) instanceof ForIterOpcode forIterOpcode
+                    && stackMetadata.getTOSValueSource().getPossibleSourceOpcodeSet().equals(Set.of(forIterOpcode))
+                    && isRangeIterator(pythonCompiledFunction, stackMetadataForOpcodeIndex.get(i - 1).getTOSValueSource())) {
+                candidateSet.add(instruction.arg());
+            } else if (opcode instanceof LoadFastOpcode) {
+                if (AbstractOpcode.lookupInstruction(instruction.opname()) == VariableOpDescriptor.LOAD_FAST_CHECK) {
+                    excludedSet.add(instruction.arg());
+                }
+            } else if (opcode instanceof LoadFastAndClearOpcode || opcode instanceof DeleteFastOpcode) {
+                excludedSet.add(instruction.arg());
+            }
+        }
+        candidateSet.removeAll(excludedSet);
+        return candidateSet;
+    }
+
+    private static boolean isRangeIterator(PythonCompiledFunction pythonCompiledFunction, ValueSourceInfo iteratorSource) {
+        if (iteratorSource == null || !iteratorSource.getPossibleSourceOpcodeSet().stream()
+                .allMatch(GetIterOpcode.class::isInstance)) {
+            return false;
+        }
+        for (ValueSourceInfo iterableSource : iteratorSource.getValueDependencySet()) {
+            if (!iterableSource.getPossibleSourceOpcodeSet().stream()
+                    .allMatch(sourceOpcode -> sourceOpcode instanceof CallOpcode
+                            || sourceOpcode instanceof CallFunctionOpcode)) {
+                return false;
+            }
+            boolean isRangeCall = iterableSource.getValueDependencySet().stream()
+                    .anyMatch(calleeSource -> !calleeSource.getPossibleSourceOpcodeSet().isEmpty()
+                            && calleeSource.getPossibleSourceOpcodeSet().stream()
+                                    .allMatch(sourceOpcode -> sourceOpcode instanceof LoadGlobalOpcode loadGlobalOpcode
+                                            && loadGlobalOpcode.getGlobalName(pythonCompiledFunction).equals("range")));
+            if (!isRangeCall) {
+                return false;
+            }
+        }
+        return !iteratorSource.getValueDependencySet().isEmpty();
+    }
+
+    private static boolean isNonNullFloat(ValueSourceInfo valueSource) {
+        if (valueSource == null || valueSource.getValueType() != BuiltinTypes.FLOAT_TYPE) {
+            return false;
+        }
+        // Other sources (such as attributes and calls into Java) can produce a null typed as a float
+        for (Opcode sourceOpcode : valueSource.getPossibleSourceOpcodeSet()) {
+            if (!(sourceOpcode instanceof LoadConstantOpcode || sourceOpcode instanceof LoadFoldedConstantOpcode
+                    || sourceOpcode instanceof BinaryDunderOpcode
+                    || sourceOpcode instanceof UniDunerOpcode)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static void writeInstructionsForOpcodes(FunctionMetadata functionMetadata,
             List<StackMetadata> stackMetadataForOpcodeIndex, List<Opcode> opcodeList) {
         writeInstructionsForOpcodes(functionMetadata, stackMetadataForOpcodeIndex, opcodeList, ignored -> {
@@ -1171,6 +1576,10 @@ public class PythonBytecodeToJavaBytecodeTranslator {
                 requiredNullVariableSet.add(loadAndClearOpcode.getInstruction().arg());
             }
         }
+        requiredNullVariableSet.addAll(getPossiblyUnboundLocals(pythonCompiledFunction, opcodeList));
+
+        ExceptionImplementor.StackTraceCaptureRanges stackTraceCaptureRanges =
+                ExceptionImplementor.createStackTraceCaptureRanges(functionMetadata, opcodeList);
 
         for (var requiredNullVariable : requiredNullVariableSet) {
             methodVisitor.visitInsn(Opcodes.ACONST_NULL);
@@ -1208,12 +1617,16 @@ public class PythonBytecodeToJavaBytecodeTranslator {
                 methodVisitor.visitLabel(label);
             }
 
+            ExceptionImplementor.visitStackTraceCaptureLabel(methodVisitor, stackTraceCaptureRanges, i);
+
             if (stackMetadata.isDeadCode()) {
                 continue;
             }
 
             opcodeList.get(i).implement(functionMetadata, stackMetadata);
         }
+
+        ExceptionImplementor.writeStackTraceCaptureHandlers(methodVisitor, stackTraceCaptureRanges);
     }
 
     private static void translateGeneratorBytecode(MethodVisitor methodVisitor, MethodDescriptor method,
@@ -49,7 +49,17 @@ import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
 import ai.timefold.jpyinterpreter.types.wrappers.JavaObjectWrapper;
 import ai.timefold.jpyinterpreter.types.wrappers.OpaquePythonReference;
 import ai.timefold.jpyinterpreter.util.JavaPythonClassWriter;
+import ai.timefold.jpyinterpreter.util.PlanningCloneUtils;
 import ai.timefold.jpyinterpreter.util.arguments.ArgumentSpec;
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactProperty;
+import ai.timefold.solver.core.api.domain.solution.cloner.DeepPlanningClone;
+import ai.timefold.solver.core.api.domain.variable.PlanningListVariable;
+import ai.timefold.solver.core.impl.domain.solution.cloner.PlanningCloneable;
 
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
@@ -69,6 +79,19 @@ public class PythonClassTranslator {
     private static final String JAVA_METHOD_PREFIX = "$method$";
     private static final String PYTHON_JAVA_TYPE_MAPPING_PREFIX = "$pythonJavaTypeMapping";
 
+    // Classes with these annotations are planning cloned
+    private static final Set<Class<?>> PLANNING_CLONED_CLASS_ANNOTATIONS =
+            Set.of(PlanningSolution.class, PlanningEntity.class, DeepPlanningClone.class);
+
+    // Fields with these annotations are deep cloned even if they do not contain planning cloned objects
+    private static final Set<Class<?>> DEEP_CLONED_FIELD_ANNOTATIONS =
+            Set.of(PlanningEntityCollectionProperty.class, PlanningEntityProperty.class, PlanningListVariable.class,
+                    DeepPlanningClone.class);
+
+    // Fields with these annotations hold problem facts, which are shared with the clone without scanning their content
+    private static final Set<Class<?>> PROBLEM_FACT_FIELD_ANNOTATIONS =
+            Set.of(ProblemFactCollectionProperty.class, ProblemFactProperty.class);
+
     public record PreparedClassInfo(PythonLikeType type, String className, String classInternalName) {
     }
 
@@ -173,10 +196,24 @@ public class PythonClassTranslator {
                 .filter(implementor -> !Object.class.equals(implementor.getInterfaceClass()))
                 .toList();
 
-        String[] interfaces = new String[nonObjectInterfaceImplementors.size()];
+        boolean isCpythonBacked;
+
+        try {
+            isCpythonBacked = CPythonBackedPythonLikeObject.class.isAssignableFrom(superClassType.getJavaClass());
+        } catch (ClassNotFoundException e) {
+            isCpythonBacked = false;
+        }
+
+        boolean isPlanningCloneable = isCpythonBacked && pythonCompiledClass.annotations.stream()
+                .anyMatch(annotation -> PLANNING_CLONED_CLASS_ANNOTATIONS.contains(annotation.annotationType()));
+
+        String[] interfaces = new String[nonObjectInterfaceImplementors.size() + (isPlanningCloneable ? 1 : 0)];
         for (int i = 0; i < nonObjectInterfaceImplementors.size(); i++) {
             interfaces[i] = Type.getInternalName(nonObjectInterfaceImplementors.get(i).getInterfaceClass());
         }
+        if (isPlanningCloneable) {
+            interfaces[interfaces.length - 1] = Type.getInternalName(PlanningCloneable.class);
+        }
 
         ClassWriter classWriter = new JavaPythonClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
 
@@ -214,6 +251,8 @@ public class PythonClassTranslator {
         }
 
         Map<String, PythonLikeType> attributeNameToTypeMap = new HashMap<>();
+        Set<String> deepClonedAttributeSet = new HashSet<>();
+        Set<String> problemFactAttributeSet = new HashSet<>();
         instanceAttributeSet.removeAll(pythonCompiledClass.staticAttributeDescriptorNames);
         try {
             var parentClass = superClassType.getJavaClass();
@@ -237,6 +276,13 @@ public class PythonClassTranslator {
             }
 
             attributeNameToTypeMap.put(attributeName, type);
+            if (typeHint.annotationList().stream()
+                    .anyMatch(annotation -> DEEP_CLONED_FIELD_ANNOTATIONS.contains(annotation.annotationType()))) {
+                deepClonedAttributeSet.add(attributeName);
+            } else if (typeHint.annotationList().stream()
+                    .anyMatch(annotation -> PROBLEM_FACT_FIELD_ANNOTATIONS.contains(annotation.annotationType()))) {
+                problemFactAttributeSet.add(attributeName);
+            }
             FieldVisitor fieldVisitor;
             String javaFieldTypeDescriptor;
             String getterTypeDescriptor;
@@ -351,17 +397,11 @@ public class PythonClassTranslator {
                     classMethodEntry.getValue());
         }
 
-        boolean isCpythonBacked;
-
-        try {
-            isCpythonBacked = CPythonBackedPythonLikeObject.class.isAssignableFrom(superClassType.getJavaClass());
-        } catch (ClassNotFoundException e) {
-            isCpythonBacked = false;
-        }
-
         if (isCpythonBacked) {
             createCPythonOperationMethods(classWriter, internalClassName, superClassType.getJavaTypeInternalName(),
                     attributeNameToTypeMap);
+            createPlanningCloneMethods(classWriter, internalClassName, superClassType.getJavaTypeInternalName(),
+                    attributeNameToTypeMap, deepClonedAttributeSet, problemFactAttributeSet);
         }
 
         javaInterfaceImplementorSet.forEach(implementor -> implementor.implement(classWriter, pythonCompiledClass));
@@ -1275,9 +1315,88 @@ public class PythonClassTranslator {
     public static void createCPythonOperationMethods(ClassWriter classWriter, String internalClassName,
             String superClassInternalName, Map<String, PythonLikeType> attributeNameToType) {
         createReadFromCPythonReference(classWriter, internalClassName, superClassInternalName, attributeNameToType);
+        createReadSingleFieldFromCPythonReference(classWriter, internalClassName, superClassInternalName,
+                attributeNameToType);
         createWriteToCPythonReference(classWriter, internalClassName, superClassInternalName, attributeNameToType);
     }
 
+    /**
+     * Creates the methods used to planning clone instances of the class: a {@link PlanningCloneable#createNewInstance()}
+     * that calls the no-args constructor, and a {@link CPythonBackedPythonLikeObject#$copyFieldsForPlanningClone}
+     * that copies each field via {@link PlanningCloneUtils#cloneValue(Object, boolean, Map)}.
+     * Both are generated for every CPython backed class, so subclasses of planning classes
+     * and classes referenced from them are cloned without reflection.
+     */
+    public static void createPlanningCloneMethods(ClassWriter classWriter, String internalClassName,
+            String superClassInternalName, Map<String, PythonLikeType> attributeNameToType,
+            Set<String> deepClonedAttributeSet, Set<String> problemFactAttributeSet) {
+        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "createNewInstance",
+                Type.getMethodDescriptor(Type.getType(Object.class)), null, null);
+        methodVisitor.visitCode();
+        PythonBytecodeToJavaBytecodeTranslator.visitGeneratedLineNumber(methodVisitor);
+        methodVisitor.visitTypeInsn(Opcodes.NEW, internalClassName);
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, internalClassName, "<init>",
+                Type.getMethodDescriptor(Type.VOID_TYPE), false);
+        methodVisitor.visitInsn(Opcodes.ARETURN);
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+
+        String copyFieldsDescriptor = Type.getMethodDescriptor(Type.VOID_TYPE,
+                Type.getType(CPythonBackedPythonLikeObject.class), Type.getType(Map.class));
+        methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "$copyFieldsForPlanningClone",
+                copyFieldsDescriptor, null, null);
+        methodVisitor.visitParameter("clone", 0);
+        methodVisitor.visitParameter("originalToCloneMap", 0);
+        methodVisitor.visitCode();
+        PythonBytecodeToJavaBytecodeTranslator.visitGeneratedLineNumber(methodVisitor);
+
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 2);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, superClassInternalName, "$copyFieldsForPlanningClone",
+                copyFieldsDescriptor, false);
+
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, internalClassName);
+        methodVisitor.visitVarInsn(Opcodes.ASTORE, 1);
+
+        for (var attributeEntry : attributeNameToType.entrySet()) {
+            String fieldName = getJavaFieldName(attributeEntry.getKey());
+            PythonLikeType attributeType = attributeEntry.getValue();
+            Type fieldType;
+            if (attributeType.getJavaTypeInternalName().equals(Type.getInternalName(JavaObjectWrapper.class))) {
+                fieldType = Type.getType(attributeType.getJavaObjectWrapperType());
+            } else {
+                fieldType = Type.getType(attributeType.getJavaTypeDescriptor());
+            }
+
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+            methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalClassName, fieldName, fieldType.getDescriptor());
+            if (problemFactAttributeSet.contains(attributeEntry.getKey())) {
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 2);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PlanningCloneUtils.class),
+                        "cloneProblemFactValue", Type.getMethodDescriptor(Type.getType(Object.class),
+                                Type.getType(Object.class), Type.getType(Map.class)),
+                        false);
+            } else {
+                methodVisitor.visitInsn(deepClonedAttributeSet.contains(attributeEntry.getKey()) ? Opcodes.ICONST_1
+                        : Opcodes.ICONST_0);
+                methodVisitor.visitVarInsn(Opcodes.ALOAD, 2);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PlanningCloneUtils.class),
+                        "cloneValue", Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(Object.class),
+                                Type.BOOLEAN_TYPE, Type.getType(Map.class)),
+                        false);
+            }
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, fieldType.getInternalName());
+            methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, fieldName, fieldType.getDescriptor());
+        }
+        methodVisitor.visitInsn(Opcodes.RETURN);
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+    }
+
     public static void createReadFromCPythonReference(ClassWriter classWriter, String internalClassName,
             String superClassInternalName, Map<String, PythonLikeType> attributeNameToType) {
         MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "$readFieldsFromCPythonReference",
@@ -1305,79 +1424,135 @@ public class PythonClassTranslator {
 
         methodVisitor.visitLabel(ifReferenceIsNotNull);
         for (String field : attributeNameToType.keySet()) {
-            methodVisitor.visitInsn(Opcodes.DUP2);
-            methodVisitor.visitLdcInsn(field);
+            readFieldFromCPythonReference(methodVisitor, internalClassName, field, attributeNameToType.get(field));
+        }
+        methodVisitor.visitInsn(Opcodes.RETURN);
+
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+    }
+
+    /**
+     * Creates a method that reads a single attribute from the CPython reference, so
+     * objects that only had some of their attributes changed in CPython do not need to reread
+     * every field. Attributes that are not fields of the class are ignored.
+     */
+    public static void createReadSingleFieldFromCPythonReference(ClassWriter classWriter, String internalClassName,
+            String superClassInternalName, Map<String, PythonLikeType> attributeNameToType) {
+        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "$readFieldFromCPythonReference",
+                Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(String.class)), null,
+                null);
+
+        methodVisitor.visitParameter("attribute", 0);
+
+        methodVisitor.visitCode();
+
+        PythonBytecodeToJavaBytecodeTranslator.visitGeneratedLineNumber(methodVisitor);
+
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(CPythonBackedPythonLikeObject.class),
+                "$cpythonReference", Type.getDescriptor(OpaquePythonReference.class));
+
+        Label ifReferenceIsNotNull = new Label();
+        methodVisitor.visitJumpInsn(Opcodes.IFNONNULL, ifReferenceIsNotNull);
+        methodVisitor.visitInsn(Opcodes.RETURN);
+
+        methodVisitor.visitLabel(ifReferenceIsNotNull);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        BytecodeSwitchImplementor.createStringSwitch(methodVisitor, attributeNameToType.keySet(), 2, field -> {
             methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+            methodVisitor.visitInsn(Opcodes.DUP);
             methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(CPythonBackedPythonLikeObject.class),
-                    "$instanceMap", Type.getDescriptor(Map.class));
-            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(CPythonBackedPythonInterpreter.class),
-                    "lookupAttributeOnPythonReference",
-                    Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
-                            Type.getType(OpaquePythonReference.class),
-                            Type.getType(String.class),
-                            Type.getType(Map.class)),
-                    false);
+                    "$cpythonReference", Type.getDescriptor(OpaquePythonReference.class));
+            readFieldFromCPythonReference(methodVisitor, internalClassName, field, attributeNameToType.get(field));
+            methodVisitor.visitInsn(Opcodes.POP2);
+            methodVisitor.visitInsn(Opcodes.RETURN);
+        }, () -> {
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, superClassInternalName,
+                    "$readFieldFromCPythonReference",
+                    Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(String.class)), false);
+            methodVisitor.visitInsn(Opcodes.RETURN);
+        }, true);
 
-            boolean isAssignableFromNone = false;
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+    }
 
-            try {
-                isAssignableFromNone = attributeNameToType.get(field).getJavaClass().isAssignableFrom(PythonNone.class);
-            } catch (ClassNotFoundException e) {
-                // do nothing
-            }
+    /**
+     * Reads the given field from the CPython reference.
+     * Expects the stack to be (this, reference), and leaves it unchanged.
+     */
+    private static void readFieldFromCPythonReference(MethodVisitor methodVisitor, String internalClassName,
+            String field, PythonLikeType attributeType) {
+        methodVisitor.visitInsn(Opcodes.DUP2);
+        methodVisitor.visitLdcInsn(field);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(CPythonBackedPythonLikeObject.class),
+                "$instanceMap", Type.getDescriptor(Map.class));
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(CPythonBackedPythonInterpreter.class),
+                "lookupAttributeOnPythonReference",
+                Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
+                        Type.getType(OpaquePythonReference.class),
+                        Type.getType(String.class),
+                        Type.getType(Map.class)),
+                false);
 
-            Label ifFieldIsNone = new Label();
-            Label doneSettingField = new Label();
+        boolean isAssignableFromNone = false;
 
-            if (!isAssignableFromNone) {
-                methodVisitor.visitInsn(Opcodes.DUP);
-                methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, Type.getInternalName(PythonNone.class),
-                        "INSTANCE", Type.getDescriptor(PythonNone.class));
+        try {
+            isAssignableFromNone = attributeType.getJavaClass().isAssignableFrom(PythonNone.class);
+        } catch (ClassNotFoundException e) {
+            // do nothing
+        }
 
-                methodVisitor.visitJumpInsn(Opcodes.IF_ACMPEQ, ifFieldIsNone);
-            }
+        Label ifFieldIsNone = new Label();
+        Label doneSettingField = new Label();
 
-            var attributeType = attributeNameToType.get(field);
-            methodVisitor.visitLdcInsn(Type.getType(attributeType.getJavaTypeDescriptor()));
-            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(JavaPythonTypeConversionImplementor.class),
-                    "coerceToType", Type.getMethodDescriptor(Type.getType(Object.class),
-                            Type.getType(PythonLikeObject.class),
-                            Type.getType(Class.class)),
-                    false);
-            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, attributeNameToType.get(field).getJavaTypeInternalName());
+        if (!isAssignableFromNone) {
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, Type.getInternalName(PythonNone.class),
+                    "INSTANCE", Type.getDescriptor(PythonNone.class));
 
+            methodVisitor.visitJumpInsn(Opcodes.IF_ACMPEQ, ifFieldIsNone);
+        }
+
+        methodVisitor.visitLdcInsn(Type.getType(attributeType.getJavaTypeDescriptor()));
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(JavaPythonTypeConversionImplementor.class),
+                "coerceToType", Type.getMethodDescriptor(Type.getType(Object.class),
+                        Type.getType(PythonLikeObject.class),
+                        Type.getType(Class.class)),
+                false);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, attributeType.getJavaTypeInternalName());
+
+        if (attributeType.getJavaTypeInternalName().equals(Type.getInternalName(JavaObjectWrapper.class))) {
+            Class<?> wrappedJavaType = attributeType.getJavaObjectWrapperType();
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(JavaObjectWrapper.class),
+                    "getWrappedObject", Type.getMethodDescriptor(Type.getType(Object.class)), false);
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getType(wrappedJavaType).getInternalName());
+            methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, getJavaFieldName(field),
+                    Type.getDescriptor(wrappedJavaType));
+        } else {
+            methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, getJavaFieldName(field),
+                    attributeType.getJavaTypeDescriptor());
+        }
+
+        if (!isAssignableFromNone) {
+            methodVisitor.visitJumpInsn(Opcodes.GOTO, doneSettingField);
+
+            methodVisitor.visitLabel(ifFieldIsNone);
+            methodVisitor.visitInsn(Opcodes.POP);
+            methodVisitor.visitInsn(Opcodes.ACONST_NULL);
             if (attributeType.getJavaTypeInternalName().equals(Type.getInternalName(JavaObjectWrapper.class))) {
-                Class<?> wrappedJavaType = attributeType.getJavaObjectWrapperType();
-                methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(JavaObjectWrapper.class),
-                        "getWrappedObject", Type.getMethodDescriptor(Type.getType(Object.class)), false);
-                methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getType(wrappedJavaType).getInternalName());
                 methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, getJavaFieldName(field),
-                        Type.getDescriptor(wrappedJavaType));
+                        Type.getDescriptor(attributeType.getJavaObjectWrapperType()));
             } else {
                 methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, getJavaFieldName(field),
                         attributeType.getJavaTypeDescriptor());
             }
-
-            if (!isAssignableFromNone) {
-                methodVisitor.visitJumpInsn(Opcodes.GOTO, doneSettingField);
-
-                methodVisitor.visitLabel(ifFieldIsNone);
-                methodVisitor.visitInsn(Opcodes.POP);
-                methodVisitor.visitInsn(Opcodes.ACONST_NULL);
-                if (attributeType.getJavaTypeInternalName().equals(Type.getInternalName(JavaObjectWrapper.class))) {
-                    methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, getJavaFieldName(field),
-                            Type.getDescriptor(attributeType.getJavaObjectWrapperType()));
-                } else {
-                    methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, getJavaFieldName(field),
-                            attributeType.getJavaTypeDescriptor());
-                }
-                methodVisitor.visitLabel(doneSettingField);
-            }
+            methodVisitor.visitLabel(doneSettingField);
         }
-        methodVisitor.visitInsn(Opcodes.RETURN);
-
-        methodVisitor.visitMaxs(-1, -1);
-        methodVisitor.visitEnd();
     }
 
     public static void createWriteToCPythonReference(ClassWriter classWriter, String internalClassName,
@@ -4,6 +4,7 @@ import java.lang.reflect.Modifier;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import ai.timefold.jpyinterpreter.dag.FlowGraph;
@@ -15,8 +16,13 @@ import ai.timefold.jpyinterpreter.implementors.VariableImplementor;
 import ai.timefold.jpyinterpreter.opcodes.AbstractOpcode;
 import ai.timefold.jpyinterpreter.opcodes.Opcode;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.GeneratorOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.exceptions.BeforeWithOpcode;
+import ai.timefold.jpyinterpreter.opcodes.exceptions.SetupFinallyOpcode;
+import ai.timefold.jpyinterpreter.opcodes.exceptions.SetupWithOpcode;
 import ai.timefold.jpyinterpreter.opcodes.generator.GeneratorStartOpcode;
 import ai.timefold.jpyinterpreter.opcodes.generator.ResumeOpcode;
+import ai.timefold.jpyinterpreter.opcodes.generator.SendOpcode;
+import ai.timefold.jpyinterpreter.opcodes.generator.StopIteratorErrorOpcode;
 import ai.timefold.jpyinterpreter.opcodes.generator.YieldFromOpcode;
 import ai.timefold.jpyinterpreter.opcodes.generator.YieldValueOpcode;
 import ai.timefold.jpyinterpreter.types.BuiltinTypes;
@@ -45,7 +51,8 @@ public class PythonGeneratorTranslator {
     // -1 if the generator hits a return. 0 if generator.__next__() has not been called yet
     public static final String GENERATOR_STATE = "$generatorState";
 
-    // Stack of the generator after it yield a value
+    // Prefix of the fields that hold the stack of the generator after it yield a value;
+    // each yield has one field per stack slot
     public static final String GENERATOR_STACK = "$generatorStack";
 
     // The last value yielded by the generator
@@ -63,6 +70,14 @@ public class PythonGeneratorTranslator {
     // Called to advance the generator
     private static final String PROGRESS_GENERATOR = "progressGenerator";
 
+    // The action of a forEachWhile call, which receives the values yielded by the generator
+    public static final String FOR_EACH_ACTION = "$forEachAction";
+
+    private static final String FOR_EACH_WHILE = "forEachWhile";
+
+    // Runs the generator body for forEachWhile
+    private static final String FOR_EACH_WHILE_BODY = "$forEachWhileBody";
+
     public static String exceptionHandlerTargetStackLocal(int target) {
         return EXCEPTION_STACK_PREFIX + target;
     }
@@ -90,9 +105,6 @@ public class PythonGeneratorTranslator {
         classWriter.visitField(Modifier.PRIVATE, GENERATOR_STATE,
                 Type.INT_TYPE.getDescriptor(),
                 null, null);
-        classWriter.visitField(Modifier.PRIVATE, GENERATOR_STACK,
-                Type.getDescriptor(List.class),
-                null, null);
         classWriter.visitField(Modifier.PRIVATE, YIELDED_VALUE,
                 Type.getDescriptor(PythonLikeObject.class),
                 null, null);
@@ -102,6 +114,9 @@ public class PythonGeneratorTranslator {
         classWriter.visitField(Modifier.PRIVATE, CURRENT_EXCEPTION,
                 Type.getDescriptor(Throwable.class),
                 null, null);
+        classWriter.visitField(Modifier.PRIVATE, FOR_EACH_ACTION,
+                Type.getDescriptor(Predicate.class),
+                null, null);
 
         // Create fields for translated functions
         PythonBytecodeToJavaBytecodeTranslator.createFields(classWriter);
@@ -207,11 +222,6 @@ public class PythonGeneratorTranslator {
         methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, GENERATOR_STATE,
                 Type.INT_TYPE.getDescriptor());
 
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitInsn(Opcodes.ACONST_NULL);
-        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, GENERATOR_STACK,
-                Type.getDescriptor(List.class));
-
         methodVisitor.visitInsn(Opcodes.DUP);
         methodVisitor.visitInsn(Opcodes.ACONST_NULL);
         methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, YIELDED_VALUE,
@@ -263,6 +273,8 @@ public class PythonGeneratorTranslator {
                 createGeneratorStateToMethod(classWriter, internalClassName, pythonCompiledFunction);
         generateProgressGenerator(classWriter, internalClassName, generatorStateToMethodPart);
         generateAdvanceGeneratorMethods(classWriter, internalClassName, generatorStateToMethodPart);
+        generateForEachWhile(classWriter, internalClassName, pythonCompiledFunction,
+                (GeneratorLocalVariableHelper) generatorStateToMethodPart.get(0).initialStackMetadata.localVariableHelper);
 
         classWriter.visitEnd();
 
@@ -394,6 +406,154 @@ public class PythonGeneratorTranslator {
         methodVisitor.visitEnd();
     }
 
+    /**
+     * Generates an override of {@link PythonGenerator#forEachWhile(Predicate)} that runs the whole generator body
+     * in one call, passing each yielded value to the action. Since the body is never left between values,
+     * the stack is only saved if the action stops the generator early.
+     * If the body or the action raises an exception, the generator is marked as exhausted, since there is
+     * no saved state to resume from.
+     * Generators that delegate to another iterator or have exception handlers keep the default implementation,
+     * since an exception raised by the action must not be caught by the generator.
+     */
+    private static void generateForEachWhile(ClassWriter classWriter, String internalClassName,
+            PythonCompiledFunction pythonCompiledFunction, GeneratorLocalVariableHelper advanceLocalVariableHelper) {
+        List<Opcode> opcodeList = PythonBytecodeToJavaBytecodeTranslator.getOpcodeList(pythonCompiledFunction);
+        if (!canPassYieldedValuesToAction(pythonCompiledFunction, opcodeList)) {
+            return;
+        }
+
+        String methodDescriptor = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Predicate.class));
+        MethodVisitor methodVisitor = MethodVisitorAdapters
+                .adapt(classWriter.visitMethod(Modifier.PUBLIC, FOR_EACH_WHILE, methodDescriptor, null, null),
+                        FOR_EACH_WHILE, methodDescriptor);
+        methodVisitor.visitCode();
+
+        // A generator that already started has its stack saved, so let the default implementation resume it
+        Label notStarted = new Label();
+        Label started = new Label();
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalClassName, GENERATOR_STATE, Type.INT_TYPE.getDescriptor());
+        methodVisitor.visitJumpInsn(Opcodes.IFNE, started);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalClassName, SHOULD_PROGRESS_GENERATOR,
+                Type.BOOLEAN_TYPE.getDescriptor());
+        methodVisitor.visitJumpInsn(Opcodes.IFNE, notStarted);
+
+        methodVisitor.visitLabel(started);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(PythonGenerator.class), FOR_EACH_WHILE,
+                methodDescriptor, false);
+        methodVisitor.visitInsn(Opcodes.RETURN);
+
+        methodVisitor.visitLabel(notStarted);
+        Label tryStart = new Label();
+        Label tryEnd = new Label();
+        Label catchStart = new Label();
+        methodVisitor.visitTryCatchBlock(tryStart, tryEnd, catchStart, Type.getInternalName(Throwable.class));
+
+        methodVisitor.visitLabel(tryStart);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, internalClassName, FOR_EACH_WHILE_BODY,
+                methodDescriptor, false);
+        methodVisitor.visitLabel(tryEnd);
+        methodVisitor.visitInsn(Opcodes.RETURN);
+
+        // The body was left without saving its state, so it cannot be resumed; end the generator like a return would
+        methodVisitor.visitLabel(catchStart);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitLdcInsn(-1);
+        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, GENERATOR_STATE, Type.INT_TYPE.getDescriptor());
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitInsn(Opcodes.ICONST_0);
+        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, SHOULD_PROGRESS_GENERATOR,
+                Type.BOOLEAN_TYPE.getDescriptor());
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        PythonConstantsImplementor.loadNone(methodVisitor);
+        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, YIELDED_VALUE,
+                Type.getDescriptor(PythonLikeObject.class));
+        methodVisitor.visitInsn(Opcodes.ATHROW);
+
+        methodVisitor.visitMaxs(0, 0);
+        methodVisitor.visitEnd();
+
+        generateForEachWhileBody(classWriter, internalClassName, pythonCompiledFunction, advanceLocalVariableHelper,
+                opcodeList);
+    }
+
+    private static void generateForEachWhileBody(ClassWriter classWriter, String internalClassName,
+            PythonCompiledFunction pythonCompiledFunction, GeneratorLocalVariableHelper advanceLocalVariableHelper,
+            List<Opcode> opcodeList) {
+        String methodDescriptor = Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Predicate.class));
+        MethodVisitor methodVisitor = MethodVisitorAdapters
+                .adapt(classWriter.visitMethod(Modifier.PRIVATE, FOR_EACH_WHILE_BODY, methodDescriptor, null, null),
+                        FOR_EACH_WHILE_BODY, methodDescriptor);
+        methodVisitor.visitCode();
+
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, FOR_EACH_ACTION,
+                Type.getDescriptor(Predicate.class));
+
+        FunctionMetadata functionMetadata = new FunctionMetadata();
+        functionMetadata.functionType = PythonFunctionType.GENERATOR;
+        functionMetadata.isGeneratorForEachWhile = true;
+        functionMetadata.method = new MethodDescriptor(internalClassName, MethodDescriptor.MethodType.VIRTUAL,
+                FOR_EACH_WHILE_BODY, methodDescriptor);
+        functionMetadata.bytecodeCounterToCodeArgumenterList = new HashMap<>();
+        functionMetadata.bytecodeCounterToLabelMap = new HashMap<>();
+        functionMetadata.methodVisitor = methodVisitor;
+        functionMetadata.pythonCompiledFunction = pythonCompiledFunction.copy();
+        functionMetadata.className = internalClassName;
+
+        // The action parameter uses the first local slot; temp and saved stack fields are shared with advance methods
+        GeneratorLocalVariableHelper localVariableHelper =
+                new GeneratorLocalVariableHelper(classWriter, internalClassName,
+                        new Type[] { Type.getType(Predicate.class) }, pythonCompiledFunction,
+                        advanceLocalVariableHelper);
+        MethodDescriptor stackMetadataMethod = new MethodDescriptor(internalClassName, MethodDescriptor.MethodType.STATIC,
+                pythonCompiledFunction.qualifiedName, pythonCompiledFunction.getAsmMethodDescriptorString());
+        StackMetadata initialStackMetadata =
+                PythonBytecodeToJavaBytecodeTranslator.getInitialStackMetadata(localVariableHelper, stackMetadataMethod,
+                        false);
+        FlowGraph flowGraph = FlowGraph.createFlowGraph(functionMetadata, initialStackMetadata, opcodeList);
+        List<StackMetadata> stackMetadataForOpcodeIndex = flowGraph.getStackMetadataForOperations();
+
+        localVariableHelper.resetCallKeywords(methodVisitor);
+        if (opcodeList.get(0) instanceof GeneratorStartOpcode) {
+            // GEN_START pops the first sent value, which is None
+            PythonConstantsImplementor.loadNone(methodVisitor);
+        }
+        PythonBytecodeToJavaBytecodeTranslator.writeInstructionsForOpcodes(functionMetadata,
+                stackMetadataForOpcodeIndex, opcodeList);
+
+        methodVisitor.visitMaxs(0, 0);
+        methodVisitor.visitEnd();
+    }
+
+    private static boolean canPassYieldedValuesToAction(PythonCompiledFunction pythonCompiledFunction,
+            List<Opcode> opcodeList) {
+        if (opcodeList.isEmpty()) {
+            return false;
+        }
+        // Since Python 3.12, every generator has a handler that turns a StopIteration raised in its body
+        // into a RuntimeError, and reraises any other exception, which is fine for exceptions of the action
+        for (ExceptionBlock exceptionBlock : pythonCompiledFunction.co_exceptiontable.getEntries()) {
+            if (!(opcodeList.get(exceptionBlock.getTargetInstruction()) instanceof StopIteratorErrorOpcode)) {
+                return false;
+            }
+        }
+        for (Opcode opcode : opcodeList) {
+            if (opcode instanceof YieldFromOpcode || opcode instanceof SendOpcode
+                    || opcode instanceof SetupFinallyOpcode || opcode instanceof SetupWithOpcode
+                    || opcode instanceof BeforeWithOpcode) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static void generateProgressGenerator(ClassWriter classWriter, String internalClassName,
             Map<Integer, GeneratorMethodPart> generatorStateToMethodPartMap) {
         MethodVisitor methodVisitor = MethodVisitorAdapters
@@ -451,7 +611,7 @@ public class PythonGeneratorTranslator {
         methodVisitor.visitCode();
 
         GeneratorImplementor.restoreGeneratorState(generatorMethodPart.functionMetadata,
-                generatorMethodPart.initialStackMetadata);
+                generatorMethodPart.afterYield, generatorMethodPart.initialStackMetadata);
 
         if (generatorMethodPart.afterYield != 0
                 || (opcodeList.size() > 0 && opcodeList.get(0) instanceof GeneratorStartOpcode)) {
@@ -724,7 +884,7 @@ public class PythonGeneratorTranslator {
 
                         // Restore the stack
                         GeneratorImplementor.restoreGeneratorState(generatorMethodPart.functionMetadata,
-                                generatorMethodPart.initialStackMetadata);
+                                generatorMethodPart.afterYield, generatorMethodPart.initialStackMetadata);
 
                         // Push the last yielded value to TOS
                         methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
@@ -780,6 +940,7 @@ public class PythonGeneratorTranslator {
 
         FlowGraph flowGraph = FlowGraph.createFlowGraph(functionMetadata, initialStackMetadata, opcodeList);
         flowGraph.visitOperations(YieldValueOpcode.class, (yieldValueOpcode, priorStackMetadata) -> {
+            localVariableHelper.declareSavedStackFields(yieldValueOpcode.getBytecodeIndex() + 1, priorStackMetadata.pop());
             generatorStateToMethod.put(yieldValueOpcode.getBytecodeIndex() + 1,
                     getGeneratorMethodPartForYield(internalClassName, classWriter, pythonCompiledFunction,
                             stackMetadataMethod,
@@ -788,6 +949,7 @@ public class PythonGeneratorTranslator {
         });
 
         flowGraph.visitOperations(YieldFromOpcode.class, (yieldFromOpcode, priorStackMetadata) -> {
+            localVariableHelper.declareSavedStackFields(yieldFromOpcode.getBytecodeIndex() + 1, priorStackMetadata.pop(2));
             generatorStateToMethod.put(yieldFromOpcode.getBytecodeIndex() + 1,
                     getGeneratorMethodPartForYield(internalClassName, classWriter, pythonCompiledFunction,
                             stackMetadataMethod,
@@ -3,6 +3,7 @@ package ai.timefold.jpyinterpreter;
 import java.util.List;
 import java.util.Map;
 
+import ai.timefold.jpyinterpreter.types.CPythonBackedPythonLikeObject;
 import ai.timefold.jpyinterpreter.types.PythonModule;
 import ai.timefold.jpyinterpreter.types.PythonString;
 import ai.timefold.jpyinterpreter.types.errors.PythonTraceback;
@@ -16,6 +17,26 @@ public interface PythonInterpreter {
 
     void setPythonReference(PythonLikeObject instance, OpaquePythonReference reference);
 
+    /**
+     * Gives the copy the Python reference of the original, without making it the copy's own reference;
+     * {@link #hasValidPythonReference(PythonLikeObject)} is false for the copy until it is given its own reference
+     * with {@link #setPythonReference(PythonLikeObject, OpaquePythonReference)}.
+     *
+     * @param original the object whose reference is shared
+     * @param copy the object that receives the reference
+     */
+    default void sharePythonReference(PythonLikeObject original, PythonLikeObject copy) {
+        if (original instanceof CPythonBackedPythonLikeObject backedOriginal
+                && copy instanceof CPythonBackedPythonLikeObject backedCopy) {
+            // The id is left unset, since the id marks the object that owns the reference
+            backedCopy.$cpythonReference = backedOriginal.$cpythonReference;
+            backedCopy.$cpythonId = CPythonBackedPythonLikeObject.NO_CPYTHON_ID;
+        } else {
+            throw new IllegalArgumentException(
+                    "Can only call this method on %s objects.".formatted(CPythonBackedPythonLikeObject.class.getSimpleName()));
+        }
+    }
+
     PythonLikeObject getGlobal(Map<String, PythonLikeObject> globalsMap, String name);
 
     void setGlobal(Map<String, PythonLikeObject> globalsMap, String name, PythonLikeObject value);
@@ -11,7 +11,6 @@ import ai.timefold.jpyinterpreter.types.PythonString;
 import ai.timefold.jpyinterpreter.types.errors.AttributeError;
 import ai.timefold.jpyinterpreter.types.errors.TypeError;
 import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
-import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 
 /**
  * Represents an Object that can be interacted with like a Python Object.
@@ -79,7 +78,22 @@ public interface PythonLikeObject {
     }
 
     default PythonLikeObject $method$__getattribute__(PythonString pythonName) {
-        String name = pythonName.value;
+        PythonLikeObject result = $lookupAttributeOrNull(pythonName.value);
+        if (result != null) {
+            return result;
+        }
+        throw new AttributeError("object '" + this + "' does not have attribute '" + pythonName.value + "'");
+    }
+
+    /**
+     * Looks up an attribute the same way the default {@link #$method$__getattribute__(PythonString)} does,
+     * but returns null instead of raising an {@link AttributeError} if the attribute does not exist.
+     * Descriptors are still invoked, and might raise an {@link AttributeError} themselves.
+     *
+     * @param name Name of the attribute to look up
+     * @return The attribute of the object that corresponds with name, or null if it does not exist
+     */
+    default PythonLikeObject $lookupAttributeOrNull(String name) {
         PythonLikeObject objectResult = $getAttributeOrNull(name);
         if (objectResult != null) {
             return objectResult;
@@ -101,8 +115,7 @@ public interface PythonLikeObject {
             }
             return typeResult;
         }
-
-        throw new AttributeError("object '" + this + "' does not have attribute '" + name + "'");
+        return null;
     }
 
     default PythonLikeObject $method$__setattr__(PythonString pythonName, PythonLikeObject value) {
@@ -132,9 +145,9 @@ public interface PythonLikeObject {
     default PythonLikeObject $method$__repr__() {
         String position;
         if (this instanceof CPythonBackedPythonLikeObject) {
-            PythonInteger id = ((CPythonBackedPythonLikeObject) this).$cpythonId;
-            if (id != null) {
-                position = id.toString();
+            long id = ((CPythonBackedPythonLikeObject) this).$cpythonId;
+            if (id != CPythonBackedPythonLikeObject.NO_CPYTHON_ID) {
+                position = Long.toString(id);
             } else {
                 position = String.valueOf(System.identityHashCode(this));
             }
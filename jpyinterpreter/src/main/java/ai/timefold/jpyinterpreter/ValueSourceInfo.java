@@ -46,9 +46,10 @@ public class ValueSourceInfo {
         newValueDependencySet.addAll(valueDependencySet);
 
         for (ValueSourceInfo dependency : other.valueDependencySet) {
+            // A dependency is null when it is an unset local variable
             Optional<ValueSourceInfo> maybeCommonDependency = valueDependencySet.stream()
-                    .filter(otherValueSource -> otherValueSource.possibleSourceOpcodeSet
-                            .equals(dependency.getPossibleSourceOpcodeSet()))
+                    .filter(otherValueSource -> otherValueSource != null && dependency != null
+                            && otherValueSource.possibleSourceOpcodeSet.equals(dependency.getPossibleSourceOpcodeSet()))
                     .findAny();
 
             // If it is not empty, it was added in the previous loop
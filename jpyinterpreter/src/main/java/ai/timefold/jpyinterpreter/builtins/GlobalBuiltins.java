@@ -46,6 +46,7 @@ import ai.timefold.jpyinterpreter.PythonUnaryOperator;
 import ai.timefold.jpyinterpreter.types.CPythonBackedPythonLikeObject;
 import ai.timefold.jpyinterpreter.types.Ellipsis;
 import ai.timefold.jpyinterpreter.types.NotImplemented;
+import ai.timefold.jpyinterpreter.types.PythonGenerator;
 import ai.timefold.jpyinterpreter.types.PythonLikeFunction;
 import ai.timefold.jpyinterpreter.types.PythonLikeType;
 import ai.timefold.jpyinterpreter.types.PythonNone;
@@ -128,6 +129,19 @@ public class GlobalBuiltins {
     private final static StackWalker stackWalker = getStackWalkerInstance();
     private final static Map<String, PythonLikeObject> builtinConstantMap = new HashMap<>();
 
+    // True if the class does not override the default PythonLikeObject.$method$__getattribute__
+    private final static ClassValue<Boolean> USES_DEFAULT_GET_ATTRIBUTE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("$method$__getattribute__", PythonString.class)
+                        .getDeclaringClass() == PythonLikeObject.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     static {
         loadBuiltinConstants();
     }
@@ -380,6 +394,23 @@ public class GlobalBuiltins {
         }
     }
 
+    /**
+     * Looks up a builtin that does not depend on the interpreter, so it can be resolved once
+     * when a function is translated instead of every time it is loaded.
+     *
+     * @return the builtin, or null if there is no such builtin or it depends on the interpreter
+     */
+    public static PythonLikeObject lookupInterpreterIndependent(String builtinName) {
+        switch (builtinName) {
+            case "input":
+            case "print":
+            case "__import__":
+                return null;
+            default:
+                return lookup(null, builtinName);
+        }
+    }
+
     public static PythonLikeObject lookupOrError(PythonInterpreter interpreter, String builtinName) {
         PythonLikeObject out = lookup(interpreter, builtinName);
         if (out == null) {
@@ -402,6 +433,12 @@ public class GlobalBuiltins {
             throw new ValueError("all expects 1 argument, got " + positionalArgs.size());
         }
 
+        if (iterator instanceof PythonGenerator generator) {
+            boolean[] isAllTruthful = { true };
+            generator.forEachWhile(element -> isAllTruthful[0] = PythonBoolean.isTruthful(element));
+            return PythonBoolean.valueOf(isAllTruthful[0]);
+        }
+
         while (iterator.hasNext()) {
             PythonLikeObject element = iterator.next();
             if (!PythonBoolean.isTruthful(element)) {
@@ -426,6 +463,12 @@ public class GlobalBuiltins {
             throw new ValueError("any expects 1 argument, got " + positionalArgs.size());
         }
 
+        if (iterator instanceof PythonGenerator generator) {
+            boolean[] isAnyTruthful = { false };
+            generator.forEachWhile(element -> !(isAnyTruthful[0] = PythonBoolean.isTruthful(element)));
+            return PythonBoolean.valueOf(isAnyTruthful[0]);
+        }
+
         while (iterator.hasNext()) {
             PythonLikeObject element = iterator.next();
             if (PythonBoolean.isTruthful(element)) {
@@ -895,16 +938,31 @@ public class GlobalBuiltins {
             throw new ValueError("getattr expects 2 or 3 arguments, got " + positionalArgs.size());
         }
 
+        if (defaultValue != null) {
+            PythonLikeObject out = getAttributeOrNull(object, name);
+            return (out != null) ? out : defaultValue;
+        }
+
+        PythonLikeFunction getAttribute = (PythonLikeFunction) object.$getType().$getAttributeOrError("__getattribute__");
+        return getAttribute.$call(List.of(object, name), Map.of(), null);
+    }
+
+    /**
+     * Returns the attribute of object with the given name, or null if it does not exist.
+     * Objects that use the default {@code __getattribute__} are looked up without raising
+     * (and catching) an {@link AttributeError}.
+     */
+    private static PythonLikeObject getAttributeOrNull(PythonLikeObject object, PythonString name) {
         PythonLikeFunction getAttribute = (PythonLikeFunction) object.$getType().$getAttributeOrError("__getattribute__");
+        if (getAttribute == BASE_TYPE.$getAttributeOrNull("__getattribute__")
+                && USES_DEFAULT_GET_ATTRIBUTE.get(object.getClass())) {
+            return object.$lookupAttributeOrNull(name.value);
+        }
 
         try {
             return getAttribute.$call(List.of(object, name), Map.of(), null);
         } catch (AttributeError attributeError) {
-            if (defaultValue != null) {
-                return defaultValue;
-            } else {
-                throw attributeError;
-            }
+            return null;
         }
     }
 
@@ -926,12 +984,10 @@ public class GlobalBuiltins {
 
     public static PythonBoolean hasattr(List<PythonLikeObject> positionalArgs,
             Map<PythonString, PythonLikeObject> keywordArgs, PythonLikeObject instance) {
-        try {
-            getattr(positionalArgs, keywordArgs, instance);
-            return PythonBoolean.TRUE;
-        } catch (AttributeError error) {
-            return PythonBoolean.FALSE;
+        if (positionalArgs.size() != 2) {
+            throw new TypeError("hasattr expected 2 arguments, got " + positionalArgs.size());
         }
+        return PythonBoolean.valueOf(getAttributeOrNull(positionalArgs.get(0), (PythonString) positionalArgs.get(1)) != null);
     }
 
     public static PythonString hex(List<PythonLikeObject> positionalArgs,
@@ -979,8 +1035,8 @@ public class GlobalBuiltins {
 
         if (object instanceof CPythonBackedPythonLikeObject) {
             CPythonBackedPythonLikeObject cPythonBackedPythonLikeObject = (CPythonBackedPythonLikeObject) object;
-            if (cPythonBackedPythonLikeObject.$cpythonId != null) {
-                return cPythonBackedPythonLikeObject.$cpythonId;
+            if (cPythonBackedPythonLikeObject.$cpythonId != CPythonBackedPythonLikeObject.NO_CPYTHON_ID) {
+                return PythonInteger.valueOf(cPythonBackedPythonLikeObject.$cpythonId);
             }
         }
 
@@ -1157,17 +1213,14 @@ public class GlobalBuiltins {
             Iterator<Comparable> iterator = (Iterator<Comparable>) ((PythonLikeFunction) (positionalArgs.get(0).$getType()
                     .$getAttributeOrError("__iter__"))).$call(List.of(positionalArgs.get(0)),
                             Map.of(), null);
-            Comparable min = null;
-            for (Iterator<Comparable> it = iterator; it.hasNext();) {
-                Comparable item = it.next();
-                if (min == null) {
-                    min = item;
-                } else {
-                    if (item.compareTo(min) < 0) {
-                        min = item;
-                    }
+            // forEachRemaining lets a generator pass its values without saving its stack on every yield
+            Comparable[] minHolder = { null };
+            iterator.forEachRemaining(item -> {
+                if (minHolder[0] == null || item.compareTo(minHolder[0]) < 0) {
+                    minHolder[0] = item;
                 }
-            }
+            });
+            Comparable min = minHolder[0];
             if (min == null) {
                 PythonLikeObject defaultValue = keywordArgs.get(PythonString.valueOf("default"));
                 if (!keywordArgs.containsKey(PythonString.valueOf("default"))) {
@@ -1201,17 +1254,14 @@ public class GlobalBuiltins {
             Iterator<Comparable> iterator = (Iterator<Comparable>) ((PythonLikeFunction) (positionalArgs.get(0).$getType()
                     .$getAttributeOrError("__iter__"))).$call(List.of(positionalArgs.get(0)),
                             Map.of(), null);
-            Comparable max = null;
-            for (Iterator<Comparable> it = iterator; it.hasNext();) {
-                Comparable item = it.next();
-                if (max == null) {
-                    max = item;
-                } else {
-                    if (item.compareTo(max) > 0) {
-                        max = item;
-                    }
+            // forEachRemaining lets a generator pass its values without saving its stack on every yield
+            Comparable[] maxHolder = { null };
+            iterator.forEachRemaining(item -> {
+                if (maxHolder[0] == null || item.compareTo(maxHolder[0]) > 0) {
+                    maxHolder[0] = item;
                 }
-            }
+            });
+            Comparable max = maxHolder[0];
             if (max == null) {
                 PythonLikeObject defaultValue = keywordArgs.get(PythonString.valueOf("default"));
                 if (!keywordArgs.containsKey(PythonString.valueOf("default"))) {
@@ -1517,15 +1567,13 @@ public class GlobalBuiltins {
             throw new ValueError("sum() expects 1 or 2 arguments, got " + positionalArgs.size());
         }
 
-        PythonLikeObject current = start;
+        PythonLikeObject[] current = { start };
 
+        // forEachRemaining lets a generator pass its values without saving its stack on every yield
         Iterator<PythonLikeObject> iterator = (Iterator<PythonLikeObject>) UnaryDunderBuiltin.ITERATOR.invoke(iterable);
-        while (iterator.hasNext()) {
-            PythonLikeObject item = iterator.next();
-            current = BinaryDunderBuiltin.ADD.invoke(current, item);
-        }
+        iterator.forEachRemaining(item -> current[0] = BinaryDunderBuiltin.ADD.invoke(current[0], item));
 
-        return current;
+        return current[0];
     }
 
     public static PythonSuperObject superOfCaller(List<PythonLikeObject> positionalArgs,
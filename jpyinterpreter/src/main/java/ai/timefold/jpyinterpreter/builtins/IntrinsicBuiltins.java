@@ -0,0 +1,453 @@
+package ai.timefold.jpyinterpreter.builtins;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import ai.timefold.jpyinterpreter.PythonFunctionSignature;
+import ai.timefold.jpyinterpreter.PythonLikeObject;
+import ai.timefold.jpyinterpreter.types.PythonGenerator;
+import ai.timefold.jpyinterpreter.types.PythonKnownFunctionType;
+import ai.timefold.jpyinterpreter.types.PythonLikeFunction;
+import ai.timefold.jpyinterpreter.types.PythonNone;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeDict;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeFrozenSet;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeList;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeSet;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
+import ai.timefold.jpyinterpreter.types.errors.ValueError;
+import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
+import ai.timefold.jpyinterpreter.types.numeric.PythonFloat;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+import ai.timefold.jpyinterpreter.types.numeric.PythonNumber;
+import ai.timefold.jpyinterpreter.util.arguments.ArgumentSpec;
+
+/**
+ * Specialized versions of the {@code len}, {@code sum}, {@code min}, {@code max}, {@code sorted}, {@code any}
+ * and {@code all} builtins.
+ * <p>
+ * When a function loads one of these builtins from the global scope, the translator calls the matching
+ * static method directly instead of going through {@link PythonLikeFunction#$call}, which avoids
+ * packing the arguments into a list and a map, and parsing them back out again.
+ * The methods have fast paths for builtin collections and for ints and floats, and fall back to the
+ * generic dunder methods for everything else.
+ * Call signatures that are not covered here (for instance, {@code min(a, b, c)}) use the regular builtin,
+ * and a call site that finds a module global instead of the builtin calls the global.
+ */
+public final class IntrinsicBuiltins {
+
+    private IntrinsicBuiltins() {
+    }
+
+    /**
+     * Returns the known function type for the builtin with the given name if it has an intrinsic version.
+     */
+    public static Optional<PythonKnownFunctionType> getIntrinsicFunctionType(String builtinName) {
+        return Optional.ofNullable(FunctionTypeHolder.BUILTIN_NAME_TO_FUNCTION_TYPE.get(builtinName));
+    }
+
+    private static final class FunctionTypeHolder {
+        private static final Map<String, PythonKnownFunctionType> BUILTIN_NAME_TO_FUNCTION_TYPE = createFunctionTypes();
+
+        private static Map<String, PythonKnownFunctionType> createFunctionTypes() {
+            try {
+                Map<String, PythonKnownFunctionType> out = new HashMap<>();
+                out.put("len", functionType("len",
+                        ArgumentSpec.forFunctionReturning("len", PythonInteger.class.getName())
+                                .addPositionalOnlyArgument("obj", PythonLikeObject.class.getName())
+                                .asStaticPythonFunctionSignature(
+                                        IntrinsicBuiltins.class.getMethod("len", PythonLikeObject.class))));
+                out.put("sum", functionType("sum",
+                        ArgumentSpec.forFunctionReturning("sum", PythonLikeObject.class.getName())
+                                .addPositionalOnlyArgument("iterable", PythonLikeObject.class.getName())
+                                .addArgument("start", PythonLikeObject.class.getName(), PythonInteger.ZERO)
+                                .asStaticPythonFunctionSignature(IntrinsicBuiltins.class.getMethod("sum",
+                                        PythonLikeObject.class, PythonLikeObject.class))));
+                out.put("min", functionType("min",
+                        minMaxIterableSignature("min"),
+                        minMaxPairSignature("min")));
+                out.put("max", functionType("max",
+                        minMaxIterableSignature("max"),
+                        minMaxPairSignature("max")));
+                out.put("sorted", functionType("sorted",
+                        ArgumentSpec.forFunctionReturning("sorted", PythonLikeList.class.getName())
+                                .addPositionalOnlyArgument("iterable", PythonLikeObject.class.getName())
+                                .addNullableKeywordOnlyArgument("key", PythonLikeObject.class.getName())
+                                .addKeywordOnlyArgument("reverse", PythonLikeObject.class.getName(), PythonBoolean.FALSE)
+                                .asStaticPythonFunctionSignature(IntrinsicBuiltins.class.getMethod("sorted",
+                                        PythonLikeObject.class, PythonLikeObject.class, PythonLikeObject.class))));
+                out.put("any", functionType("any",
+                        ArgumentSpec.forFunctionReturning("any", PythonBoolean.class.getName())
+                                .addPositionalOnlyArgument("iterable", PythonLikeObject.class.getName())
+                                .asStaticPythonFunctionSignature(
+                                        IntrinsicBuiltins.class.getMethod("any", PythonLikeObject.class))));
+                out.put("all", functionType("all",
+                        ArgumentSpec.forFunctionReturning("all", PythonBoolean.class.getName())
+                                .addPositionalOnlyArgument("iterable", PythonLikeObject.class.getName())
+                                .asStaticPythonFunctionSignature(
+                                        IntrinsicBuiltins.class.getMethod("all", PythonLikeObject.class))));
+                return out;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static PythonFunctionSignature minMaxIterableSignature(String name) throws NoSuchMethodException {
+            return ArgumentSpec.forFunctionReturning(name, PythonLikeObject.class.getName())
+                    .addPositionalOnlyArgument("iterable", PythonLikeObject.class.getName())
+                    .addNullableKeywordOnlyArgument("key", PythonLikeObject.class.getName())
+                    .addNullableKeywordOnlyArgument("default", PythonLikeObject.class.getName())
+                    .asStaticPythonFunctionSignature(IntrinsicBuiltins.class.getMethod(name,
+                            PythonLikeObject.class, PythonLikeObject.class, PythonLikeObject.class));
+        }
+
+        private static PythonFunctionSignature minMaxPairSignature(String name) throws NoSuchMethodException {
+            return ArgumentSpec.forFunctionReturning(name, PythonLikeObject.class.getName())
+                    .addPositionalOnlyArgument("arg1", PythonLikeObject.class.getName())
+                    .addPositionalOnlyArgument("arg2", PythonLikeObject.class.getName())
+                    .addNullableKeywordOnlyArgument("key", PythonLikeObject.class.getName())
+                    .asStaticPythonFunctionSignature(IntrinsicBuiltins.class.getMethod(name + "Of",
+                            PythonLikeObject.class, PythonLikeObject.class, PythonLikeObject.class));
+        }
+
+        private static PythonKnownFunctionType functionType(String name, PythonFunctionSignature... signatures) {
+            return new IntrinsicFunctionType(name, name.toUpperCase() + "_BUILTIN", Arrays.asList(signatures));
+        }
+    }
+
+    /*
+     * The builtins that have an intrinsic version. A call site only calls the intrinsic if the function it
+     * loaded is the builtin; if a module global shadows the builtin, the global is called instead.
+     */
+    public static final PythonLikeObject LEN_BUILTIN = GlobalBuiltins.lookupInterpreterIndependent("len");
+    public static final PythonLikeObject SUM_BUILTIN = GlobalBuiltins.lookupInterpreterIndependent("sum");
+    public static final PythonLikeObject MIN_BUILTIN = GlobalBuiltins.lookupInterpreterIndependent("min");
+    public static final PythonLikeObject MAX_BUILTIN = GlobalBuiltins.lookupInterpreterIndependent("max");
+    public static final PythonLikeObject SORTED_BUILTIN = GlobalBuiltins.lookupInterpreterIndependent("sorted");
+    public static final PythonLikeObject ANY_BUILTIN = GlobalBuiltins.lookupInterpreterIndependent("any");
+    public static final PythonLikeObject ALL_BUILTIN = GlobalBuiltins.lookupInterpreterIndependent("all");
+
+    /**
+     * The type of a builtin with an intrinsic version, as loaded from the global scope.
+     * The loaded value is usually the builtin, but can be a module global bound after the function was translated,
+     * so it is only known to be an object.
+     */
+    public static final class IntrinsicFunctionType extends PythonKnownFunctionType {
+        private final String builtinFieldName;
+
+        private IntrinsicFunctionType(String name, String builtinFieldName,
+                List<PythonFunctionSignature> overloadFunctionSignatureList) {
+            super(name, PythonLikeObject.class, overloadFunctionSignatureList);
+            this.builtinFieldName = builtinFieldName;
+        }
+
+        /**
+         * The name of the static field in {@link IntrinsicBuiltins} that holds the builtin.
+         */
+        public String getBuiltinFieldName() {
+            return builtinFieldName;
+        }
+    }
+
+    public static PythonInteger len(PythonLikeObject object) {
+        if (isBuiltinCollection(object)) {
+            return PythonInteger.valueOf(((Collection<?>) object).size());
+        }
+        if (object.getClass() == PythonLikeDict.class) {
+            return PythonInteger.valueOf(((Map<?, ?>) object).size());
+        }
+        return (PythonInteger) UnaryDunderBuiltin.LENGTH.invoke(object);
+    }
+
+    public static PythonLikeObject sum(PythonLikeObject iterable, PythonLikeObject start) {
+        SumAction sumAction = new SumAction(start);
+        forEachWhile(iterable, sumAction);
+        return sumAction.getTotal();
+    }
+
+    /**
+     * Adds each item to a running total, which is kept in a long for as long as it fits in one,
+     * then in a double if it is a float, and as an object otherwise.
+     */
+    private static final class SumAction implements Predicate<PythonLikeObject> {
+        private final PythonLikeObject start;
+        private boolean hasItems;
+        private boolean isLongTotal;
+        private long longTotal;
+        private boolean isDoubleTotal;
+        private double doubleTotal;
+        private PythonLikeObject objectTotal;
+
+        private SumAction(PythonLikeObject start) {
+            this.start = start;
+            setTotal(start);
+        }
+
+        private void setTotal(PythonLikeObject total) {
+            isLongTotal = isLongValued(total);
+            isDoubleTotal = !isLongTotal && total.getClass() == PythonFloat.class;
+            if (isLongTotal) {
+                longTotal = ((PythonInteger) total).value.longValue();
+            } else if (isDoubleTotal) {
+                doubleTotal = ((PythonFloat) total).value;
+            } else {
+                objectTotal = total;
+            }
+        }
+
+        @Override
+        public boolean test(PythonLikeObject item) {
+            hasItems = true;
+            if (isLongTotal) {
+                if (isLongValued(item)) {
+                    long itemValue = ((PythonInteger) item).value.longValue();
+                    long result = longTotal + itemValue;
+                    // Overflow iff both operands have the same sign and the result has a different sign
+                    if (((longTotal ^ result) & (itemValue ^ result)) >= 0) {
+                        longTotal = result;
+                        return true;
+                    }
+                }
+                setTotal(BinaryDunderBuiltin.ADD.invoke(PythonInteger.valueOf(longTotal), item));
+            } else if (isDoubleTotal) {
+                if (item.getClass() == PythonFloat.class) {
+                    doubleTotal += ((PythonFloat) item).value;
+                } else if (isLongValued(item)) {
+                    doubleTotal += ((PythonInteger) item).value.longValue();
+                } else {
+                    setTotal(BinaryDunderBuiltin.ADD.invoke(PythonFloat.valueOf(doubleTotal), item));
+                }
+            } else {
+                objectTotal = BinaryDunderBuiltin.ADD.invoke(objectTotal, item);
+            }
+            return true;
+        }
+
+        private PythonLikeObject getTotal() {
+            if (!hasItems) {
+                // start is returned as is, so sum([], True) is True and not 1
+                return start;
+            }
+            if (isLongTotal) {
+                return PythonInteger.valueOf(longTotal);
+            }
+            if (isDoubleTotal) {
+                return PythonFloat.valueOf(doubleTotal);
+            }
+            return objectTotal;
+        }
+    }
+
+    public static PythonLikeObject min(PythonLikeObject iterable, PythonLikeObject key, PythonLikeObject defaultValue) {
+        return extremum(iterable, key, defaultValue, false);
+    }
+
+    public static PythonLikeObject max(PythonLikeObject iterable, PythonLikeObject key, PythonLikeObject defaultValue) {
+        return extremum(iterable, key, defaultValue, true);
+    }
+
+    public static PythonLikeObject minOf(PythonLikeObject first, PythonLikeObject second, PythonLikeObject key) {
+        PythonLikeFunction keyFunction = asKeyFunction(key);
+        if (keyFunction == null) {
+            return isBefore(second, first, false) ? second : first;
+        }
+        return isBefore(applyKey(keyFunction, second), applyKey(keyFunction, first), false) ? second : first;
+    }
+
+    public static PythonLikeObject maxOf(PythonLikeObject first, PythonLikeObject second, PythonLikeObject key) {
+        PythonLikeFunction keyFunction = asKeyFunction(key);
+        if (keyFunction == null) {
+            return isBefore(second, first, true) ? second : first;
+        }
+        return isBefore(applyKey(keyFunction, second), applyKey(keyFunction, first), true) ? second : first;
+    }
+
+    private static PythonLikeObject extremum(PythonLikeObject iterable, PythonLikeObject key,
+            PythonLikeObject defaultValue, boolean isMax) {
+        ExtremumAction extremumAction = new ExtremumAction(asKeyFunction(key), isMax);
+        forEachWhile(iterable, extremumAction);
+        if (!extremumAction.hasItems) {
+            if (defaultValue == null) {
+                throw new ValueError("Iterable is empty, and no default was provided");
+            }
+            return defaultValue;
+        }
+        return extremumAction.best;
+    }
+
+    /**
+     * Keeps the smallest (or largest) item seen so far.
+     * Each key is computed once, instead of recomputing the key of the best item on every comparison.
+     */
+    private static final class ExtremumAction implements Predicate<PythonLikeObject> {
+        private final PythonLikeFunction keyFunction;
+        private final boolean isMax;
+        private boolean hasItems;
+        private PythonLikeObject best;
+        private PythonLikeObject bestKey;
+
+        private ExtremumAction(PythonLikeFunction keyFunction, boolean isMax) {
+            this.keyFunction = keyFunction;
+            this.isMax = isMax;
+        }
+
+        @Override
+        public boolean test(PythonLikeObject item) {
+            PythonLikeObject itemKey = (keyFunction == null) ? item : applyKey(keyFunction, item);
+            if (!hasItems || isBefore(itemKey, bestKey, isMax)) {
+                hasItems = true;
+                best = item;
+                bestKey = itemKey;
+            }
+            return true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static PythonLikeList<PythonLikeObject> sorted(PythonLikeObject iterable, PythonLikeObject key,
+            PythonLikeObject reverse) {
+        PythonLikeList<PythonLikeObject> out = new PythonLikeList<>();
+        if (iterable instanceof Collection<?> collection) {
+            out.addAll((Collection<PythonLikeObject>) collection);
+        } else {
+            iteratorOf(iterable).forEachRemaining(out::add);
+        }
+        boolean isReversed = PythonBoolean.isTruthful(reverse);
+        PythonLikeFunction keyFunction = asKeyFunction(key);
+
+        if (keyFunction == null) {
+            // List.sort is stable; reversing the comparison keeps equal items in their original order
+            Comparator<PythonLikeObject> comparator = (a, b) -> compare(a, b, isReversed);
+            out.sort(comparator);
+            return out;
+        }
+
+        int size = out.size();
+        PythonLikeObject[] keys = new PythonLikeObject[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = applyKey(keyFunction, out.get(i));
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> compare(keys[a], keys[b], isReversed));
+
+        List<PythonLikeObject> items = new ArrayList<>(out);
+        for (int i = 0; i < size; i++) {
+            out.set(i, items.get(order[i]));
+        }
+        return out;
+    }
+
+    public static PythonBoolean any(PythonLikeObject iterable) {
+        boolean[] isAnyTruthful = { false };
+        forEachWhile(iterable, item -> !(isAnyTruthful[0] = PythonBoolean.isTruthful(item)));
+        return PythonBoolean.valueOf(isAnyTruthful[0]);
+    }
+
+    public static PythonBoolean all(PythonLikeObject iterable) {
+        boolean[] isAllTruthful = { true };
+        forEachWhile(iterable, item -> isAllTruthful[0] = PythonBoolean.isTruthful(item));
+        return PythonBoolean.valueOf(isAllTruthful[0]);
+    }
+
+    private static boolean isBuiltinCollection(PythonLikeObject object) {
+        Class<?> objectClass = object.getClass();
+        return objectClass == PythonLikeList.class || objectClass == PythonLikeTuple.class
+                || objectClass == PythonLikeSet.class || objectClass == PythonLikeFrozenSet.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Iterator<PythonLikeObject> iteratorOf(PythonLikeObject iterable) {
+        if (isBuiltinCollection(iterable)) {
+            return ((Collection<PythonLikeObject>) iterable).iterator();
+        }
+        return (Iterator<PythonLikeObject>) UnaryDunderBuiltin.ITERATOR.invoke(iterable);
+    }
+
+    /**
+     * Passes the items of the iterable to the action until it returns false.
+     * Generators push their values through {@link PythonGenerator#forEachWhile(Predicate)},
+     * so translated generators run their body without saving their state on every yield.
+     */
+    private static void forEachWhile(PythonLikeObject iterable, Predicate<PythonLikeObject> action) {
+        Iterator<PythonLikeObject> iterator = iteratorOf(iterable);
+        if (iterator instanceof PythonGenerator generator) {
+            generator.forEachWhile(action);
+            return;
+        }
+        while (iterator.hasNext()) {
+            if (!action.test(iterator.next())) {
+                return;
+            }
+        }
+    }
+
+    private static boolean isLongValued(PythonLikeObject object) {
+        Class<?> objectClass = object.getClass();
+        return (objectClass == PythonInteger.class || objectClass == PythonBoolean.class)
+                && ((PythonInteger) object).value.bitLength() < Long.SIZE;
+    }
+
+    private static PythonLikeFunction asKeyFunction(PythonLikeObject key) {
+        if (key == null || key == PythonNone.INSTANCE) {
+            return null;
+        }
+        return (PythonLikeFunction) key;
+    }
+
+    private static PythonLikeObject applyKey(PythonLikeFunction keyFunction, PythonLikeObject item) {
+        return keyFunction.$call(List.of(item), Map.of(), null);
+    }
+
+    /**
+     * Returns true if {@code item} should replace {@code best}; that is, if {@code item < best}
+     * (or {@code item > best} when {@code isMax} is true).
+     */
+    private static boolean isBefore(PythonLikeObject item, PythonLikeObject best, boolean isMax) {
+        if (isLongValued(item) && isLongValued(best)) {
+            long itemValue = ((PythonInteger) item).value.longValue();
+            long bestValue = ((PythonInteger) best).value.longValue();
+            return isMax ? itemValue > bestValue : itemValue < bestValue;
+        }
+        if (item.getClass() == PythonFloat.class && best.getClass() == PythonFloat.class) {
+            double itemValue = ((PythonFloat) item).value;
+            double bestValue = ((PythonFloat) best).value;
+            return isMax ? itemValue > bestValue : itemValue < bestValue;
+        }
+        return PythonBoolean.isTruthful(isMax ? BinaryDunderBuiltin.GREATER_THAN.invoke(item, best)
+                : BinaryDunderBuiltin.LESS_THAN.invoke(item, best));
+    }
+
+    private static boolean isNaN(PythonLikeObject object) {
+        return object.getClass() == PythonFloat.class && Double.isNaN(((PythonFloat) object).value);
+    }
+
+    private static int compare(PythonLikeObject a, PythonLikeObject b, boolean isReversed) {
+        if (isReversed) {
+            PythonLikeObject swap = a;
+            a = b;
+            b = swap;
+        }
+        boolean isANaN = isNaN(a);
+        boolean isBNaN = isNaN(b);
+        if ((isANaN || isBNaN) && a instanceof PythonNumber && b instanceof PythonNumber) {
+            // NaN is neither less than nor greater than any number, which would make the comparator
+            // inconsistent; order NaN after all other numbers instead, like Double.compare does
+            return Boolean.compare(isANaN, isBNaN);
+        }
+        if (isBefore(a, b, false)) {
+            return -1;
+        }
+        if (isBefore(b, a, false)) {
+            return 1;
+        }
+        return 0;
+    }
+}
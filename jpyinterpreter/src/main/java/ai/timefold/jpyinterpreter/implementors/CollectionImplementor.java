@@ -1,6 +1,5 @@
 package ai.timefold.jpyinterpreter.implementors;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -15,11 +14,14 @@ import ai.timefold.jpyinterpreter.PythonLikeObject;
 import ai.timefold.jpyinterpreter.PythonTernaryOperator;
 import ai.timefold.jpyinterpreter.PythonUnaryOperator;
 import ai.timefold.jpyinterpreter.StackMetadata;
+import ai.timefold.jpyinterpreter.types.PythonRange;
 import ai.timefold.jpyinterpreter.types.PythonSlice;
+import ai.timefold.jpyinterpreter.types.collections.PythonIterator;
 import ai.timefold.jpyinterpreter.types.collections.PythonLikeList;
 import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
 import ai.timefold.jpyinterpreter.types.errors.StopIteration;
 import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+import ai.timefold.jpyinterpreter.types.wrappers.PythonObjectWrapper;
 
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
@@ -37,20 +39,89 @@ public class CollectionImplementor {
      * Jump relatively by the instruction argument and pop TOS. Otherwise,
      * leave TOS below TOS' and go to the next instruction.
      *
+     * If TOS is a {@link PythonIterator}, it is driven by {@link PythonIterator#hasNext()} and
+     * {@link PythonIterator#nextPythonItem()} directly, which does not need to store the stack
+     * or catch {@link StopIteration}. Other iterators (such as generators, user defined iterators
+     * and CPython iterators wrapped in a {@link PythonObjectWrapper}) use the {@link StopIteration} protocol.
+     *
+     * If {@code countedLoopLocal} is not null, the next instruction stores TOS' in that counted loop variable
+     * (see {@link LocalVariableHelper#unboxCountedLoopLocals}). If TOS is then a range whose values fit in a long,
+     * the value is written directly to the variable's long slot and TOS' is null, so the value is not boxed.
+     *
      * Note: {@link StopIteration} does not fill its stack trace, which make it much more efficient than
      * normal exceptions.
      */
     public static void iterateIterator(MethodVisitor methodVisitor, int jumpTarget,
             StackMetadata stackMetadata,
-            FunctionMetadata functionMetadata) {
+            FunctionMetadata functionMetadata, Integer countedLoopLocal) {
+        Label iteratorLabel = new Label();
+        Label slowPathLabel = new Label();
         Label tryStartLabel = new Label();
         Label tryEndLabel = new Label();
         Label catchStartLabel = new Label();
-        Label catchEndLabel = new Label();
+        Label iterationEndLabel = new Label();
         Label loopEndLabel =
                 functionMetadata.bytecodeCounterToLabelMap.computeIfAbsent(jumpTarget,
                         key -> new Label());
 
+        if (countedLoopLocal != null) {
+            String rangeIteratorInternalName = Type.getInternalName(PythonRange.RangePythonIterator.class);
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitTypeInsn(Opcodes.INSTANCEOF, rangeIteratorInternalName);
+            methodVisitor.visitJumpInsn(Opcodes.IFEQ, iteratorLabel);
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, rangeIteratorInternalName);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, rangeIteratorInternalName,
+                    "isLongRange", Type.getMethodDescriptor(Type.BOOLEAN_TYPE), false);
+            methodVisitor.visitJumpInsn(Opcodes.IFEQ, iteratorLabel);
+
+            Label rangeExhaustedLabel = new Label();
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, rangeIteratorInternalName);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, rangeIteratorInternalName,
+                    "hasNext", Type.getMethodDescriptor(Type.BOOLEAN_TYPE), false);
+            methodVisitor.visitJumpInsn(Opcodes.IFEQ, rangeExhaustedLabel);
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, rangeIteratorInternalName);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, rangeIteratorInternalName,
+                    "nextLong", Type.getMethodDescriptor(Type.LONG_TYPE), false);
+            methodVisitor.visitVarInsn(Opcodes.LSTORE,
+                    stackMetadata.localVariableHelper.getCountedLoopLocalSlot(countedLoopLocal));
+            methodVisitor.visitInsn(Opcodes.ACONST_NULL);
+            methodVisitor.visitJumpInsn(Opcodes.GOTO, iterationEndLabel);
+
+            methodVisitor.visitLabel(rangeExhaustedLabel);
+            methodVisitor.visitInsn(Opcodes.POP);
+            methodVisitor.visitJumpInsn(Opcodes.GOTO, loopEndLabel);
+        }
+
+        methodVisitor.visitLabel(iteratorLabel);
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(PythonIterator.class));
+        methodVisitor.visitJumpInsn(Opcodes.IFEQ, slowPathLabel);
+        // PythonObjectWrapper.hasNext() swallows the errors raised by the CPython iterator,
+        // so CPython iterators go through __next__ to let those errors propagate
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(PythonObjectWrapper.class));
+        methodVisitor.visitJumpInsn(Opcodes.IFNE, slowPathLabel);
+
+        Label fastPathExhaustedLabel = new Label();
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonIterator.class));
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonIterator.class),
+                "hasNext", Type.getMethodDescriptor(Type.BOOLEAN_TYPE), true);
+        methodVisitor.visitJumpInsn(Opcodes.IFEQ, fastPathExhaustedLabel);
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonIterator.class));
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonIterator.class),
+                "nextPythonItem", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class)), true);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, iterationEndLabel);
+
+        methodVisitor.visitLabel(fastPathExhaustedLabel);
+        methodVisitor.visitInsn(Opcodes.POP);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, loopEndLabel);
+
+        methodVisitor.visitLabel(slowPathLabel);
         int[] storedStack = StackManipulationImplementor.storeStack(methodVisitor, stackMetadata);
 
         methodVisitor.visitTryCatchBlock(tryStartLabel, tryEndLabel, catchStartLabel,
@@ -61,19 +132,15 @@ public class CollectionImplementor {
         methodVisitor.visitInsn(Opcodes.DUP);
         DunderOperatorImplementor.unaryOperator(methodVisitor, PythonUnaryOperator.NEXT);
         methodVisitor.visitLabel(tryEndLabel);
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, catchEndLabel);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, iterationEndLabel);
 
         methodVisitor.visitLabel(catchStartLabel);
         methodVisitor.visitInsn(Opcodes.POP);
+        StackManipulationImplementor.restoreStack(methodVisitor, stackMetadata, storedStack);
+        methodVisitor.visitInsn(Opcodes.POP);
         methodVisitor.visitJumpInsn(Opcodes.GOTO, loopEndLabel);
-        methodVisitor.visitLabel(catchEndLabel);
-
-        functionMetadata.bytecodeCounterToCodeArgumenterList
-                .computeIfAbsent(jumpTarget, key -> new ArrayList<>())
-                .add(() -> {
-                    StackManipulationImplementor.restoreStack(methodVisitor, stackMetadata, storedStack);
-                    methodVisitor.visitInsn(Opcodes.POP);
-                });
+
+        methodVisitor.visitLabel(iterationEndLabel);
     }
 
     /**
@@ -18,16 +18,21 @@ import ai.timefold.jpyinterpreter.PythonUnaryOperator;
 import ai.timefold.jpyinterpreter.PythonVersion;
 import ai.timefold.jpyinterpreter.StackMetadata;
 import ai.timefold.jpyinterpreter.ValueSourceInfo;
+import ai.timefold.jpyinterpreter.opcodes.Opcode;
 import ai.timefold.jpyinterpreter.opcodes.OpcodeWithoutSource;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.ControlOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.exceptions.SetupFinallyOpcode;
+import ai.timefold.jpyinterpreter.opcodes.exceptions.SetupWithOpcode;
 import ai.timefold.jpyinterpreter.types.BoundPythonLikeFunction;
 import ai.timefold.jpyinterpreter.types.PythonLikeFunction;
 import ai.timefold.jpyinterpreter.types.PythonLikeType;
 import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
+import ai.timefold.jpyinterpreter.types.errors.AttributeError;
 import ai.timefold.jpyinterpreter.types.errors.PythonAssertionError;
 import ai.timefold.jpyinterpreter.types.errors.PythonBaseException;
 import ai.timefold.jpyinterpreter.types.errors.PythonTraceback;
 import ai.timefold.jpyinterpreter.types.errors.StopIteration;
+import ai.timefold.jpyinterpreter.types.errors.lookup.LookupError;
 import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
 import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 
@@ -41,6 +46,121 @@ import org.objectweb.asm.Type;
  */
 public class ExceptionImplementor {
 
+    /**
+     * The ranges of a function outside any of its try blocks, one per line, and the handlers that capture
+     * the stack trace of lookup and attribute errors raised in them.
+     *
+     * @param instructionLabels the label to visit before the instruction at each index, or null if there is none;
+     *        the last element is the label to visit after the last instruction
+     * @param handlers the handler of each range
+     */
+    public record StackTraceCaptureRanges(Label[] instructionLabels, List<StackTraceCaptureHandler> handlers) {
+    }
+
+    public record StackTraceCaptureHandler(Label handlerLabel, int line) {
+    }
+
+    /**
+     * Lookup and attribute errors do not capture a Java stack trace when created, since they are commonly caught
+     * by the function that raised them; but the Python traceback of an error that escapes to CPython
+     * is built from its Java stack trace. An error raised outside any try block escapes the function,
+     * so this registers handlers for those instructions that capture the stack trace and reraise the error.
+     * There is a range per line, so the captured stack trace has the line that raised the error.
+     * Must be called before any instruction is written, since try catch blocks must be visited before their labels.
+     * The handlers of a range must still come after the handlers that implementors register inside it
+     * (ex: the catch-all of {@link CollectionImplementor#unpackSequence}), since the JVM uses the first matching
+     * entry of the exception table. {@link ai.timefold.jpyinterpreter.util.HandlerSorterAdapter} sorts the table
+     * innermost first, and a range always encloses the handlers registered by the instructions in it,
+     * since it starts with a NOP before its first instruction.
+     * Functions with pre-3.11 SETUP_* opcodes have try blocks that are not in the exception table,
+     * so they get no ranges.
+     */
+    public static StackTraceCaptureRanges createStackTraceCaptureRanges(FunctionMetadata functionMetadata,
+            List<Opcode> opcodeList) {
+        MethodVisitor methodVisitor = functionMetadata.methodVisitor;
+        List<PythonBytecodeInstruction> instructionList = functionMetadata.pythonCompiledFunction.instructionList;
+        Label[] instructionLabels = new Label[opcodeList.size() + 1];
+        List<StackTraceCaptureHandler> handlers = new ArrayList<>();
+        for (Opcode opcode : opcodeList) {
+            if (opcode instanceof SetupFinallyOpcode || opcode instanceof SetupWithOpcode) {
+                return new StackTraceCaptureRanges(instructionLabels, handlers);
+            }
+        }
+
+        boolean[] isInTryBlock = new boolean[opcodeList.size()];
+        for (ExceptionBlock exceptionBlock : functionMetadata.pythonCompiledFunction.co_exceptiontable.getEntries()) {
+            // Same condition as the translator uses to register the handler of the block
+            if (exceptionBlock.getBlockStartInstructionInclusive() > exceptionBlock.getTargetInstruction()) {
+                continue;
+            }
+            for (int i = exceptionBlock.getBlockStartInstructionInclusive(); i < exceptionBlock
+                    .getBlockEndInstructionExclusive() && i < isInTryBlock.length; i++) {
+                isInTryBlock[i] = true;
+            }
+        }
+
+        int line = -1;
+        Label rangeStart = null;
+        int rangeLine = -1;
+        for (int i = 0; i <= opcodeList.size(); i++) {
+            if (i < opcodeList.size() && instructionList.get(i).startsLine().isPresent()) {
+                line = instructionList.get(i).startsLine().getAsInt();
+            }
+            boolean isInRange = i < opcodeList.size() && !isInTryBlock[i];
+            if (rangeStart != null && (!isInRange || line != rangeLine)) {
+                Label rangeEnd = new Label();
+                instructionLabels[i] = rangeEnd;
+                Label handlerLabel = new Label();
+                methodVisitor.visitTryCatchBlock(rangeStart, rangeEnd, handlerLabel,
+                        Type.getInternalName(LookupError.class));
+                methodVisitor.visitTryCatchBlock(rangeStart, rangeEnd, handlerLabel,
+                        Type.getInternalName(AttributeError.class));
+                handlers.add(new StackTraceCaptureHandler(handlerLabel, rangeLine));
+                rangeStart = null;
+            }
+            if (isInRange && rangeStart == null) {
+                rangeStart = instructionLabels[i] != null ? instructionLabels[i] : new Label();
+                instructionLabels[i] = rangeStart;
+                rangeLine = line;
+            }
+        }
+        return new StackTraceCaptureRanges(instructionLabels, handlers);
+    }
+
+    /**
+     * Visits the label of the instruction at the given index, if it has one.
+     * A NOP follows the label, so ranges starting at instructions that write no code are not empty.
+     */
+    public static void visitStackTraceCaptureLabel(MethodVisitor methodVisitor, StackTraceCaptureRanges ranges,
+            int instructionIndex) {
+        Label label = ranges.instructionLabels()[instructionIndex];
+        if (label != null) {
+            methodVisitor.visitLabel(label);
+            if (instructionIndex < ranges.instructionLabels().length - 1) {
+                methodVisitor.visitInsn(Opcodes.NOP);
+            }
+        }
+    }
+
+    /**
+     * Writes the handlers of the ranges. Must be called after the last instruction is written,
+     * at a point that is not reachable by falling through.
+     */
+    public static void writeStackTraceCaptureHandlers(MethodVisitor methodVisitor, StackTraceCaptureRanges ranges) {
+        visitStackTraceCaptureLabel(methodVisitor, ranges, ranges.instructionLabels().length - 1);
+        for (StackTraceCaptureHandler handler : ranges.handlers()) {
+            methodVisitor.visitLabel(handler.handlerLabel());
+            if (handler.line() >= 0) {
+                methodVisitor.visitLineNumber(handler.line(), handler.handlerLabel());
+            }
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonBaseException.class));
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(PythonBaseException.class),
+                    "$captureStackTraceIfMissing", Type.getMethodDescriptor(Type.VOID_TYPE), false);
+            methodVisitor.visitInsn(Opcodes.ATHROW);
+        }
+    }
+
     /**
      * Creates an AssertionError and pushes it to the stack.
      */
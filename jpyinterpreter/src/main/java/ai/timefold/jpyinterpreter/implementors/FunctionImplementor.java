@@ -2,9 +2,12 @@ package ai.timefold.jpyinterpreter.implementors;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import ai.timefold.jpyinterpreter.FunctionMetadata;
@@ -17,6 +20,8 @@ import ai.timefold.jpyinterpreter.PythonLikeObject;
 import ai.timefold.jpyinterpreter.PythonVersion;
 import ai.timefold.jpyinterpreter.StackMetadata;
 import ai.timefold.jpyinterpreter.ValueSourceInfo;
+import ai.timefold.jpyinterpreter.opcodes.Opcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.LoadGlobalOpcode;
 import ai.timefold.jpyinterpreter.types.BuiltinTypes;
 import ai.timefold.jpyinterpreter.types.PythonCode;
 import ai.timefold.jpyinterpreter.types.PythonKnownFunctionType;
@@ -292,12 +297,112 @@ public class FunctionImplementor {
                                     argumentCount,
                                     stackMetadata.getCallKeywordNameList());
                         }, () -> callGeneric(functionMetadata, stackMetadata, argumentCount));
+            } else if (stackMetadata.getTypeAtStackIndex(argumentCount + 1) == BuiltinTypes.NULL_TYPE
+                    && stackMetadata.getCallKeywordNameList().isEmpty()) {
+                getDirectCallFunctionClass(functionMetadata, stackMetadata, argumentCount)
+                        .ifPresentOrElse(functionClass -> {
+                            callDirectly(functionMetadata, stackMetadata, functionClass, argumentCount);
+                            // Pop off the NULL
+                            functionMetadata.methodVisitor.visitInsn(Opcodes.SWAP);
+                            functionMetadata.methodVisitor.visitInsn(Opcodes.POP);
+                        }, () -> callGeneric(functionMetadata, stackMetadata, argumentCount));
             } else {
                 callGeneric(functionMetadata, stackMetadata, argumentCount);
             }
         }
     }
 
+    /**
+     * Returns the class of the translated function at the given stack index if it was loaded from a global
+     * and has a direct call entry point taking the given number of arguments.
+     *
+     * @see PythonBytecodeToJavaBytecodeTranslator#hasDirectCallEntryPoint(PythonCompiledFunction)
+     */
+    private static Optional<Class<?>> getDirectCallFunctionClass(FunctionMetadata functionMetadata,
+            StackMetadata stackMetadata, int argumentCount) {
+        Set<Opcode> functionSourceSet = stackMetadata.getValueSourceForStackIndex(argumentCount)
+                .getPossibleSourceOpcodeSet();
+        if (functionSourceSet.size() != 1
+                || !(functionSourceSet.iterator().next() instanceof LoadGlobalOpcode loadGlobalOpcode)) {
+            return Optional.empty();
+        }
+        PythonLikeObject global = loadGlobalOpcode.getGlobal(functionMetadata);
+        if (!(global instanceof PythonLikeFunction)) {
+            return Optional.empty();
+        }
+        Class<?>[] parameterTypes = new Class<?>[argumentCount];
+        Arrays.fill(parameterTypes, PythonLikeObject.class);
+        try {
+            global.getClass().getMethod(PythonBytecodeToJavaBytecodeTranslator.DIRECT_CALL_METHOD_NAME, parameterTypes);
+            return Optional.of(global.getClass());
+        } catch (NoSuchMethodException e) {
+            // Not a small translated function, or it takes a different number of arguments
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Calls a translated function through its direct call entry point if it is still an instance of the class
+     * it was when the call site was translated (since the global it was loaded from can be rebound),
+     * and through {@link PythonLikeFunction#$call(List, Map, PythonLikeObject)} otherwise.
+     * The direct call bypasses argument list extraction and default arguments, and is monomorphic,
+     * so the JIT can inline the function into the call site.
+     * <p>
+     * Stack is function, arg0, arg1, ..., arg(argc - 1); after it is result.
+     */
+    private static void callDirectly(FunctionMetadata functionMetadata, StackMetadata stackMetadata,
+            Class<?> functionClass, int argumentCount) {
+        MethodVisitor methodVisitor = functionMetadata.methodVisitor;
+        LocalVariableHelper localVariableHelper = stackMetadata.localVariableHelper;
+        String functionClassInternalName = Type.getInternalName(functionClass);
+
+        int[] argumentLocals = new int[argumentCount];
+        for (int i = 0; i < argumentCount; i++) {
+            argumentLocals[i] = localVariableHelper.newLocal();
+        }
+        for (int i = argumentCount - 1; i >= 0; i--) {
+            localVariableHelper.writeTemp(methodVisitor, Type.getType(PythonLikeObject.class), argumentLocals[i]);
+        }
+
+        Label isRebound = new Label();
+        Label callDone = new Label();
+
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitTypeInsn(Opcodes.INSTANCEOF, functionClassInternalName);
+        methodVisitor.visitJumpInsn(Opcodes.IFEQ, isRebound);
+
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, functionClassInternalName);
+        for (int i = 0; i < argumentCount; i++) {
+            localVariableHelper.readTemp(methodVisitor, Type.getType(PythonLikeObject.class), argumentLocals[i]);
+        }
+        PythonBytecodeToJavaBytecodeTranslator.getDirectCallMethodDescriptor(functionClassInternalName, argumentCount)
+                .callMethod(methodVisitor);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, callDone);
+
+        methodVisitor.visitLabel(isRebound);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonLikeFunction.class));
+        for (int i = 0; i < argumentCount; i++) {
+            localVariableHelper.readTemp(methodVisitor, Type.getType(PythonLikeObject.class), argumentLocals[i]);
+        }
+        CollectionImplementor.buildCollection(PythonLikeTuple.class, methodVisitor, argumentCount);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(Collections.class), "emptyMap",
+                Type.getMethodDescriptor(Type.getType(Map.class)),
+                false);
+        getCallerInstance(functionMetadata, stackMetadata);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeFunction.class),
+                "$call", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
+                        Type.getType(List.class),
+                        Type.getType(Map.class),
+                        Type.getType(PythonLikeObject.class)),
+                true);
+
+        methodVisitor.visitLabel(callDone);
+
+        for (int i = 0; i < argumentCount; i++) {
+            localVariableHelper.freeLocal();
+        }
+    }
+
     private static void callGeneric(FunctionMetadata functionMetadata,
             StackMetadata stackMetadata,
             int argumentCount) {
@@ -496,7 +601,10 @@ public class FunctionImplementor {
                         methodVisitor.visitInsn(Opcodes.POP);
                     }, () -> callGenericFunction(functionMetadata, stackMetadata, methodVisitor, instruction));
         } else {
-            callGenericFunction(functionMetadata, stackMetadata, methodVisitor, instruction);
+            getDirectCallFunctionClass(functionMetadata, stackMetadata, instruction.arg())
+                    .ifPresentOrElse(functionClass -> callDirectly(functionMetadata, stackMetadata, functionClass,
+                            instruction.arg()),
+                            () -> callGenericFunction(functionMetadata, stackMetadata, methodVisitor, instruction));
         }
     }
 
@@ -1,10 +1,11 @@
 package ai.timefold.jpyinterpreter.implementors;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import ai.timefold.jpyinterpreter.BytecodeSwitchImplementor;
 import ai.timefold.jpyinterpreter.FunctionMetadata;
+import ai.timefold.jpyinterpreter.GeneratorLocalVariableHelper;
 import ai.timefold.jpyinterpreter.PythonBinaryOperator;
 import ai.timefold.jpyinterpreter.PythonBytecodeInstruction;
 import ai.timefold.jpyinterpreter.PythonGeneratorTranslator;
@@ -22,53 +23,36 @@ import org.objectweb.asm.Type;
 
 public class GeneratorImplementor {
 
-    public static void restoreGeneratorState(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
-        MethodVisitor methodVisitor = functionMetadata.methodVisitor;
-
-        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
-        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, functionMetadata.className, PythonGeneratorTranslator.GENERATOR_STACK,
-                Type.getDescriptor(List.class));
+    public static void restoreGeneratorState(FunctionMetadata functionMetadata, int generatorState,
+            StackMetadata stackMetadata) {
+        GeneratorLocalVariableHelper localVariableHelper = (GeneratorLocalVariableHelper) stackMetadata.localVariableHelper;
 
+        // Push the saved stack slots, bottom first
         for (int i = stackMetadata.getStackSize() - 1; i >= 0; i--) {
-            methodVisitor.visitInsn(Opcodes.DUP);
-            methodVisitor.visitLdcInsn(i);
-            methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(List.class), "get",
-                    Type.getMethodDescriptor(Type.getType(Object.class), Type.INT_TYPE), true);
-            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, stackMetadata.getTypeAtStackIndex(i).getJavaTypeInternalName());
-            methodVisitor.visitInsn(Opcodes.SWAP);
+            localVariableHelper.readSavedStackSlot(functionMetadata.methodVisitor, generatorState, i);
         }
-        methodVisitor.visitInsn(Opcodes.POP);
     }
 
+    /**
+     * Saves the stack into the fields of the yield and sets the generator state,
+     * so the generator resumes after the yield.
+     *
+     * @param stackMetadata the stack without the values the yield consumed
+     */
     private static void saveGeneratorState(PythonBytecodeInstruction instruction, FunctionMetadata functionMetadata,
             StackMetadata stackMetadata) {
         MethodVisitor methodVisitor = functionMetadata.methodVisitor;
+        GeneratorLocalVariableHelper localVariableHelper = (GeneratorLocalVariableHelper) stackMetadata.localVariableHelper;
+        int generatorState = instruction.offset() + 1;
 
-        // Store stack in generatorStack
-        methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(ArrayList.class));
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitLdcInsn(stackMetadata.getStackSize());
-        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(ArrayList.class), "<init>",
-                Type.getMethodDescriptor(Type.VOID_TYPE, Type.INT_TYPE), false);
-
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
-        methodVisitor.visitInsn(Opcodes.SWAP);
-        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, functionMetadata.className, PythonGeneratorTranslator.GENERATOR_STACK,
-                Type.getDescriptor(List.class));
-
-        for (int i = 0; i < stackMetadata.getStackSize() - 1; i++) {
-            methodVisitor.visitInsn(Opcodes.DUP_X1);
-            methodVisitor.visitInsn(Opcodes.SWAP);
-            methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(List.class), "add",
-                    Type.getMethodDescriptor(Type.BOOLEAN_TYPE, Type.getType(Object.class)), true);
-            methodVisitor.visitInsn(Opcodes.POP); // Do not use return value of add
+        // Store the stack in the fields of the yield, TOS first
+        for (int i = 0; i < stackMetadata.getStackSize(); i++) {
+            localVariableHelper.writeSavedStackSlot(methodVisitor, generatorState, i);
         }
-        methodVisitor.visitInsn(Opcodes.POP);
 
         // Set the generator state
         methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
-        methodVisitor.visitLdcInsn(instruction.offset() + 1);
+        methodVisitor.visitLdcInsn(generatorState);
         methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, functionMetadata.className, PythonGeneratorTranslator.GENERATOR_STATE,
                 Type.INT_TYPE.getDescriptor());
     }
@@ -77,6 +61,11 @@ public class GeneratorImplementor {
             StackMetadata stackMetadata) {
         MethodVisitor methodVisitor = functionMetadata.methodVisitor;
 
+        if (functionMetadata.isGeneratorForEachWhile) {
+            yieldValueToForEachAction(instruction, functionMetadata, stackMetadata);
+            return;
+        }
+
         // First, store TOS in yieldedValue
         methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
         methodVisitor.visitInsn(Opcodes.SWAP);
@@ -85,12 +74,36 @@ public class GeneratorImplementor {
                 Type.getDescriptor(PythonLikeObject.class));
 
         // Next, save stack and generator position
-        saveGeneratorState(instruction, functionMetadata, stackMetadata);
+        saveGeneratorState(instruction, functionMetadata, stackMetadata.pop());
 
         // return control to the caller
         methodVisitor.visitInsn(Opcodes.RETURN);
     }
 
+    private static void yieldValueToForEachAction(PythonBytecodeInstruction instruction,
+            FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
+        MethodVisitor methodVisitor = functionMetadata.methodVisitor;
+        Label continueLabel = new Label();
+
+        // Pass TOS to the action
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, functionMetadata.className,
+                PythonGeneratorTranslator.FOR_EACH_ACTION, Type.getDescriptor(Predicate.class));
+        methodVisitor.visitInsn(Opcodes.SWAP);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(Predicate.class), "test",
+                Type.getMethodDescriptor(Type.BOOLEAN_TYPE, Type.getType(Object.class)), true);
+        methodVisitor.visitJumpInsn(Opcodes.IFNE, continueLabel);
+
+        // The action stopped, so save stack and generator position like a yield,
+        // so the next call to __next__ resumes after the yield
+        saveGeneratorState(instruction, functionMetadata, stackMetadata.pop());
+        methodVisitor.visitInsn(Opcodes.RETURN);
+
+        // The action wants more values; None is the value sent to the generator
+        methodVisitor.visitLabel(continueLabel);
+        PythonConstantsImplementor.loadNone(methodVisitor);
+    }
+
     public static void yieldFrom(PythonBytecodeInstruction instruction, FunctionMetadata functionMetadata,
             StackMetadata stackMetadata) {
         MethodVisitor methodVisitor = functionMetadata.methodVisitor;
@@ -338,12 +351,6 @@ public class GeneratorImplementor {
         methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, functionMetadata.className, PythonGeneratorTranslator.YIELDED_VALUE,
                 Type.getDescriptor(PythonLikeObject.class));
 
-        // Next, set generatorStack to null
-        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
-        methodVisitor.visitInsn(Opcodes.ACONST_NULL);
-        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, functionMetadata.className, PythonGeneratorTranslator.GENERATOR_STACK,
-                Type.getDescriptor(List.class));
-
         // Set the generator state
         methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
         methodVisitor.visitLdcInsn(-1);
@@ -356,6 +356,25 @@ public class JavaPythonTypeConversionImplementor {
                 Type.LONG_TYPE.equals(returnAsmType) ||
                 Type.FLOAT_TYPE.equals(returnAsmType) ||
                 Type.DOUBLE_TYPE.equals(returnAsmType)) {
+            if ((Type.INT_TYPE.equals(returnAsmType) || Type.LONG_TYPE.equals(returnAsmType))
+                    && stackMetadata.getTOSType() != null
+                    && stackMetadata.getTOSType().isSubclassOf(BuiltinTypes.INT_TYPE)) {
+                // Known int (ex: a match weight computed by int arithmetic); narrow its BigInteger directly
+                // instead of going through PythonNumber.getValue() and Number
+                methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonInteger.class));
+                methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(PythonInteger.class), "value",
+                        Type.getDescriptor(BigInteger.class));
+                if (Type.INT_TYPE.equals(returnAsmType)) {
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(BigInteger.class),
+                            "intValue", Type.getMethodDescriptor(Type.INT_TYPE), false);
+                    methodVisitor.visitInsn(Opcodes.IRETURN);
+                } else {
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(BigInteger.class),
+                            "longValue", Type.getMethodDescriptor(Type.LONG_TYPE), false);
+                    methodVisitor.visitInsn(Opcodes.LRETURN);
+                }
+                return;
+            }
             methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonNumber.class));
             methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE,
                     Type.getInternalName(PythonNumber.class),
@@ -10,8 +10,10 @@ import ai.timefold.jpyinterpreter.PythonDefaultArgumentImplementor;
 import ai.timefold.jpyinterpreter.PythonFunctionSignature;
 import ai.timefold.jpyinterpreter.PythonLikeObject;
 import ai.timefold.jpyinterpreter.StackMetadata;
+import ai.timefold.jpyinterpreter.builtins.IntrinsicBuiltins;
 import ai.timefold.jpyinterpreter.types.BoundPythonLikeFunction;
 import ai.timefold.jpyinterpreter.types.BuiltinTypes;
+import ai.timefold.jpyinterpreter.types.PythonLikeFunction;
 import ai.timefold.jpyinterpreter.types.PythonLikeType;
 import ai.timefold.jpyinterpreter.types.PythonString;
 import ai.timefold.jpyinterpreter.types.collections.PythonLikeDict;
@@ -283,6 +285,21 @@ public class KnownCallImplementor {
             localVariableHelper.writeTemp(methodVisitor, Type.getType(PythonLikeObject.class), argumentLocals[0]);
         }
 
+        Label callDone = null;
+        if (stackMetadata.getTypeAtStackIndex(argumentCount) instanceof IntrinsicBuiltins.IntrinsicFunctionType intrinsicType) {
+            // Stack is function; only call the intrinsic if the function is still the builtin
+            callDone = new Label();
+            Label isBuiltin = new Label();
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, Type.getInternalName(IntrinsicBuiltins.class),
+                    intrinsicType.getBuiltinFieldName(), Type.getDescriptor(PythonLikeObject.class));
+            methodVisitor.visitJumpInsn(Opcodes.IF_ACMPEQ, isBuiltin);
+            callShadowedIntrinsic(pythonFunctionSignature, methodVisitor, localVariableHelper, argumentLocals,
+                    positionalArgumentCount, keywordArgumentNameList);
+            methodVisitor.visitJumpInsn(Opcodes.GOTO, callDone);
+            methodVisitor.visitLabel(isBuiltin);
+        }
+
         // Load arguments in proper order and typecast them
         for (int i = 0; i < specTotalArgumentCount; i++) {
             localVariableHelper.readTemp(methodVisitor, Type.getType(PythonLikeObject.class), argumentLocals[i]);
@@ -299,6 +316,10 @@ public class KnownCallImplementor {
 
         pythonFunctionSignature.getMethodDescriptor().callMethod(methodVisitor);
 
+        if (callDone != null) {
+            methodVisitor.visitLabel(callDone);
+        }
+
         // If it not a CLASS method, pop off the function object
         // CLASS method consume the function object; Static and Virtual do not
         if (!pythonFunctionSignature.isClassMethod()) {
@@ -318,6 +339,53 @@ public class KnownCallImplementor {
         }
     }
 
+    /**
+     * Calls the function on top of the stack (which is kept on the stack) with the arguments the call site
+     * specified, instead of the intrinsic. Used when a module global shadows a builtin with an intrinsic version.
+     * Arguments filled in from the intrinsic's defaults are not passed, since the global might have different defaults.
+     */
+    private static void callShadowedIntrinsic(PythonFunctionSignature pythonFunctionSignature, MethodVisitor methodVisitor,
+            LocalVariableHelper localVariableHelper, int[] argumentLocals,
+            int positionalArgumentCount, List<String> keywordArgumentNameList) {
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonLikeFunction.class));
+
+        for (int i = 0; i < positionalArgumentCount; i++) {
+            localVariableHelper.readTemp(methodVisitor, Type.getType(PythonLikeObject.class), argumentLocals[i]);
+        }
+        CollectionImplementor.buildCollection(PythonLikeTuple.class, methodVisitor, positionalArgumentCount);
+
+        methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(PythonLikeDict.class));
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(PythonLikeDict.class), "<init>",
+                Type.getMethodDescriptor(Type.VOID_TYPE), false);
+        for (String keywordArgument : keywordArgumentNameList) {
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitLdcInsn(keywordArgument);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonString.class),
+                    "valueOf", Type.getMethodDescriptor(Type.getType(PythonString.class),
+                            Type.getType(String.class)),
+                    false);
+            localVariableHelper.readTemp(methodVisitor, Type.getType(PythonLikeObject.class),
+                    argumentLocals[pythonFunctionSignature.getArgumentSpec().getArgumentIndex(keywordArgument)]);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(Map.class), "put",
+                    Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(Object.class),
+                            Type.getType(Object.class)),
+                    true);
+            methodVisitor.visitInsn(Opcodes.POP);
+        }
+
+        methodVisitor.visitInsn(Opcodes.ACONST_NULL);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeFunction.class),
+                "$call", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
+                        Type.getType(List.class),
+                        Type.getType(Map.class),
+                        Type.getType(PythonLikeObject.class)),
+                true);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST,
+                pythonFunctionSignature.getMethodDescriptor().getReturnType().getInternalName());
+    }
+
     public static void callWithoutKeywords(PythonFunctionSignature pythonFunctionSignature, FunctionMetadata functionMetadata,
             StackMetadata stackMetadata, int argumentCount) {
         MethodVisitor methodVisitor = functionMetadata.methodVisitor;
@@ -17,7 +17,9 @@ import ai.timefold.jpyinterpreter.types.PythonString;
 import ai.timefold.jpyinterpreter.types.PythonSuperObject;
 import ai.timefold.jpyinterpreter.types.errors.AttributeError;
 import ai.timefold.jpyinterpreter.types.wrappers.JavaObjectWrapper;
+import ai.timefold.jpyinterpreter.util.AttributeCallSite;
 
+import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -95,6 +97,14 @@ public class ObjectImplementor {
                                 Type.getType(PythonString.class)),
                         true);
             }
+        } else if (tosType == BuiltinTypes.BASE_TYPE) {
+            // The type of TOS is unknown; use an inline cache that reads the field directly for
+            // the classes this call site sees
+            methodVisitor.visitInvokeDynamicInsn("getAttribute",
+                    Type.getMethodDescriptor(Type.getType(PythonLikeObject.class), Type.getType(PythonLikeObject.class)),
+                    new Handle(Opcodes.H_INVOKESTATIC, Type.getInternalName(AttributeCallSite.class),
+                            AttributeCallSite.BOOTSTRAP_METHOD_NAME, AttributeCallSite.BOOTSTRAP_METHOD_DESCRIPTOR, false),
+                    name);
         } else {
             PythonConstantsImplementor.loadName(methodVisitor, className, nameIndex);
             DunderOperatorImplementor.binaryOperator(methodVisitor,
@@ -1,10 +1,15 @@
 package ai.timefold.jpyinterpreter.implementors;
 
+import java.math.BigInteger;
 import java.util.List;
 
 import ai.timefold.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
+import ai.timefold.jpyinterpreter.PythonLikeObject;
 import ai.timefold.jpyinterpreter.types.PythonNone;
+import ai.timefold.jpyinterpreter.types.PythonString;
 import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
+import ai.timefold.jpyinterpreter.types.numeric.PythonFloat;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -70,4 +75,59 @@ public class PythonConstantsImplementor {
                 Type.getMethodDescriptor(Type.getType(Object.class), Type.INT_TYPE),
                 true);
     }
+
+    /**
+     * Returns true if {@code constant} can be pushed by {@link #loadScalarConstant(MethodVisitor, PythonLikeObject)}.
+     */
+    public static boolean isScalarConstant(PythonLikeObject constant) {
+        if (constant == null) {
+            return false;
+        }
+        Class<?> constantClass = constant.getClass();
+        return constantClass == PythonInteger.class || constantClass == PythonFloat.class
+                || constantClass == PythonBoolean.class || constantClass == PythonString.class
+                || constantClass == PythonNone.class;
+    }
+
+    /**
+     * Pushes a scalar (int, float, bool, str or None) constant onto the stack
+     * without going through the class constant list.
+     *
+     * @param constant A constant for which {@link #isScalarConstant(PythonLikeObject)} is true
+     */
+    public static void loadScalarConstant(MethodVisitor methodVisitor, PythonLikeObject constant) {
+        if (constant instanceof PythonBoolean booleanConstant) {
+            if (booleanConstant.getBooleanValue()) {
+                loadTrue(methodVisitor);
+            } else {
+                loadFalse(methodVisitor);
+            }
+        } else if (constant instanceof PythonNone) {
+            loadNone(methodVisitor);
+        } else if (constant instanceof PythonInteger integerConstant) {
+            if (integerConstant.value.bitLength() < Long.SIZE) {
+                methodVisitor.visitLdcInsn(integerConstant.value.longValue());
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonInteger.class), "valueOf",
+                        Type.getMethodDescriptor(Type.getType(PythonInteger.class), Type.LONG_TYPE), false);
+            } else {
+                methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(BigInteger.class));
+                methodVisitor.visitInsn(Opcodes.DUP);
+                methodVisitor.visitLdcInsn(integerConstant.value.toString());
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(BigInteger.class), "<init>",
+                        Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(String.class)), false);
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonInteger.class), "valueOf",
+                        Type.getMethodDescriptor(Type.getType(PythonInteger.class), Type.getType(BigInteger.class)), false);
+            }
+        } else if (constant instanceof PythonFloat floatConstant) {
+            methodVisitor.visitLdcInsn(floatConstant.value);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonFloat.class), "valueOf",
+                    Type.getMethodDescriptor(Type.getType(PythonFloat.class), Type.DOUBLE_TYPE), false);
+        } else if (constant instanceof PythonString stringConstant) {
+            methodVisitor.visitLdcInsn(stringConstant.value);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonString.class), "valueOf",
+                    Type.getMethodDescriptor(Type.getType(PythonString.class), Type.getType(String.class)), false);
+        } else {
+            throw new IllegalArgumentException("(%s) is not a scalar constant.".formatted(constant));
+        }
+    }
 }
@@ -12,11 +12,13 @@ import ai.timefold.jpyinterpreter.PythonInterpreter;
 import ai.timefold.jpyinterpreter.PythonLikeObject;
 import ai.timefold.jpyinterpreter.PythonVersion;
 import ai.timefold.jpyinterpreter.StackMetadata;
+import ai.timefold.jpyinterpreter.builtins.GlobalBuiltins;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.VariableOpDescriptor;
 import ai.timefold.jpyinterpreter.types.PythonCell;
 import ai.timefold.jpyinterpreter.types.PythonLikeType;
 import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
 
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -78,6 +80,13 @@ public class VariableImplementor {
 
         String globalName = pythonCompiledFunction.co_names.get(globalIndex);
 
+        if (pythonCompiledFunction.globalsMap.get(globalName) == null
+                && GlobalBuiltins.lookupInterpreterIndependent(globalName) != null) {
+            loadBuiltinGlobalVariable(functionMetadata, globalIndex, globalName);
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, globalType.getJavaTypeInternalName());
+            return;
+        }
+
         methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
         methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, className);
         methodVisitor.visitFieldInsn(Opcodes.GETFIELD, className,
@@ -95,6 +104,73 @@ public class VariableImplementor {
         methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, globalType.getJavaTypeInternalName());
     }
 
+    /**
+     * Loads a global that is not in the module globals at translation time, but is a builtin.
+     * The builtin was resolved when the function was translated and is read from the
+     * {@link PythonBytecodeToJavaBytecodeTranslator#BUILTINS_STATIC_FIELD_NAME} array.
+     * If the module later binds a global with the same name, that global is used instead.
+     * The globals map is a lazily filled cache of the module globals, so while it has no entry
+     * for the name, the load goes through {@link PythonInterpreter#getGlobal(Map, String)},
+     * which looks the name up in the module once and caches the result.
+     */
+    private static void loadBuiltinGlobalVariable(FunctionMetadata functionMetadata, int globalIndex, String globalName) {
+        MethodVisitor methodVisitor = functionMetadata.methodVisitor;
+        String className = functionMetadata.className;
+        Label shadowedByGlobal = new Label();
+        Label useBuiltin = new Label();
+        Label done = new Label();
+
+        methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, className,
+                PythonBytecodeToJavaBytecodeTranslator.GLOBALS_MAP_STATIC_FIELD_NAME,
+                Type.getDescriptor(Map.class));
+        methodVisitor.visitLdcInsn(globalName);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(Map.class),
+                "get", Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(Object.class)),
+                true);
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitJumpInsn(Opcodes.IFNONNULL, shadowedByGlobal);
+
+        methodVisitor.visitInsn(Opcodes.POP);
+        methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, className,
+                PythonBytecodeToJavaBytecodeTranslator.GLOBALS_MAP_STATIC_FIELD_NAME,
+                Type.getDescriptor(Map.class));
+        methodVisitor.visitLdcInsn(globalName);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(Map.class),
+                "containsKey", Type.getMethodDescriptor(Type.BOOLEAN_TYPE, Type.getType(Object.class)),
+                true);
+        methodVisitor.visitJumpInsn(Opcodes.IFNE, useBuiltin);
+
+        // Not looked up in the module yet
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, className);
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, className,
+                PythonBytecodeToJavaBytecodeTranslator.INTERPRETER_INSTANCE_FIELD_NAME,
+                Type.getDescriptor(PythonInterpreter.class));
+        methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, className,
+                PythonBytecodeToJavaBytecodeTranslator.GLOBALS_MAP_STATIC_FIELD_NAME,
+                Type.getDescriptor(Map.class));
+        methodVisitor.visitLdcInsn(globalName);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonInterpreter.class),
+                "getGlobal", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
+                        Type.getType(Map.class),
+                        Type.getType(String.class)),
+                true);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, done);
+
+        methodVisitor.visitLabel(useBuiltin);
+        methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, className,
+                PythonBytecodeToJavaBytecodeTranslator.BUILTINS_STATIC_FIELD_NAME,
+                Type.getDescriptor(PythonLikeObject[].class));
+        methodVisitor.visitLdcInsn(globalIndex);
+        methodVisitor.visitInsn(Opcodes.AALOAD);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, done);
+
+        methodVisitor.visitLabel(shadowedByGlobal);
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonLikeObject.class));
+
+        methodVisitor.visitLabel(done);
+    }
+
     /**
      * Stores TOS into the global variable or parameter indicated by the {@code instruction} argument.
      */
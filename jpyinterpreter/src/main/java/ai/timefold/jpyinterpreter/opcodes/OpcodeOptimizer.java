@@ -0,0 +1,320 @@
+package ai.timefold.jpyinterpreter.opcodes;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import ai.timefold.jpyinterpreter.ExceptionBlock;
+import ai.timefold.jpyinterpreter.InterpreterStartupOptions;
+import ai.timefold.jpyinterpreter.PythonBinaryOperator;
+import ai.timefold.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
+import ai.timefold.jpyinterpreter.PythonCompiledFunction;
+import ai.timefold.jpyinterpreter.PythonFunctionType;
+import ai.timefold.jpyinterpreter.PythonLikeObject;
+import ai.timefold.jpyinterpreter.PythonUnaryOperator;
+import ai.timefold.jpyinterpreter.PythonVersion;
+import ai.timefold.jpyinterpreter.builtins.BinaryDunderBuiltin;
+import ai.timefold.jpyinterpreter.builtins.UnaryDunderBuiltin;
+import ai.timefold.jpyinterpreter.implementors.PythonConstantsImplementor;
+import ai.timefold.jpyinterpreter.opcodes.controlflow.JumpAbsoluteOpcode;
+import ai.timefold.jpyinterpreter.opcodes.controlflow.PopJumpIfFalseOpcode;
+import ai.timefold.jpyinterpreter.opcodes.controlflow.PopJumpIfIsNoneOpcode;
+import ai.timefold.jpyinterpreter.opcodes.controlflow.PopJumpIfIsNotNoneOpcode;
+import ai.timefold.jpyinterpreter.opcodes.controlflow.PopJumpIfTrueOpcode;
+import ai.timefold.jpyinterpreter.opcodes.dunder.BinaryDunderOpcode;
+import ai.timefold.jpyinterpreter.opcodes.dunder.NotOpcode;
+import ai.timefold.jpyinterpreter.opcodes.dunder.UniDunerOpcode;
+import ai.timefold.jpyinterpreter.opcodes.exceptions.SetupFinallyOpcode;
+import ai.timefold.jpyinterpreter.opcodes.exceptions.SetupWithOpcode;
+import ai.timefold.jpyinterpreter.opcodes.meta.NopOpcode;
+import ai.timefold.jpyinterpreter.opcodes.stack.CopyOpcode;
+import ai.timefold.jpyinterpreter.opcodes.stack.DupOpcode;
+import ai.timefold.jpyinterpreter.opcodes.stack.PopOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.DeleteGlobalOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.LoadConstantOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.LoadFoldedConstantOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.LoadGlobalOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.StoreGlobalOpcode;
+import ai.timefold.jpyinterpreter.types.PythonNone;
+import ai.timefold.jpyinterpreter.types.PythonString;
+import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
+import ai.timefold.jpyinterpreter.types.numeric.PythonFloat;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Simplifies the opcode list of a function before it is translated
+ * (see {@link InterpreterStartupOptions#optimizeBytecode}):
+ * <ul>
+ * <li>Arithmetic on scalar constants is folded into a single constant.</li>
+ * <li>Conditional jumps on a constant become a forced jump or fall through,
+ * and the flow graph marks the skipped branch as dead code, so it is not emitted.</li>
+ * <li>A duplicate or constant immediately popped is removed.</li>
+ * </ul>
+ * If {@link InterpreterStartupOptions#freezeConstantGlobals} is enabled, module globals named like constants
+ * (ex: MAX_HOURS, DEBUG) are treated as frozen besides literals,
+ * if they hold a scalar when the function is translated and the function does not assign them.
+ * <p>
+ * Opcodes are replaced in place (removed opcodes become {@link NopOpcode}), so bytecode indices,
+ * jump targets and the exception table stay valid.
+ * A rewrite never spans a jump target or an exception table boundary.
+ */
+public final class OpcodeOptimizer {
+    private static final Pattern CONSTANT_NAME_PATTERN = Pattern.compile("_*[A-Z][A-Z0-9_]*");
+
+    /**
+     * Results and shift/power operands larger than this are left for runtime, like CPython does.
+     */
+    private static final int MAX_FOLDED_INTEGER_BITS = 128;
+
+    private static final Set<PythonBinaryOperator> FOLDABLE_BINARY_OPERATORS = Set.of(
+            PythonBinaryOperator.POWER, PythonBinaryOperator.MULTIPLY, PythonBinaryOperator.FLOOR_DIVIDE,
+            PythonBinaryOperator.TRUE_DIVIDE, PythonBinaryOperator.MODULO, PythonBinaryOperator.ADD,
+            PythonBinaryOperator.SUBTRACT, PythonBinaryOperator.LSHIFT, PythonBinaryOperator.RSHIFT,
+            PythonBinaryOperator.AND, PythonBinaryOperator.XOR, PythonBinaryOperator.OR);
+
+    private static final Set<PythonUnaryOperator> FOLDABLE_UNARY_OPERATORS = Set.of(
+            PythonUnaryOperator.NEGATIVE, PythonUnaryOperator.POSITIVE, PythonUnaryOperator.INVERT);
+
+    private final PythonCompiledFunction pythonCompiledFunction;
+    private final List<Opcode> opcodeList;
+    private final Set<Integer> barrierSet;
+    private final Set<String> assignedGlobalSet;
+
+    private OpcodeOptimizer(PythonCompiledFunction pythonCompiledFunction, List<Opcode> opcodeList) {
+        this.pythonCompiledFunction = pythonCompiledFunction;
+        this.opcodeList = opcodeList;
+        this.barrierSet = new HashSet<>();
+        this.assignedGlobalSet = new HashSet<>();
+
+        for (Opcode opcode : opcodeList) {
+            if (opcode.isJumpTarget()) {
+                barrierSet.add(opcode.getBytecodeIndex());
+            }
+            if (opcode instanceof StoreGlobalOpcode || opcode instanceof DeleteGlobalOpcode) {
+                assignedGlobalSet.add(pythonCompiledFunction.co_names
+                        .get(pythonCompiledFunction.instructionList.get(opcode.getBytecodeIndex()).arg()));
+            }
+        }
+        for (ExceptionBlock exceptionBlock : pythonCompiledFunction.co_exceptiontable.getEntries()) {
+            barrierSet.add(exceptionBlock.getBlockStartInstructionInclusive());
+            barrierSet.add(exceptionBlock.getBlockEndInstructionExclusive());
+            barrierSet.add(exceptionBlock.getTargetInstruction());
+        }
+    }
+
+    /**
+     * Optimizes {@code opcodeList} in place.
+     *
+     * @param pythonCompiledFunction the function the opcodes were created from
+     * @param opcodeList the opcodes of the function, indexed by bytecode index
+     */
+    public static void optimize(PythonCompiledFunction pythonCompiledFunction, List<Opcode> opcodeList) {
+        new OpcodeOptimizer(pythonCompiledFunction, opcodeList).optimize();
+    }
+
+    private void optimize() {
+        // Dead code in a try block or in a generator confuses their translation, so only prune in simple functions.
+        // Before Python 3.11, try and with blocks are set up by opcodes instead of the exception table
+        boolean canPruneBranches = pythonCompiledFunction.co_exceptiontable.getEntries().isEmpty()
+                && opcodeList.stream().noneMatch(opcode -> opcode instanceof SetupFinallyOpcode
+                        || opcode instanceof SetupWithOpcode)
+                && PythonBytecodeToJavaBytecodeTranslator.getFunctionType(pythonCompiledFunction) == PythonFunctionType.FUNCTION;
+
+        for (int i = 0; i < opcodeList.size(); i++) {
+            Opcode opcode = opcodeList.get(i);
+            if (opcode instanceof BinaryDunderOpcode binaryOpcode) {
+                foldBinaryOperation(i, binaryOpcode);
+            } else if (opcode instanceof UniDunerOpcode unaryOpcode) {
+                foldUnaryOperation(i, unaryOpcode);
+            } else if (opcode instanceof NotOpcode) {
+                foldNot(i);
+            } else if (opcode instanceof PopOpcode) {
+                removeDiscardedValue(i);
+            } else if (canPruneBranches) {
+                foldConditionalJump(i, opcode);
+            }
+        }
+    }
+
+    private void foldBinaryOperation(int index, BinaryDunderOpcode binaryOpcode) {
+        PythonBinaryOperator operator = binaryOpcode.getOperator().getFallbackOperation()
+                .orElse(binaryOpcode.getOperator());
+        if (!FOLDABLE_BINARY_OPERATORS.contains(operator)) {
+            return;
+        }
+        int rightIndex = getPreviousOperandIndex(index);
+        int leftIndex = (rightIndex != -1) ? getPreviousOperandIndex(rightIndex) : -1;
+        if (leftIndex == -1) {
+            return;
+        }
+        PythonLikeObject left = getConstant(leftIndex);
+        PythonLikeObject right = getConstant(rightIndex);
+        if (!isNumber(left) || !isNumber(right)) {
+            return;
+        }
+        if ((operator == PythonBinaryOperator.POWER || operator == PythonBinaryOperator.LSHIFT)
+                && !(right instanceof PythonInteger exponent
+                        && exponent.value.abs().compareTo(BigInteger.valueOf(MAX_FOLDED_INTEGER_BITS)) <= 0)) {
+            return;
+        }
+        try {
+            replaceWithConstant(index, new BinaryDunderBuiltin(operator).invoke(left, right), leftIndex, rightIndex);
+        } catch (RuntimeException e) {
+            // Raises at runtime (ex: division by zero), so must stay as is
+        }
+    }
+
+    private void foldUnaryOperation(int index, UniDunerOpcode unaryOpcode) {
+        if (!FOLDABLE_UNARY_OPERATORS.contains(unaryOpcode.getOperator())) {
+            return;
+        }
+        int operandIndex = getPreviousOperandIndex(index);
+        if (operandIndex == -1 || !isNumber(getConstant(operandIndex))) {
+            return;
+        }
+        try {
+            replaceWithConstant(index, new UnaryDunderBuiltin(unaryOpcode.getOperator()).invoke(getConstant(operandIndex)),
+                    operandIndex);
+        } catch (RuntimeException e) {
+            // Raises at runtime (ex: ~1.0), so must stay as is
+        }
+    }
+
+    private void foldNot(int index) {
+        int operandIndex = getPreviousOperandIndex(index);
+        if (operandIndex == -1 || getConstant(operandIndex) == null) {
+            return;
+        }
+        replaceWithConstant(index, PythonBoolean.valueOf(!isTruthy(getConstant(operandIndex))), operandIndex);
+    }
+
+    private void removeDiscardedValue(int index) {
+        int operandIndex = getPreviousOperandIndex(index);
+        if (operandIndex == -1) {
+            return;
+        }
+        Opcode operand = opcodeList.get(operandIndex);
+        boolean isDuplicate = operand instanceof DupOpcode
+                || (operand instanceof CopyOpcode copyOpcode && copyOpcode.getInstruction().arg() == 1);
+        if (isDuplicate || operand instanceof LoadConstantOpcode || operand instanceof LoadFoldedConstantOpcode) {
+            removeOpcode(operandIndex);
+            removeOpcode(index);
+        }
+    }
+
+    private void foldConditionalJump(int index, Opcode opcode) {
+        boolean isJumpTaken;
+        int jumpTarget;
+        int conditionIndex = getPreviousOperandIndex(index);
+        if (conditionIndex == -1 || getConstant(conditionIndex) == null) {
+            return;
+        }
+        PythonLikeObject condition = getConstant(conditionIndex);
+        if (opcode instanceof PopJumpIfFalseOpcode jumpOpcode) {
+            isJumpTaken = !isTruthy(condition);
+            jumpTarget = jumpOpcode.getJumpTarget();
+        } else if (opcode instanceof PopJumpIfTrueOpcode jumpOpcode) {
+            isJumpTaken = isTruthy(condition);
+            jumpTarget = jumpOpcode.getJumpTarget();
+        } else if (opcode instanceof PopJumpIfIsNoneOpcode jumpOpcode) {
+            isJumpTaken = condition == PythonNone.INSTANCE;
+            jumpTarget = jumpOpcode.getJumpTarget();
+        } else if (opcode instanceof PopJumpIfIsNotNoneOpcode jumpOpcode) {
+            isJumpTaken = condition != PythonNone.INSTANCE;
+            jumpTarget = jumpOpcode.getJumpTarget();
+        } else {
+            return;
+        }
+
+        removeOpcode(conditionIndex);
+        if (isJumpTaken) {
+            opcodeList.set(index, new JumpAbsoluteOpcode(pythonCompiledFunction.instructionList.get(index), jumpTarget));
+        } else {
+            removeOpcode(index);
+        }
+    }
+
+    /**
+     * Returns the index of the opcode that pushed the operand of the opcode at {@code index},
+     * skipping removed opcodes, or -1 if there is a jump target or exception table boundary in between.
+     */
+    private int getPreviousOperandIndex(int index) {
+        for (int i = index; i > 0; i--) {
+            if (barrierSet.contains(i)) {
+                return -1;
+            }
+            if (!(opcodeList.get(i - 1) instanceof NopOpcode)) {
+                return i - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the scalar value the opcode at {@code index} pushes if it always pushes the same one,
+     * or null otherwise.
+     */
+    private PythonLikeObject getConstant(int index) {
+        Opcode opcode = opcodeList.get(index);
+        PythonLikeObject constant = null;
+        if (opcode instanceof LoadFoldedConstantOpcode loadFoldedConstantOpcode) {
+            constant = loadFoldedConstantOpcode.getConstant();
+        } else if (opcode instanceof LoadConstantOpcode loadConstantOpcode) {
+            constant = pythonCompiledFunction.co_constants.get(loadConstantOpcode.getInstruction().arg());
+        } else if (opcode instanceof LoadGlobalOpcode loadGlobalOpcode) {
+            constant = getFrozenGlobal(loadGlobalOpcode.getInstruction().arg());
+        }
+        return PythonConstantsImplementor.isScalarConstant(constant) ? constant : null;
+    }
+
+    private PythonLikeObject getFrozenGlobal(int instructionArg) {
+        if (!InterpreterStartupOptions.freezeConstantGlobals) {
+            return null; // Another function, the module or CPython code can rebind it
+        }
+        int nameIndex = instructionArg;
+        if (pythonCompiledFunction.pythonVersion.isAtLeast(PythonVersion.PYTHON_3_11)) {
+            if ((instructionArg & 1) == 1) {
+                return null; // Also pushes NULL, so it is the function of a call
+            }
+            nameIndex = instructionArg >> 1;
+        }
+        String name = pythonCompiledFunction.co_names.get(nameIndex);
+        if (pythonCompiledFunction.globalsMap == null || assignedGlobalSet.contains(name)
+                || !CONSTANT_NAME_PATTERN.matcher(name).matches()) {
+            return null;
+        }
+        return pythonCompiledFunction.globalsMap.get(name);
+    }
+
+    private void replaceWithConstant(int index, PythonLikeObject constant, int... operandIndices) {
+        if (!isNumber(constant) || (constant instanceof PythonInteger integer
+                && integer.value.bitLength() > MAX_FOLDED_INTEGER_BITS)) {
+            return; // Includes NotImplemented, where the right operand's dunder method is used at runtime
+        }
+        for (int operandIndex : operandIndices) {
+            removeOpcode(operandIndex);
+        }
+        opcodeList.set(index, new LoadFoldedConstantOpcode(pythonCompiledFunction.instructionList.get(index), constant));
+    }
+
+    private void removeOpcode(int index) {
+        opcodeList.set(index, new NopOpcode(pythonCompiledFunction.instructionList.get(index)));
+    }
+
+    private static boolean isNumber(PythonLikeObject value) {
+        return value instanceof PythonInteger || value instanceof PythonFloat;
+    }
+
+    private static boolean isTruthy(PythonLikeObject scalar) {
+        if (scalar instanceof PythonInteger integer) { // includes bool
+            return integer.value.signum() != 0;
+        } else if (scalar instanceof PythonFloat floatValue) {
+            return floatValue.value != 0.0;
+        } else if (scalar instanceof PythonString string) {
+            return !string.value.isEmpty();
+        }
+        return false; // None
+    }
+}
@@ -3,10 +3,13 @@ package ai.timefold.jpyinterpreter.opcodes.controlflow;
 import java.util.List;
 
 import ai.timefold.jpyinterpreter.FunctionMetadata;
+import ai.timefold.jpyinterpreter.LocalVariableHelper;
 import ai.timefold.jpyinterpreter.PythonBytecodeInstruction;
 import ai.timefold.jpyinterpreter.StackMetadata;
 import ai.timefold.jpyinterpreter.ValueSourceInfo;
 import ai.timefold.jpyinterpreter.implementors.CollectionImplementor;
+import ai.timefold.jpyinterpreter.opcodes.AbstractOpcode;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.VariableOpDescriptor;
 import ai.timefold.jpyinterpreter.types.BuiltinTypes;
 
 public class ForIterOpcode extends AbstractControlFlowOpcode {
@@ -35,6 +38,23 @@ public class ForIterOpcode extends AbstractControlFlowOpcode {
     @Override
     public void implement(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
         CollectionImplementor.iterateIterator(functionMetadata.methodVisitor, jumpTarget,
-                stackMetadata, functionMetadata);
+                stackMetadata, functionMetadata, getCountedLoopLocal(functionMetadata, stackMetadata));
+    }
+
+    /**
+     * Returns the loop variable the next instruction stores the item in, if it is a counted loop variable
+     * (see {@link LocalVariableHelper#unboxCountedLoopLocals}), and null otherwise.
+     */
+    private Integer getCountedLoopLocal(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
+        List<PythonBytecodeInstruction> instructionList = functionMetadata.pythonCompiledFunction.instructionList;
+        if (getBytecodeIndex() + 1 >= instructionList.size()) {
+            return null;
+        }
+        PythonBytecodeInstruction nextInstruction = instructionList.get(getBytecodeIndex() + 1);
+        if (AbstractOpcode.lookupInstruction(nextInstruction.opname()) != VariableOpDescriptor.STORE_FAST
+                || !stackMetadata.localVariableHelper.isCountedLoopLocal(nextInstruction.arg())) {
+            return null;
+        }
+        return nextInstruction.arg();
     }
 }
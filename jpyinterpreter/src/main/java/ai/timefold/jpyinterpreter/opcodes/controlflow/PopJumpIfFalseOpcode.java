@@ -15,6 +15,10 @@ public class PopJumpIfFalseOpcode extends AbstractControlFlowOpcode {
         this.jumpTarget = jumpTarget;
     }
 
+    public int getJumpTarget() {
+        return jumpTarget;
+    }
+
     @Override
     public List<Integer> getPossibleNextBytecodeIndexList() {
         return List.of(
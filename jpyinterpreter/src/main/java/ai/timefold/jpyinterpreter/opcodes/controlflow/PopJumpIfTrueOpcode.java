@@ -15,6 +15,10 @@ public class PopJumpIfTrueOpcode extends AbstractControlFlowOpcode {
         this.jumpTarget = jumpTarget;
     }
 
+    public int getJumpTarget() {
+        return jumpTarget;
+    }
+
     @Override
     public List<Integer> getPossibleNextBytecodeIndexList() {
         return List.of(
@@ -23,6 +23,10 @@ public class BinaryDunderOpcode extends AbstractOpcode {
         this.operator = operator;
     }
 
+    public PythonBinaryOperator getOperator() {
+        return operator;
+    }
+
     @Override
     public StackMetadata getStackMetadataAfterInstruction(FunctionMetadata functionMetadata,
             StackMetadata stackMetadata) {
@@ -23,6 +23,10 @@ public class UniDunerOpcode extends AbstractOpcode {
         this.operator = operator;
     }
 
+    public PythonUnaryOperator getOperator() {
+        return operator;
+    }
+
     @Override
     public StackMetadata getStackMetadataAfterInstruction(FunctionMetadata functionMetadata,
             StackMetadata stackMetadata) {
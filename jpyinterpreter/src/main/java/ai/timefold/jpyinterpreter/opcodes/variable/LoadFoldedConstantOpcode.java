@@ -0,0 +1,36 @@
+package ai.timefold.jpyinterpreter.opcodes.variable;
+
+import ai.timefold.jpyinterpreter.FunctionMetadata;
+import ai.timefold.jpyinterpreter.PythonBytecodeInstruction;
+import ai.timefold.jpyinterpreter.PythonLikeObject;
+import ai.timefold.jpyinterpreter.StackMetadata;
+import ai.timefold.jpyinterpreter.ValueSourceInfo;
+import ai.timefold.jpyinterpreter.implementors.PythonConstantsImplementor;
+import ai.timefold.jpyinterpreter.opcodes.AbstractOpcode;
+import ai.timefold.jpyinterpreter.opcodes.OpcodeOptimizer;
+
+/**
+ * Pushes a scalar constant computed by {@link OpcodeOptimizer} in place of the instruction that produced it.
+ */
+public class LoadFoldedConstantOpcode extends AbstractOpcode {
+    private final PythonLikeObject constant;
+
+    public LoadFoldedConstantOpcode(PythonBytecodeInstruction instruction, PythonLikeObject constant) {
+        super(instruction);
+        this.constant = constant;
+    }
+
+    public PythonLikeObject getConstant() {
+        return constant;
+    }
+
+    @Override
+    protected StackMetadata getStackMetadataAfterInstruction(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
+        return stackMetadata.push(ValueSourceInfo.of(this, constant.$getGenericType()));
+    }
+
+    @Override
+    public void implement(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
+        PythonConstantsImplementor.loadScalarConstant(functionMetadata.methodVisitor, constant);
+    }
+}
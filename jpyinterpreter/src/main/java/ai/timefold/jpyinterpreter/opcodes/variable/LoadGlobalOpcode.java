@@ -2,13 +2,16 @@ package ai.timefold.jpyinterpreter.opcodes.variable;
 
 import ai.timefold.jpyinterpreter.FunctionMetadata;
 import ai.timefold.jpyinterpreter.PythonBytecodeInstruction;
+import ai.timefold.jpyinterpreter.PythonCompiledFunction;
 import ai.timefold.jpyinterpreter.PythonLikeObject;
 import ai.timefold.jpyinterpreter.PythonVersion;
 import ai.timefold.jpyinterpreter.StackMetadata;
 import ai.timefold.jpyinterpreter.ValueSourceInfo;
+import ai.timefold.jpyinterpreter.builtins.IntrinsicBuiltins;
 import ai.timefold.jpyinterpreter.implementors.VariableImplementor;
 import ai.timefold.jpyinterpreter.opcodes.AbstractOpcode;
 import ai.timefold.jpyinterpreter.types.BuiltinTypes;
+import ai.timefold.jpyinterpreter.types.PythonLikeType;
 import ai.timefold.jpyinterpreter.types.wrappers.CPythonType;
 import ai.timefold.jpyinterpreter.types.wrappers.PythonObjectWrapper;
 
@@ -21,21 +24,50 @@ public class LoadGlobalOpcode extends AbstractOpcode {
     }
 
     private int getGlobalIndex(FunctionMetadata functionMetadata) {
-        return (functionMetadata.pythonCompiledFunction.pythonVersion.compareTo(PythonVersion.PYTHON_3_11) >= 0)
+        return getGlobalIndex(functionMetadata.pythonCompiledFunction);
+    }
+
+    private int getGlobalIndex(PythonCompiledFunction pythonCompiledFunction) {
+        return (pythonCompiledFunction.pythonVersion.compareTo(PythonVersion.PYTHON_3_11) >= 0)
                 ? instruction.arg() >> 1
                 : instruction.arg();
     }
 
+    public String getGlobalName(PythonCompiledFunction pythonCompiledFunction) {
+        return pythonCompiledFunction.co_names.get(getGlobalIndex(pythonCompiledFunction));
+    }
+
     private boolean pushNullBeforeGlobal(FunctionMetadata functionMetadata) {
         return functionMetadata.pythonCompiledFunction.pythonVersion.compareTo(PythonVersion.PYTHON_3_11) >= 0
                 && ((instruction.arg() & 1) == 1);
     }
 
-    private PythonLikeObject getGlobal(FunctionMetadata functionMetadata) {
+    /**
+     * Returns the value of the global when the function was translated, or null if it was not in the function's globals.
+     * The global can be rebound afterward, so code generated using the value must check it is still current.
+     */
+    public PythonLikeObject getGlobal(FunctionMetadata functionMetadata) {
         return functionMetadata.pythonCompiledFunction.globalsMap
                 .get(functionMetadata.pythonCompiledFunction.co_names.get(getGlobalIndex(functionMetadata)));
     }
 
+    /**
+     * Returns the type of the global when it is not in the function's globals.
+     * A builtin with an intrinsic version is typed as a known function, so calls to it
+     * are made directly to the intrinsic instead of through the builtin
+     * (unless a module global bound after translation shadows the builtin).
+     * Only Python 3.11+ call sites pass keyword names to known functions, so older versions use the builtin.
+     */
+    private PythonLikeType getMissingGlobalType(FunctionMetadata functionMetadata) {
+        if (functionMetadata.pythonCompiledFunction.pythonVersion.isBefore(PythonVersion.PYTHON_3_11)) {
+            return BuiltinTypes.BASE_TYPE;
+        }
+        String globalName = functionMetadata.pythonCompiledFunction.co_names.get(getGlobalIndex(functionMetadata));
+        return IntrinsicBuiltins.getIntrinsicFunctionType(globalName)
+                .map(PythonLikeType.class::cast)
+                .orElse(BuiltinTypes.BASE_TYPE);
+    }
+
     @Override
     protected StackMetadata getStackMetadataAfterInstruction(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
         boolean pushNull = pushNullBeforeGlobal(functionMetadata);
@@ -49,7 +81,7 @@ public class LoadGlobalOpcode extends AbstractOpcode {
             } else {
                 return stackMetadata
                         .push(ValueSourceInfo.of(this, BuiltinTypes.NULL_TYPE))
-                        .push(ValueSourceInfo.of(this, BuiltinTypes.BASE_TYPE));
+                        .push(ValueSourceInfo.of(this, getMissingGlobalType(functionMetadata)));
             }
         } else {
             if (global != null) {
@@ -57,7 +89,7 @@ public class LoadGlobalOpcode extends AbstractOpcode {
                         .push(ValueSourceInfo.of(this, global.$getGenericType()));
             } else {
                 return stackMetadata
-                        .push(ValueSourceInfo.of(this, BuiltinTypes.BASE_TYPE));
+                        .push(ValueSourceInfo.of(this, getMissingGlobalType(functionMetadata)));
             }
         }
     }
@@ -1,6 +1,5 @@
 package ai.timefold.jpyinterpreter.types;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -9,17 +8,28 @@ import ai.timefold.jpyinterpreter.PythonInterpreter;
 import ai.timefold.jpyinterpreter.PythonLikeObject;
 import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 import ai.timefold.jpyinterpreter.types.wrappers.OpaquePythonReference;
+import ai.timefold.jpyinterpreter.util.PlanningCloneUtils;
 
 public class CPythonBackedPythonLikeObject extends AbstractPythonLikeObject implements PythonLikeFunction {
     public static final PythonLikeType CPYTHON_BACKED_OBJECT_TYPE =
             new PythonLikeType("object", CPythonBackedPythonLikeObject.class);
 
+    /**
+     * The value of {@link #$cpythonId} when the object has no CPython reference;
+     * CPython ids are addresses, so no object has this id.
+     */
+    public static final long NO_CPYTHON_ID = 0L;
+
     private final PythonInterpreter interpreter;
 
     public OpaquePythonReference $cpythonReference;
 
-    public PythonInteger $cpythonId;
+    public long $cpythonId = NO_CPYTHON_ID;
 
+    /**
+     * The instance map of the conversion that created this object, shared by all objects it converted.
+     * Null if the object was not created by a conversion; lookups then use a new map.
+     */
     public Map<Number, PythonLikeObject> $instanceMap;
 
     public CPythonBackedPythonLikeObject(PythonInterpreter interpreter,
@@ -38,7 +48,6 @@ public class CPythonBackedPythonLikeObject extends AbstractPythonLikeObject impl
         super(__type__);
         this.interpreter = interpreter;
         this.$cpythonReference = reference;
-        $instanceMap = new HashMap<>();
     }
 
     public CPythonBackedPythonLikeObject(PythonInterpreter interpreter,
@@ -48,7 +57,6 @@ public class CPythonBackedPythonLikeObject extends AbstractPythonLikeObject impl
         super(__type__, __dir__);
         this.interpreter = interpreter;
         this.$cpythonReference = reference;
-        $instanceMap = new HashMap<>();
     }
 
     public OpaquePythonReference $getCPythonReference() {
@@ -60,7 +68,7 @@ public class CPythonBackedPythonLikeObject extends AbstractPythonLikeObject impl
     }
 
     public PythonInteger $getCPythonId() {
-        return $cpythonId;
+        return $cpythonId != NO_CPYTHON_ID ? PythonInteger.valueOf($cpythonId) : null;
     }
 
     public Map<Number, PythonLikeObject> $getInstanceMap() {
@@ -78,6 +86,9 @@ public class CPythonBackedPythonLikeObject extends AbstractPythonLikeObject impl
     public void $readFieldsFromCPythonReference() {
     }
 
+    public void $readFieldFromCPythonReference(String attributeName) {
+    }
+
     public void $writeFieldsToCPythonReference(OpaquePythonReference cloneMap) {
         for (var attributeEntry : getExtraAttributeMap().entrySet()) {
             CPythonBackedPythonInterpreter.setAttributeOnPythonReference($cpythonReference, cloneMap, attributeEntry.getKey(),
@@ -85,6 +96,24 @@ public class CPythonBackedPythonLikeObject extends AbstractPythonLikeObject impl
         }
     }
 
+    /**
+     * Copies the fields of this object to its planning clone.
+     * Translated classes override this to copy their own fields, and call super first.
+     * The clone shares the CPython reference of the original,
+     * so it is converted back to a copy of the original's CPython object.
+     * The instance map is interop state and is not copied.
+     */
+    public void $copyFieldsForPlanningClone(CPythonBackedPythonLikeObject clone,
+            Map<Object, Object> originalToCloneMap) {
+        interpreter.sharePythonReference(this, clone);
+        var cloneAttributeMap = clone.getExtraAttributeMap();
+        for (var attributeEntry : getExtraAttributeMap().entrySet()) {
+            cloneAttributeMap.put(attributeEntry.getKey(),
+                    (PythonLikeObject) PlanningCloneUtils.cloneValue(attributeEntry.getValue(), false,
+                            originalToCloneMap));
+        }
+    }
+
     @Override
     public PythonLikeObject $call(List<PythonLikeObject> positionalArguments,
             Map<PythonString, PythonLikeObject> namedArguments, PythonLikeObject callerInstance) {
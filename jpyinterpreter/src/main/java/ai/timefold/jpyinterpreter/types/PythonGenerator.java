@@ -1,6 +1,8 @@
 package ai.timefold.jpyinterpreter.types;
 
 import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import ai.timefold.jpyinterpreter.MethodDescriptor;
 import ai.timefold.jpyinterpreter.PythonFunctionSignature;
@@ -69,4 +71,28 @@ public abstract class PythonGenerator extends AbstractPythonLikeObject implement
     public PythonGenerator asPythonIterator() {
         return this;
     }
+
+    /**
+     * Passes the remaining values of the generator to the action, until the action returns false
+     * or the generator returns.
+     * Translated generators that have not started override this to run their body in a single call
+     * that passes each yielded value to the action, instead of saving and restoring their stack on every yield.
+     * When the action stops the generator early, the generator can be resumed after the last value
+     * the action received.
+     */
+    public void forEachWhile(Predicate<PythonLikeObject> action) {
+        while (hasNext()) {
+            if (!action.test((PythonLikeObject) next())) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super PythonLikeObject> action) {
+        forEachWhile(value -> {
+            action.accept(value);
+            return true;
+        });
+    }
 }
@@ -6,12 +6,22 @@ import java.util.stream.Collectors;
 
 import ai.timefold.jpyinterpreter.MethodDescriptor;
 import ai.timefold.jpyinterpreter.PythonFunctionSignature;
+import ai.timefold.jpyinterpreter.PythonLikeObject;
 
 public class PythonKnownFunctionType extends PythonLikeType {
     final List<PythonFunctionSignature> overloadFunctionSignatureList;
 
     public PythonKnownFunctionType(String methodName, List<PythonFunctionSignature> overloadFunctionSignatureList) {
-        super("function-" + methodName, PythonKnownFunctionType.class, List.of(BuiltinTypes.FUNCTION_TYPE));
+        this(methodName, PythonKnownFunctionType.class, overloadFunctionSignatureList);
+    }
+
+    /**
+     * Creates a known function type whose values on the stack are instances of {@code javaClass}
+     * (for instance, a builtin function loaded from the global scope).
+     */
+    public PythonKnownFunctionType(String methodName, Class<? extends PythonLikeObject> javaClass,
+            List<PythonFunctionSignature> overloadFunctionSignatureList) {
+        super("function-" + methodName, javaClass, List.of(BuiltinTypes.FUNCTION_TYPE));
         this.overloadFunctionSignatureList = overloadFunctionSignatureList;
     }
 
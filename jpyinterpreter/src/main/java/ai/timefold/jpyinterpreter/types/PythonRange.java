@@ -165,7 +165,7 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
     }
 
     public DelegatePythonIterator getPythonIterator() {
-        return new DelegatePythonIterator(iterator());
+        return new RangePythonIterator(new RangeIterator(start, stop, step, start, 0));
     }
 
     @Override
@@ -255,7 +255,9 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
 
     @Override
     public ListIterator<PythonInteger> listIterator(int i) {
-        return new RangeIterator(get(i), stop, step, get(i), i);
+        // Start from the range's start, so previous() can move back past i
+        PythonInteger currentValue = PythonInteger.valueOf(start.value.add(step.value.multiply(BigInteger.valueOf(i))));
+        return new RangeIterator(start, stop, step, currentValue, 0);
     }
 
     @Override
@@ -319,7 +321,15 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
         final PythonInteger step;
         final int startOffset;
 
+        // If every value the iterator can reach fits in a long, iterate using long arithmetic
+        // instead of BigInteger arithmetic
+        final boolean isLongRange;
+        final long longStartValue;
+        final long longStopValue;
+        final long longStep;
+
         PythonInteger currentValue;
+        long longCurrentValue;
 
         public RangeIterator(PythonInteger startValue, PythonInteger stopValue, PythonInteger step, PythonInteger currentValue,
                 int startOffset) {
@@ -328,10 +338,37 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
             this.step = step;
             this.currentValue = currentValue;
             this.startOffset = startOffset;
+
+            this.isLongRange = fitsInLong(startValue.value.subtract(step.value))
+                    && fitsInLong(stopValue.value.add(step.value))
+                    && fitsInLong(startValue.value.add(step.value))
+                    && fitsInLong(stopValue.value.subtract(step.value))
+                    && fitsInLong(currentValue.value);
+            if (isLongRange) {
+                this.longStartValue = startValue.value.longValue();
+                this.longStopValue = stopValue.value.longValue();
+                this.longStep = step.value.longValue();
+                this.longCurrentValue = currentValue.value.longValue();
+            } else {
+                this.longStartValue = 0L;
+                this.longStopValue = 0L;
+                this.longStep = 0L;
+            }
+        }
+
+        private static boolean fitsInLong(BigInteger value) {
+            return value.bitLength() < Long.SIZE;
+        }
+
+        private BigInteger getCurrentValue() {
+            return isLongRange ? BigInteger.valueOf(longCurrentValue) : currentValue.value;
         }
 
         @Override
         public boolean hasNext() {
+            if (isLongRange) {
+                return longStep < 0 ? longCurrentValue > longStopValue : longCurrentValue < longStopValue;
+            }
             if (step.value.compareTo(BigInteger.ZERO) < 0) {
                 return currentValue.compareTo(stopValue) > 0;
             } else {
@@ -341,13 +378,31 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
 
         @Override
         public PythonInteger next() {
+            if (isLongRange) {
+                PythonInteger out = PythonInteger.valueOf(longCurrentValue);
+                longCurrentValue += longStep;
+                return out;
+            }
             PythonInteger out = currentValue;
             currentValue = currentValue.add(step);
             return out;
         }
 
+        /**
+         * Like {@link #next()}, but returns the value unboxed.
+         * Must only be called if {@link #isLongRange} is true.
+         */
+        public long nextLong() {
+            long out = longCurrentValue;
+            longCurrentValue += longStep;
+            return out;
+        }
+
         @Override
         public boolean hasPrevious() {
+            if (isLongRange) {
+                return longStep < 0 ? longCurrentValue < longStartValue : longCurrentValue > longStartValue;
+            }
             if (step.value.compareTo(BigInteger.ZERO) < 0) {
                 return currentValue.compareTo(startValue) < 0;
             } else {
@@ -357,19 +412,24 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
 
         @Override
         public PythonInteger previous() {
-            PythonInteger out = currentValue;
+            // The cursor is between the previous and next values, so previous() returns
+            // the value the last next() returned
+            if (isLongRange) {
+                longCurrentValue -= longStep;
+                return PythonInteger.valueOf(longCurrentValue);
+            }
             currentValue = currentValue.subtract(step);
-            return out;
+            return currentValue;
         }
 
         @Override
         public int nextIndex() {
-            return currentValue.value.divide(step.value).intValueExact() + startOffset + 1;
+            return getCurrentValue().subtract(startValue.value).divide(step.value).intValueExact() + startOffset;
         }
 
         @Override
         public int previousIndex() {
-            return currentValue.value.divide(step.value).intValueExact() + startOffset - 1;
+            return nextIndex() - 1;
         }
 
         @Override
@@ -387,4 +447,26 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
             throw new UnsupportedOperationException("Cannot modify range");
         }
     }
+
+    /**
+     * The Python iterator of a range, which lets translated {@code for} loops
+     * read the values of a range that fits in a long without boxing them
+     * (see {@link ai.timefold.jpyinterpreter.LocalVariableHelper#unboxCountedLoopLocals}).
+     */
+    public static class RangePythonIterator extends DelegatePythonIterator<PythonInteger> {
+        private final RangeIterator rangeIterator;
+
+        public RangePythonIterator(RangeIterator rangeIterator) {
+            super(rangeIterator);
+            this.rangeIterator = rangeIterator;
+        }
+
+        public boolean isLongRange() {
+            return rangeIterator.isLongRange;
+        }
+
+        public long nextLong() {
+            return rangeIterator.nextLong();
+        }
+    }
 }
@@ -2,6 +2,7 @@ package ai.timefold.jpyinterpreter.types.errors;
 
 import java.util.List;
 
+import ai.timefold.jpyinterpreter.InterpreterStartupOptions;
 import ai.timefold.jpyinterpreter.PythonLikeObject;
 import ai.timefold.jpyinterpreter.types.PythonLikeType;
 
@@ -16,6 +17,9 @@ public class AttributeError extends PythonException {
                         positionalArguments)));
     }
 
+    // Not initialized, since fillInStackTrace sets it while the Throwable constructor runs
+    private boolean isStackTraceCaptured;
+
     public AttributeError() {
         super(ATTRIBUTE_ERROR_TYPE);
     }
@@ -28,4 +32,26 @@ public class AttributeError extends PythonException {
         super(type, args);
     }
 
+    /**
+     * Attribute errors are commonly used for control flow, so only capture the stack trace if requested;
+     * otherwise, it is captured when the error escapes a translated function.
+     *
+     * @see InterpreterStartupOptions#captureLookupErrorStackTraces
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (InterpreterStartupOptions.captureLookupErrorStackTraces) {
+            isStackTraceCaptured = true;
+            return super.fillInStackTrace();
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized void $captureStackTraceIfMissing() {
+        if (!isStackTraceCaptured) {
+            isStackTraceCaptured = true;
+            super.fillInStackTrace();
+        }
+    }
 }
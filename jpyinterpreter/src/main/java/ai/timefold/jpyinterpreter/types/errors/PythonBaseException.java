@@ -75,6 +75,15 @@ public class PythonBaseException extends RuntimeException implements PythonLikeO
         return this;
     }
 
+    /**
+     * Captures the Java stack trace of an exception that did not capture it when created,
+     * such as {@link ai.timefold.jpyinterpreter.types.errors.lookup.LookupError}.
+     * Translated functions call this when such an exception escapes them,
+     * since the Python traceback of the exception is built from its Java stack trace.
+     */
+    public void $captureStackTraceIfMissing() {
+    }
+
     @Override
     public PythonLikeObject $getAttributeOrNull(String attributeName) {
         return dict.get(attributeName);
@@ -2,6 +2,7 @@ package ai.timefold.jpyinterpreter.types.errors.lookup;
 
 import java.util.List;
 
+import ai.timefold.jpyinterpreter.InterpreterStartupOptions;
 import ai.timefold.jpyinterpreter.PythonLikeObject;
 import ai.timefold.jpyinterpreter.types.PythonLikeType;
 import ai.timefold.jpyinterpreter.types.errors.PythonException;
@@ -20,6 +21,9 @@ public class LookupError extends PythonException {
                         positionalArguments)));
     }
 
+    // Not initialized, since fillInStackTrace sets it while the Throwable constructor runs
+    private boolean isStackTraceCaptured;
+
     public LookupError(PythonLikeType type) {
         super(type);
     }
@@ -31,4 +35,27 @@ public class LookupError extends PythonException {
     public LookupError(PythonLikeType type, String message) {
         super(type, message);
     }
+
+    /**
+     * Lookup errors are commonly used for control flow, so only capture the stack trace if requested;
+     * otherwise, it is captured when the error escapes a translated function.
+     *
+     * @see InterpreterStartupOptions#captureLookupErrorStackTraces
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (InterpreterStartupOptions.captureLookupErrorStackTraces) {
+            isStackTraceCaptured = true;
+            return super.fillInStackTrace();
+        }
+        return this;
+    }
+
+    @Override
+    public synchronized void $captureStackTraceIfMissing() {
+        if (!isStackTraceCaptured) {
+            isStackTraceCaptured = true;
+            super.fillInStackTrace();
+        }
+    }
 }
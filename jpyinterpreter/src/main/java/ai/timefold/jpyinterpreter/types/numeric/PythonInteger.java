@@ -285,10 +285,13 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public static PythonInteger valueOf(int value) {
-        return new PythonInteger(value);
+        return valueOf((long) value);
     }
 
     public static PythonInteger valueOf(long value) {
+        if (value >= SmallIntCache.MIN && value <= SmallIntCache.MAX) {
+            return SmallIntCache.CACHE[(int) value - SmallIntCache.MIN];
+        }
         return new PythonInteger(value);
     }
 
@@ -309,6 +312,9 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger negative() {
+        if (isHalfLong(value)) {
+            return valueOf(-value.longValue());
+        }
         return new PythonInteger(value.negate());
     }
 
@@ -331,6 +337,9 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger add(PythonInteger other) {
+        if (isHalfLong(value) && isHalfLong(other.value)) {
+            return valueOf(value.longValue() + other.value.longValue());
+        }
         return new PythonInteger(value.add(other.value));
     }
 
@@ -349,6 +358,9 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger subtract(PythonInteger other) {
+        if (isHalfLong(value) && isHalfLong(other.value)) {
+            return valueOf(value.longValue() - other.value.longValue());
+        }
         return new PythonInteger(value.subtract(other.value));
     }
 
@@ -367,6 +379,9 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger multiply(PythonInteger other) {
+        if (value.bitLength() + other.value.bitLength() < Long.SIZE - 1) {
+            return valueOf(value.longValue() * other.value.longValue());
+        }
         return new PythonInteger(value.multiply(other.value));
     }
 
@@ -855,4 +870,27 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
         }
         return null;
     }
+
+    /**
+     * True if the value fits in a long with a bit to spare, so the sum or difference of two such values
+     * cannot overflow a long. Arithmetic on such values is done on longs, which avoids BigInteger arithmetic
+     * and lets small results (such as most match weights) come from the small int cache.
+     */
+    private static boolean isHalfLong(BigInteger value) {
+        return value.bitLength() < Long.SIZE - 1;
+    }
+
+    // Like CPython, small ints are cached, so loop counters and indices do not allocate.
+    // The cache is in a holder class so it is initialized even if valueOf is called during class initialization.
+    private static final class SmallIntCache {
+        private static final int MIN = -5;
+        private static final int MAX = 256;
+        private static final PythonInteger[] CACHE = new PythonInteger[MAX - MIN + 1];
+
+        static {
+            for (int i = 0; i < CACHE.length; i++) {
+                CACHE[i] = new PythonInteger(i + MIN);
+            }
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package ai.timefold.jpyinterpreter.types.wrappers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invokes a Java method through a {@link MethodHandle} resolved on first use,
+ * instead of through {@link Method#invoke(Object, Object...)}.
+ */
+final class JavaMethodInvoker {
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private MethodHandle invoker;
+
+    JavaMethodInvoker(Method method) {
+        this.method = method;
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invokes the method.
+     *
+     * @param self the instance to invoke the method on; ignored if the method is static
+     * @param args the arguments of the method, already converted to their Java types
+     * @return the result of the method, boxed if it is a primitive, or null if it is void
+     */
+    Object invoke(Object self, Object[] args) {
+        MethodHandle methodInvoker = invoker;
+        if (methodInvoker == null) {
+            // Benign race; every thread resolves an equivalent handle
+            methodInvoker = createInvoker(method);
+            invoker = methodInvoker;
+        }
+        try {
+            return (Object) methodInvoker.invokeExact(self, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static MethodHandle createInvoker(Method method) {
+        MethodHandle methodHandle;
+        try {
+            methodHandle = MethodHandles.publicLookup().unreflect(method).asFixedArity();
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Method (" + method + ") is not accessible.", e);
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+        }
+        return methodHandle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+    }
+}
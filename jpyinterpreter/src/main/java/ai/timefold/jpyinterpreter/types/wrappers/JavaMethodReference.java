@@ -1,6 +1,5 @@
 package ai.timefold.jpyinterpreter.types.wrappers;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.List;
@@ -15,10 +14,12 @@ import ai.timefold.jpyinterpreter.types.PythonString;
 
 public class JavaMethodReference implements PythonLikeFunction {
     private final Method method;
+    private final JavaMethodInvoker methodInvoker;
     private final Map<String, Integer> parameterNameToIndexMap;
 
     public JavaMethodReference(Method method, Map<String, Integer> parameterNameToIndexMap) {
         this.method = method;
+        this.methodInvoker = new JavaMethodInvoker(method);
         this.parameterNameToIndexMap = parameterNameToIndexMap;
     }
 
@@ -41,13 +42,7 @@ public class JavaMethodReference implements PythonLikeFunction {
             }
             args = unwrapPrimitiveArguments(positionalArguments.subList(1, positionalArguments.size()), namedArguments);
         }
-        try {
-            return JavaPythonTypeConversionImplementor.wrapJavaObject(method.invoke(self, args));
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException("Method (" + method + ") is not accessible.", e);
-        } catch (InvocationTargetException e) {
-            throw (RuntimeException) e.getCause();
-        }
+        return JavaPythonTypeConversionImplementor.wrapJavaObject(methodInvoker.invoke(self, args));
     }
 
     private Object[] unwrapPrimitiveArguments(List<PythonLikeObject> positionalArguments,
@@ -1,7 +1,9 @@
 package ai.timefold.jpyinterpreter.types.wrappers;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -9,7 +11,6 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import ai.timefold.jpyinterpreter.PythonBinaryOperator;
@@ -32,17 +34,46 @@ public class JavaObjectWrapper implements PythonLikeObject,
         Iterable<JavaObjectWrapper>,
         Comparable<JavaObjectWrapper> {
 
-    final static Map<Class<?>, PythonLikeType> classToPythonTypeMap = new HashMap<>();
-    final static Map<Class<?>, Map<String, Field>> classToAttributeNameToMemberListMap = new HashMap<>();
+    final static Map<Class<?>, PythonLikeType> classToPythonTypeMap = new ConcurrentHashMap<>();
+    final static Map<Class<?>, Map<String, FieldAccessor>> classToAttributeNameToFieldAccessorMap =
+            new ConcurrentHashMap<>();
 
     private final PythonLikeType type;
 
     private final Object wrappedObject;
     private final Class<?> objectClass;
-    private final Map<String, Field> attributeNameToMemberListMap;
+    private final Map<String, FieldAccessor> attributeNameToFieldAccessorMap;
     private final Map<Object, PythonLikeObject> convertedObjectMap;
 
-    private static Map<String, Field> getAllFields(Class<?> baseClass) {
+    /**
+     * Reads and writes a public instance field through method handles resolved once per class,
+     * instead of through {@link Field#get(Object)} and {@link Field#set(Object, Object)}.
+     * A handle is null if the field cannot be accessed that way (for instance, a setter for a final field).
+     */
+    record FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        static FieldAccessor of(Field field) {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle getter = null;
+            MethodHandle setter = null;
+            try {
+                getter = lookup.unreflectGetter(field)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                // Intentionally empty; reading the field raises an error
+            }
+            if (!Modifier.isFinal(field.getModifiers())) {
+                try {
+                    setter = lookup.unreflectSetter(field)
+                            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                } catch (IllegalAccessException e) {
+                    // Intentionally empty; writing the field raises an error
+                }
+            }
+            return new FieldAccessor(field, getter, setter);
+        }
+    }
+
+    private static Map<String, FieldAccessor> getAllFields(Class<?> baseClass) {
         return getAllDeclaredMembers(baseClass)
                 .stream()
                 .filter(member -> member instanceof Field && !Modifier.isStatic(member.getModifiers()))
@@ -53,7 +84,10 @@ public class JavaObjectWrapper implements PythonLikeObject,
                             } else {
                                 return oldMember;
                             }
-                        }));
+                        }))
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> FieldAccessor.of(entry.getValue())));
     }
 
     private static List<Member> getAllDeclaredMembers(Class<?> baseClass) {
@@ -65,42 +99,6 @@ public class JavaObjectWrapper implements PythonLikeObject,
         return members;
     }
 
-    private Method getGetterMethod(Field field) {
-        String getterName;
-        if (objectClass.isRecord()) {
-            getterName = field.getName();
-        } else {
-            String propertyName = field.getName();
-            String capitalizedName =
-                    propertyName.isEmpty() ? "" : propertyName.substring(0, 1).toUpperCase() + propertyName.substring(1);
-            getterName = (field.getType().equals(boolean.class) ? "is" : "get")
-                    + capitalizedName;
-        }
-        PythonLikeObject object = type.$getAttributeOrNull(getterName);
-        if (object instanceof JavaMethodReference methodReference) {
-            return methodReference.getMethod();
-        }
-        if (object instanceof MultiDispatchJavaMethodReference multiDispatchJavaMethodReference) {
-            return multiDispatchJavaMethodReference.getNoArgsMethod();
-        }
-        throw new AttributeError("Cannot get attribute (%s) on class (%s)."
-                .formatted(field.getName(), type));
-    }
-
-    private Method getSetterMethod(Field field) {
-        String propertyName = field.getName();
-        String capitalizedName =
-                propertyName.isEmpty() ? "" : propertyName.substring(0, 1).toUpperCase() + propertyName.substring(1);
-        String setterName = "set" + capitalizedName;
-
-        PythonLikeObject object = type.$getAttributeOrNull(setterName);
-        if (object instanceof JavaMethodReference methodReference) {
-            return methodReference.getMethod();
-        }
-        throw new AttributeError("Cannot set attribute (%s) on class (%s)."
-                .formatted(field.getName(), type));
-    }
-
     public JavaObjectWrapper(Object wrappedObject) {
         this(wrappedObject, new IdentityHashMap<>());
     }
@@ -110,8 +108,8 @@ public class JavaObjectWrapper implements PythonLikeObject,
         this.wrappedObject = wrappedObject;
         this.objectClass = wrappedObject.getClass();
         this.convertedObjectMap = convertedObjectMap;
-        this.attributeNameToMemberListMap =
-                classToAttributeNameToMemberListMap.computeIfAbsent(objectClass, JavaObjectWrapper::getAllFields);
+        this.attributeNameToFieldAccessorMap =
+                classToAttributeNameToFieldAccessorMap.computeIfAbsent(objectClass, JavaObjectWrapper::getAllFields);
         this.type = getPythonTypeForClass(objectClass, convertedObjectMap);
     }
 
@@ -120,12 +118,14 @@ public class JavaObjectWrapper implements PythonLikeObject,
     }
 
     public static PythonLikeType getPythonTypeForClass(Class<?> objectClass, Map<Object, PythonLikeObject> convertedObjectMap) {
-        if (classToPythonTypeMap.containsKey(objectClass)) {
-            return classToPythonTypeMap.get(objectClass);
+        PythonLikeType existingType = classToPythonTypeMap.get(objectClass);
+        if (existingType != null) {
+            return existingType;
         }
+        // Not computeIfAbsent, since generating the type can wrap static fields, which gets the type of their class
         PythonLikeType out = generatePythonTypeForClass(objectClass, convertedObjectMap);
-        classToPythonTypeMap.put(objectClass, out);
-        return out;
+        existingType = classToPythonTypeMap.putIfAbsent(objectClass, out);
+        return (existingType != null) ? existingType : out;
     }
 
     private static boolean isInaccessible(Member member) {
@@ -232,41 +232,42 @@ public class JavaObjectWrapper implements PythonLikeObject,
 
     @Override
     public PythonLikeObject $getAttributeOrNull(String attributeName) {
-        Field field = attributeNameToMemberListMap.get(attributeName);
-        if (field == null) {
+        FieldAccessor fieldAccessor = attributeNameToFieldAccessorMap.get(attributeName);
+        if (fieldAccessor == null) {
             return null;
         }
+        if (fieldAccessor.getter() == null) {
+            throw new RuntimeError("Cannot get attribute (%s) on object (%s)."
+                    .formatted(attributeName, this));
+        }
         Object result;
         try {
-            if (Modifier.isPublic(field.getModifiers())) {
-                result = field.get(wrappedObject);
-            } else {
-                Method getterMethod = getGetterMethod(field);
-                result = getterMethod.invoke(wrappedObject);
-            }
-            return JavaPythonTypeConversionImplementor.wrapJavaObject(result, convertedObjectMap);
-        } catch (InvocationTargetException | IllegalAccessException e) {
+            result = (Object) fieldAccessor.getter().invokeExact(wrappedObject);
+        } catch (Throwable e) {
             throw (RuntimeError) new RuntimeError("Cannot get attribute (%s) on object (%s)."
                     .formatted(attributeName, this)).initCause(e);
         }
+        return JavaPythonTypeConversionImplementor.wrapJavaObject(result, convertedObjectMap);
     }
 
     @Override
     public void $setAttribute(String attributeName, PythonLikeObject value) {
-        Field field = attributeNameToMemberListMap.get(attributeName);
-        if (field == null) {
+        FieldAccessor fieldAccessor = attributeNameToFieldAccessorMap.get(attributeName);
+        if (fieldAccessor == null) {
             throw new AttributeError("(%s) object does not have attribute (%s)."
                     .formatted(type, attributeName));
         }
+        if (fieldAccessor.setter() == null) {
+            throw new AttributeError("Cannot set attribute (%s) on class (%s)."
+                    .formatted(attributeName, type));
+        }
+        Object javaObject =
+                JavaPythonTypeConversionImplementor.convertPythonObjectToJavaType(fieldAccessor.field().getType(), value);
         try {
-            Object javaObject = JavaPythonTypeConversionImplementor.convertPythonObjectToJavaType(field.getType(), value);
-            if (Modifier.isPublic(field.getModifiers())) {
-                field.set(wrappedObject, javaObject);
-            } else {
-                Method setterMethod = getSetterMethod(field);
-                setterMethod.invoke(wrappedObject, javaObject);
-            }
-        } catch (InvocationTargetException | IllegalAccessException e) {
+            fieldAccessor.setter().invokeExact(wrappedObject, javaObject);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException(e);
         }
     }
@@ -1,6 +1,5 @@
 package ai.timefold.jpyinterpreter.types.wrappers;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -16,20 +15,20 @@ import ai.timefold.jpyinterpreter.types.PythonString;
 import ai.timefold.jpyinterpreter.types.errors.TypeError;
 
 public class MultiDispatchJavaMethodReference implements PythonLikeFunction {
-    private final List<Method> methodList;
+    private final List<JavaMethodInvoker> methodList;
 
     public MultiDispatchJavaMethodReference() {
         this.methodList = new ArrayList<>();
     }
 
     public void addMethod(Method method) {
-        methodList.add(method);
+        methodList.add(new JavaMethodInvoker(method));
     }
 
     public Method getNoArgsMethod() {
-        for (Method method : methodList) {
-            if (method.getParameterCount() == 0) {
-                return method;
+        for (JavaMethodInvoker methodInvoker : methodList) {
+            if (methodInvoker.getMethod().getParameterCount() == 0) {
+                return methodInvoker.getMethod();
             }
         }
         throw new TypeError();
@@ -40,7 +39,8 @@ public class MultiDispatchJavaMethodReference implements PythonLikeFunction {
             Map<PythonString, PythonLikeObject> namedArguments, PythonLikeObject callerInstance) {
         Object self;
         Object[] args;
-        for (Method method : methodList) {
+        for (JavaMethodInvoker methodInvoker : methodList) {
+            Method method = methodInvoker.getMethod();
             if (Modifier.isStatic(method.getModifiers())) {
                 if (method.getParameterCount() != positionalArguments.size()) {
                     continue;
@@ -66,16 +66,10 @@ public class MultiDispatchJavaMethodReference implements PythonLikeFunction {
                     continue;
                 }
             }
-            try {
-                return JavaPythonTypeConversionImplementor.wrapJavaObject(method.invoke(self, args));
-            } catch (IllegalAccessException e) {
-                throw new IllegalStateException("Method (" + method + ") is not accessible.", e);
-            } catch (InvocationTargetException e) {
-                throw (RuntimeException) e.getCause();
-            }
+            return JavaPythonTypeConversionImplementor.wrapJavaObject(methodInvoker.invoke(self, args));
         }
         throw new TypeError("No method with matching signature found for %s in method list %s.".formatted(positionalArguments,
-                methodList));
+                methodList.stream().map(JavaMethodInvoker::getMethod).toList()));
     }
 
     private Object[] unwrapPrimitiveArguments(Method method, List<PythonLikeObject> positionalArguments) {
@@ -92,7 +86,7 @@ public class MultiDispatchJavaMethodReference implements PythonLikeFunction {
 
     @Override
     public PythonLikeType $getType() {
-        if (Modifier.isStatic(methodList.get(0).getModifiers())) {
+        if (Modifier.isStatic(methodList.get(0).getMethod().getModifiers())) {
             return BuiltinTypes.STATIC_FUNCTION_TYPE;
         } else {
             return BuiltinTypes.FUNCTION_TYPE;
@@ -14,6 +14,7 @@ import ai.timefold.jpyinterpreter.types.PythonLikeType;
 import ai.timefold.jpyinterpreter.types.PythonString;
 import ai.timefold.jpyinterpreter.types.collections.PythonIterator;
 import ai.timefold.jpyinterpreter.types.errors.NotImplementedError;
+import ai.timefold.jpyinterpreter.types.errors.StopIteration;
 import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
 import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 
@@ -158,7 +159,7 @@ public class PythonObjectWrapper extends CPythonBackedPythonLikeObject
         try {
             cachedNext = nextPythonItem();
             return true;
-        } catch (Exception e) {
+        } catch (StopIteration e) {
             return false;
         }
     }
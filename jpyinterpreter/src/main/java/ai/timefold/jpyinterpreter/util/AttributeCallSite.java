@@ -0,0 +1,162 @@
+package ai.timefold.jpyinterpreter.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.jpyinterpreter.FieldDescriptor;
+import ai.timefold.jpyinterpreter.PythonLikeObject;
+import ai.timefold.jpyinterpreter.types.PythonLikeType;
+import ai.timefold.jpyinterpreter.types.PythonString;
+
+/**
+ * An inline cache for a {@code LOAD_ATTR} whose receiver type is not known at translation time.
+ * Each call site starts out calling {@link PythonLikeObject#$method$__getattribute__(PythonString)}.
+ * When it sees a receiver whose attribute is an instance field of its class, it puts a guard on that exact class
+ * in front of its target that reads the field directly, so a monomorphic site (such as {@code shift.employee})
+ * becomes a class check and a field load instead of a string switch in {@code $getAttributeOrNull}.
+ * After looking up {@link #MAX_CACHED_CLASSES} classes, the call site stops caching,
+ * and receivers of other classes always go through {@code __getattribute__}.
+ */
+public final class AttributeCallSite extends MutableCallSite {
+    public static final String BOOTSTRAP_METHOD_NAME = "bootstrap";
+
+    public static final String BOOTSTRAP_METHOD_DESCRIPTOR = MethodType.methodType(CallSite.class,
+            MethodHandles.Lookup.class, String.class, MethodType.class, String.class).toMethodDescriptorString();
+
+    static final int MAX_CACHED_CLASSES = 4;
+
+    private static final MethodHandle LOOKUP_AND_CACHE;
+    private static final MethodHandle GET_ATTRIBUTE;
+    private static final MethodHandle GET_ATTRIBUTE_IF_DELETED;
+    private static final MethodHandle IS_INSTANCE_OF_CLASS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            LOOKUP_AND_CACHE = lookup.findVirtual(AttributeCallSite.class, "lookupAndCache",
+                    MethodType.methodType(PythonLikeObject.class, PythonLikeObject.class));
+            GET_ATTRIBUTE = lookup.findStatic(AttributeCallSite.class, "getAttribute",
+                    MethodType.methodType(PythonLikeObject.class, PythonString.class, PythonLikeObject.class));
+            GET_ATTRIBUTE_IF_DELETED = lookup.findStatic(AttributeCallSite.class, "getAttributeIfDeleted",
+                    MethodType.methodType(PythonLikeObject.class, PythonString.class, PythonLikeObject.class,
+                            PythonLikeObject.class));
+            IS_INSTANCE_OF_CLASS = lookup.findStatic(AttributeCallSite.class, "isInstanceOfClass",
+                    MethodType.methodType(boolean.class, Class.class, PythonLikeObject.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final PythonString attributeName;
+    private final MethodHandle lookupAndCacheTarget;
+    private final MethodHandle genericTarget;
+    private final List<Class<?>> cachedClassList = new ArrayList<>(MAX_CACHED_CLASSES);
+    private final List<MethodHandle> cachedFieldReadList = new ArrayList<>(MAX_CACHED_CLASSES);
+    private int lookupCount = 0;
+
+    private AttributeCallSite(MethodType type, String attributeName) {
+        super(type);
+        this.attributeName = PythonString.valueOf(attributeName);
+        this.lookupAndCacheTarget = LOOKUP_AND_CACHE.bindTo(this);
+        this.genericTarget = GET_ATTRIBUTE.bindTo(this.attributeName);
+        setTarget(lookupAndCacheTarget);
+    }
+
+    /**
+     * Bootstrap method for the {@code invokedynamic} instruction of a call site,
+     * which has type {@code (PythonLikeObject)PythonLikeObject}.
+     *
+     * @param attributeName the name of the attribute the call site gets
+     */
+    public static CallSite bootstrap(MethodHandles.Lookup lookup, String methodName, MethodType type,
+            String attributeName) {
+        return new AttributeCallSite(type, attributeName);
+    }
+
+    private PythonLikeObject lookupAndCache(PythonLikeObject receiver) {
+        cacheFieldRead(receiver);
+        return receiver.$method$__getattribute__(attributeName);
+    }
+
+    private synchronized void cacheFieldRead(PythonLikeObject receiver) {
+        if (lookupCount >= MAX_CACHED_CLASSES || cachedClassList.contains(receiver.getClass())) {
+            // Either megamorphic, or another thread already cached the class
+            return;
+        }
+        lookupCount++;
+
+        MethodHandle fieldGetter = getFieldGetter(receiver);
+        if (fieldGetter != null) {
+            cachedClassList.add(receiver.getClass());
+            cachedFieldReadList.add(MethodHandles.foldArguments(GET_ATTRIBUTE_IF_DELETED.bindTo(attributeName),
+                    fieldGetter.asType(MethodType.methodType(PythonLikeObject.class, PythonLikeObject.class))));
+        }
+
+        MethodHandle target = (lookupCount < MAX_CACHED_CLASSES) ? lookupAndCacheTarget : genericTarget;
+        for (int i = cachedClassList.size() - 1; i >= 0; i--) {
+            target = MethodHandles.guardWithTest(IS_INSTANCE_OF_CLASS.bindTo(cachedClassList.get(i)),
+                    cachedFieldReadList.get(i), target);
+        }
+        setTarget(target);
+    }
+
+    /**
+     * Returns a getter for the field the receiver stores the attribute in, or null if the attribute is not
+     * always read from a field of the receiver's class.
+     */
+    private MethodHandle getFieldGetter(PythonLikeObject receiver) {
+        if (receiver instanceof PythonLikeType) {
+            return null;
+        }
+        Class<?> receiverClass = receiver.getClass();
+        try {
+            if (receiverClass.getMethod("$method$__getattribute__", PythonString.class)
+                    .getDeclaringClass() != PythonLikeObject.class) {
+                // The class defines __getattribute__, which can do anything
+                return null;
+            }
+            PythonLikeType type = receiver.$getType();
+            if (type == null) {
+                return null;
+            }
+            FieldDescriptor fieldDescriptor = type.getInstanceFieldDescriptor(attributeName.value).orElse(null);
+            if (fieldDescriptor == null || !fieldDescriptor.isTrueFieldDescriptor() || fieldDescriptor.isJavaType()) {
+                return null;
+            }
+            Field field = receiverClass.getField(fieldDescriptor.javaFieldName());
+            if (Modifier.isStatic(field.getModifiers()) || !PythonLikeObject.class.isAssignableFrom(field.getType())) {
+                return null;
+            }
+            return MethodHandles.publicLookup().unreflectGetter(field);
+        } catch (NoSuchMethodException | NoSuchFieldException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static PythonLikeObject getAttribute(PythonString attributeName, PythonLikeObject receiver) {
+        return receiver.$method$__getattribute__(attributeName);
+    }
+
+    /**
+     * A field is null when its attribute was deleted, in which case the attribute is looked up normally
+     * (which either finds it on the type or raises an AttributeError).
+     */
+    private static PythonLikeObject getAttributeIfDeleted(PythonString attributeName, PythonLikeObject fieldValue,
+            PythonLikeObject receiver) {
+        if (fieldValue != null) {
+            return fieldValue;
+        }
+        return receiver.$method$__getattribute__(attributeName);
+    }
+
+    private static boolean isInstanceOfClass(Class<?> cachedClass, PythonLikeObject receiver) {
+        return receiver.getClass() == cachedClass;
+    }
+}
@@ -0,0 +1,125 @@
+package ai.timefold.jpyinterpreter.util;
+
+import java.util.Collection;
+import java.util.Map;
+
+import ai.timefold.jpyinterpreter.types.CPythonBackedPythonLikeObject;
+import ai.timefold.solver.core.impl.domain.solution.cloner.PlanningCloneable;
+import ai.timefold.solver.core.impl.domain.solution.cloner.PlanningImmutable;
+
+/**
+ * Planning clones translated planning solutions and entities without reflection.
+ * Translated classes annotated with a planning annotation implement {@link PlanningCloneable},
+ * and every translated class generates a {@link CPythonBackedPythonLikeObject#$copyFieldsForPlanningClone} override
+ * that passes each of its fields through {@link #cloneValue(Object, boolean, Map)}.
+ * <p>
+ * Planning cloned objects are cloned, collections are cloned if they are deep cloned or contain planning cloned objects,
+ * and everything else (including {@link PlanningImmutable} values and problem fact collections)
+ * is shared with the original.
+ */
+public final class PlanningCloneUtils {
+
+    private PlanningCloneUtils() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends CPythonBackedPythonLikeObject> T planningClone(T original,
+            Map<Object, Object> originalToCloneMap) {
+        var existingClone = originalToCloneMap.get(original);
+        if (existingClone != null) {
+            return (T) existingClone;
+        }
+        var clone = (T) ((PlanningCloneable<?>) original).createNewInstance();
+        originalToCloneMap.put(original, clone);
+        original.$copyFieldsForPlanningClone(clone, originalToCloneMap);
+        return clone;
+    }
+
+    /**
+     * Returns the value a planning clone should store in place of a field value of the original.
+     *
+     * @param value the field value of the original
+     * @param isDeepCloned true if the field is deep cloned regardless of its content,
+     *        such as an entity collection property
+     * @param originalToCloneMap maps already cloned objects to their clone
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static Object cloneValue(Object value, boolean isDeepCloned, Map<Object, Object> originalToCloneMap) {
+        if (value == null || value instanceof PlanningImmutable) {
+            return value;
+        }
+        if (isPlanningCloned(value)) {
+            return planningClone((CPythonBackedPythonLikeObject) value, originalToCloneMap);
+        }
+        if (!(value instanceof PlanningCloneable<?> cloneable) || !(isDeepCloned || containsPlanningClonedValue(value))) {
+            return value;
+        }
+
+        var existingClone = originalToCloneMap.get(value);
+        if (existingClone != null) {
+            return existingClone;
+        }
+        var clone = cloneable.createNewInstance();
+        originalToCloneMap.put(value, clone);
+        if (value instanceof Collection<?> collection) {
+            var clonedCollection = (Collection) clone;
+            for (Object item : collection) {
+                clonedCollection.add(cloneValue(item, false, originalToCloneMap));
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            var clonedMap = (Map) clone;
+            for (var entry : map.entrySet()) {
+                clonedMap.put(cloneValue(entry.getKey(), false, originalToCloneMap),
+                        cloneValue(entry.getValue(), false, originalToCloneMap));
+            }
+        } else {
+            throw new IllegalStateException("Unable to planning clone (%s) of type (%s)."
+                    .formatted(value, value.getClass()));
+        }
+        return clone;
+    }
+
+    /**
+     * Returns the value a planning clone should store in place of a problem fact field value of the original,
+     * such as a {@link ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty}.
+     * Problem facts are shared with the original, so unlike {@link #cloneValue(Object, boolean, Map)},
+     * this does not scan collections for planning cloned objects, which is costly for large problem fact lists.
+     * A field that directly holds a planning cloned object is still cloned.
+     *
+     * @param value the field value of the original
+     * @param originalToCloneMap maps already cloned objects to their clone
+     */
+    public static Object cloneProblemFactValue(Object value, Map<Object, Object> originalToCloneMap) {
+        if (isPlanningCloned(value)) {
+            return planningClone((CPythonBackedPythonLikeObject) value, originalToCloneMap);
+        }
+        return value;
+    }
+
+    private static boolean isPlanningCloned(Object value) {
+        return value instanceof CPythonBackedPythonLikeObject && value instanceof PlanningCloneable<?>;
+    }
+
+    private static boolean containsPlanningClonedValue(Object value) {
+        if (isPlanningCloned(value)) {
+            return true;
+        }
+        if (value instanceof PlanningImmutable || !(value instanceof PlanningCloneable<?>)) {
+            return false;
+        }
+        if (value instanceof Collection<?> collection) {
+            for (Object item : collection) {
+                if (containsPlanningClonedValue(item)) {
+                    return true;
+                }
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            for (var entry : map.entrySet()) {
+                if (containsPlanningClonedValue(entry.getKey()) || containsPlanningClonedValue(entry.getValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,216 @@
+package ai.timefold.jpyinterpreter.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Maps CPython object ids to the objects they were converted to.
+ * Keys are stored as primitive longs in an open-addressing table,
+ * so Python can look up an id with a single {@link #getOrNull(long)} call
+ * that does not box the id into a {@link Long}.
+ * <p>
+ * It is also a {@link Map} with {@link Number} keys, so it can be used wherever such an instance map is expected.
+ * Not thread-safe.
+ *
+ * @param <Value_> the type of the converted objects
+ */
+public final class PythonIdMap<Value_> extends AbstractMap<Number, Value_> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long[] EMPTY_KEYS = new long[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    // Marks a slot that maps its id to null; empty slots have a null value
+    private static final Object NULL_VALUE = new Object();
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    public PythonIdMap() {
+        // Allocated on first put, since most objects never put anything in their own instance map
+        keys = EMPTY_KEYS;
+        values = EMPTY_VALUES;
+    }
+
+    private static int hash(long id, int mask) {
+        // CPython ids are aligned addresses, so spread the high bits into the low bits
+        long mixed = id * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+
+    private int findSlot(long id) {
+        if (keys.length == 0) {
+            return ~0;
+        }
+        int mask = keys.length - 1;
+        int slot = hash(id, mask);
+        while (values[slot] != null) {
+            if (keys[slot] == id) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ~slot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Value_> Value_ unmask(Object value) {
+        return value == NULL_VALUE ? null : (Value_) value;
+    }
+
+    /**
+     * Returns the object the id maps to, or null if the id is not in the map (or maps to null).
+     */
+    public Value_ getOrNull(long id) {
+        int slot = findSlot(id);
+        return slot >= 0 ? unmask(values[slot]) : null;
+    }
+
+    public boolean containsId(long id) {
+        return findSlot(id) >= 0;
+    }
+
+    /**
+     * Maps the id to the given object, and returns the object it previously mapped to.
+     */
+    public Value_ set(long id, Value_ value) {
+        Object masked = value == null ? NULL_VALUE : value;
+        if (keys.length == 0) {
+            keys = new long[DEFAULT_CAPACITY];
+            values = new Object[DEFAULT_CAPACITY];
+        }
+        int slot = findSlot(id);
+        if (slot >= 0) {
+            Value_ previous = unmask(values[slot]);
+            values[slot] = masked;
+            return previous;
+        }
+        slot = ~slot;
+        keys[slot] = id;
+        values[slot] = masked;
+        size++;
+        if (size * 2 > keys.length) {
+            resize();
+        }
+        return null;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = hash(oldKeys[i], mask);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    public Value_ removeId(long id) {
+        int slot = findSlot(id);
+        if (slot < 0) {
+            return null;
+        }
+        Value_ previous = unmask(values[slot]);
+        size--;
+
+        // Shift back the following entries of the probe sequence, so lookups do not stop at the removed slot
+        int mask = keys.length - 1;
+        int emptySlot = slot;
+        int current = (slot + 1) & mask;
+        while (values[current] != null) {
+            int home = hash(keys[current], mask);
+            if (((current - home) & mask) >= ((current - emptySlot) & mask)) {
+                keys[emptySlot] = keys[current];
+                values[emptySlot] = values[current];
+                emptySlot = current;
+            }
+            current = (current + 1) & mask;
+        }
+        values[emptySlot] = null;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Number id && containsId(id.longValue());
+    }
+
+    @Override
+    public Value_ get(Object key) {
+        return key instanceof Number id ? getOrNull(id.longValue()) : null;
+    }
+
+    @Override
+    public Value_ put(Number key, Value_ value) {
+        return set(key.longValue(), value);
+    }
+
+    @Override
+    public Value_ remove(Object key) {
+        return key instanceof Number id ? removeId(id.longValue()) : null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<Number, Value_>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Number, Value_>> iterator() {
+                return new Iterator<>() {
+                    int nextSlot = findOccupiedSlot(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return nextSlot < keys.length;
+                    }
+
+                    @Override
+                    public Entry<Number, Value_> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<Number, Value_> out = new SimpleImmutableEntry<>(keys[nextSlot], unmask(values[nextSlot]));
+                        nextSlot = findOccupiedSlot(nextSlot + 1);
+                        return out;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int findOccupiedSlot(int start) {
+        int slot = start;
+        while (slot < keys.length && values[slot] == null) {
+            slot++;
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,100 @@
+package ai.timefold.jpyinterpreter.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import ai.timefold.jpyinterpreter.PythonLikeObject;
+import ai.timefold.jpyinterpreter.types.PythonBytes;
+import ai.timefold.jpyinterpreter.types.PythonString;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
+import ai.timefold.jpyinterpreter.types.datetime.PythonDate;
+import ai.timefold.jpyinterpreter.types.datetime.PythonDateTime;
+import ai.timefold.jpyinterpreter.types.datetime.PythonTimeDelta;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+import ai.timefold.solver.core.impl.domain.solution.cloner.PlanningImmutable;
+
+/**
+ * Shares a single instance between equal {@link PlanningImmutable} builtin values,
+ * so a problem that repeats the same str, int, bytes, date, datetime or timedelta (or tuple of those)
+ * many times keeps one copy on the heap, and equality checks between them succeed on identity.
+ * <p>
+ * Only values whose equality cannot mix types are interned:
+ * bool and float are excluded, since 1 == True == 1.0 in Python but their types differ.
+ * Likewise, datetimes with fold=1 are excluded, since they are equal to the same datetime with fold=0.
+ * The table is weak, so values that are no longer used elsewhere can be garbage collected,
+ * and bounded, so once it is full new values are no longer added (but existing ones are still shared).
+ * Interning is disabled until {@link #setMaxSize(int)} is called with a positive size.
+ */
+public final class PythonValueInterner {
+    private static final Map<PythonLikeObject, WeakReference<PythonLikeObject>> internTable = new WeakHashMap<>();
+    private static int maxSize = 0;
+
+    private PythonValueInterner() {
+    }
+
+    /**
+     * Sets the maximum number of values in the intern table; 0 disables interning and clears the table.
+     */
+    public static synchronized void setMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize (" + maxSize + ") must be at least 0.");
+        }
+        PythonValueInterner.maxSize = maxSize;
+        if (maxSize == 0) {
+            internTable.clear();
+        }
+    }
+
+    public static synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns a previously interned value equal to the given value if there is one,
+     * otherwise the given value (which is interned if the table is not full).
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <T extends PythonLikeObject> T intern(T value) {
+        if (maxSize == 0 || !isInternable(value)) {
+            return value;
+        }
+        WeakReference<PythonLikeObject> internedReference = internTable.get(value);
+        if (internedReference != null) {
+            PythonLikeObject interned = internedReference.get();
+            if (interned != null) {
+                return (T) interned;
+            }
+        }
+        if (internTable.size() < maxSize) {
+            internTable.put(value, new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    static boolean isInternable(PythonLikeObject value) {
+        // Exact classes, since subclasses can have their own equality
+        Class<?> valueClass = value.getClass();
+        if (valueClass == PythonString.class
+                || valueClass == PythonInteger.class
+                || valueClass == PythonBytes.class
+                || valueClass == PythonDate.class
+                || valueClass == PythonTimeDelta.class) {
+            return true;
+        }
+        if (valueClass == PythonDateTime.class) {
+            // datetime equality ignores fold, so only intern the usual fold=0,
+            // which cannot be replaced by an equal datetime with a different fold
+            return ((PythonDateTime) value).fold.value.signum() == 0;
+        }
+        if (valueClass == PythonLikeTuple.class) {
+            for (Object item : (PythonLikeTuple<?>) value) {
+                if (!isInternable((PythonLikeObject) item)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,125 @@
+package ai.timefold.jpyinterpreter.util;
+
+import ai.timefold.jpyinterpreter.types.PythonBytes;
+import ai.timefold.jpyinterpreter.types.PythonCell;
+import ai.timefold.jpyinterpreter.types.PythonString;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeDict;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
+import ai.timefold.jpyinterpreter.types.numeric.PythonFloat;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Implements {@code equals} and {@code hashCode} of functions translated to a Java functional interface.
+ * Two instances of the same translated class are equal when their closures and default arguments hold
+ * the same values, so a lambda such as {@code lambda shift: shift.employee == employee} created for several
+ * constraints is recognized as the same function by Timefold, which shares constraint stream nodes
+ * that use equal functions.
+ * Immutable builtin values (int, float, str, bytes and tuples of them) are compared by value;
+ * floats are compared by their bits, so {@code 0.0} and {@code -0.0} differ and NaN equals itself;
+ * everything else is compared by identity, since calling a user-defined {@code __eq__} could have side effects
+ * and two equal mutable objects can diverge later.
+ * Closures are compared by their current values, so this is only used for functions that cannot rebind their
+ * closure (see {@link ai.timefold.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator#canRebindClosure}),
+ * whose hash code therefore never changes.
+ */
+public final class TranslatedFunctionEquality {
+    private TranslatedFunctionEquality() {
+    }
+
+    /**
+     * Returns true if two closures (tuples of {@link PythonCell}) or default positional argument tuples
+     * hold interchangeable values.
+     */
+    public static boolean areEqual(PythonLikeTuple tuple, PythonLikeTuple otherTuple) {
+        if (tuple == otherTuple) {
+            return true;
+        }
+        if (tuple == null || otherTuple == null || tuple.size() != otherTuple.size()) {
+            return false;
+        }
+        for (int i = 0; i < tuple.size(); i++) {
+            if (!areValuesEqual(tuple.get(i), otherTuple.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if two default keyword argument dicts hold interchangeable values.
+     */
+    public static boolean areEqual(PythonLikeDict dict, PythonLikeDict otherDict) {
+        if (dict == otherDict) {
+            return true;
+        }
+        if (dict == null || otherDict == null || dict.size() != otherDict.size()) {
+            return false;
+        }
+        for (Object key : dict.keySet()) {
+            if (!otherDict.containsKey(key) || !areValuesEqual(dict.get(key), otherDict.get(key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code of a closure or default positional argument tuple consistent with
+     * {@link #areEqual(PythonLikeTuple, PythonLikeTuple)}.
+     */
+    public static int hashCode(PythonLikeTuple tuple) {
+        if (tuple == null) {
+            return 0;
+        }
+        return valueHashCode(tuple);
+    }
+
+    private static boolean areValuesEqual(Object value, Object otherValue) {
+        if (value == otherValue) {
+            return true;
+        }
+        if (value == null || otherValue == null || value.getClass() != otherValue.getClass()) {
+            return false;
+        }
+        if (value instanceof PythonCell cell) {
+            return areValuesEqual(cell.cellValue, ((PythonCell) otherValue).cellValue);
+        }
+        if (value instanceof PythonLikeTuple tuple) {
+            return areEqual(tuple, (PythonLikeTuple) otherValue);
+        }
+        if (value instanceof PythonFloat pythonFloat) {
+            return Double.doubleToLongBits(pythonFloat.value) == Double.doubleToLongBits(((PythonFloat) otherValue).value);
+        }
+        return isImmutableValue(value) && value.equals(otherValue);
+    }
+
+    private static int valueHashCode(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof PythonCell cell) {
+            return valueHashCode(cell.cellValue);
+        }
+        if (value instanceof PythonLikeTuple tuple) {
+            int out = 1;
+            for (Object item : tuple) {
+                out = 31 * out + valueHashCode(item);
+            }
+            return out;
+        }
+        if (value instanceof PythonFloat pythonFloat) {
+            return Double.hashCode(pythonFloat.value);
+        }
+        if (isImmutableValue(value)) {
+            return value.hashCode();
+        }
+        return System.identityHashCode(value);
+    }
+
+    private static boolean isImmutableValue(Object value) {
+        return value instanceof PythonInteger
+                || value instanceof PythonFloat
+                || value instanceof PythonString
+                || value instanceof PythonBytes;
+    }
+}
@@ -4,7 +4,10 @@ This module acts as an interface to the Python bytecode to Java bytecode interpr
 from .jvm_setup import init, set_class_output_directory, get_path
 from .annotations import JavaAnnotation, AnnotationValueSupplier, add_class_annotation, add_java_interface
 from .conversions import (convert_to_java_python_like_object, unwrap_python_like_object,
-                          update_python_object_from_java, is_c_native, add_python_java_type_mapping)
+                          update_python_object_from_java, is_c_native, add_python_java_type_mapping,
+                          PythonCloneMap, track_attribute_changes, get_changed_attributes,
+                          update_java_objects_from_changed_attributes,
+                          set_value_interning_limit)
 from .translator import (translate_python_bytecode_to_java_bytecode,
                          translate_python_class_to_java_class,
                          force_update_type,
@@ -1,12 +1,13 @@
 import builtins
 import inspect
 import importlib
-from dataclasses import dataclass
+from contextlib import contextmanager
+from dataclasses import dataclass, field
 from typing import TYPE_CHECKING
 from traceback import TracebackException, StackSummary, FrameSummary
 from copy import copy
 
-from jpype import JLong, JDouble, JBoolean, JProxy
+from jpype import JDouble, JBoolean, JProxy
 
 
 if TYPE_CHECKING:
@@ -191,12 +192,119 @@ def copy_iterable(iterable):
 
 
 def remove_from_instance_map(instance_map, object_id):
-    instance_map.remove(object_id)
+    instance_map.removeId(object_id)
 
 
 def put_in_instance_map(instance_map, python_object, java_object):
     global objects_without_weakref_id_set
-    instance_map.put(id(python_object), java_object)
+    instance_map.set(id(python_object), java_object)
+
+
+_value_interning_limit = 0
+
+
+def set_value_interning_limit(limit: int) -> None:
+    """
+    Sets how many distinct values `convert_to_java_python_like_object` interns.
+    Equal str, int, bytes, date, datetime and timedelta values (and tuples of them)
+    that are converted while the limit is positive share a single Java instance,
+    which saves memory when a problem repeats the same values many times.
+    Interned values are weakly referenced, and once the limit is reached,
+    new values are no longer interned.
+    The default limit is 0, which disables interning.
+
+    Parameters
+    ----------
+    limit : int
+        The maximum number of distinct interned values.
+    """
+    global _value_interning_limit
+    from ai.timefold.jpyinterpreter.util import PythonValueInterner
+    PythonValueInterner.setMaxSize(limit)
+    _value_interning_limit = limit
+
+
+def _intern_value(java_object):
+    if _value_interning_limit == 0:
+        return java_object
+    from ai.timefold.jpyinterpreter.util import PythonValueInterner
+    return PythonValueInterner.intern(java_object)
+
+
+@contextmanager
+def track_attribute_changes(clone_map: 'PythonCloneMap'):
+    """
+    Record which attributes of CPython objects unwrapped using clone_map are assigned
+    for the duration of the ``with`` block.
+    Each object's attributes are compared against a snapshot taken when the block starts,
+    when the object is unwrapped, or when its fields are written from Java,
+    so the classes of the objects are left untouched.
+    Use `get_changed_attributes` to get the changes made since the last snapshot.
+    """
+    from ai.timefold.jpyinterpreter.types import CPythonBackedPythonLikeObject
+    previous = clone_map.attribute_snapshots
+    clone_map.attribute_snapshots = dict()
+    for java_object in list(clone_map.python_object_id_to_java_object.values()):
+        if isinstance(java_object, CPythonBackedPythonLikeObject) and clone_map.has_clone(java_object):
+            _take_attribute_snapshot(clone_map, clone_map.get_clone(java_object))
+    try:
+        yield
+    finally:
+        clone_map.attribute_snapshots = previous
+
+
+def _get_attribute_values(python_object) -> dict:
+    from .jvm_setup import get_instance_field_names
+    out = dict()
+    for name in get_instance_field_names(python_object):
+        try:
+            out[name] = object.__getattribute__(python_object, name)
+        except AttributeError:
+            # Unset slot
+            continue
+    return out
+
+
+def _take_attribute_snapshot(clone_map: 'PythonCloneMap', python_object):
+    if clone_map.attribute_snapshots is not None:
+        # Keep a reference to the object, so its id cannot be reused while tracking
+        clone_map.attribute_snapshots[id(python_object)] = (python_object, _get_attribute_values(python_object))
+
+
+def get_changed_attributes(clone_map: 'PythonCloneMap') -> dict:
+    """
+    Return the attributes assigned since their object's last snapshot
+    inside a `track_attribute_changes` block for clone_map, and take new snapshots of the changed objects.
+    Returns a dict mapping an object's id to a tuple of (object, set of changed attribute names),
+    which can be passed to `update_java_objects_from_changed_attributes`.
+    """
+    changed_attributes = dict()
+    for object_id, (python_object, snapshot) in clone_map.attribute_snapshots.items():
+        attribute_values = _get_attribute_values(python_object)
+        attribute_names = {name for name, value in attribute_values.items()
+                           if name not in snapshot or snapshot[name] is not value}
+        if attribute_names:
+            changed_attributes[object_id] = (python_object, attribute_names)
+            clone_map.attribute_snapshots[object_id] = (python_object, attribute_values)
+    return changed_attributes
+
+
+def update_java_objects_from_changed_attributes(changed_attributes: dict, clone_map: 'PythonCloneMap'):
+    """
+    Read back only the changed attributes of objects that were unwrapped using clone_map
+    into their Java counterparts, then clear changed_attributes.
+    Objects that were never unwrapped, and attributes that are not fields, are skipped.
+    """
+    for object_id, (python_object, attribute_names) in changed_attributes.items():
+        java_object = clone_map.get_java_object(python_object)
+        if java_object is None:
+            continue
+        read_field = getattr(java_object, '$readFieldFromCPythonReference', None)
+        if read_field is None:
+            continue
+        for attribute_name in attribute_names:
+            read_field(attribute_name)
+    changed_attributes.clear()
 
 
 class CodeWrapper:
@@ -219,14 +327,14 @@ def convert_object_to_java_python_like_object(value, instance_map=None):
                              translate_python_code_to_python_wrapper_class,
                              type_to_compiled_java_class)
     from java.lang import Object, ClassNotFoundException, NoSuchMethodException
-    from java.util import HashMap
+    from ai.timefold.jpyinterpreter.util import PythonIdMap
     from ai.timefold.jpyinterpreter import PythonInterpreter, CPythonBackedPythonInterpreter
     from ai.timefold.jpyinterpreter.types import PythonLikeType, AbstractPythonLikeObject, CPythonBackedPythonLikeObject
     from ai.timefold.jpyinterpreter.types.wrappers import OpaquePythonReference, CPythonType, JavaObjectWrapper, PythonLikeFunctionWrapper
     from ai.timefold.jpyinterpreter.types.datetime import PythonDate, PythonDateTime, PythonTime, PythonTimeDelta
 
     if instance_map is None:
-        instance_map = HashMap()
+        instance_map = PythonIdMap()
 
     if isinstance(value, Object):
         out = JavaObjectWrapper(value)
@@ -235,12 +343,12 @@ def convert_object_to_java_python_like_object(value, instance_map=None):
     if isinstance(value, JavaAnnotation):
         return None
     elif isinstance(value, datetime.datetime):
-        out = PythonDateTime.of(value.year, value.month, value.day, value.hour, value.minute, value.second,
-                                value.microsecond, value.tzname(), value.fold)
+        out = _intern_value(PythonDateTime.of(value.year, value.month, value.day, value.hour, value.minute,
+                                              value.second, value.microsecond, value.tzname(), value.fold))
         put_in_instance_map(instance_map, value, out)
         return out
     elif isinstance(value, datetime.date):
-        out = PythonDate.of(value.year, value.month, value.day)
+        out = _intern_value(PythonDate.of(value.year, value.month, value.day))
         put_in_instance_map(instance_map, value, out)
         return out
     elif isinstance(value, datetime.time):
@@ -248,7 +356,7 @@ def convert_object_to_java_python_like_object(value, instance_map=None):
         put_in_instance_map(instance_map, value, out)
         return out
     elif isinstance(value, datetime.timedelta):
-        out = PythonTimeDelta.of(value.days, value.seconds, value.microseconds)
+        out = _intern_value(PythonTimeDelta.of(value.days, value.seconds, value.microseconds))
         put_in_instance_map(instance_map, value, out)
         return out
     elif inspect.iscode(value):
@@ -367,7 +475,7 @@ def is_banned_module(module: str):
 def convert_to_java_python_like_object(value, instance_map=None):
     from .translator import translate_python_class_to_java_class, type_to_compiled_java_class
     from .annotations import erase_generic_args
-    from java.util import HashMap
+    from ai.timefold.jpyinterpreter.util import PythonIdMap
     from java.math import BigInteger
     from types import ModuleType
     from ai.timefold.jpyinterpreter import PythonLikeObject, CPythonBackedPythonInterpreter
@@ -379,10 +487,11 @@ def convert_to_java_python_like_object(value, instance_map=None):
     from ai.timefold.jpyinterpreter.types.wrappers import PythonObjectWrapper, CPythonType, OpaquePythonReference
 
     if instance_map is None:
-        instance_map = HashMap()
+        instance_map = PythonIdMap()
 
-    if instance_map.containsKey(JLong(id(value))):
-        return instance_map.get(JLong(id(value)))
+    existing_java_object = instance_map.getOrNull(id(value))
+    if existing_java_object is not None:
+        return existing_java_object
     elif isinstance(value, PythonLikeObject):
         put_in_instance_map(instance_map, value, value)
         return value
@@ -393,7 +502,7 @@ def convert_to_java_python_like_object(value, instance_map=None):
     elif isinstance(value, bool):
         return PythonBoolean.valueOf(JBoolean(value))
     elif isinstance(value, int):
-        out = PythonInteger.valueOf(BigInteger("{0:x}".format(value), 16))
+        out = _intern_value(PythonInteger.valueOf(BigInteger("{0:x}".format(value), 16)))
         put_in_instance_map(instance_map, value, out)
         return out
     elif isinstance(value, float):
@@ -406,11 +515,11 @@ def convert_to_java_python_like_object(value, instance_map=None):
         put_in_instance_map(instance_map, value, out)
         return out
     elif isinstance(value, str):
-        out = PythonString.valueOf(value)
+        out = _intern_value(PythonString.valueOf(value))
         put_in_instance_map(instance_map, value, out)
         return out
     elif isinstance(value, bytes):
-        out = PythonBytes.fromIntTuple(convert_to_java_python_like_object(tuple(value)))
+        out = _intern_value(PythonBytes.fromIntTuple(convert_to_java_python_like_object(tuple(value))))
         put_in_instance_map(instance_map, value, out)
         return out
     elif isinstance(value, bytearray):
@@ -422,6 +531,10 @@ def convert_to_java_python_like_object(value, instance_map=None):
         put_in_instance_map(instance_map, value, out)
         for item in value:
             out.add(convert_to_java_python_like_object(item, instance_map))
+        if _value_interning_limit != 0:
+            # Can only be interned once its items are known
+            out = _intern_value(out)
+            put_in_instance_map(instance_map, value, out)
         return out
     elif isinstance(value, list):
         out = PythonLikeList()
@@ -497,11 +610,15 @@ def convert_to_java_python_like_object(value, instance_map=None):
 class PythonCloneMap:
     java_object_to_clone_id: 'IdentityHashMap'
     clone_id_to_python_object: dict
+    python_object_id_to_java_object: dict = field(default_factory=dict)
+    # Object id -> (object, attribute values) while a track_attribute_changes block is active
+    attribute_snapshots: dict | None = None
 
     def add_clone(self, java_object, python_object):
         object_id = self.java_object_to_clone_id.size()
         self.java_object_to_clone_id[java_object] = object_id
         self.clone_id_to_python_object[object_id] = python_object
+        self.python_object_id_to_java_object[id(python_object)] = java_object
         return python_object
 
     def has_clone(self, java_object):
@@ -510,6 +627,12 @@ class PythonCloneMap:
     def get_clone(self, java_object):
         return self.clone_id_to_python_object[self.java_object_to_clone_id.get(java_object)]
 
+    def get_java_object(self, python_object):
+        java_object = self.python_object_id_to_java_object.get(id(python_object))
+        if java_object is None or not self.has_clone(java_object) or self.get_clone(java_object) is not python_object:
+            return None
+        return java_object
+
 
 def unwrap_python_like_object(python_like_object, clone_map=None, default=NotImplementedError):
     from .translator import type_to_compiled_java_class
@@ -714,7 +837,11 @@ def update_python_object_from_java(java_object, clone_map=None):
                                                                       convert=True))
     except TypeError:
         # The Python Object is immutable; so no changes from Java
-        pass
+        return
+
+    if clone_map.attribute_snapshots is not None and clone_map.has_clone(java_object):
+        # Fields written from Java are not changes to read back
+        _take_attribute_snapshot(clone_map, clone_map.get_clone(java_object))
 
 
 def unwrap_python_like_builtin_module_object(python_like_object, clone_map, default=NotImplementedError):
@@ -188,12 +188,31 @@ class GetDictOnPythonObject:
         from .conversions import convert_to_java_python_like_object
 
         out = HashMap()
-        for key in dir(python_object):
-            out.put(key, convert_to_java_python_like_object(getattr(python_object, key), instance_map))
+        # Only read instance fields; methods and dunders are looked up on the type,
+        # so converting them here is wasted work
+        for key in get_instance_field_names(python_object):
+            try:
+                value = object.__getattribute__(python_object, key)
+            except AttributeError:
+                # Unset slot
+                continue
+            out.put(key, convert_to_java_python_like_object(value, instance_map))
 
         return out
 
 
+def get_instance_field_names(python_object):
+    out = list(getattr(python_object, '__dict__', ()))
+    for python_type in type(python_object).__mro__:
+        slots = python_type.__dict__.get('__slots__', ())
+        if isinstance(slots, str):
+            slots = (slots,)
+        for slot in slots:
+            if slot not in ('__dict__', '__weakref__') and slot not in out:
+                out.append(slot)
+    return out
+
+
 @jpype.JImplements('ai.timefold.jpyinterpreter.util.function.TriFunction', deferred=True)
 class CallPythonFunction:
     @jpype.JOverride()
@@ -206,6 +225,10 @@ class CallPythonFunction:
         try:
             out = python_object(*actual_vargs, **actual_keyword_args)
             return convert_to_java_python_like_object(out)
+        except StopIteration as e:
+            # Translated code ends loops over CPython iterators on the Java StopIteration
+            from ai.timefold.jpyinterpreter.types.errors import StopIteration as JavaStopIteration
+            raise JavaStopIteration(convert_to_java_python_like_object(e.value))
         except Exception as e:
             from ai.timefold.jpyinterpreter.types.errors import CPythonException
             raise CPythonException(str(e))
@@ -220,10 +243,10 @@ class CreateFunctionFromCode:
         from .translator import find_globals_dict_for_java_map
         from ai.timefold.jpyinterpreter import CPythonBackedPythonInterpreter  # noqa
         from ai.timefold.jpyinterpreter.types.wrappers import OpaquePythonReference, PythonObjectWrapper  # noqa
-        from java.util import HashMap
+        from ai.timefold.jpyinterpreter.util import PythonIdMap  # noqa
         from jpype import JProxy
 
-        instance_map = HashMap()
+        instance_map = PythonIdMap()
         python_code = JProxy.unwrap(code_object).wrapped
         python_globals_args = find_globals_dict_for_java_map(function_globals)
         python_closure = unwrap_python_like_object(closure)
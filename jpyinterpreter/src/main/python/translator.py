@@ -22,6 +22,7 @@ python_java_type_mappings = list()
 
 function_interface_pair_to_instance = dict()
 function_interface_pair_to_class = dict()
+code_interface_pair_to_class = dict()
 
 
 def get_file_for_module(module_name):
@@ -344,17 +345,25 @@ def translate_python_bytecode_to_java_bytecode(python_function, java_function_ty
 
     python_compiled_function = get_function_bytecode_object(python_function)
 
-    if len(type_args) == 0:
-        out = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(python_compiled_function,
-                                                                             java_function_type)
-        function_interface_pair_to_instance[(python_function, java_function_type, type_args)] = out
-        return out
+    # Functions created from the same code (such as lambdas returned by a factory function) share
+    # a generated class, whose instances are equal if their closures and defaults hold the same values
+    # (unless the function can rebind its closure);
+    # the globals are keyed by id, which stays unique since function_interface_pair_to_instance keeps them alive
+    code_key = (python_function.__code__, id(python_function.__globals__), java_function_type, type_args)
+    if code_key in code_interface_pair_to_class:
+        compiled_class = code_interface_pair_to_class[code_key]
+    elif len(type_args) == 0:
+        compiled_class = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(
+            python_compiled_function, java_function_type)
+        code_interface_pair_to_class[code_key] = compiled_class
     else:
-        out = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(python_compiled_function,
-                                                                             java_function_type,
-                                                                             copy_iterable(type_args))
-        function_interface_pair_to_instance[(python_function, java_function_type, type_args)] = out
-        return out
+        compiled_class = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(
+            python_compiled_function, java_function_type, copy_iterable(type_args))
+        code_interface_pair_to_class[code_key] = compiled_class
+
+    out = PythonBytecodeToJavaBytecodeTranslator.createInstance(compiled_class, python_compiled_function)
+    function_interface_pair_to_instance[(python_function, java_function_type, type_args)] = out
+    return out
 
 
 def _force_translate_python_bytecode_to_generator_java_bytecode(python_function, java_function_type):
@@ -411,8 +420,9 @@ def wrap_untyped_java_function(java_function):
     from .conversions import convert_to_java_python_like_object, unwrap_python_like_object
     def wrapped_function(*args, **kwargs):
         from java.util import ArrayList, HashMap
+        from ai.timefold.jpyinterpreter.util import PythonIdMap
 
-        instance_map = HashMap()
+        instance_map = PythonIdMap()
         java_args = ArrayList(len(args))
         java_kwargs = HashMap()
 
@@ -443,9 +453,9 @@ def wrap_untyped_java_function(java_function):
 def wrap_typed_java_function(java_function):
     def wrapped_function(*args):
         from .conversions import convert_to_java_python_like_object, unwrap_python_like_object
-        from java.util import HashMap
+        from ai.timefold.jpyinterpreter.util import PythonIdMap
 
-        instance_map = HashMap()
+        instance_map = PythonIdMap()
         java_args = [convert_to_java_python_like_object(arg, instance_map) for arg in args]
 
         out = None
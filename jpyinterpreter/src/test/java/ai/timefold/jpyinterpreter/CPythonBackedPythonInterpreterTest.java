@@ -0,0 +1,88 @@
+package ai.timefold.jpyinterpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.function.Function;
+
+import ai.timefold.jpyinterpreter.types.CPythonBackedPythonLikeObject;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+import ai.timefold.jpyinterpreter.types.wrappers.OpaquePythonReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CPythonBackedPythonInterpreterTest {
+    private Function<OpaquePythonReference, Number> oldLookupPythonReferenceIdPythonFunction;
+
+    @BeforeEach
+    void setUp() {
+        oldLookupPythonReferenceIdPythonFunction = CPythonBackedPythonInterpreter.lookupPythonReferenceIdPythonFunction;
+        CPythonBackedPythonInterpreter.lookupPythonReferenceIdPythonFunction =
+                reference -> (long) System.identityHashCode(reference) + 1;
+    }
+
+    @AfterEach
+    void tearDown() {
+        CPythonBackedPythonInterpreter.lookupPythonReferenceIdPythonFunction = oldLookupPythonReferenceIdPythonFunction;
+    }
+
+    @Test
+    void testSetPythonReference() {
+        CPythonBackedPythonInterpreter interpreter = new CPythonBackedPythonInterpreter();
+        CPythonBackedPythonLikeObject object = new CPythonBackedPythonLikeObject(interpreter,
+                CPythonBackedPythonLikeObject.CPYTHON_BACKED_OBJECT_TYPE);
+        assertThat(object.$instanceMap).isNull();
+        assertThat(object.$getCPythonId()).isNull();
+        assertThat(interpreter.hasValidPythonReference(object)).isFalse();
+
+        OpaquePythonReference reference = new OpaquePythonReference() {
+        };
+        object.$setCPythonReference(reference);
+
+        assertThat(object.$cpythonReference).isSameAs(reference);
+        assertThat(object.$getCPythonId())
+                .isEqualTo(PythonInteger.valueOf(System.identityHashCode(reference) + 1L));
+        assertThat(interpreter.hasValidPythonReference(object)).isTrue();
+    }
+
+    @Test
+    void testPlanningCloneSharesPythonReference() {
+        CPythonBackedPythonInterpreter interpreter = new CPythonBackedPythonInterpreter();
+        CPythonBackedPythonLikeObject original = new CPythonBackedPythonLikeObject(interpreter,
+                CPythonBackedPythonLikeObject.CPYTHON_BACKED_OBJECT_TYPE);
+        OpaquePythonReference reference = new OpaquePythonReference() {
+        };
+        original.$setCPythonReference(reference);
+
+        CPythonBackedPythonLikeObject clone = new CPythonBackedPythonLikeObject(interpreter,
+                CPythonBackedPythonLikeObject.CPYTHON_BACKED_OBJECT_TYPE);
+        original.$copyFieldsForPlanningClone(clone, new HashMap<>());
+
+        assertThat(clone.$cpythonReference).isSameAs(reference);
+        assertThat(clone.$getCPythonId()).isNull();
+        assertThat(interpreter.hasValidPythonReference(original)).isTrue();
+        assertThat(interpreter.hasValidPythonReference(clone)).isFalse();
+
+        // Once the clone is written back, it has its own reference
+        OpaquePythonReference cloneReference = new OpaquePythonReference() {
+        };
+        clone.$setCPythonReference(cloneReference);
+        assertThat(interpreter.hasValidPythonReference(clone)).isTrue();
+        assertThat(interpreter.hasValidPythonReference(original)).isTrue();
+    }
+
+    @Test
+    void testPlanningCloneWithoutReference() {
+        CPythonBackedPythonInterpreter interpreter = new CPythonBackedPythonInterpreter();
+        CPythonBackedPythonLikeObject original = new CPythonBackedPythonLikeObject(interpreter,
+                CPythonBackedPythonLikeObject.CPYTHON_BACKED_OBJECT_TYPE);
+        CPythonBackedPythonLikeObject clone = new CPythonBackedPythonLikeObject(interpreter,
+                CPythonBackedPythonLikeObject.CPYTHON_BACKED_OBJECT_TYPE);
+        original.$copyFieldsForPlanningClone(clone, new HashMap<>());
+
+        assertThat(clone.$cpythonReference).isNull();
+        assertThat(interpreter.hasValidPythonReference(clone)).isFalse();
+    }
+}
@@ -3,6 +3,7 @@ package ai.timefold.jpyinterpreter;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -12,12 +13,18 @@ import java.util.function.ToIntFunction;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.ControlOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.DunderOpDescriptor;
 import ai.timefold.jpyinterpreter.types.BuiltinTypes;
+import ai.timefold.jpyinterpreter.types.CPythonBackedPythonLikeObject;
 import ai.timefold.jpyinterpreter.types.PythonLikeFunction;
 import ai.timefold.jpyinterpreter.types.PythonLikeType;
 import ai.timefold.jpyinterpreter.types.PythonString;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeList;
 import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
 import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+import ai.timefold.jpyinterpreter.util.PlanningCloneUtils;
 import ai.timefold.jpyinterpreter.util.PythonFunctionBuilder;
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.impl.domain.solution.cloner.PlanningCloneable;
 
 import org.junit.jupiter.api.Test;
 
@@ -336,4 +343,57 @@ public class PythonClassTranslatorTest {
         assertThat(instance.overloadedMethod()).isEqualTo(1);
         assertThat(instance.overloadedMethod(1)).isEqualTo(2);
     }
+
+    @Test
+    public void testPythonClassPlanningClone() throws Exception {
+        PythonCompiledClass compiledClass = new PythonCompiledClass();
+        compiledClass.annotations = List.of(new AnnotationMetadata(PlanningEntity.class, Map.of()));
+        compiledClass.javaInterfaces = Collections.emptyList();
+        compiledClass.pythonJavaTypeMappings = List.of();
+        compiledClass.className = "MyEntity";
+        compiledClass.superclassList = List.of(CPythonBackedPythonLikeObject.CPYTHON_BACKED_OBJECT_TYPE);
+        compiledClass.staticAttributeNameToObject = Map.of();
+        compiledClass.staticAttributeNameToClassInstance = Map.of();
+        compiledClass.staticAttributeDescriptorNames = Set.of();
+        compiledClass.typeAnnotations = Map.of("value", TypeHint.withoutAnnotations(BuiltinTypes.INT_TYPE),
+                "neighbours", TypeHint.withoutAnnotations(BuiltinTypes.LIST_TYPE),
+                "facts", TypeHint.withoutAnnotations(BuiltinTypes.LIST_TYPE),
+                "problemFacts", new TypeHint(BuiltinTypes.LIST_TYPE,
+                        List.of(new AnnotationMetadata(ProblemFactCollectionProperty.class, Map.of()))));
+        compiledClass.instanceFunctionNameToPythonBytecode = Map.of();
+        compiledClass.staticFunctionNameToPythonBytecode = Map.of();
+        compiledClass.classFunctionNameToPythonBytecode = Map.of();
+
+        PythonLikeType classType = PythonClassTranslator.translatePythonClass(compiledClass);
+        Class<?> generatedClass = BuiltinTypes.asmClassLoader.loadClass(
+                classType.getJavaTypeInternalName().replace('/', '.'));
+
+        assertThat(generatedClass).isAssignableTo(PlanningCloneable.class);
+
+        var valueField = generatedClass.getField(PythonClassTranslator.getJavaFieldName("value"));
+        var neighboursField = generatedClass.getField(PythonClassTranslator.getJavaFieldName("neighbours"));
+        var factsField = generatedClass.getField(PythonClassTranslator.getJavaFieldName("facts"));
+        var problemFactsField = generatedClass.getField(PythonClassTranslator.getJavaFieldName("problemFacts"));
+
+        var entity = (CPythonBackedPythonLikeObject) generatedClass.getConstructor().newInstance();
+        var facts = new PythonLikeList<>(List.of(PythonInteger.ONE));
+        valueField.set(entity, PythonInteger.valueOf(10));
+        neighboursField.set(entity, new PythonLikeList<>(List.of(entity)));
+        factsField.set(entity, facts);
+        // Problem fact collections are shared without looking at their content
+        var problemFacts = new PythonLikeList<>(List.of(entity));
+        problemFactsField.set(entity, problemFacts);
+
+        var clone = PlanningCloneUtils.planningClone(entity, new IdentityHashMap<>());
+
+        assertThat(clone).isNotSameAs(entity);
+        assertThat(clone).isInstanceOf(generatedClass);
+        assertThat(valueField.get(clone)).isEqualTo(PythonInteger.valueOf(10));
+        assertThat(factsField.get(clone)).isSameAs(facts);
+        assertThat(problemFactsField.get(clone)).isSameAs(problemFacts);
+
+        var clonedNeighbours = (PythonLikeList<?>) neighboursField.get(clone);
+        assertThat(clonedNeighbours).isNotSameAs(neighboursField.get(entity));
+        assertThat(clonedNeighbours.get(0)).isSameAs(clone);
+    }
 }
@@ -3,22 +3,31 @@ package ai.timefold.jpyinterpreter;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import ai.timefold.jpyinterpreter.builtins.GlobalBuiltins;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.CollectionOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.ControlOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.DunderOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.ExceptionOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.FunctionOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.GeneratorOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.MetaOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.StackOpDescriptor;
 import ai.timefold.jpyinterpreter.types.PythonGenerator;
 import ai.timefold.jpyinterpreter.types.PythonNone;
 import ai.timefold.jpyinterpreter.types.collections.PythonLikeList;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
 import ai.timefold.jpyinterpreter.types.errors.AttributeError;
 import ai.timefold.jpyinterpreter.types.errors.PythonAssertionError;
 import ai.timefold.jpyinterpreter.types.errors.StopIteration;
+import ai.timefold.jpyinterpreter.types.errors.TypeError;
 import ai.timefold.jpyinterpreter.types.errors.ValueError;
 import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
 import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
@@ -118,6 +127,186 @@ public class PythonGeneratorTranslatorTest {
         assertThatCode(() -> generator.next()).isInstanceOf(StopIteration.class);
     }
 
+    private static PythonGenerator createLoopGenerator() {
+        PythonCompiledFunction generatorFunction = PythonFunctionBuilder.newFunction()
+                .op(GeneratorOpDescriptor.GEN_START)
+                .loadConstant(1)
+                .loadConstant(2)
+                .loadConstant(3)
+                .tuple(3)
+                .op(CollectionOpDescriptor.GET_ITER)
+                .loop(builder -> {
+                    builder.op(GeneratorOpDescriptor.YIELD_VALUE)
+                            .op(StackOpDescriptor.POP_TOP);
+                })
+                .loadConstant(null)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        Supplier generatorCreator =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(generatorFunction, Supplier.class);
+        return (PythonGenerator) generatorCreator.get();
+    }
+
+    @Test
+    public void testForEachWhile() {
+        PythonGenerator generator = createLoopGenerator();
+        List<PythonLikeObject> values = new ArrayList<>();
+        generator.forEachWhile(values::add);
+
+        assertThat(values).isEqualTo(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(2), PythonInteger.valueOf(3)));
+        assertThat(generator.hasNext()).isFalse();
+        assertThatCode(() -> generator.next()).isInstanceOf(StopIteration.class);
+    }
+
+    @Test
+    public void testForEachWhileStoppedEarly() {
+        PythonGenerator generator = createLoopGenerator();
+        List<PythonLikeObject> values = new ArrayList<>();
+        generator.forEachWhile(value -> {
+            values.add(value);
+            return !value.equals(PythonInteger.valueOf(1));
+        });
+        assertThat(values).isEqualTo(List.of(PythonInteger.valueOf(1)));
+
+        // Resumes after the last value the action received
+        assertThat(generator.hasNext()).isTrue();
+        assertThat(generator.next()).isEqualTo(PythonInteger.valueOf(2));
+
+        generator.forEachWhile(values::add);
+        assertThat(values).isEqualTo(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(3)));
+        assertThat(generator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testForEachWhileActionRaises() {
+        PythonGenerator generator = createLoopGenerator();
+        List<PythonLikeObject> values = new ArrayList<>();
+        assertThatCode(() -> generator.forEachWhile(value -> {
+            values.add(value);
+            if (value.equals(PythonInteger.valueOf(2))) {
+                throw new TypeError();
+            }
+            return true;
+        })).isInstanceOf(TypeError.class);
+        assertThat(values).isEqualTo(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(2)));
+
+        // The generator is not restarted from its first value
+        assertThat(generator.hasNext()).isFalse();
+        assertThatCode(() -> generator.next()).isInstanceOf(StopIteration.class);
+    }
+
+    @Test
+    public void testForEachWhileBodyRaises() {
+        PythonCompiledFunction generatorFunction = PythonFunctionBuilder.newFunction()
+                .op(GeneratorOpDescriptor.GEN_START)
+                .loadConstant(1)
+                .op(GeneratorOpDescriptor.YIELD_VALUE)
+                .op(StackOpDescriptor.POP_TOP)
+                .op(ExceptionOpDescriptor.LOAD_ASSERTION_ERROR)
+                .op(ExceptionOpDescriptor.RAISE_VARARGS, 1)
+                .build();
+
+        Supplier generatorCreator =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(generatorFunction, Supplier.class);
+        PythonGenerator generator = (PythonGenerator) generatorCreator.get();
+        List<PythonLikeObject> values = new ArrayList<>();
+        assertThatCode(() -> generator.forEachWhile(values::add)).isInstanceOf(PythonAssertionError.class);
+        assertThat(values).isEqualTo(List.of(PythonInteger.valueOf(1)));
+
+        assertThat(generator.hasNext()).isFalse();
+        assertThatCode(() -> generator.next()).isInstanceOf(StopIteration.class);
+    }
+
+    @Test
+    public void testConsumeGeneratorWithBuiltins() {
+        assertThat(GlobalBuiltins.sum(List.of(createLoopGenerator()), Map.of(), null))
+                .isEqualTo(PythonInteger.valueOf(6));
+        assertThat(GlobalBuiltins.max(List.of(createLoopGenerator()), Map.of(), null))
+                .isEqualTo(PythonInteger.valueOf(3));
+        assertThat(GlobalBuiltins.min(List.of(createLoopGenerator()), Map.of(), null))
+                .isEqualTo(PythonInteger.valueOf(1));
+        assertThat(GlobalBuiltins.all(List.of(createLoopGenerator()), Map.of(), null))
+                .isEqualTo(PythonBoolean.TRUE);
+
+        PythonGenerator generator = createLoopGenerator();
+        assertThat(GlobalBuiltins.any(List.of(generator), Map.of(), null)).isEqualTo(PythonBoolean.TRUE);
+        // any stops at the first truthy value
+        assertThat(generator.next()).isEqualTo(PythonInteger.valueOf(2));
+
+        PythonLikeList<PythonLikeObject> list = new PythonLikeList<>();
+        list.extend(createLoopGenerator());
+        assertThat(list).isEqualTo(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(2), PythonInteger.valueOf(3)));
+    }
+
+    /**
+     * Records whether values were pushed through {@link PythonGenerator#forEachWhile}.
+     */
+    private static final class RecordingGenerator extends PythonGenerator {
+        private final PythonGenerator delegate;
+        private boolean isForEachWhileCalled;
+
+        private RecordingGenerator(PythonGenerator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public PythonLikeObject next() {
+            return delegate.next();
+        }
+
+        @Override
+        public void forEachWhile(Predicate<PythonLikeObject> action) {
+            isForEachWhileCalled = true;
+            delegate.forEachWhile(action);
+        }
+    }
+
+    private static Function<PythonLikeObject, PythonLikeObject> callIntrinsicBuiltin(String builtinName) {
+        // def f(iterable): return builtin(iterable)
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        // The module was already searched for the builtin, and has no global with that name
+        globalsMap.put(builtinName, null);
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("iterable")
+                .usingGlobalsMap(globalsMap)
+                .loadGlobalVariable(builtinName)
+                .loadParameter("iterable")
+                .op(MetaOpDescriptor.PRECALL, 1)
+                .op(FunctionOpDescriptor.CALL, 1)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+        pythonCompiledFunction.pythonVersion = PythonVersion.PYTHON_3_11;
+        // In Python 3.11, the low bit of LOAD_GLOBAL's argument means push NULL before the global
+        pythonCompiledFunction.instructionList.set(0, pythonCompiledFunction.instructionList.get(0)
+                .withArg((pythonCompiledFunction.co_names.indexOf(builtinName) << 1) | 1));
+        return PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Function.class);
+    }
+
+    @Test
+    public void testConsumeGeneratorWithIntrinsicBuiltins() {
+        Map<String, PythonLikeObject> builtinNameToExpected = Map.of(
+                "sum", PythonInteger.valueOf(6),
+                "min", PythonInteger.valueOf(1),
+                "max", PythonInteger.valueOf(3),
+                "any", PythonBoolean.TRUE,
+                "all", PythonBoolean.TRUE);
+        builtinNameToExpected.forEach((builtinName, expected) -> {
+            RecordingGenerator generator = new RecordingGenerator(createLoopGenerator());
+            assertThat(callIntrinsicBuiltin(builtinName).apply(generator)).isEqualTo(expected);
+            assertThat(generator.isForEachWhileCalled).as(builtinName).isTrue();
+        });
+
+        RecordingGenerator generator = new RecordingGenerator(createLoopGenerator());
+        assertThat(callIntrinsicBuiltin("any").apply(generator)).isEqualTo(PythonBoolean.TRUE);
+        // any stops at the first truthy value
+        assertThat(generator.next()).isEqualTo(PythonInteger.valueOf(2));
+    }
+
     @Test
     public void testGeneratorWithTryExcept() {
         PythonCompiledFunction generatorFunction = PythonFunctionBuilder.newFunction()
@@ -182,6 +371,30 @@ public class PythonGeneratorTranslatorTest {
                 .matches(error -> ((StopIteration) error).getValue().equals(PythonInteger.valueOf(3)));
     }
 
+    @Test
+    public void testSendingValuesWithValuesBelowYield() {
+        PythonCompiledFunction generatorFunction = PythonFunctionBuilder.newFunction("value1")
+                .op(GeneratorOpDescriptor.GEN_START)
+                .loadParameter("value1")
+                .loadConstant(2)
+                .loadConstant(3)
+                .op(GeneratorOpDescriptor.YIELD_VALUE)
+                .tuple(3)
+                .op(GeneratorOpDescriptor.YIELD_VALUE)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        Function generatorCreator =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(generatorFunction, Function.class);
+        PythonGenerator generator = (PythonGenerator) generatorCreator.apply(1);
+
+        assertThat(generator.send(PythonNone.INSTANCE)).isEqualTo(PythonInteger.valueOf(3));
+        assertThat(generator.send(PythonInteger.valueOf(4))).isEqualTo(PythonLikeTuple.fromItems(PythonInteger.valueOf(1),
+                PythonInteger.valueOf(2), PythonInteger.valueOf(4)));
+        assertThatCode(() -> generator.send(PythonInteger.valueOf(5))).isInstanceOf(StopIteration.class)
+                .matches(error -> ((StopIteration) error).getValue().equals(PythonInteger.valueOf(5)));
+    }
+
     @Test
     public void testThrowingValues() {
         PythonCompiledFunction generatorFunction = PythonFunctionBuilder.newFunction()
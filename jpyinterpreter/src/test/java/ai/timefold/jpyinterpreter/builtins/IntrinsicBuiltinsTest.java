@@ -0,0 +1,164 @@
+package ai.timefold.jpyinterpreter.builtins;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.jpyinterpreter.PythonLikeObject;
+import ai.timefold.jpyinterpreter.types.BuiltinTypes;
+import ai.timefold.jpyinterpreter.types.PythonLikeFunction;
+import ai.timefold.jpyinterpreter.types.PythonString;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeList;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
+import ai.timefold.jpyinterpreter.types.errors.ValueError;
+import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
+import ai.timefold.jpyinterpreter.types.numeric.PythonFloat;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+
+import org.junit.jupiter.api.Test;
+
+class IntrinsicBuiltinsTest {
+
+    private static PythonLikeList<PythonLikeObject> listOf(PythonLikeObject... items) {
+        return new PythonLikeList<>(List.of(items));
+    }
+
+    private static PythonLikeList<PythonLikeObject> intsOf(long... values) {
+        PythonLikeList<PythonLikeObject> out = new PythonLikeList<>();
+        for (long value : values) {
+            out.add(PythonInteger.valueOf(value));
+        }
+        return out;
+    }
+
+    private static final PythonLikeFunction NEGATE = (positional, keywords, instance) -> PythonInteger.valueOf(
+            ((PythonInteger) positional.get(0)).value.negate());
+
+    private static final PythonLikeFunction IDENTITY = (positional, keywords, instance) -> positional.get(0);
+
+    @Test
+    void intrinsicFunctionTypes() {
+        for (String name : List.of("len", "sum", "min", "max", "sorted", "any", "all")) {
+            assertThat(IntrinsicBuiltins.getIntrinsicFunctionType(name)).isPresent();
+        }
+        assertThat(IntrinsicBuiltins.getIntrinsicFunctionType("print")).isEmpty();
+
+        var minType = IntrinsicBuiltins.getIntrinsicFunctionType("min").orElseThrow();
+        assertThat(minType.getFunctionForParameters(1, List.of("key"),
+                List.of(BuiltinTypes.LIST_TYPE, BuiltinTypes.FUNCTION_TYPE))).isPresent();
+        assertThat(minType.getFunctionForParameters(2, List.of(),
+                List.of(BuiltinTypes.INT_TYPE, BuiltinTypes.INT_TYPE))).isPresent();
+        // Three or more positional arguments use the regular builtin
+        assertThat(minType.getFunctionForParameters(3, List.of(),
+                List.of(BuiltinTypes.INT_TYPE, BuiltinTypes.INT_TYPE, BuiltinTypes.INT_TYPE))).isEmpty();
+    }
+
+    @Test
+    void len() {
+        assertThat(IntrinsicBuiltins.len(intsOf(1, 2, 3))).isEqualTo(PythonInteger.valueOf(3));
+        assertThat(IntrinsicBuiltins.len(PythonLikeTuple.fromItems(PythonInteger.ONE))).isEqualTo(PythonInteger.ONE);
+        assertThat(IntrinsicBuiltins.len(PythonString.valueOf("abcd"))).isEqualTo(PythonInteger.valueOf(4));
+    }
+
+    @Test
+    void sum() {
+        assertThat(IntrinsicBuiltins.sum(intsOf(1, 2, 3), PythonInteger.ZERO)).isEqualTo(PythonInteger.valueOf(6));
+        assertThat(IntrinsicBuiltins.sum(intsOf(), PythonInteger.valueOf(5))).isEqualTo(PythonInteger.valueOf(5));
+        // An empty iterable returns start unchanged
+        assertThat(IntrinsicBuiltins.sum(intsOf(), PythonBoolean.TRUE)).isSameAs(PythonBoolean.TRUE);
+        assertThat(IntrinsicBuiltins.sum(intsOf(1), PythonBoolean.TRUE)).isEqualTo(PythonInteger.valueOf(2));
+        assertThat(IntrinsicBuiltins.sum(listOf(PythonBoolean.TRUE, PythonBoolean.TRUE), PythonInteger.ZERO))
+                .isEqualTo(PythonInteger.valueOf(2));
+
+        // Overflowing a long continues with arbitrary precision
+        assertThat(IntrinsicBuiltins.sum(intsOf(Long.MAX_VALUE, Long.MAX_VALUE, 2), PythonInteger.ZERO))
+                .isEqualTo(PythonInteger.valueOf(Long.MAX_VALUE).add(PythonInteger.valueOf(Long.MAX_VALUE))
+                        .add(PythonInteger.valueOf(2)));
+
+        // Ints and floats mix the same way repeated addition does
+        assertThat(IntrinsicBuiltins.sum(listOf(PythonInteger.ONE, PythonFloat.valueOf(0.5), PythonInteger.ONE),
+                PythonInteger.ZERO)).isEqualTo(PythonFloat.valueOf(2.5));
+        assertThat(IntrinsicBuiltins.sum(listOf(PythonFloat.valueOf(0.25)), PythonFloat.valueOf(1.0)))
+                .isEqualTo(PythonFloat.valueOf(1.25));
+
+        // Other types use __add__
+        assertThat(IntrinsicBuiltins.sum(listOf(intsOf(1), intsOf(2)), listOf()))
+                .isEqualTo(intsOf(1, 2));
+    }
+
+    @Test
+    void minAndMax() {
+        assertThat(IntrinsicBuiltins.min(intsOf(3, 1, 2), null, null)).isEqualTo(PythonInteger.ONE);
+        assertThat(IntrinsicBuiltins.max(intsOf(3, 1, 2), null, null)).isEqualTo(PythonInteger.valueOf(3));
+        assertThat(IntrinsicBuiltins.min(intsOf(3, 1, 2), NEGATE, null)).isEqualTo(PythonInteger.valueOf(3));
+        assertThat(IntrinsicBuiltins.max(intsOf(3, 1, 2), NEGATE, null)).isEqualTo(PythonInteger.ONE);
+        assertThat(IntrinsicBuiltins.min(listOf(PythonFloat.valueOf(2.5), PythonFloat.valueOf(-1.0)), null, null))
+                .isEqualTo(PythonFloat.valueOf(-1.0));
+        assertThat(IntrinsicBuiltins.max(listOf(PythonString.valueOf("a"), PythonString.valueOf("c"),
+                PythonString.valueOf("b")), null, null)).isEqualTo(PythonString.valueOf("c"));
+
+        assertThat(IntrinsicBuiltins.min(intsOf(), null, PythonInteger.ZERO)).isEqualTo(PythonInteger.ZERO);
+        assertThatCode(() -> IntrinsicBuiltins.max(intsOf(), null, null)).isInstanceOf(ValueError.class);
+
+        assertThat(IntrinsicBuiltins.minOf(PythonInteger.valueOf(2), PythonInteger.ONE, null)).isEqualTo(PythonInteger.ONE);
+        assertThat(IntrinsicBuiltins.maxOf(PythonInteger.valueOf(2), PythonInteger.ONE, null))
+                .isEqualTo(PythonInteger.valueOf(2));
+        assertThat(IntrinsicBuiltins.minOf(PythonInteger.valueOf(2), PythonInteger.ONE, NEGATE))
+                .isEqualTo(PythonInteger.valueOf(2));
+    }
+
+    @Test
+    void minAndMaxKeepFirstOfEqualItems() {
+        PythonLikeObject first = PythonLikeTuple.fromItems(PythonInteger.ONE);
+        PythonLikeObject second = PythonLikeTuple.fromItems(PythonInteger.ONE);
+        assertThat(IntrinsicBuiltins.min(listOf(first, second), null, null)).isSameAs(first);
+        assertThat(IntrinsicBuiltins.max(listOf(first, second), null, null)).isSameAs(first);
+        assertThat(IntrinsicBuiltins.minOf(first, second, null)).isSameAs(first);
+        assertThat(IntrinsicBuiltins.maxOf(first, second, null)).isSameAs(first);
+    }
+
+    @Test
+    void sorted() {
+        assertThat(IntrinsicBuiltins.sorted(intsOf(3, 1, 2), null, PythonBoolean.FALSE)).isEqualTo(intsOf(1, 2, 3));
+        assertThat(IntrinsicBuiltins.sorted(intsOf(3, 1, 2), null, PythonBoolean.TRUE)).isEqualTo(intsOf(3, 2, 1));
+        assertThat(IntrinsicBuiltins.sorted(intsOf(3, 1, 2), NEGATE, PythonBoolean.FALSE)).isEqualTo(intsOf(3, 2, 1));
+        assertThat(IntrinsicBuiltins.sorted(intsOf(3, 1, 2), NEGATE, PythonBoolean.TRUE)).isEqualTo(intsOf(1, 2, 3));
+
+        // Sorting is stable, even when reversed
+        PythonLikeObject first = PythonLikeTuple.fromItems(PythonInteger.ONE);
+        PythonLikeObject second = PythonLikeTuple.fromItems(PythonInteger.ONE);
+        assertThat(IntrinsicBuiltins.sorted(listOf(first, second), null, PythonBoolean.TRUE).get(0)).isSameAs(first);
+        assertThat(IntrinsicBuiltins.sorted(listOf(first, second), null, PythonBoolean.FALSE).get(0)).isSameAs(first);
+    }
+
+    @Test
+    void sortedWithNaN() {
+        // Enough items for List.sort to detect a comparator that violates its contract
+        PythonLikeList<PythonLikeObject> items = new PythonLikeList<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            items.add(i % 3 == 0 ? PythonFloat.valueOf(Double.NaN) : PythonFloat.valueOf(random.nextInt(100)));
+        }
+
+        for (PythonLikeFunction key : Arrays.asList(null, IDENTITY)) {
+            PythonLikeList<PythonLikeObject> sorted = IntrinsicBuiltins.sorted(items, key, PythonBoolean.FALSE);
+            assertThat(sorted).hasSize(items.size());
+            for (int i = 1; i < sorted.size(); i++) {
+                double previous = ((PythonFloat) sorted.get(i - 1)).value;
+                double current = ((PythonFloat) sorted.get(i)).value;
+                assertThat(Double.compare(previous, current)).isLessThanOrEqualTo(0);
+            }
+        }
+    }
+
+    @Test
+    void anyAndAll() {
+        assertThat(IntrinsicBuiltins.any(intsOf())).isEqualTo(PythonBoolean.FALSE);
+        assertThat(IntrinsicBuiltins.any(intsOf(0, 2))).isEqualTo(PythonBoolean.TRUE);
+        assertThat(IntrinsicBuiltins.all(intsOf())).isEqualTo(PythonBoolean.TRUE);
+        assertThat(IntrinsicBuiltins.all(intsOf(1, 0))).isEqualTo(PythonBoolean.FALSE);
+    }
+}
@@ -16,8 +16,10 @@ import ai.timefold.jpyinterpreter.PythonCompiledFunction;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.CollectionOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.ControlOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.DunderOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.GeneratorOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.StackOpDescriptor;
 import ai.timefold.jpyinterpreter.types.PythonSlice;
+import ai.timefold.jpyinterpreter.types.collections.PythonIterator;
 import ai.timefold.jpyinterpreter.types.collections.PythonLikeList;
 import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
 import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
@@ -69,6 +71,46 @@ public class CollectionImplementorTest {
         assertThat(javaFunction.get()).isEqualTo(6L);
     }
 
+    @Test
+    public void testIterationWithoutPythonIterator() {
+        PythonCompiledFunction generatorFunction = PythonFunctionBuilder.newFunction()
+                .op(GeneratorOpDescriptor.GEN_START)
+                .loadConstant(1)
+                .loadConstant(2)
+                .loadConstant(3)
+                .tuple(3)
+                .op(CollectionOpDescriptor.GET_ITER)
+                .loop(builder -> {
+                    builder.op(GeneratorOpDescriptor.YIELD_VALUE)
+                            .op(StackOpDescriptor.POP_TOP);
+                })
+                .loadConstant(null)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        PythonCompiledFunction sumFunction = PythonFunctionBuilder.newFunction("iterable")
+                .loadConstant(0)
+                .storeVariable("sum")
+                .loadParameter("iterable")
+                .op(CollectionOpDescriptor.GET_ITER)
+                .loop(block -> {
+                    block.loadVariable("sum");
+                    block.op(DunderOpDescriptor.BINARY_ADD);
+                    block.storeVariable("sum");
+                })
+                .loadVariable("sum")
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        Supplier generatorCreator =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(generatorFunction, Supplier.class);
+        Function javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(sumFunction, Function.class);
+
+        assertThat(generatorCreator.get()).isNotInstanceOf(PythonIterator.class);
+        assertThat(javaFunction.apply(generatorCreator.get())).isEqualTo(PythonInteger.valueOf(6));
+    }
+
     @Test
     public void testContains() {
         PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a")
@@ -2,8 +2,11 @@ package ai.timefold.jpyinterpreter.implementors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -21,10 +24,15 @@ import ai.timefold.jpyinterpreter.opcodes.descriptor.StackOpDescriptor;
 import ai.timefold.jpyinterpreter.types.PythonLikeType;
 import ai.timefold.jpyinterpreter.types.PythonNone;
 import ai.timefold.jpyinterpreter.types.PythonString;
+import ai.timefold.jpyinterpreter.types.collections.DelegatePythonIterator;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeDict;
+import ai.timefold.jpyinterpreter.types.errors.AttributeError;
 import ai.timefold.jpyinterpreter.types.errors.PythonAssertionError;
 import ai.timefold.jpyinterpreter.types.errors.PythonException;
 import ai.timefold.jpyinterpreter.types.errors.PythonTraceback;
 import ai.timefold.jpyinterpreter.types.errors.StopIteration;
+import ai.timefold.jpyinterpreter.types.errors.lookup.IndexError;
+import ai.timefold.jpyinterpreter.types.errors.lookup.KeyError;
 import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
 import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 import ai.timefold.jpyinterpreter.util.PythonFunctionBuilder;
@@ -203,6 +211,79 @@ public class ExceptionImplementorTest {
         assertThat(contextManager.getException()).isInstanceOf(PythonAssertionError.class);
     }
 
+    private static boolean hasTranslatedFrame(Throwable throwable) {
+        return Arrays.stream(throwable.getStackTrace())
+                .anyMatch(element -> element.getClassName().startsWith(PythonBytecodeToJavaBytecodeTranslator.USER_PACKAGE_BASE));
+    }
+
+    @Test
+    public void testEscapedLookupErrorHasStackTrace() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("mapping", "key")
+                .loadParameter("mapping")
+                .loadParameter("key")
+                .op(DunderOpDescriptor.BINARY_SUBSCR)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        BiFunction javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, BiFunction.class);
+        Throwable keyError = catchThrowable(() -> javaFunction.apply(new PythonLikeDict(), PythonString.valueOf("key")));
+        assertThat(keyError).isInstanceOf(KeyError.class);
+        assertThat(hasTranslatedFrame(keyError)).isTrue();
+
+        // A KeyError that did not escape a translated function has no stack trace
+        assertThat(new KeyError("key").getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void testEscapedAttributeErrorHasStackTrace() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("item")
+                .loadParameter("item")
+                .getAttribute("missing")
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        Function javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Function.class);
+        Throwable attributeError = catchThrowable(() -> javaFunction.apply(PythonInteger.ONE));
+        assertThat(attributeError).isInstanceOf(AttributeError.class);
+        assertThat(hasTranslatedFrame(attributeError)).isTrue();
+    }
+
+    @Test
+    public void testStackTraceCaptureDoesNotPreemptInlineHandlers() {
+        // UNPACK_SEQUENCE catches any error the iterator raises and counts the values it got so far;
+        // that handler must come before the handler that captures the stack trace of an escaping IndexError
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("iterator")
+                .loadParameter("iterator")
+                .op(CollectionOpDescriptor.UNPACK_SEQUENCE, 2)
+                .op(StackOpDescriptor.POP_TOP)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        Function javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Function.class);
+        Iterator<PythonLikeObject> iterator = new Iterator<>() {
+            boolean hasReturnedItem = false;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public PythonLikeObject next() {
+                if (hasReturnedItem) {
+                    throw new IndexError("index out of range");
+                }
+                hasReturnedItem = true;
+                return PythonInteger.ONE;
+            }
+        };
+        assertThatCode(() -> javaFunction.apply(new DelegatePythonIterator<>(iterator)))
+                .hasMessage("not enough values to unpack (expected 2, got 1)");
+    }
+
     public static class TestContextManager {
         Throwable exception;
         boolean exitCalled;
@@ -2,8 +2,10 @@ package ai.timefold.jpyinterpreter.implementors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -11,15 +13,23 @@ import ai.timefold.jpyinterpreter.CompareOp;
 import ai.timefold.jpyinterpreter.MyObject;
 import ai.timefold.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
 import ai.timefold.jpyinterpreter.PythonCompiledFunction;
+import ai.timefold.jpyinterpreter.PythonLikeObject;
+import ai.timefold.jpyinterpreter.PythonVersion;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.CollectionOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.ControlOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.DunderOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.FunctionOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.MetaOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.StackOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.VariableOpDescriptor;
+import ai.timefold.jpyinterpreter.types.PythonCell;
 import ai.timefold.jpyinterpreter.types.PythonCode;
 import ai.timefold.jpyinterpreter.types.PythonLikeFunction;
 import ai.timefold.jpyinterpreter.types.PythonString;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeList;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
+import ai.timefold.jpyinterpreter.types.numeric.PythonFloat;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 import ai.timefold.jpyinterpreter.types.wrappers.JavaMethodReference;
 import ai.timefold.jpyinterpreter.util.PythonFunctionBuilder;
 
@@ -325,4 +335,204 @@ public class FunctionImplementorTest {
 
         PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(dirFunction, Function.class);
     }
+
+    @Test
+    public void testCallIntrinsicBuiltin() {
+        // def f(items, key): return min(items, key=key)
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        // The module was already searched for min, and has no global with that name
+        globalsMap.put("min", null);
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("items", "key")
+                .usingGlobalsMap(globalsMap)
+                .loadGlobalVariable("min")
+                .loadParameter("items")
+                .loadParameter("key")
+                .op(FunctionOpDescriptor.KW_NAMES, 0)
+                .op(MetaOpDescriptor.PRECALL, 2)
+                .op(FunctionOpDescriptor.CALL, 2)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+        pythonCompiledFunction.pythonVersion = PythonVersion.PYTHON_3_11;
+        pythonCompiledFunction.co_constants.add(PythonLikeTuple.fromItems(PythonString.valueOf("key")));
+        // In Python 3.11, the low bit of LOAD_GLOBAL's argument means push NULL before the global
+        pythonCompiledFunction.instructionList.set(0, pythonCompiledFunction.instructionList.get(0)
+                .withArg((pythonCompiledFunction.co_names.indexOf("min") << 1) | 1));
+
+        BiFunction javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, BiFunction.class);
+        PythonLikeList<PythonInteger> items =
+                new PythonLikeList<>(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(3), PythonInteger.valueOf(2)));
+        PythonLikeFunction negate = (positional, keywords, instance) -> ((PythonInteger) positional.get(0)).negative();
+
+        assertThat(javaFunction.apply(items, negate)).isEqualTo(3);
+
+        // A module global bound after translation shadows the builtin, and only gets the arguments the call passed
+        globalsMap.put("min", (PythonLikeFunction) (positional, keywords, instance) -> PythonString.valueOf(
+                positional.size() + " " + keywords.keySet()));
+        assertThat(javaFunction.apply(items, negate)).isEqualTo("1 [key]");
+
+        globalsMap.put("min", null);
+        assertThat(javaFunction.apply(items, negate)).isEqualTo(3);
+    }
+
+    @Test
+    public void testCallTranslatedFunctionDirectly() throws NoSuchMethodException {
+        // def add(a, b): return a + b
+        PythonCompiledFunction helperFunction = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .op(DunderOpDescriptor.BINARY_ADD)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+        PythonLikeFunction helper =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(helperFunction, PythonLikeFunction.class);
+        assertThat(helper.getClass().getMethod(PythonBytecodeToJavaBytecodeTranslator.DIRECT_CALL_METHOD_NAME,
+                PythonLikeObject.class, PythonLikeObject.class)).isNotNull();
+
+        // def f(x, y): return add(x, y)
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        globalsMap.put("add", helper);
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("x", "y")
+                .usingGlobalsMap(globalsMap)
+                .loadGlobalVariable("add")
+                .loadParameter("x")
+                .loadParameter("y")
+                .op(MetaOpDescriptor.PRECALL, 2)
+                .op(FunctionOpDescriptor.CALL, 2)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+        pythonCompiledFunction.pythonVersion = PythonVersion.PYTHON_3_11;
+        pythonCompiledFunction.instructionList.set(0, pythonCompiledFunction.instructionList.get(0)
+                .withArg((pythonCompiledFunction.co_names.indexOf("add") << 1) | 1));
+
+        BiFunction javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, BiFunction.class);
+        assertThat(javaFunction.apply(1, 2)).isEqualTo(3);
+
+        // Rebinding the global after translation calls the new binding
+        globalsMap.put("add", (PythonLikeFunction) (positional, keywords, instance) -> PythonString.valueOf(
+                "rebound " + positional.size()));
+        assertThat(javaFunction.apply(1, 2)).isEqualTo("rebound 2");
+
+        globalsMap.put("add", helper);
+        assertThat(javaFunction.apply(1, 2)).isEqualTo(3);
+    }
+
+    @Test
+    public void testCallTranslatedFunctionDirectlyBefore311() {
+        // def add(a, b=10): return a + b
+        PythonCompiledFunction helperFunction = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .op(DunderOpDescriptor.BINARY_ADD)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+        helperFunction.defaultPositionalArguments = PythonLikeTuple.fromItems(PythonInteger.valueOf(10));
+        PythonLikeFunction helper =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(helperFunction, PythonLikeFunction.class);
+
+        // def f(x, y): return add(x, y) + add(x)
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        globalsMap.put("add", helper);
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("x", "y")
+                .usingGlobalsMap(globalsMap)
+                .loadGlobalVariable("add")
+                .loadParameter("x")
+                .loadParameter("y")
+                .callFunction(2)
+                .loadGlobalVariable("add")
+                .loadParameter("x")
+                .callFunction(1)
+                .op(DunderOpDescriptor.BINARY_ADD)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        BiFunction javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, BiFunction.class);
+        assertThat(javaFunction.apply(1, 2)).isEqualTo(14);
+    }
+
+    private static PythonLikeTuple closureOf(PythonLikeObject value) {
+        PythonCell cell = new PythonCell();
+        cell.cellValue = value;
+        return PythonLikeTuple.fromItems(cell);
+    }
+
+    @Test
+    public void testTranslatedFunctionsWithEqualClosuresAreEqual() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("value")
+                .loadParameter("value")
+                .loadFreeVariable("offset")
+                .op(DunderOpDescriptor.BINARY_ADD)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        assertThat(PythonBytecodeToJavaBytecodeTranslator.canRebindClosure(pythonCompiledFunction)).isFalse();
+        Class<Function> functionClass =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(pythonCompiledFunction, Function.class);
+
+        pythonCompiledFunction.closure = closureOf(PythonInteger.valueOf(1));
+        Function addOne = PythonBytecodeToJavaBytecodeTranslator.createInstance(functionClass, pythonCompiledFunction);
+        pythonCompiledFunction.closure = closureOf(PythonInteger.valueOf(1));
+        Function otherAddOne = PythonBytecodeToJavaBytecodeTranslator.createInstance(functionClass, pythonCompiledFunction);
+        pythonCompiledFunction.closure = closureOf(PythonInteger.valueOf(2));
+        Function addTwo = PythonBytecodeToJavaBytecodeTranslator.createInstance(functionClass, pythonCompiledFunction);
+        pythonCompiledFunction.closure = closureOf(new PythonLikeList());
+        Function withList = PythonBytecodeToJavaBytecodeTranslator.createInstance(functionClass, pythonCompiledFunction);
+        pythonCompiledFunction.closure = closureOf(new PythonLikeList());
+        Function withOtherList = PythonBytecodeToJavaBytecodeTranslator.createInstance(functionClass, pythonCompiledFunction);
+        pythonCompiledFunction.closure = closureOf(PythonFloat.valueOf(0.0));
+        Function addZero = PythonBytecodeToJavaBytecodeTranslator.createInstance(functionClass, pythonCompiledFunction);
+        pythonCompiledFunction.closure = closureOf(PythonFloat.valueOf(-0.0));
+        Function addNegativeZero = PythonBytecodeToJavaBytecodeTranslator.createInstance(functionClass, pythonCompiledFunction);
+        pythonCompiledFunction.closure = closureOf(PythonFloat.valueOf(Double.NaN));
+        Function addNaN = PythonBytecodeToJavaBytecodeTranslator.createInstance(functionClass, pythonCompiledFunction);
+        pythonCompiledFunction.closure = closureOf(PythonFloat.valueOf(Double.NaN));
+        Function otherAddNaN = PythonBytecodeToJavaBytecodeTranslator.createInstance(functionClass, pythonCompiledFunction);
+
+        assertThat(addOne.apply(PythonInteger.valueOf(1))).isEqualTo(PythonInteger.valueOf(2));
+        assertThat(addTwo.apply(PythonInteger.valueOf(1))).isEqualTo(PythonInteger.valueOf(3));
+
+        assertThat(addOne).isEqualTo(otherAddOne)
+                .hasSameHashCodeAs(otherAddOne)
+                .isNotEqualTo(addTwo);
+
+        // Mutable values are compared by identity
+        assertThat(withList).isEqualTo(withList)
+                .isNotEqualTo(withOtherList);
+
+        // Floats are compared by their bits
+        assertThat(addZero).isNotEqualTo(addNegativeZero);
+        assertThat(addNaN).isEqualTo(otherAddNaN)
+                .hasSameHashCodeAs(otherAddNaN);
+    }
+
+    @Test
+    public void testTranslatedFunctionsThatRebindTheirClosureAreComparedByIdentity() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("value")
+                .loadFreeVariable("total")
+                .loadParameter("value")
+                .op(DunderOpDescriptor.BINARY_ADD)
+                .storeFreeVariable("total")
+                .loadFreeVariable("total")
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        assertThat(PythonBytecodeToJavaBytecodeTranslator.canRebindClosure(pythonCompiledFunction)).isTrue();
+        Class<Function> functionClass =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(pythonCompiledFunction, Function.class);
+
+        pythonCompiledFunction.closure = closureOf(PythonInteger.valueOf(0));
+        Function accumulator = PythonBytecodeToJavaBytecodeTranslator.createInstance(functionClass, pythonCompiledFunction);
+        pythonCompiledFunction.closure = closureOf(PythonInteger.valueOf(0));
+        Function otherAccumulator =
+                PythonBytecodeToJavaBytecodeTranslator.createInstance(functionClass, pythonCompiledFunction);
+
+        // Equal now, but would diverge once either is called
+        assertThat(accumulator).isEqualTo(accumulator)
+                .isNotEqualTo(otherAccumulator);
+        int hashCode = accumulator.hashCode();
+        assertThat(accumulator.apply(PythonInteger.valueOf(2))).isEqualTo(PythonInteger.valueOf(2));
+        assertThat(accumulator.hashCode()).isEqualTo(hashCode);
+    }
 }
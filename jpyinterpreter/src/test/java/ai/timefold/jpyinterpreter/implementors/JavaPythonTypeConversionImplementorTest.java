@@ -6,11 +6,13 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Predicate;
 
 import ai.timefold.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
 import ai.timefold.jpyinterpreter.PythonCompiledFunction;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.ControlOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.DunderOpDescriptor;
 import ai.timefold.jpyinterpreter.util.PythonFunctionBuilder;
 
 import org.junit.jupiter.api.Test;
@@ -87,4 +89,27 @@ public class JavaPythonTypeConversionImplementorTest {
 
         assertThatCode(() -> javaFunction.accept(null)).doesNotThrowAnyException();
     }
+
+    @Test
+    public void testReturnPrimitiveFromIntArithmetic() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a")
+                .loadParameter("a")
+                .loadConstant(3)
+                .op(DunderOpDescriptor.BINARY_MULTIPLY)
+                .loadConstant(1)
+                .op(DunderOpDescriptor.BINARY_SUBTRACT)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        LongToIntFunction intFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, LongToIntFunction.class);
+        assertThat(intFunction.applyAsInt(5L)).isEqualTo(14);
+        assertThat(intFunction.applyAsInt(-5L)).isEqualTo(-16);
+
+        LongUnaryOperator longFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, LongUnaryOperator.class);
+        assertThat(longFunction.applyAsLong(1L << 40)).isEqualTo(3L * (1L << 40) - 1);
+        // Past the range where the multiplication is done on longs
+        assertThat(longFunction.applyAsLong(1L << 61)).isEqualTo(3L * (1L << 61) - 1);
+    }
 }
@@ -35,7 +35,8 @@ public class ObjectImplementorTest {
         assertThat(javaFunction.get()).isEqualTo(PythonBoolean.TRUE);
 
         pythonCompiledFunction = PythonFunctionBuilder.newFunction()
-                .loadConstant(5)
+                // Outside the small int cache, so the sum is a different object
+                .loadConstant(1000)
                 .op(StackOpDescriptor.DUP_TOP)
                 .loadConstant(0)
                 .op(DunderOpDescriptor.BINARY_ADD)
@@ -58,7 +59,7 @@ public class ObjectImplementorTest {
         assertThat(javaFunction.get()).isEqualTo(PythonBoolean.FALSE);
 
         pythonCompiledFunction = PythonFunctionBuilder.newFunction()
-                .loadConstant(5)
+                .loadConstant(1000)
                 .op(StackOpDescriptor.DUP_TOP)
                 .loadConstant(0)
                 .op(DunderOpDescriptor.BINARY_ADD)
@@ -1,17 +1,34 @@
 package ai.timefold.jpyinterpreter.implementors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import ai.timefold.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
 import ai.timefold.jpyinterpreter.PythonCompiledFunction;
 import ai.timefold.jpyinterpreter.PythonInterpreter;
 import ai.timefold.jpyinterpreter.PythonLikeObject;
+import ai.timefold.jpyinterpreter.builtins.GlobalBuiltins;
+import ai.timefold.jpyinterpreter.builtins.UnaryDunderBuiltin;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.CollectionOpDescriptor;
 import ai.timefold.jpyinterpreter.opcodes.descriptor.ControlOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.DunderOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.StackOpDescriptor;
+import ai.timefold.jpyinterpreter.types.BuiltinTypes;
+import ai.timefold.jpyinterpreter.types.PythonLikeFunction;
 import ai.timefold.jpyinterpreter.types.PythonString;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
+import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
+import ai.timefold.jpyinterpreter.types.numeric.PythonFloat;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 import ai.timefold.jpyinterpreter.util.PythonFunctionBuilder;
 
 import org.junit.jupiter.api.Test;
@@ -62,4 +79,254 @@ public class VariableImplementorTest {
                 Mockito.eq(PythonString.valueOf("Value 2")));
         assertThat(getter.get()).isEqualTo(PythonString.valueOf("Value 2"));
     }
+
+    @Test
+    public void testBuiltinGlobalVariables() {
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        PythonCompiledFunction getterCompiledFunction = PythonFunctionBuilder.newFunction()
+                .usingGlobalsMap(globalsMap)
+                .loadGlobalVariable("len")
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        PythonInterpreter interpreter = mockModuleInterpreter(new HashMap<>());
+        Class<? extends Supplier> getterFunctionClass =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(getterCompiledFunction, Supplier.class);
+        Supplier getter = PythonBytecodeToJavaBytecodeTranslator.createInstance(getterFunctionClass, interpreter);
+
+        // The module is asked for the name once; after that, the builtin resolved at translation time is used
+        assertThat(getter.get()).isSameAs(UnaryDunderBuiltin.LENGTH);
+        assertThat(getter.get()).isSameAs(UnaryDunderBuiltin.LENGTH);
+        Mockito.verify(interpreter, Mockito.times(1)).getGlobal(Mockito.any(), Mockito.eq("len"));
+
+        // A module global with the same name shadows the builtin
+        globalsMap.put("len", PythonString.valueOf("shadowed"));
+        assertThat(getter.get()).isEqualTo(PythonString.valueOf("shadowed"));
+
+        globalsMap.remove("len");
+        assertThat(getter.get()).isSameAs(UnaryDunderBuiltin.LENGTH);
+    }
+
+    @Test
+    public void testBuiltinGlobalVariableShadowedAfterTranslation() {
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        PythonCompiledFunction getterCompiledFunction = PythonFunctionBuilder.newFunction()
+                .usingGlobalsMap(globalsMap)
+                .loadGlobalVariable("len")
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        Map<String, PythonLikeObject> moduleGlobals = new HashMap<>();
+        PythonInterpreter interpreter = mockModuleInterpreter(moduleGlobals);
+        Class<? extends Supplier> getterFunctionClass =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(getterCompiledFunction, Supplier.class);
+        Supplier getter = PythonBytecodeToJavaBytecodeTranslator.createInstance(getterFunctionClass, interpreter);
+
+        // The module defines len after the function was translated, but before it is first called
+        moduleGlobals.put("len", PythonString.valueOf("shadowed"));
+        assertThat(getter.get()).isEqualTo(PythonString.valueOf("shadowed"));
+        assertThat(getter.get()).isEqualTo(PythonString.valueOf("shadowed"));
+        Mockito.verify(interpreter, Mockito.times(1)).getGlobal(Mockito.any(), Mockito.eq("len"));
+    }
+
+    /**
+     * Creates an interpreter that looks globals missing from the globals map up in {@code moduleGlobals},
+     * and caches the result in the globals map, like {@link ai.timefold.jpyinterpreter.CPythonBackedPythonInterpreter}.
+     */
+    private static PythonInterpreter mockModuleInterpreter(Map<String, PythonLikeObject> moduleGlobals) {
+        PythonInterpreter interpreter = Mockito.mock(PythonInterpreter.class);
+        Mockito.when(interpreter.getGlobal(Mockito.any(), Mockito.any())).thenAnswer(invocationOnMock -> {
+            Map<String, PythonLikeObject> globalsMap = invocationOnMock.getArgument(0);
+            String name = invocationOnMock.getArgument(1);
+            if (!globalsMap.containsKey(name)) {
+                globalsMap.put(name, moduleGlobals.get(name));
+            }
+            PythonLikeObject out = globalsMap.get(name);
+            return (out != null) ? out : GlobalBuiltins.lookupOrError(interpreter, name);
+        });
+        return interpreter;
+    }
+
+    @Test
+    public void testFloatLocalVariables() {
+        // total = 0.0
+        // for item in (1, 2, 3):
+        //     step = 0.5
+        //     total = total + step
+        // return total
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction()
+                .loadConstant(0.0)
+                .storeVariable("total")
+                .loadConstant(1)
+                .loadConstant(2)
+                .loadConstant(3)
+                .tuple(3)
+                .op(CollectionOpDescriptor.GET_ITER)
+                .loop(block -> {
+                    block.op(StackOpDescriptor.POP_TOP);
+                    block.loadConstant(0.5);
+                    block.storeVariable("step");
+                    block.loadVariable("total");
+                    block.loadVariable("step");
+                    block.op(DunderOpDescriptor.BINARY_ADD);
+                    block.storeVariable("total");
+                })
+                .loadVariable("total")
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        Supplier javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Supplier.class);
+        assertThat(javaFunction.get()).isEqualTo(1.5d);
+    }
+
+    @Test
+    public void testFloatLocalVariableUnboundOnSomePath() {
+        // if flag:
+        //     x = 1.5
+        // return x + 1.0
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("flag")
+                .loadParameter("flag")
+                .ifTrue(block -> {
+                    block.loadConstant(1.5);
+                    block.storeVariable("x");
+                })
+                .loadVariable("x")
+                .loadConstant(1.0)
+                .op(DunderOpDescriptor.BINARY_ADD)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        Function javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Function.class);
+        assertThat(javaFunction.apply(PythonBoolean.TRUE)).isEqualTo(2.5d);
+        // x is unset when flag is false, so it must not read as an unboxed 0.0
+        assertThatThrownBy(() -> javaFunction.apply(PythonBoolean.FALSE));
+    }
+
+    @Test
+    public void testLocalVariableChangingFromIntToFloat() {
+        // total = 0
+        // for item in (1, 2):
+        //     total = total + 0.5
+        // return total
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction()
+                .loadConstant(0)
+                .storeVariable("total")
+                .loadConstant(1)
+                .loadConstant(2)
+                .tuple(2)
+                .op(CollectionOpDescriptor.GET_ITER)
+                .loop(block -> {
+                    block.op(StackOpDescriptor.POP_TOP);
+                    block.loadVariable("total");
+                    block.loadConstant(0.5);
+                    block.op(DunderOpDescriptor.BINARY_ADD);
+                    block.storeVariable("total");
+                })
+                .loadVariable("total")
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        Supplier javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Supplier.class);
+        assertThat(javaFunction.get()).isEqualTo(1.0d);
+    }
+
+    private static PythonCompiledFunction sumOfSquaresInRange(Map<String, PythonLikeObject> globalsMap) {
+        // total = 0
+        // last = 0
+        // for i in range(start, stop):
+        //     total = total + i * i
+        //     last = i
+        // return total + last
+        return PythonFunctionBuilder.newFunction("start", "stop")
+                .usingGlobalsMap(globalsMap)
+                .loadConstant(0)
+                .storeVariable("total")
+                .loadConstant(0)
+                .storeVariable("last")
+                .loadGlobalVariable("range")
+                .loadParameter("start")
+                .loadParameter("stop")
+                .callFunction(2)
+                .op(CollectionOpDescriptor.GET_ITER)
+                .loop(block -> {
+                    block.storeVariable("i");
+                    block.loadVariable("total");
+                    block.loadVariable("i");
+                    block.loadVariable("i");
+                    block.op(DunderOpDescriptor.BINARY_MULTIPLY);
+                    block.op(DunderOpDescriptor.BINARY_ADD);
+                    block.storeVariable("total");
+                    block.loadVariable("i");
+                    block.storeVariable("last");
+                })
+                .loadVariable("total")
+                .loadVariable("last")
+                .op(DunderOpDescriptor.BINARY_ADD)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+    }
+
+    @Test
+    public void testCountedLoopVariable() {
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        globalsMap.put("range", BuiltinTypes.RANGE_TYPE);
+        BiFunction javaFunction = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(
+                sumOfSquaresInRange(globalsMap), BiFunction.class);
+
+        assertThat(javaFunction.apply(PythonInteger.valueOf(0), PythonInteger.valueOf(4)))
+                .isEqualTo(PythonInteger.valueOf(0 + 1 + 4 + 9 + 3));
+        assertThat(javaFunction.apply(PythonInteger.valueOf(1000), PythonInteger.valueOf(1002)))
+                .isEqualTo(PythonInteger.valueOf(1000 * 1000 + 1001 * 1001 + 1001));
+
+        // Ranges that do not fit in a long are iterated with boxed ints
+        BigInteger start = BigInteger.valueOf(Long.MAX_VALUE);
+        PythonInteger stop = PythonInteger.valueOf(start.add(BigInteger.TWO));
+        assertThat(javaFunction.apply(PythonInteger.valueOf(start), stop))
+                .isEqualTo(PythonInteger.valueOf(start.multiply(start)
+                        .add(start.add(BigInteger.ONE).multiply(start.add(BigInteger.ONE)))
+                        .add(start.add(BigInteger.ONE))));
+    }
+
+    @Test
+    public void testCountedLoopVariableUnboundAfterEmptyLoop() {
+        // for i in range(stop):
+        //     pass
+        // return i + 1
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        globalsMap.put("range", BuiltinTypes.RANGE_TYPE);
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("stop")
+                .usingGlobalsMap(globalsMap)
+                .loadGlobalVariable("range")
+                .loadParameter("stop")
+                .callFunction(1)
+                .op(CollectionOpDescriptor.GET_ITER)
+                .loop(block -> block.storeVariable("i"))
+                .loadVariable("i")
+                .loadConstant(1)
+                .op(DunderOpDescriptor.BINARY_ADD)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+        Function javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Function.class);
+
+        assertThat(javaFunction.apply(PythonInteger.valueOf(3))).isEqualTo(PythonInteger.valueOf(3));
+        // i is unset when the range is empty, so it must not read as an unboxed 0
+        assertThatThrownBy(() -> javaFunction.apply(PythonInteger.valueOf(0)));
+    }
+
+    @Test
+    public void testCountedLoopVariableWithShadowedRange() {
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        // The module defines its own range, which returns a tuple
+        globalsMap.put("range", (PythonLikeFunction) (positional, keywords, instance) -> PythonLikeTuple
+                .fromItems(PythonInteger.valueOf(5), PythonFloat.valueOf(0.5)));
+        BiFunction javaFunction = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(
+                sumOfSquaresInRange(globalsMap), BiFunction.class);
+
+        assertThat(javaFunction.apply(PythonInteger.valueOf(0), PythonInteger.valueOf(4)))
+                .isEqualTo(PythonFloat.valueOf(25 + 0.25 + 0.5));
+    }
 }
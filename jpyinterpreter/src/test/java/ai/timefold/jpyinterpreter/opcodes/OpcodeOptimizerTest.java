@@ -0,0 +1,245 @@
+package ai.timefold.jpyinterpreter.opcodes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.jpyinterpreter.InterpreterStartupOptions;
+import ai.timefold.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
+import ai.timefold.jpyinterpreter.PythonCompiledFunction;
+import ai.timefold.jpyinterpreter.PythonLikeObject;
+import ai.timefold.jpyinterpreter.opcodes.controlflow.JumpAbsoluteOpcode;
+import ai.timefold.jpyinterpreter.opcodes.controlflow.PopJumpIfFalseOpcode;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.ControlOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.DunderOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.ExceptionOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.descriptor.StackOpDescriptor;
+import ai.timefold.jpyinterpreter.opcodes.dunder.BinaryDunderOpcode;
+import ai.timefold.jpyinterpreter.opcodes.meta.NopOpcode;
+import ai.timefold.jpyinterpreter.opcodes.variable.LoadFoldedConstantOpcode;
+import ai.timefold.jpyinterpreter.types.errors.PythonAssertionError;
+import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+import ai.timefold.jpyinterpreter.util.PythonFunctionBuilder;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class OpcodeOptimizerTest {
+
+    private static PythonCompiledFunction getMinutesFunction(Map<String, PythonLikeObject> globalsMap,
+            String globalName) {
+        // return (GLOBAL * 60) + 1
+        return PythonFunctionBuilder.newFunction()
+                .usingGlobalsMap(globalsMap)
+                .loadGlobalVariable(globalName)
+                .loadConstant(60)
+                .op(DunderOpDescriptor.BINARY_MULTIPLY)
+                .loadConstant(1)
+                .op(DunderOpDescriptor.BINARY_ADD)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+    }
+
+    @Test
+    public void testFoldConstantGlobal() {
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        globalsMap.put("MAX_HOURS", PythonInteger.valueOf(8));
+        PythonCompiledFunction pythonCompiledFunction = getMinutesFunction(globalsMap, "MAX_HOURS");
+
+        InterpreterStartupOptions.freezeConstantGlobals = true;
+        try {
+            var opcodeList = PythonBytecodeToJavaBytecodeTranslator.getOpcodeList(pythonCompiledFunction);
+            assertThat(opcodeList.subList(0, 4)).allMatch(opcode -> opcode instanceof NopOpcode);
+            assertThat(opcodeList.get(4)).isInstanceOf(LoadFoldedConstantOpcode.class);
+            assertThat(((LoadFoldedConstantOpcode) opcodeList.get(4)).getConstant()).isEqualTo(PythonInteger.valueOf(481));
+
+            Supplier javaFunction =
+                    PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Supplier.class);
+            assertThat(javaFunction.get()).isEqualTo(481L);
+        } finally {
+            InterpreterStartupOptions.freezeConstantGlobals = false;
+        }
+    }
+
+    @Test
+    public void testDoNotFoldGlobalReboundByOtherFunction() {
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        globalsMap.put("MAX_HOURS", PythonInteger.valueOf(8));
+        PythonCompiledFunction getterCompiledFunction = getMinutesFunction(globalsMap, "MAX_HOURS");
+
+        // def set_max_hours(value):
+        //     global MAX_HOURS
+        //     MAX_HOURS = value
+        PythonCompiledFunction setterCompiledFunction = PythonFunctionBuilder.newFunction("value")
+                .usingGlobalsMap(globalsMap)
+                .loadParameter("value")
+                .storeGlobalVariable("MAX_HOURS")
+                .loadConstant(null)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        var opcodeList = PythonBytecodeToJavaBytecodeTranslator.getOpcodeList(getterCompiledFunction);
+        assertThat(opcodeList).noneMatch(opcode -> opcode instanceof LoadFoldedConstantOpcode);
+
+        Supplier getter =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(getterCompiledFunction, Supplier.class);
+        Function setter =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(setterCompiledFunction, Function.class);
+        assertThat(getter.get()).isEqualTo(481L);
+
+        setter.apply(PythonInteger.valueOf(9));
+        assertThat(getter.get()).isEqualTo(541L);
+    }
+
+    @Test
+    public void testDoNotFoldNonConstantGlobal() {
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        globalsMap.put("max_hours", PythonInteger.valueOf(8));
+        PythonCompiledFunction pythonCompiledFunction = getMinutesFunction(globalsMap, "max_hours");
+
+        var opcodeList = PythonBytecodeToJavaBytecodeTranslator.getOpcodeList(pythonCompiledFunction);
+        assertThat(opcodeList).noneMatch(opcode -> opcode instanceof LoadFoldedConstantOpcode);
+    }
+
+    @Test
+    public void testDoNotFoldGlobalAssignedByFunction() {
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        globalsMap.put("COUNTER", PythonInteger.valueOf(8));
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction()
+                .usingGlobalsMap(globalsMap)
+                .loadGlobalVariable("COUNTER")
+                .loadConstant(1)
+                .op(DunderOpDescriptor.BINARY_ADD)
+                .storeGlobalVariable("COUNTER")
+                .loadConstant(null)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        var opcodeList = PythonBytecodeToJavaBytecodeTranslator.getOpcodeList(pythonCompiledFunction);
+        assertThat(opcodeList).noneMatch(opcode -> opcode instanceof LoadFoldedConstantOpcode);
+    }
+
+    @Test
+    public void testDoNotFoldRaisingOperation() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction()
+                .loadConstant(1)
+                .loadConstant(0)
+                .op(DunderOpDescriptor.BINARY_TRUE_DIVIDE)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        var opcodeList = PythonBytecodeToJavaBytecodeTranslator.getOpcodeList(pythonCompiledFunction);
+        assertThat(opcodeList.get(2)).isInstanceOf(BinaryDunderOpcode.class);
+    }
+
+    @Test
+    public void testPruneBranchOnConstantGlobal() {
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        // if DEBUG:
+        //     return 'debug'
+        // return 'release'
+        PythonFunctionBuilder functionBuilder = PythonFunctionBuilder.newFunction()
+                .usingGlobalsMap(globalsMap)
+                .loadGlobalVariable("DEBUG")
+                .ifTrue(block -> {
+                    block.loadConstant("debug");
+                    block.op(ControlOpDescriptor.RETURN_VALUE);
+                })
+                .loadConstant("release")
+                .op(ControlOpDescriptor.RETURN_VALUE);
+
+        InterpreterStartupOptions.freezeConstantGlobals = true;
+        try {
+            assertPrunedBranchOnConstantGlobal(globalsMap, functionBuilder);
+        } finally {
+            InterpreterStartupOptions.freezeConstantGlobals = false;
+        }
+    }
+
+    private static void assertPrunedBranchOnConstantGlobal(Map<String, PythonLikeObject> globalsMap,
+            PythonFunctionBuilder functionBuilder) {
+        globalsMap.put("DEBUG", PythonBoolean.FALSE);
+        PythonCompiledFunction pythonCompiledFunction = functionBuilder.build();
+        var opcodeList = PythonBytecodeToJavaBytecodeTranslator.getOpcodeList(pythonCompiledFunction);
+        assertThat(opcodeList.get(0)).isInstanceOf(NopOpcode.class);
+        assertThat(opcodeList.get(1)).isInstanceOf(JumpAbsoluteOpcode.class);
+
+        Supplier javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Supplier.class);
+        assertThat(javaFunction.get()).isEqualTo("release");
+
+        globalsMap.put("DEBUG", PythonBoolean.TRUE);
+        pythonCompiledFunction = functionBuilder.build();
+        opcodeList = PythonBytecodeToJavaBytecodeTranslator.getOpcodeList(pythonCompiledFunction);
+        assertThat(opcodeList.subList(0, 2)).allMatch(opcode -> opcode instanceof NopOpcode);
+
+        javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Supplier.class);
+        assertThat(javaFunction.get()).isEqualTo("debug");
+    }
+
+    @Test
+    public void testDoNotPruneBranchInBlockSetUpByOpcode() {
+        // try:
+        //     if False:
+        //         return 'unreachable'
+        //     raise AssertionError
+        // except AssertionError:
+        //     return 'assert'
+        // (Before Python 3.11, the try block is set up by SETUP_FINALLY instead of the exception table)
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction()
+                .tryCode(code -> {
+                    code.loadConstant(false)
+                            .ifTrue(block -> {
+                                block.loadConstant("unreachable").op(ControlOpDescriptor.RETURN_VALUE);
+                            })
+                            .op(ExceptionOpDescriptor.LOAD_ASSERTION_ERROR)
+                            .op(ExceptionOpDescriptor.RAISE_VARARGS, 1);
+                }, true)
+                .except(PythonAssertionError.ASSERTION_ERROR_TYPE, except -> {
+                    except.loadConstant("assert").op(ControlOpDescriptor.RETURN_VALUE);
+                }, true)
+                .tryEnd()
+                .build();
+
+        var opcodeList = PythonBytecodeToJavaBytecodeTranslator.getOpcodeList(pythonCompiledFunction);
+        assertThat(opcodeList).anyMatch(opcode -> opcode instanceof PopJumpIfFalseOpcode);
+
+        Supplier javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Supplier.class);
+        assertThat(javaFunction.get()).isEqualTo("assert");
+    }
+
+    @Test
+    public void testRemoveDiscardedDuplicate() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("value")
+                .loadParameter("value")
+                .op(StackOpDescriptor.DUP_TOP)
+                .op(StackOpDescriptor.POP_TOP)
+                .op(ControlOpDescriptor.RETURN_VALUE)
+                .build();
+
+        var opcodeList = PythonBytecodeToJavaBytecodeTranslator.getOpcodeList(pythonCompiledFunction);
+        assertThat(opcodeList.subList(1, 3)).allMatch(opcode -> opcode instanceof NopOpcode);
+    }
+
+    @Test
+    public void testDisabled() {
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        globalsMap.put("MAX_HOURS", PythonInteger.valueOf(8));
+        PythonCompiledFunction pythonCompiledFunction = getMinutesFunction(globalsMap, "MAX_HOURS");
+
+        InterpreterStartupOptions.optimizeBytecode = false;
+        try {
+            var opcodeList = PythonBytecodeToJavaBytecodeTranslator.getOpcodeList(pythonCompiledFunction);
+            assertThat(opcodeList).noneMatch(opcode -> opcode instanceof LoadFoldedConstantOpcode);
+            assertThat(opcodeList).noneMatch(opcode -> opcode instanceof NopOpcode);
+        } finally {
+            InterpreterStartupOptions.optimizeBytecode = true;
+        }
+    }
+}
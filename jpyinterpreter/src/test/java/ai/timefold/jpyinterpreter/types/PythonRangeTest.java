@@ -0,0 +1,77 @@
+package ai.timefold.jpyinterpreter.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+
+import org.junit.jupiter.api.Test;
+
+class PythonRangeTest {
+
+    // Ranges whose values fit in a long are iterated with long arithmetic;
+    // these tests check the results match BigInteger arithmetic, including near the long bounds
+
+    private static List<PythonInteger> iterate(PythonRange range) {
+        List<PythonInteger> out = new ArrayList<>();
+        range.iterator().forEachRemaining(out::add);
+        return out;
+    }
+
+    private static PythonRange range(BigInteger start, BigInteger stop, BigInteger step) {
+        return new PythonRange(PythonInteger.valueOf(start), PythonInteger.valueOf(stop), PythonInteger.valueOf(step));
+    }
+
+    @Test
+    void iterateLongRange() {
+        assertThat(iterate(new PythonRange(PythonInteger.valueOf(0), PythonInteger.valueOf(5), PythonInteger.ONE)))
+                .containsExactly(PythonInteger.valueOf(0), PythonInteger.valueOf(1), PythonInteger.valueOf(2),
+                        PythonInteger.valueOf(3), PythonInteger.valueOf(4));
+        assertThat(iterate(new PythonRange(PythonInteger.valueOf(5), PythonInteger.valueOf(-1),
+                PythonInteger.valueOf(-2))))
+                .containsExactly(PythonInteger.valueOf(5), PythonInteger.valueOf(3), PythonInteger.valueOf(1));
+        assertThat(iterate(new PythonRange(PythonInteger.valueOf(5), PythonInteger.valueOf(5), PythonInteger.ONE)))
+                .isEmpty();
+    }
+
+    @Test
+    void iterateRangeNearLongBounds() {
+        var max = BigInteger.valueOf(Long.MAX_VALUE);
+        assertThat(iterate(range(max.subtract(BigInteger.TWO), max, BigInteger.ONE)))
+                .containsExactly(PythonInteger.valueOf(max.subtract(BigInteger.TWO)),
+                        PythonInteger.valueOf(max.subtract(BigInteger.ONE)));
+        assertThat(iterate(range(max.subtract(BigInteger.ONE), max.add(BigInteger.ONE), BigInteger.ONE)))
+                .containsExactly(PythonInteger.valueOf(max.subtract(BigInteger.ONE)), PythonInteger.valueOf(max));
+
+        var min = BigInteger.valueOf(Long.MIN_VALUE);
+        assertThat(iterate(range(min.add(BigInteger.ONE), min.subtract(BigInteger.ONE), BigInteger.ONE.negate())))
+                .containsExactly(PythonInteger.valueOf(min.add(BigInteger.ONE)), PythonInteger.valueOf(min));
+    }
+
+    @Test
+    void iterateBackwards() {
+        var iterator = new PythonRange(PythonInteger.valueOf(0), PythonInteger.valueOf(3), PythonInteger.ONE)
+                .listIterator();
+        assertThat(iterator.hasPrevious()).isFalse();
+        assertThat(iterator.next()).isEqualTo(PythonInteger.valueOf(0));
+        assertThat(iterator.next()).isEqualTo(PythonInteger.valueOf(1));
+        assertThat(iterator.hasPrevious()).isTrue();
+        assertThat(iterator.previousIndex()).isEqualTo(1);
+        assertThat(iterator.previous()).isEqualTo(PythonInteger.valueOf(1));
+        assertThat(iterator.nextIndex()).isEqualTo(1);
+        assertThat(iterator.next()).isEqualTo(PythonInteger.valueOf(1));
+    }
+
+    @Test
+    void iterateBackwardsFromIndex() {
+        var iterator = new PythonRange(PythonInteger.valueOf(10), PythonInteger.valueOf(0), PythonInteger.valueOf(-3))
+                .listIterator(2);
+        assertThat(iterator.nextIndex()).isEqualTo(2);
+        assertThat(iterator.previous()).isEqualTo(PythonInteger.valueOf(7));
+        assertThat(iterator.previous()).isEqualTo(PythonInteger.valueOf(10));
+        assertThat(iterator.hasPrevious()).isFalse();
+    }
+}
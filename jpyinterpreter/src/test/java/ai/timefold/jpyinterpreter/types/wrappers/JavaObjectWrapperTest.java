@@ -1,6 +1,7 @@
 package ai.timefold.jpyinterpreter.types.wrappers;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 
 import java.util.List;
 import java.util.Map;
@@ -10,6 +11,7 @@ import ai.timefold.jpyinterpreter.PythonLikeObject;
 import ai.timefold.jpyinterpreter.PythonUnaryOperator;
 import ai.timefold.jpyinterpreter.types.PythonLikeFunction;
 import ai.timefold.jpyinterpreter.types.PythonString;
+import ai.timefold.jpyinterpreter.types.errors.AttributeError;
 import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
 import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 import ai.timefold.jpyinterpreter.types.wrappers.inaccessible.PublicInterface;
@@ -24,6 +26,24 @@ public class JavaObjectWrapperTest {
         }
     }
 
+    public static class FieldObject {
+        public int count;
+        public final String name;
+
+        public FieldObject(int count, String name) {
+            this.count = count;
+            this.name = name;
+        }
+
+        public static int twice(int value) {
+            return 2 * value;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+
     @Test
     void testEquals() {
         assertThat(new TestObject("a")).isEqualTo(new TestObject("a"));
@@ -140,4 +160,33 @@ public class JavaObjectWrapperTest {
         assertThat(function.$call(List.of(PythonInteger.valueOf(0)), Map.of(), null)).isEqualTo(PythonBoolean.FALSE);
         assertThat(function.$call(List.of(PythonInteger.valueOf(2)), Map.of(), null)).isEqualTo(PythonBoolean.TRUE);
     }
+
+    @Test
+    void testFieldAccess() {
+        FieldObject object = new FieldObject(1, "a");
+        JavaObjectWrapper wrapper = new JavaObjectWrapper(object);
+        assertThat(wrapper.$getAttributeOrNull("count")).isEqualTo(PythonInteger.valueOf(1));
+        assertThat(wrapper.$getAttributeOrNull("name")).isEqualTo(PythonString.valueOf("a"));
+        assertThat(wrapper.$getAttributeOrNull("missing")).isNull();
+
+        wrapper.$setAttribute("count", PythonInteger.valueOf(5));
+        assertThat(object.count).isEqualTo(5);
+        assertThat(wrapper.$getAttributeOrNull("count")).isEqualTo(PythonInteger.valueOf(5));
+
+        assertThatCode(() -> wrapper.$setAttribute("name", PythonString.valueOf("b")))
+                .isInstanceOf(AttributeError.class);
+        assertThat(object.name).isEqualTo("a");
+    }
+
+    @Test
+    void testCallingStaticAndThrowingMethods() {
+        JavaObjectWrapper wrapper = new JavaObjectWrapper(new FieldObject(1, "a"));
+        PythonLikeFunction twice = (PythonLikeFunction) wrapper.$getType().$getAttributeOrNull("twice");
+        assertThat(twice.$call(List.of(PythonInteger.valueOf(3)), Map.of(), null)).isEqualTo(PythonInteger.valueOf(6));
+
+        PythonLikeFunction fail = (PythonLikeFunction) wrapper.$method$__getattribute__(PythonString.valueOf("fail"));
+        assertThatCode(() -> fail.$call(List.of(), Map.of(), null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failed");
+    }
 }
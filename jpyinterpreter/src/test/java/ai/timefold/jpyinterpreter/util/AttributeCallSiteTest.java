@@ -0,0 +1,102 @@
+package ai.timefold.jpyinterpreter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import ai.timefold.jpyinterpreter.FieldDescriptor;
+import ai.timefold.jpyinterpreter.PythonLikeObject;
+import ai.timefold.jpyinterpreter.types.AbstractPythonLikeObject;
+import ai.timefold.jpyinterpreter.types.BuiltinTypes;
+import ai.timefold.jpyinterpreter.types.PythonLikeType;
+import ai.timefold.jpyinterpreter.types.errors.AttributeError;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Type;
+
+public class AttributeCallSiteTest {
+    public static class Point extends AbstractPythonLikeObject {
+        public static final PythonLikeType POINT_TYPE = new PythonLikeType("Point", Point.class);
+
+        static {
+            POINT_TYPE.addInstanceField(new FieldDescriptor("x", "x", Type.getInternalName(Point.class),
+                    Type.getDescriptor(PythonLikeObject.class), BuiltinTypes.BASE_TYPE, true, false));
+        }
+
+        public PythonLikeObject x;
+
+        public Point(PythonLikeObject x) {
+            super(POINT_TYPE);
+            this.x = x;
+        }
+
+        @Override
+        public PythonLikeObject $getAttributeOrNull(String attributeName) {
+            if (attributeName.equals("x")) {
+                return x;
+            }
+            return super.$getAttributeOrNull(attributeName);
+        }
+    }
+
+    public static class Dynamic extends AbstractPythonLikeObject {
+        public static final PythonLikeType DYNAMIC_TYPE = new PythonLikeType("Dynamic", Dynamic.class);
+
+        public Dynamic(PythonLikeObject x) {
+            super(DYNAMIC_TYPE);
+            setAttribute("x", x);
+        }
+    }
+
+    private static CallSite getCallSite(String attributeName) {
+        return AttributeCallSite.bootstrap(MethodHandles.lookup(), "getAttribute",
+                MethodType.methodType(PythonLikeObject.class, PythonLikeObject.class), attributeName);
+    }
+
+    private static PythonLikeObject getAttribute(CallSite callSite, PythonLikeObject receiver) throws Throwable {
+        return (PythonLikeObject) callSite.dynamicInvoker().invokeExact(receiver);
+    }
+
+    @Test
+    public void readsFieldOfCachedClass() throws Throwable {
+        CallSite callSite = getCallSite("x");
+        MethodHandle initialTarget = callSite.getTarget();
+
+        assertThat(getAttribute(callSite, new Point(PythonInteger.ONE))).isEqualTo(PythonInteger.ONE);
+        assertThat(callSite.getTarget()).isNotSameAs(initialTarget);
+
+        MethodHandle cachedTarget = callSite.getTarget();
+        assertThat(getAttribute(callSite, new Point(PythonInteger.TWO))).isEqualTo(PythonInteger.TWO);
+        assertThat(callSite.getTarget()).isSameAs(cachedTarget);
+    }
+
+    @Test
+    public void deletedFieldRaises() throws Throwable {
+        CallSite callSite = getCallSite("x");
+        assertThat(getAttribute(callSite, new Point(PythonInteger.ONE))).isEqualTo(PythonInteger.ONE);
+
+        Point deleted = new Point(null);
+        assertThatCode(() -> getAttribute(callSite, deleted)).isInstanceOf(AttributeError.class);
+    }
+
+    @Test
+    public void otherClassesUseGetAttribute() throws Throwable {
+        CallSite callSite = getCallSite("x");
+        assertThat(getAttribute(callSite, new Point(PythonInteger.ONE))).isEqualTo(PythonInteger.ONE);
+        assertThat(getAttribute(callSite, new Dynamic(PythonInteger.TWO))).isEqualTo(PythonInteger.TWO);
+
+        // Stops caching after seeing too many classes, but still gets attributes
+        for (int i = 0; i < 2 * AttributeCallSite.MAX_CACHED_CLASSES; i++) {
+            assertThat(getAttribute(callSite, new Dynamic(PythonInteger.valueOf(i)))).isEqualTo(PythonInteger.valueOf(i));
+        }
+        MethodHandle megamorphicTarget = callSite.getTarget();
+        assertThat(getAttribute(callSite, new Point(PythonInteger.ONE))).isEqualTo(PythonInteger.ONE);
+        assertThat(getAttribute(callSite, new Dynamic(PythonInteger.ONE))).isEqualTo(PythonInteger.ONE);
+        assertThat(callSite.getTarget()).isSameAs(megamorphicTarget);
+    }
+}
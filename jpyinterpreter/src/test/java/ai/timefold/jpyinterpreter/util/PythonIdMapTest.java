@@ -0,0 +1,69 @@
+package ai.timefold.jpyinterpreter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PythonIdMapTest {
+
+    @Test
+    public void testGetAndSet() {
+        PythonIdMap<String> map = new PythonIdMap<>();
+        assertThat(map.getOrNull(140_000_000_000L)).isNull();
+        assertThat(map.containsId(140_000_000_000L)).isFalse();
+
+        assertThat(map.set(140_000_000_000L, "a")).isNull();
+        assertThat(map.set(140_000_000_016L, null)).isNull();
+        assertThat(map.getOrNull(140_000_000_000L)).isEqualTo("a");
+        assertThat(map.getOrNull(140_000_000_016L)).isNull();
+        assertThat(map.containsId(140_000_000_016L)).isTrue();
+
+        assertThat(map.set(140_000_000_000L, "b")).isEqualTo("a");
+        assertThat(map).hasSize(2);
+    }
+
+    @Test
+    public void testIsMapWithNumberKeys() {
+        Map<Number, String> map = new PythonIdMap<>();
+        map.put(1L, "a");
+        map.put(2, "b");
+
+        assertThat(map.get(1)).isEqualTo("a");
+        assertThat(map.get(2L)).isEqualTo("b");
+        assertThat(map.get("1")).isNull();
+        assertThat(map.containsKey(1)).isTrue();
+        assertThat(map).containsOnlyKeys(1L, 2L);
+
+        map.clear();
+        assertThat(map).isEmpty();
+        assertThat(map.get(1)).isNull();
+    }
+
+    @Test
+    public void testMatchesHashMap() {
+        PythonIdMap<Long> map = new PythonIdMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(0);
+
+        for (int i = 0; i < 10_000; i++) {
+            // Aligned ids in a small range, so probe sequences collide and removals shift entries
+            long id = 140_000_000_000L + 16L * random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.removeId(id)).isEqualTo(expected.remove(id));
+            } else {
+                assertThat(map.set(id, (long) i)).isEqualTo(expected.put(id, (long) i));
+            }
+        }
+
+        assertThat(map).hasSize(expected.size());
+        for (int i = 0; i < 2_000; i++) {
+            long id = 140_000_000_000L + 16L * i;
+            assertThat(map.getOrNull(id)).isEqualTo(expected.get(id));
+        }
+        assertThat(map).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,100 @@
+package ai.timefold.jpyinterpreter.util;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import ai.timefold.jpyinterpreter.types.PythonString;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeList;
+import ai.timefold.jpyinterpreter.types.collections.PythonLikeTuple;
+import ai.timefold.jpyinterpreter.types.datetime.PythonDate;
+import ai.timefold.jpyinterpreter.types.datetime.PythonDateTime;
+import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
+import ai.timefold.jpyinterpreter.types.numeric.PythonFloat;
+import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PythonValueInternerTest {
+
+    @AfterEach
+    public void disableInterning() {
+        PythonValueInterner.setMaxSize(0);
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        PythonString first = PythonString.valueOf("skill");
+        PythonString second = PythonString.valueOf("skill");
+        assertThat(PythonValueInterner.intern(first)).isSameAs(first);
+        assertThat(PythonValueInterner.intern(second)).isSameAs(second);
+    }
+
+    @Test
+    public void testInternEqualValues() {
+        PythonValueInterner.setMaxSize(100);
+
+        PythonString string = PythonValueInterner.intern(PythonString.valueOf("skill"));
+        assertThat(PythonValueInterner.intern(PythonString.valueOf("skill"))).isSameAs(string);
+        assertThat(PythonValueInterner.intern(PythonString.valueOf("other"))).isNotSameAs(string);
+
+        PythonInteger integer = PythonValueInterner.intern(PythonInteger.valueOf(1000));
+        assertThat(PythonValueInterner.intern(PythonInteger.valueOf(1000))).isSameAs(integer);
+
+        PythonDate<?> date = PythonValueInterner.intern(PythonDate.of(2024, 1, 1));
+        assertThat(PythonValueInterner.intern(PythonDate.of(2024, 1, 1))).isSameAs(date);
+
+        PythonLikeTuple<?> tuple = PythonValueInterner.intern(PythonLikeTuple.fromItems(string, integer));
+        assertThat(PythonValueInterner.intern(PythonLikeTuple.fromItems(PythonString.valueOf("skill"),
+                PythonInteger.valueOf(1000)))).isSameAs(tuple);
+    }
+
+    @Test
+    public void testDoesNotInternValuesThatAreEqualToOtherTypes() {
+        PythonValueInterner.setMaxSize(100);
+
+        PythonInteger one = PythonValueInterner.intern(PythonInteger.valueOf(1000));
+        PythonFloat oneFloat = PythonFloat.valueOf(1000.0);
+        assertThat(PythonValueInterner.intern(oneFloat)).isSameAs(oneFloat);
+
+        PythonLikeTuple<?> tupleWithInt = PythonValueInterner.intern(PythonLikeTuple.fromItems(PythonInteger.ONE));
+        PythonLikeTuple<?> tupleWithBool = PythonLikeTuple.fromItems(PythonBoolean.TRUE);
+        assertThat(PythonValueInterner.intern(tupleWithBool)).isSameAs(tupleWithBool);
+        assertThat(PythonValueInterner.intern(PythonLikeTuple.fromItems(PythonInteger.ONE))).isSameAs(tupleWithInt);
+
+        PythonLikeTuple<?> tupleWithList = PythonLikeTuple.fromItems(one, new PythonLikeList<>());
+        assertThat(PythonValueInterner.intern(tupleWithList)).isSameAs(tupleWithList);
+        PythonLikeTuple<?> equalTupleWithList = PythonLikeTuple.fromItems(one, new PythonLikeList<>());
+        assertThat(PythonValueInterner.intern(equalTupleWithList)).isSameAs(equalTupleWithList);
+    }
+
+    @Test
+    public void testDoesNotInternDateTimesWithFold() {
+        PythonValueInterner.setMaxSize(100);
+
+        LocalDate date = LocalDate.of(2024, 11, 3);
+        LocalTime time = LocalTime.of(1, 30);
+        PythonDateTime folded = new PythonDateTime(date, time, (ZoneId) null, 1);
+        assertThat(PythonValueInterner.intern(folded)).isSameAs(folded);
+
+        PythonDateTime notFolded = PythonValueInterner.intern(new PythonDateTime(date, time, (ZoneId) null, 0));
+        assertThat(notFolded.fold).isEqualTo(PythonInteger.ZERO);
+        PythonDateTime otherFolded = new PythonDateTime(date, time, (ZoneId) null, 1);
+        assertThat(PythonValueInterner.intern(otherFolded)).isSameAs(otherFolded);
+        assertThat(PythonValueInterner.intern(new PythonDateTime(date, time, (ZoneId) null, 0))).isSameAs(notFolded);
+    }
+
+    @Test
+    public void testStopsAddingValuesWhenFull() {
+        PythonValueInterner.setMaxSize(1);
+
+        PythonString first = PythonValueInterner.intern(PythonString.valueOf("first"));
+        PythonString second = PythonString.valueOf("second");
+        assertThat(PythonValueInterner.intern(second)).isSameAs(second);
+        assertThat(PythonValueInterner.intern(PythonString.valueOf("second"))).isNotSameAs(second);
+        assertThat(PythonValueInterner.intern(PythonString.valueOf("first"))).isSameAs(first);
+    }
+}
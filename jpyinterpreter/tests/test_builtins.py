@@ -268,6 +268,8 @@ def test_getattr():
 
     verifier.verify(a, 'test', expected_result='value')
     with_default_verifier.verify(a, 'missing', 10, expected_result=10)
+    with_default_verifier.verify(a, 'test', 10, expected_result='value')
+    with_default_verifier.verify('abc', 'missing', 10, expected_result=10)
 
 
 global_variable = 10
@@ -296,6 +298,8 @@ def test_hasattr():
     a.test = 'value'
     verifier.verify(a, 'test', expected_result=True)
     verifier.verify(a, 'other', expected_result=False)
+    verifier.verify('abc', 'upper', expected_result=True)
+    verifier.verify('abc', 'other', expected_result=False)
 
 
 def test_hash():
@@ -442,6 +446,26 @@ def test_min():
     two_args_verifier.verify(2, 1, expected_result=1)
 
 
+def test_min_with_key_and_default():
+    def my_function_with_key(x: Iterable) -> any:
+        return min(x, key=lambda item: -item)
+
+    def my_function_with_default(x: Iterable) -> any:
+        return min(x, default='empty')
+
+    def my_function_two_args_with_key(x: any, y: any) -> any:
+        return min(x, y, key=lambda item: -item)
+
+    key_verifier = verifier_for(my_function_with_key)
+    default_verifier = verifier_for(my_function_with_default)
+    two_args_key_verifier = verifier_for(my_function_two_args_with_key)
+
+    key_verifier.verify([1, 3, 2], expected_result=3)
+    default_verifier.verify([], expected_result='empty')
+    default_verifier.verify([2, 1], expected_result=1)
+    two_args_key_verifier.verify(1, 2, expected_result=2)
+
+
 def test_max():
     def my_function(x: Iterable) -> any:
         return max(x)
@@ -458,6 +482,26 @@ def test_max():
     two_args_verifier.verify(2, 1, expected_result=2)
 
 
+def test_max_with_key_and_default():
+    def my_function_with_key(x: Iterable) -> any:
+        return max(x, key=lambda item: -item)
+
+    def my_function_with_default(x: Iterable) -> any:
+        return max(x, default='empty')
+
+    def my_function_two_args_with_key(x: any, y: any) -> any:
+        return max(x, y, key=lambda item: -item)
+
+    key_verifier = verifier_for(my_function_with_key)
+    default_verifier = verifier_for(my_function_with_default)
+    two_args_key_verifier = verifier_for(my_function_two_args_with_key)
+
+    key_verifier.verify([1, 3, 2], expected_result=1)
+    default_verifier.verify([], expected_result='empty')
+    default_verifier.verify([2, 1], expected_result=2)
+    two_args_key_verifier.verify(1, 2, expected_result=1)
+
+
 def test_next():
     def my_function(x: Iterable) -> any:
         i = iter(x)
@@ -704,6 +748,10 @@ def test_sum():
     with_start_verifier.verify([], 1.5, expected_result=1.5)
     with_start_verifier.verify([1, 3, 5], 1.5, expected_result=10.5)
     with_start_verifier.verify([1.0, 3.0, 5.0], 1.5, expected_result=10.5)
+    verifier.verify([2 ** 62, 2 ** 62, 2 ** 62], expected_result=3 * 2 ** 62)
+    verifier.verify([1, 2.5, 3], expected_result=6.5)
+    verifier.verify((x for x in range(4)), expected_result=6)
+    with_start_verifier.verify([[1], [2]], [], expected_result=[1, 2])
 
 
 def test_tuple():
@@ -974,6 +974,89 @@ def test_extra_attributes():
     assert unwrapped_a.name == 'Name'
 
 
+def test_track_attribute_changes():
+    from java.util import IdentityHashMap
+    from jpyinterpreter import (convert_to_java_python_like_object, unwrap_python_like_object,
+                                update_python_object_from_java, PythonCloneMap, track_attribute_changes,
+                                get_changed_attributes, update_java_objects_from_changed_attributes)
+
+    class A:
+        x: int
+        y: int
+
+        def __init__(self, x, y):
+            self.x = x
+            self.y = y
+
+    a = A(1, 2)
+    converted_a = convert_to_java_python_like_object(a)
+    clone_map = PythonCloneMap(IdentityHashMap(), dict())
+    unwrapped_a = unwrap_python_like_object(converted_a, clone_map)
+    assert unwrapped_a is a
+
+    unwrapped_a.y = 20
+    with track_attribute_changes(clone_map):
+        unwrapped_a.x = 10
+        changed_attributes = get_changed_attributes(clone_map)
+        assert changed_attributes[id(unwrapped_a)][1] == {'x'}
+        update_java_objects_from_changed_attributes(changed_attributes, clone_map)
+        assert len(changed_attributes) == 0
+        assert get_changed_attributes(clone_map) == {}
+
+        # Fields written from Java are not changes
+        update_python_object_from_java(converted_a, clone_map)
+        assert get_changed_attributes(clone_map) == {}
+
+    # The class is left untouched
+    assert '__setattr__' not in A.__dict__
+    assert clone_map.attribute_snapshots is None
+
+    assert getattr(converted_a, 'x').value.intValue() == 10
+    # y was changed outside of track_attribute_changes, so it was not read back
+    assert getattr(converted_a, 'y').value.intValue() == 2
+
+
+def test_value_interning():
+    from datetime import date
+    from java.util import IdentityHashMap
+    from jpyinterpreter import convert_to_java_python_like_object, set_value_interning_limit
+
+    class A:
+        def __init__(self, skill, day, pair):
+            self.skill = skill
+            self.day = day
+            self.pair = pair
+
+    # Build equal, but not identical, values
+    def create(suffix):
+        return A('skill' + suffix, date(2024, 1, int('1' + suffix)), ('skill' + suffix, 1000 + len(suffix)))
+
+    def get_attribute(converted, name):
+        return getattr(converted, '$getAttributeOrNull')(name)
+
+    def is_same_java_object(a, b):
+        identity_map = IdentityHashMap()
+        identity_map.put(a, a)
+        return identity_map.containsKey(b)
+
+    set_value_interning_limit(100)
+    try:
+        first = convert_to_java_python_like_object(create('0'))
+        second = convert_to_java_python_like_object(create('0'))
+        other = convert_to_java_python_like_object(create('1'))
+    finally:
+        set_value_interning_limit(0)
+
+    assert is_same_java_object(get_attribute(first, 'skill'), get_attribute(second, 'skill'))
+    assert is_same_java_object(get_attribute(first, 'day'), get_attribute(second, 'day'))
+    assert is_same_java_object(get_attribute(first, 'pair'), get_attribute(second, 'pair'))
+    assert not is_same_java_object(get_attribute(first, 'skill'), get_attribute(other, 'skill'))
+
+    not_interned = convert_to_java_python_like_object(create('0'))
+    assert not is_same_java_object(get_attribute(not_interned, 'skill'), get_attribute(first, 'skill'))
+    assert get_attribute(not_interned, 'skill').equals(get_attribute(first, 'skill'))
+
+
 def function_attribute_function():
     return 10
 
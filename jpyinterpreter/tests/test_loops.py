@@ -169,3 +169,20 @@ def test_try_except_outside_loop():
     function_verifier.verify([1, 2], expected_result=3)
     function_verifier.verify([1, 0, 2], expected_result=0)
     function_verifier.verify([1, 2, 3, 0], expected_result=0)
+
+
+def test_iterating_cpython_iterator_that_raises():
+    from functools import partial
+
+    def my_function(create_iterable) -> int:
+        total = 0
+        for item in create_iterable():
+            total += item
+        return total
+
+    function_verifier = verifier_for(my_function)
+
+    function_verifier.verify(partial(map, int, ['1', '2']), expected_result=3)
+    # The ValueError raised by the CPython iterator propagates instead of ending the loop
+    function_verifier.verify_error_property(partial(map, int, ['1', 'x', '2']),
+                                            predicate=lambda error: 'invalid literal' in str(error))
@@ -98,3 +98,22 @@ def test_chained_traceback():
 
     verifier = verifier_for(first)
     verifier.verify_error_property(predicate=check_traceback)
+
+
+def test_escaped_key_error_traceback():
+    def get_missing(d: dict):
+        return d['missing']
+
+    def check_traceback(error: Exception):
+        from traceback import format_exception
+        traceback = '\n'.join(format_exception(type(error), error, error.__traceback__))
+        if 'test_traceback.py", line 105, in get_missing\n' not in traceback:
+            return False
+
+        if not isinstance(error, KeyError):
+            return False
+
+        return True
+
+    verifier = verifier_for(get_missing)
+    verifier.verify_error_property({}, predicate=check_traceback)
@@ -489,6 +489,72 @@ def test_conditionally():
     assert score_manager.explain(problem).score == SimpleScore.of(2)
 
 
+def test_conditionally_sum():
+    @constraint_provider
+    def define_constraints(constraint_factory: ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+            .group_by(ConstraintCollectors.conditionally(lambda entity: entity.code[0] == 'A',
+                                                         ConstraintCollectors.sum(
+                                                             lambda entity: entity.value.number)))
+            .reward(SimpleScore.ONE, lambda sum_value: sum_value)
+            .as_constraint('Conditionally sum value')
+        ]
+
+    score_manager = create_score_manager(define_constraints)
+
+    entity_a1: Entity = Entity('A1')
+    entity_a2: Entity = Entity('A2')
+    entity_b: Entity = Entity('B1')
+
+    value_1 = Value(1)
+    value_2 = Value(2)
+
+    problem = Solution([entity_a1, entity_a2, entity_b], [value_1, value_2])
+    entity_a1.value = value_1
+    entity_a2.value = value_2
+    entity_b.value = value_2
+
+    assert score_manager.explain(problem).score == SimpleScore.of(3)
+
+
+def test_conditionally_untranslatable_predicate():
+    def starts_with_a(entity: Entity) -> bool:
+        # Structural pattern matching is not supported by the bytecode translator
+        match entity.code[0]:
+            case 'A':
+                return True
+            case _:
+                return False
+
+    @constraint_provider
+    def define_constraints(constraint_factory: ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+            .group_by(ConstraintCollectors.conditionally(starts_with_a,
+                                                         ConstraintCollectors.sum(
+                                                             lambda entity: entity.value.number)))
+            .reward(SimpleScore.ONE, lambda sum_value: sum_value)
+            .as_constraint('Conditionally sum value')
+        ]
+
+    score_manager = create_score_manager(define_constraints)
+
+    entity_a1: Entity = Entity('A1')
+    entity_a2: Entity = Entity('A2')
+    entity_b: Entity = Entity('B1')
+
+    value_1 = Value(1)
+    value_2 = Value(2)
+
+    problem = Solution([entity_a1, entity_a2, entity_b], [value_1, value_2])
+    entity_a1.value = value_1
+    entity_a2.value = value_2
+    entity_b.value = value_2
+
+    assert score_manager.explain(problem).score == SimpleScore.of(3)
+
+
 def test_compose():
     @constraint_provider
     def define_constraints(constraint_factory: ConstraintFactory):
@@ -4,6 +4,7 @@ from timefold.solver.score import *
 from timefold.solver.config import *
 
 import inspect
+import pytest
 import re
 from dataclasses import dataclass, field
 from typing import Annotated, List
@@ -558,6 +559,58 @@ def test_custom_justifications():
     assert len(justifications) == 0
 
 
+def test_justifications_are_only_created_for_analysis(monkeypatch):
+    from timefold.solver.score import _function_translator
+
+    translated_functions = []
+    translate_function = _function_translator.translate_function
+
+    def counting_translate_function(function, arg_count, *type_args):
+        translated_functions.append(function)
+        return translate_function(function, arg_count, *type_args)
+
+    monkeypatch.setattr(_function_translator, 'translate_function', counting_translate_function)
+
+    def fail_justification(e, score):
+        raise RuntimeError('Justification created')
+
+    def fail_indictment(e):
+        raise RuntimeError('Indictment created')
+
+    @constraint_provider
+    def define_constraints(constraint_factory: ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+            .reward(SimpleScore.ONE, lambda e: e.value.number)
+            .justify_with(fail_justification)
+            .indict_with(fail_indictment)
+            .as_constraint('Maximize value')
+        ]
+
+    score_manager = create_score_manager(define_constraints)
+    # Building the constraints does not translate the justification and indictment functions
+    assert translated_functions == []
+
+    entity_a: Entity = Entity('A')
+    entity_b: Entity = Entity('B')
+
+    value_1 = Value(1)
+    value_3 = Value(3)
+
+    entity_a.value = value_1
+    entity_b.value = value_3
+
+    problem = Solution([entity_a, entity_b], [value_1, value_3])
+
+    # Score calculation does not call (or translate) the justification and indictment functions
+    assert score_manager.update(problem).score == 4
+    assert translated_functions == []
+
+    with pytest.raises(Exception, match='created'):
+        score_manager.explain(problem)
+    assert len(translated_functions) > 0
+
+
 ignored_python_functions = {
     '_call_comparison_java_joiner',
     '__init__',
@@ -604,6 +657,146 @@ ignored_java_functions = {
 }
 
 
+def test_identical_functions_share_translation():
+    def has_code(code):
+        return lambda entity: entity.code == code
+
+    def count_calls():
+        calls = 0
+
+        def counter(entity):
+            nonlocal calls
+            calls += 1
+            return calls > 0
+
+        return counter
+
+    @constraint_provider
+    def define_constraints(constraint_factory: ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+            .filter(lambda entity: entity.value is not None)
+            .reward(SimpleScore.ONE)
+            .as_constraint('Assigned 1'),
+            constraint_factory.for_each(Entity)
+            .filter(lambda entity: entity.value is not None)
+            .reward(SimpleScore.ONE)
+            .as_constraint('Assigned 2'),
+            constraint_factory.for_each(Entity)
+            .filter(has_code('A'))
+            .reward(SimpleScore.ONE)
+            .as_constraint('Code A 1'),
+            constraint_factory.for_each(Entity)
+            .filter(has_code('A'))
+            .reward(SimpleScore.ONE)
+            .as_constraint('Code A 2'),
+            constraint_factory.for_each(Entity)
+            .filter(has_code('B'))
+            .reward(SimpleScore.ONE)
+            .as_constraint('Code B'),
+            # Rebinds its closure, so it is never the same function as another counter
+            constraint_factory.for_each(Entity)
+            .filter(count_calls())
+            .reward(SimpleScore.ONE)
+            .as_constraint('Counted 1'),
+            constraint_factory.for_each(Entity)
+            .filter(count_calls())
+            .reward(SimpleScore.ONE)
+            .as_constraint('Counted 2'),
+        ]
+
+    solver_factory = SolverFactory.create(
+        SolverConfig(solution_class=Solution,
+                     entity_class_list=[Entity],
+                     score_director_factory_config=ScoreDirectorFactoryConfig(
+                         constraint_provider_function=define_constraints
+                     )))
+    description = solver_factory.describe_constraint_network()
+    # One filter for both identical lambdas, one for code A, one for code B and one per counter
+    assert [node.kind for node in description.nodes].count('FilterUni') == 5
+
+    score_manager = SolutionManager.create(solver_factory)
+    entity_a: Entity = Entity('A')
+    entity_b: Entity = Entity('B')
+    value_1 = Value(1)
+    entity_a.value = value_1
+
+    problem = Solution([entity_a, entity_b], [value_1])
+    assert score_manager.update(problem).score == 2 + 2 + 1 + 2 + 2
+
+
+def test_functions_with_signed_zero_constants_do_not_share_translation():
+    @constraint_provider
+    def define_constraints(constraint_factory: ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+            .filter(lambda entity: str(0.0) == '0.0')
+            .reward(SimpleScore.ONE)
+            .as_constraint('Positive zero'),
+            # 0.0 == -0.0, but the constants differ in sign
+            constraint_factory.for_each(Entity)
+            .filter(lambda entity: str(-0.0) == '0.0')
+            .reward(SimpleScore.ONE)
+            .as_constraint('Negative zero'),
+        ]
+
+    solver_factory = SolverFactory.create(
+        SolverConfig(solution_class=Solution,
+                     entity_class_list=[Entity],
+                     score_director_factory_config=ScoreDirectorFactoryConfig(
+                         constraint_provider_function=define_constraints
+                     )))
+    description = solver_factory.describe_constraint_network()
+    assert [node.kind for node in description.nodes].count('FilterUni') == 2
+
+    score_manager = SolutionManager.create(solver_factory)
+    problem = Solution([Entity('A'), Entity('B')], [Value(1)])
+    assert score_manager.update(problem).score == 2
+
+
+def test_chained_filters_are_fused():
+    @constraint_provider
+    def define_constraints(constraint_factory: ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+            .filter(lambda e: e.value is not None)
+            .filter(lambda e: e.value.number > 1)
+            .filter(lambda e: e.code != 'C')
+            .reward(SimpleScore.ONE)
+            .as_constraint('Count')
+        ]
+
+    solver_factory = SolverFactory.create(
+        SolverConfig(solution_class=Solution,
+                     entity_class_list=[Entity],
+                     score_director_factory_config=ScoreDirectorFactoryConfig(
+                         constraint_provider_function=define_constraints
+                     )))
+    description = solver_factory.describe_constraint_network()
+    assert [node.kind for node in description.nodes].count('FilterUni') == 1
+    assert description.translated_function_count == 3
+
+    score_manager = SolutionManager.create(solver_factory)
+    entity_a: Entity = Entity('A')
+    entity_b: Entity = Entity('B')
+    entity_c: Entity = Entity('C')
+
+    value_1 = Value(1)
+    value_2 = Value(2)
+
+    problem = Solution([entity_a, entity_b, entity_c], [value_1, value_2])
+
+    assert score_manager.explain(problem).score.score == 0
+
+    entity_a.value = value_1
+    entity_c.value = value_2
+    assert score_manager.explain(problem).score.score == 0
+
+    entity_a.value = value_2
+    entity_b.value = value_2
+    assert score_manager.explain(problem).score.score == 2
+
+
 def test_has_all_methods():
     for python_type, java_type in ((UniConstraintStream, JavaUniConstraintStream),
                                    (BiConstraintStream, JavaBiConstraintStream),
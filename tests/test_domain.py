@@ -909,6 +909,64 @@ def test_int_value_range_provider():
         encountered.add(entity.value)
 
 
+def test_int_list_value_range_provider():
+    @planning_entity
+    @dataclass
+    class Entity:
+        code: Annotated[str, PlanningId]
+        actual_value: int
+        value: Annotated[int, PlanningVariable(value_range_provider_refs=['value_range'])] \
+            = field(default=None)
+        possible_values: Annotated[CountableValueRange, ValueRangeProvider(id='value_range')] = field(init=False)
+
+        def __post_init__(self):
+            self.possible_values = ValueRangeFactory.create_int_list_value_range([self.actual_value])
+
+    @constraint_provider
+    def my_constraints(constraint_factory: ConstraintFactory):
+        return [
+            constraint_factory.for_each_unique_pair(Entity,
+                                                    Joiners.equal(lambda entity: entity.value))
+            .reward(SimpleScore.ONE)
+            .as_constraint('Same value'),
+        ]
+
+    @planning_solution
+    @dataclass
+    class Solution:
+        entities: Annotated[List[Entity], PlanningEntityCollectionProperty]
+        score: Annotated[SimpleScore, PlanningScore] = field(default=None)
+
+    solver_config = SolverConfig(
+        solution_class=Solution,
+        entity_class_list=[Entity],
+        score_director_factory_config=ScoreDirectorFactoryConfig(
+            constraint_provider_function=my_constraints
+        ),
+        termination_config=TerminationConfig(
+            best_score_limit='0'
+        )
+    )
+
+    entity_1 = Entity('1', 1)
+    entity_2 = Entity('2', 2)
+    entity_3 = Entity('3', 3)
+
+    problem: Solution = Solution([
+        entity_1,
+        entity_2,
+        entity_3
+    ])
+    solver = SolverFactory.create(solver_config).build_solver()
+    solution = solver.solve(problem)
+    assert solution.score.score == 0
+
+    encountered = set()
+    for entity in solution.entities:
+        assert entity.value not in encountered
+        encountered.add(entity.value)
+
+
 def test_list_variable():
     @planning_entity
     @dataclass
@@ -5,6 +5,7 @@ from timefold.solver.score import *
 
 from dataclasses import dataclass, field
 from typing import Annotated, List
+import pytest
 
 
 @planning_entity
@@ -23,6 +24,74 @@ def my_constraints(constraint_factory: ConstraintFactory):
     ]
 
 
+def untranslatable_filter(entity: Entity) -> bool:
+    # Structural pattern matching is not supported by the bytecode translator
+    match entity.code:
+        case [*_]:
+            return False
+        case _:
+            return True
+
+
+@constraint_provider
+def untranslatable_constraints(constraint_factory: ConstraintFactory):
+    return [
+        constraint_factory.for_each(Entity)
+        .filter(untranslatable_filter)
+        .reward(SimpleScore.ONE, lambda entity: entity.value)
+        .as_constraint('Maximize value'),
+    ]
+
+
+def untranslatable_justification(entity: Entity, score: SimpleScore) -> 'EntityJustification':
+    # Structural pattern matching is not supported by the bytecode translator
+    match entity.code:
+        case [*_]:
+            return EntityJustification('')
+        case _:
+            return EntityJustification(entity.code)
+
+
+@dataclass
+class EntityJustification(ConstraintJustification):
+    code: str
+
+
+@constraint_provider
+def untranslatable_justification_constraints(constraint_factory: ConstraintFactory):
+    return [
+        constraint_factory.for_each(Entity)
+        .reward(SimpleScore.ONE, lambda entity: entity.value)
+        .justify_with(untranslatable_justification)
+        .as_constraint('Maximize value'),
+    ]
+
+
+@constraint_provider
+def partially_translatable_filter_constraints(constraint_factory: ConstraintFactory):
+    return [
+        constraint_factory.for_each(Entity)
+        .filter(lambda entity: entity.value > 1)
+        .filter(untranslatable_filter)
+        .reward(SimpleScore.ONE)
+        .as_constraint('Big value'),
+    ]
+
+
+@constraint_provider
+def sharing_constraints(constraint_factory: ConstraintFactory):
+    return [
+        constraint_factory.for_each(Entity)
+        .filter(lambda entity: entity.value > 1)
+        .reward(SimpleScore.ONE)
+        .as_constraint('Big value'),
+        constraint_factory.for_each(Entity)
+        .filter(lambda entity: entity.value > 1)
+        .penalize(SimpleScore.ONE, lambda entity: entity.value)
+        .as_constraint('Penalized big value'),
+    ]
+
+
 @planning_solution
 @dataclass
 class Solution:
@@ -54,3 +123,129 @@ def test_solver_config_override():
     problem = Solution([Entity('A')], [1, 2, 3])
     solution = solver.solve(problem)
     assert solution.score.score == 3
+
+
+def test_function_translation_reports():
+    solver_config = SolverConfig(
+        solution_class=Solution,
+        entity_class_list=[Entity],
+        score_director_factory_config=ScoreDirectorFactoryConfig(
+            constraint_provider_function=untranslatable_constraints,
+        ),
+        untranslatable_function_policy=UntranslatableFunctionPolicy.ALLOW
+    )
+    solver_factory = SolverFactory.create(solver_config)
+    reports = solver_factory.get_function_translation_reports()
+    assert len(reports) == 1
+
+    report = reports[0]
+    assert report.constraint_id.endswith('Maximize value')
+    assert report.translated_count == 1
+    assert report.fallback_count == 1
+    assert 'untranslatable_filter' in report.fallbacks[0].function
+    assert 'MATCH_SEQUENCE' in report.fallbacks[0].reason
+
+
+def test_function_translations_are_recorded_per_thread():
+    from concurrent.futures import ThreadPoolExecutor
+
+    def create_solver_factory(constraint_provider, policy):
+        return SolverFactory.create(SolverConfig(
+            solution_class=Solution,
+            entity_class_list=[Entity],
+            score_director_factory_config=ScoreDirectorFactoryConfig(
+                constraint_provider_function=constraint_provider,
+            ),
+            untranslatable_function_policy=policy
+        ))
+
+    with ThreadPoolExecutor(max_workers=4) as executor:
+        # If the threads shared state, the FAIL policy would see the other threads' untranslatable functions
+        translatable_futures = [executor.submit(create_solver_factory, my_constraints,
+                                                UntranslatableFunctionPolicy.FAIL)
+                                for _ in range(8)]
+        untranslatable_futures = [executor.submit(create_solver_factory, untranslatable_constraints,
+                                                  UntranslatableFunctionPolicy.ALLOW)
+                                  for _ in range(8)]
+
+        for future in translatable_futures:
+            reports = future.result().get_function_translation_reports()
+            assert len(reports) == 1
+            assert reports[0].translated_count == 1
+            assert reports[0].fallback_count == 0
+
+        for future in untranslatable_futures:
+            reports = future.result().get_function_translation_reports()
+            assert len(reports) == 1
+            assert reports[0].translated_count == 1
+            assert reports[0].fallback_count == 1
+
+
+def test_untranslatable_function_policy_applies_to_lazy_functions():
+    solver_config = SolverConfig(
+        solution_class=Solution,
+        entity_class_list=[Entity],
+        score_director_factory_config=ScoreDirectorFactoryConfig(
+            constraint_provider_function=untranslatable_justification_constraints,
+        ),
+        untranslatable_function_policy=UntranslatableFunctionPolicy.FAIL
+    )
+    # Justifications are translated when they are first used, so building the constraints does not fail
+    solver_factory = SolverFactory.create(solver_config)
+    solution_manager = SolutionManager.create(solver_factory)
+    problem = Solution([Entity('A', 1)], [1, 2, 3])
+    assert solution_manager.update(problem).score == 1
+
+    with pytest.raises(Exception, match='untranslatable_justification'):
+        solution_manager.explain(problem)
+
+
+def test_untranslatable_filters_are_not_fused():
+    solver_config = SolverConfig(
+        solution_class=Solution,
+        entity_class_list=[Entity],
+        score_director_factory_config=ScoreDirectorFactoryConfig(
+            constraint_provider_function=partially_translatable_filter_constraints,
+        ),
+        untranslatable_function_policy=UntranslatableFunctionPolicy.ALLOW
+    )
+    solver_factory = SolverFactory.create(solver_config)
+    description = solver_factory.describe_constraint_network()
+    assert [node.kind for node in description.nodes].count('FilterUni') == 2
+    assert description.translated_function_count == 1
+    assert description.fallback_function_count == 1
+
+    solution_manager = SolutionManager.create(solver_factory)
+    problem = Solution([Entity('A', 1), Entity('B', 2), Entity('C', 3)], [1, 2, 3])
+    assert solution_manager.explain(problem).score.score == 2
+
+
+def test_describe_constraint_network():
+    solver_config = SolverConfig(
+        solution_class=Solution,
+        entity_class_list=[Entity],
+        score_director_factory_config=ScoreDirectorFactoryConfig(
+            constraint_provider_function=sharing_constraints,
+        )
+    )
+    solver_factory = SolverFactory.create(solver_config)
+    description = solver_factory.describe_constraint_network()
+    assert [constraint.constraint_id.split('/')[-1] for constraint in description.constraints] == \
+           ['Big value', 'Penalized big value']
+
+    # Both constraints use the same for_each and filter nodes
+    assert description.node_count < description.unshared_node_count
+    assert description.sharing_ratio > 0
+    assert any(node.kind.startswith('Filter') for node in description.nodes if node.is_shared)
+    for node in description.nodes:
+        assert all(parent_id < node.node_id for parent_id in node.parent_ids)
+
+    assert description.translated_function_count == 3
+    assert description.fallback_function_count == 0
+    for constraint in description.constraints:
+        for function in constraint.functions:
+            assert function.java_class_name is not None
+            assert function.bytecode_size > 0
+    assert description.generated_class_count > 0
+    assert description.generated_bytecode_size > 0
+    assert 'Penalized big value' in str(description)
@@ -66,6 +66,21 @@ class RemoveEntity(ProblemChange[Solution]):
                                               lambda working_entity: working_solution.entities.remove(working_entity))
 
 
+class SetWorkingEntityValue(ProblemChange[Solution]):
+    entity: Entity
+    value: int
+
+    def __init__(self, entity: Entity, value: int):
+        self.entity = entity
+        self.value = value
+
+    def do_change(self, working_solution: Solution, problem_change_director: ProblemChangeDirector):
+        # Assigned in CPython, so it is read back (and the score director notified)
+        # at the end of the problem change
+        working_entity = problem_change_director.lookup_working_object_or_fail(self.entity)
+        working_entity.value = self.value
+
+
 def test_add_entity():
     solver_config = SolverConfig(
         solution_class=Solution,
@@ -132,3 +147,38 @@ def test_remove_entity():
     assert result is not None
     assert len(result.entities) == 1
     assert result.score.score == -1
+
+
+def test_change_working_object_attribute():
+    solver_config = SolverConfig(
+        solution_class=Solution,
+        entity_class_list=[Entity],
+        environment_mode=EnvironmentMode.FULL_ASSERT,
+        score_director_factory_config=ScoreDirectorFactoryConfig(
+            constraint_provider_function=maximize_constraints,
+        ),
+        termination_config=TerminationConfig(
+            best_score_limit='6'
+        )
+    )
+
+    problem: Solution = Solution([Entity('A'), Entity('B')], [1, 2, 3])
+    solver = SolverFactory.create(solver_config).build_solver()
+    result: Solution | None = None
+
+    def do_solve(problem: Solution):
+        nonlocal solver, result
+        result = solver.solve(problem)
+
+    thread = Thread(target=do_solve, args=(problem,), daemon=True)
+
+    thread.start()
+    solver.add_problem_change(SetWorkingEntityValue(Entity('B'), 3))
+    thread.join(timeout=1)
+
+    if thread.is_alive():
+        raise AssertionError(f'Thread {thread} did not finish after 5 seconds')
+
+    assert result is not None
+    assert len(result.entities) == 2
+    assert result.score.score == 6
@@ -0,0 +1,19 @@
+package ai.timefold.solver.python;
+
+import java.util.IdentityHashMap;
+
+import ai.timefold.jpyinterpreter.types.CPythonBackedPythonLikeObject;
+import ai.timefold.jpyinterpreter.util.PlanningCloneUtils;
+import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
+
+/**
+ * Planning clones translated Python solutions using the clone methods generated for them,
+ * instead of reflectively copying their fields.
+ */
+public final class PythonSolutionCloner<Solution_ extends CPythonBackedPythonLikeObject>
+        implements SolutionCloner<Solution_> {
+    @Override
+    public Solution_ cloneSolution(Solution_ original) {
+        return PlanningCloneUtils.planningClone(original, new IdentityHashMap<>());
+    }
+}
@@ -2,7 +2,9 @@ package ai.timefold.solver.python;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.function.Function;
 
@@ -11,6 +13,7 @@ import ai.timefold.jpyinterpreter.types.numeric.PythonFloat;
 import ai.timefold.jpyinterpreter.types.numeric.PythonInteger;
 import ai.timefold.solver.core.api.domain.valuerange.CountableValueRange;
 import ai.timefold.solver.core.api.domain.valuerange.ValueRangeFactory;
+import ai.timefold.solver.core.impl.solver.random.RandomUtils;
 
 @SuppressWarnings("unused")
 public class PythonValueRangeFactory {
@@ -68,18 +71,213 @@ public class PythonValueRangeFactory {
         }
     }
 
+    /**
+     * A {@link CountableValueRange} of {@link PythonInteger} whose bounds fit in a {@code long}.
+     * Unlike mapping a {@link BigInteger} value range, it does arithmetic on primitives
+     * and hands out the same {@link PythonInteger} instance each time an index is requested
+     * (for ranges no larger than {@link #MAX_CACHED_SIZE}).
+     */
+    private static final class LongBackedIntValueRange implements CountableValueRange<PythonInteger> {
+        private static final long MAX_CACHED_SIZE = 1 << 16;
+
+        private final long from;
+        private final long to;
+        private final long step;
+        private final long size;
+        private final PythonInteger[] cache;
+
+        private LongBackedIntValueRange(long from, long to, long step) {
+            if (to < from) {
+                throw new IllegalArgumentException("The int value range from (%d) must be less than or equal to to (%d)."
+                        .formatted(from, to));
+            }
+            if (step <= 0L) {
+                throw new IllegalArgumentException("The int value range step (%d) must be positive."
+                        .formatted(step));
+            }
+            if ((to - from) % step != 0L) {
+                throw new IllegalArgumentException(
+                        "The int value range's to (%d) - from (%d) must be a multiple of its step (%d)."
+                                .formatted(to, from, step));
+            }
+            this.from = from;
+            this.to = to;
+            this.step = step;
+            this.size = (to - from) / step;
+            this.cache = (size <= MAX_CACHED_SIZE) ? new PythonInteger[(int) size] : null;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public PythonInteger get(long index) {
+            if (index < 0L || index >= size) {
+                throw new IndexOutOfBoundsException("The index (" + index + ") must be >= 0 and < size ("
+                        + size + ").");
+            }
+            if (cache == null) {
+                return PythonInteger.valueOf(from + index * step);
+            }
+            // PythonInteger is immutable with only final fields, so a racy publish is safe;
+            // at worst two threads each create an equal instance.
+            PythonInteger out = cache[(int) index];
+            if (out == null) {
+                out = PythonInteger.valueOf(from + index * step);
+                cache[(int) index] = out;
+            }
+            return out;
+        }
+
+        @Override
+        public Iterator<PythonInteger> createOriginalIterator() {
+            return new Iterator<>() {
+                private long index = 0L;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public PythonInteger next() {
+                    if (index >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return get(index++);
+                }
+            };
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0L;
+        }
+
+        @Override
+        public boolean contains(PythonInteger value) {
+            if (value == null || value.value.bitLength() >= Long.SIZE) {
+                return false;
+            }
+            long longValue = value.value.longValue();
+            return longValue >= from && longValue < to && (longValue - from) % step == 0L;
+        }
+
+        @Override
+        public Iterator<PythonInteger> createRandomIterator(Random random) {
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return size > 0L;
+                }
+
+                @Override
+                public PythonInteger next() {
+                    if (size <= 0L) {
+                        throw new NoSuchElementException();
+                    }
+                    return get(RandomUtils.nextLong(random, size));
+                }
+            };
+        }
+    }
+
+    /**
+     * A {@link CountableValueRange} of {@link PythonInteger} adopted from a {@code long[]},
+     * which JPype can build from a Python {@code list[int]} in a single call.
+     * The {@link PythonInteger} instances are created once and shared by every iterator.
+     */
+    private static final class LongArrayBackedIntValueRange implements CountableValueRange<PythonInteger> {
+        private final PythonInteger[] items;
+        private final long[] sortedValues;
+
+        private LongArrayBackedIntValueRange(long[] values) {
+            this.items = new PythonInteger[values.length];
+            for (int i = 0; i < values.length; i++) {
+                items[i] = PythonInteger.valueOf(values[i]);
+            }
+            this.sortedValues = values.clone();
+            Arrays.sort(sortedValues);
+        }
+
+        @Override
+        public long getSize() {
+            return items.length;
+        }
+
+        @Override
+        public PythonInteger get(long index) {
+            if (index < 0L || index >= items.length) {
+                throw new IndexOutOfBoundsException("The index (" + index + ") must be >= 0 and < size ("
+                        + items.length + ").");
+            }
+            return items[(int) index];
+        }
+
+        @Override
+        public Iterator<PythonInteger> createOriginalIterator() {
+            return Arrays.asList(items).iterator();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return items.length == 0;
+        }
+
+        @Override
+        public boolean contains(PythonInteger value) {
+            if (value == null || value.value.bitLength() >= Long.SIZE) {
+                return false;
+            }
+            return Arrays.binarySearch(sortedValues, value.value.longValue()) >= 0;
+        }
+
+        @Override
+        public Iterator<PythonInteger> createRandomIterator(Random random) {
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return items.length > 0;
+                }
+
+                @Override
+                public PythonInteger next() {
+                    if (items.length == 0) {
+                        throw new NoSuchElementException();
+                    }
+                    return items[random.nextInt(items.length)];
+                }
+            };
+        }
+    }
+
+    private static boolean fitsInLong(BigInteger value) {
+        return value.bitLength() < Long.SIZE;
+    }
+
     public static CountableValueRange<PythonInteger> createIntValueRange(BigInteger from, BigInteger to) {
-        return new ValueRangeMapper<>(ValueRangeFactory.createBigIntegerValueRange(from, to),
-                PythonInteger::valueOf,
-                pythonInteger -> pythonInteger.value);
+        return createIntValueRange(from, to, BigInteger.ONE);
     }
 
     public static CountableValueRange<PythonInteger> createIntValueRange(BigInteger from, BigInteger to, BigInteger step) {
+        if (fitsInLong(from) && fitsInLong(to) && fitsInLong(step) && fitsInLong(to.subtract(from))) {
+            return createIntValueRange(from.longValue(), to.longValue(), step.longValue());
+        }
         return new ValueRangeMapper<>(ValueRangeFactory.createBigIntegerValueRange(from, to, step),
                 PythonInteger::valueOf,
                 pythonInteger -> pythonInteger.value);
     }
 
+    public static CountableValueRange<PythonInteger> createIntValueRange(long from, long to, long step) {
+        return new LongBackedIntValueRange(from, to, step);
+    }
+
+    public static CountableValueRange<PythonInteger> createIntListValueRange(long[] values) {
+        return new LongArrayBackedIntValueRange(values);
+    }
+
     public static CountableValueRange<PythonFloat> createFloatValueRange(BigDecimal from, BigDecimal to) {
         return new ValueRangeMapper<>(ValueRangeFactory.createBigDecimalValueRange(from, to),
                 decimal -> PythonFloat.valueOf(decimal.doubleValue()),
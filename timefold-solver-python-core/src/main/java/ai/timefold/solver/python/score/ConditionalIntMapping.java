@@ -0,0 +1,74 @@
+package ai.timefold.solver.python.score;
+
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+
+import ai.timefold.solver.core.api.function.QuadPredicate;
+import ai.timefold.solver.core.api.function.ToIntQuadFunction;
+import ai.timefold.solver.core.api.function.ToIntTriFunction;
+import ai.timefold.solver.core.api.function.TriPredicate;
+
+/**
+ * Combines the predicate and the mapping of {@code conditionally(predicate, sum(mapping))}
+ * (or {@code conditionally(predicate, count())}) into a single int mapping for a sum collector,
+ * so Timefold does not wrap the sum collector in a conditional collector.
+ * The predicate and the mapping are called directly, so they should already be translated to Java bytecode.
+ */
+public final class ConditionalIntMapping {
+
+    private ConditionalIntMapping() {
+    }
+
+    /**
+     * @param predicate never null
+     * @param mapping null to count the matches of the predicate
+     */
+    public static <A> ToIntFunction<A> uni(Predicate<A> predicate, ToIntFunction<A> mapping) {
+        Objects.requireNonNull(predicate);
+        if (mapping == null) {
+            return a -> predicate.test(a) ? 1 : 0;
+        }
+        return a -> predicate.test(a) ? mapping.applyAsInt(a) : 0;
+    }
+
+    /**
+     * @param predicate never null
+     * @param mapping null to count the matches of the predicate
+     */
+    public static <A, B> ToIntBiFunction<A, B> bi(BiPredicate<A, B> predicate, ToIntBiFunction<A, B> mapping) {
+        Objects.requireNonNull(predicate);
+        if (mapping == null) {
+            return (a, b) -> predicate.test(a, b) ? 1 : 0;
+        }
+        return (a, b) -> predicate.test(a, b) ? mapping.applyAsInt(a, b) : 0;
+    }
+
+    /**
+     * @param predicate never null
+     * @param mapping null to count the matches of the predicate
+     */
+    public static <A, B, C> ToIntTriFunction<A, B, C> tri(TriPredicate<A, B, C> predicate,
+            ToIntTriFunction<A, B, C> mapping) {
+        Objects.requireNonNull(predicate);
+        if (mapping == null) {
+            return (a, b, c) -> predicate.test(a, b, c) ? 1 : 0;
+        }
+        return (a, b, c) -> predicate.test(a, b, c) ? mapping.applyAsInt(a, b, c) : 0;
+    }
+
+    /**
+     * @param predicate never null
+     * @param mapping null to count the matches of the predicate
+     */
+    public static <A, B, C, D> ToIntQuadFunction<A, B, C, D> quad(QuadPredicate<A, B, C, D> predicate,
+            ToIntQuadFunction<A, B, C, D> mapping) {
+        Objects.requireNonNull(predicate);
+        if (mapping == null) {
+            return (a, b, c, d) -> predicate.test(a, b, c, d) ? 1 : 0;
+        }
+        return (a, b, c, d) -> predicate.test(a, b, c, d) ? mapping.applyAsInt(a, b, c, d) : 0;
+    }
+}
@@ -0,0 +1,73 @@
+package ai.timefold.solver.python.score;
+
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import ai.timefold.solver.core.api.function.QuadPredicate;
+import ai.timefold.solver.core.api.function.TriPredicate;
+
+/**
+ * Combines the predicates of consecutive {@code filter} calls into a single short-circuiting predicate,
+ * so the chain becomes one filter node.
+ * The predicates are called directly, so they should already be translated to Java bytecode.
+ * Fused predicates are equal when their parts are equal,
+ * so constraints that use the same chain of filters still share the filter node.
+ */
+public final class FusedPredicate {
+
+    private FusedPredicate() {
+    }
+
+    public static <A> Predicate<A> uni(Predicate<A> predicate, Predicate<A> nextPredicate) {
+        return new Uni<>(Objects.requireNonNull(predicate), Objects.requireNonNull(nextPredicate));
+    }
+
+    public static <A, B> BiPredicate<A, B> bi(BiPredicate<A, B> predicate, BiPredicate<A, B> nextPredicate) {
+        return new Bi<>(Objects.requireNonNull(predicate), Objects.requireNonNull(nextPredicate));
+    }
+
+    public static <A, B, C> TriPredicate<A, B, C> tri(TriPredicate<A, B, C> predicate,
+            TriPredicate<A, B, C> nextPredicate) {
+        return new Tri<>(Objects.requireNonNull(predicate), Objects.requireNonNull(nextPredicate));
+    }
+
+    public static <A, B, C, D> QuadPredicate<A, B, C, D> quad(QuadPredicate<A, B, C, D> predicate,
+            QuadPredicate<A, B, C, D> nextPredicate) {
+        return new Quad<>(Objects.requireNonNull(predicate), Objects.requireNonNull(nextPredicate));
+    }
+
+    private record Uni<A>(Predicate<A> predicate, Predicate<A> nextPredicate) implements Predicate<A> {
+        @Override
+        public boolean test(A a) {
+            return predicate.test(a) && nextPredicate.test(a);
+        }
+    }
+
+    private record Bi<A, B>(BiPredicate<A, B> predicate, BiPredicate<A, B> nextPredicate)
+            implements
+                BiPredicate<A, B> {
+        @Override
+        public boolean test(A a, B b) {
+            return predicate.test(a, b) && nextPredicate.test(a, b);
+        }
+    }
+
+    private record Tri<A, B, C>(TriPredicate<A, B, C> predicate, TriPredicate<A, B, C> nextPredicate)
+            implements
+                TriPredicate<A, B, C> {
+        @Override
+        public boolean test(A a, B b, C c) {
+            return predicate.test(a, b, c) && nextPredicate.test(a, b, c);
+        }
+    }
+
+    private record Quad<A, B, C, D>(QuadPredicate<A, B, C, D> predicate, QuadPredicate<A, B, C, D> nextPredicate)
+            implements
+                QuadPredicate<A, B, C, D> {
+        @Override
+        public boolean test(A a, B b, C c, D d) {
+            return predicate.test(a, b, c, d) && nextPredicate.test(a, b, c, d);
+        }
+    }
+}
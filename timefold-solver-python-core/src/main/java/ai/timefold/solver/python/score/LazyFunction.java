@@ -0,0 +1,71 @@
+package ai.timefold.solver.python.score;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.function.PentaFunction;
+import ai.timefold.solver.core.api.function.QuadFunction;
+import ai.timefold.solver.core.api.function.TriFunction;
+
+/**
+ * Creates a function the first time it is called.
+ * Timefold only calls justification and indictment mappings when constraint matches are enabled
+ * (such as when analyzing a solution), so creating them lazily means solving never pays
+ * for translating them to Java bytecode.
+ *
+ * @param <Function_> the type of the created function
+ */
+public final class LazyFunction<Function_> implements Supplier<Function_> {
+    private final Supplier<Function_> functionSupplier;
+    private volatile Function_ function;
+
+    private LazyFunction(Supplier<Function_> functionSupplier) {
+        this.functionSupplier = Objects.requireNonNull(functionSupplier);
+    }
+
+    @Override
+    public Function_ get() {
+        Function_ out = function;
+        if (out == null) {
+            synchronized (this) {
+                out = function;
+                if (out == null) {
+                    out = Objects.requireNonNull(functionSupplier.get());
+                    function = out;
+                }
+            }
+        }
+        return out;
+    }
+
+    public static <A, Result_> Function<A, Result_> uni(Supplier<Function<A, Result_>> functionSupplier) {
+        LazyFunction<Function<A, Result_>> lazyFunction = new LazyFunction<>(functionSupplier);
+        return a -> lazyFunction.get().apply(a);
+    }
+
+    public static <A, B, Result_> BiFunction<A, B, Result_> bi(
+            Supplier<BiFunction<A, B, Result_>> functionSupplier) {
+        LazyFunction<BiFunction<A, B, Result_>> lazyFunction = new LazyFunction<>(functionSupplier);
+        return (a, b) -> lazyFunction.get().apply(a, b);
+    }
+
+    public static <A, B, C, Result_> TriFunction<A, B, C, Result_> tri(
+            Supplier<TriFunction<A, B, C, Result_>> functionSupplier) {
+        LazyFunction<TriFunction<A, B, C, Result_>> lazyFunction = new LazyFunction<>(functionSupplier);
+        return (a, b, c) -> lazyFunction.get().apply(a, b, c);
+    }
+
+    public static <A, B, C, D, Result_> QuadFunction<A, B, C, D, Result_> quad(
+            Supplier<QuadFunction<A, B, C, D, Result_>> functionSupplier) {
+        LazyFunction<QuadFunction<A, B, C, D, Result_>> lazyFunction = new LazyFunction<>(functionSupplier);
+        return (a, b, c, d) -> lazyFunction.get().apply(a, b, c, d);
+    }
+
+    public static <A, B, C, D, E, Result_> PentaFunction<A, B, C, D, E, Result_> penta(
+            Supplier<PentaFunction<A, B, C, D, E, Result_>> functionSupplier) {
+        LazyFunction<PentaFunction<A, B, C, D, E, Result_>> lazyFunction = new LazyFunction<>(functionSupplier);
+        return (a, b, c, d, e) -> lazyFunction.get().apply(a, b, c, d, e);
+    }
+}
@@ -52,4 +52,4 @@ import timefold.solver.heuristic as heuristic
 import timefold.solver.score as score
 import timefold.solver.test as test
 
-from ._timefold_java_interop import init, set_class_output_directory
+from ._timefold_java_interop import init, set_class_output_directory, set_value_interning_limit
@@ -1,10 +1,14 @@
 from abc import ABC, abstractmethod
-from typing import TypeVar, Optional, Callable, TYPE_CHECKING, Generic
+from typing import TypeVar, Optional, Callable, TYPE_CHECKING, Generic, Annotated, get_origin
 from types import FunctionType
+from functools import cache
 from _jpyinterpreter import (convert_to_java_python_like_object,
                             unwrap_python_like_object,
                             update_python_object_from_java,
-                            translate_python_bytecode_to_java_bytecode)
+                            translate_python_bytecode_to_java_bytecode,
+                            PythonCloneMap,
+                            track_attribute_changes,
+                            get_changed_attributes)
 from jpype import JOverride, JImplements
 
 if TYPE_CHECKING:
@@ -26,6 +30,7 @@ class ProblemChangeDirector:
     _delegate: '_ProblemChangeDirector'
     _java_solution: Solution_
     _python_solution: Solution_
+    _clone_map: PythonCloneMap
 
     Entity = TypeVar('Entity')
     ProblemFact = TypeVar('ProblemFact')
@@ -33,10 +38,59 @@ class ProblemChangeDirector:
 
     def __init__(self, delegate: '_ProblemChangeDirector',
                  java_solution: Solution_,
-                 python_solution: Solution_):
+                 python_solution: Solution_,
+                 clone_map: PythonCloneMap):
+        from ai.timefold.jpyinterpreter.util import PythonIdMap
         self._delegate = delegate
         self._java_solution = java_solution
         self._python_solution = python_solution
+        self._clone_map = clone_map
+        self._instance_map = PythonIdMap()
+        self._instance_map_clone_count = 0
+
+    def _to_java_object(self, python_object):
+        # Working objects were unwrapped from the working solution, so they map back to their Java objects;
+        # new objects are converted, reusing the working objects they reference
+        clone_count = len(self._clone_map.clone_id_to_python_object)
+        for clone_id in range(self._instance_map_clone_count, clone_count):
+            unwrapped_object = self._clone_map.clone_id_to_python_object[clone_id]
+            java_object = self._clone_map.get_java_object(unwrapped_object)
+            if java_object is not None:
+                self._instance_map.set(id(unwrapped_object), java_object)
+        self._instance_map_clone_count = clone_count
+        return convert_to_java_python_like_object(python_object, self._instance_map)
+
+    def _read_changed_attributes(self):
+        # Only the attributes that were assigned in CPython since the last read (or write from Java)
+        # are copied back to their Java objects.
+        # They are copied through the delegate, so the score director is notified of the changes;
+        # objects without a PlanningId (such as the solution) cannot be looked up, so they are copied directly.
+        from ._jpype_type_conversions import PythonConsumer
+        from .domain import PlanningId, PlanningVariable, PlanningListVariable
+        for python_object, attribute_names in get_changed_attributes(self._clone_map).values():
+            java_object = self._clone_map.get_java_object(python_object)
+            if java_object is None:
+                continue
+            read_field = getattr(java_object, '$readFieldFromCPythonReference', None)
+            if read_field is None:
+                continue
+            if not _get_annotated_attribute_names(type(python_object), (PlanningId,)):
+                for attribute_name in attribute_names:
+                    read_field(attribute_name)
+                continue
+
+            variable_names = _get_annotated_attribute_names(type(python_object),
+                                                            (PlanningVariable, PlanningListVariable))
+            property_names = [name for name in attribute_names if name not in variable_names]
+            for variable_name in attribute_names & variable_names:
+                self._delegate.changeVariable(java_object, variable_name,
+                                              PythonConsumer(lambda _, name=variable_name: read_field(name)))
+            if property_names:
+                def read_properties(_, names=property_names):
+                    for name in names:
+                        read_field(name)
+
+                self._delegate.changeProblemProperty(java_object, PythonConsumer(read_properties))
 
     def _replace_solution_in_callable(self, callable: Callable):
         if isinstance(callable, FunctionType):
@@ -58,10 +112,11 @@ class ProblemChangeDirector:
             A callable that adds the entity to the working solution.
         """
         from java.util.function import Consumer
+        self._read_changed_attributes()
         converted_modifier = translate_python_bytecode_to_java_bytecode(self._replace_solution_in_callable(modifier),
                                                                         Consumer)
-        self._delegate.addEntity(convert_to_java_python_like_object(entity), converted_modifier)
-        update_python_object_from_java(self._java_solution)
+        self._delegate.addEntity(self._to_java_object(entity), converted_modifier)
+        update_python_object_from_java(self._java_solution, self._clone_map)
 
     def add_problem_fact(self, fact: ProblemFact, modifier: Callable[[ProblemFact], None]) -> None:
         """
@@ -75,10 +130,11 @@ class ProblemChangeDirector:
             A callable that adds the fact to the working solution.
         """
         from java.util.function import Consumer
+        self._read_changed_attributes()
         converted_modifier = translate_python_bytecode_to_java_bytecode(self._replace_solution_in_callable(modifier),
                                                                         Consumer)
-        self._delegate.addProblemFact(convert_to_java_python_like_object(fact), converted_modifier)
-        update_python_object_from_java(self._java_solution)
+        self._delegate.addProblemFact(self._to_java_object(fact), converted_modifier)
+        update_python_object_from_java(self._java_solution, self._clone_map)
 
     def change_problem_property(self, problem_fact_or_entity: EntityOrProblemFact,
                                 modifier: Callable[[EntityOrProblemFact], None]) -> None:
@@ -95,11 +151,12 @@ class ProblemChangeDirector:
             Updates the property of the ``planning_entity`` or the problem fact
         """
         from java.util.function import Consumer
+        self._read_changed_attributes()
         converted_modifier = translate_python_bytecode_to_java_bytecode(self._replace_solution_in_callable(modifier),
                                                                         Consumer)
-        self._delegate.changeProblemProperty(convert_to_java_python_like_object(problem_fact_or_entity),
+        self._delegate.changeProblemProperty(self._to_java_object(problem_fact_or_entity),
                                              converted_modifier)
-        update_python_object_from_java(self._java_solution)
+        update_python_object_from_java(self._java_solution, self._clone_map)
 
     def change_variable(self, entity: Entity, variable: str,
                         modifier: Callable[[Entity], None]) -> None:
@@ -118,10 +175,11 @@ class ProblemChangeDirector:
             Updates the value of the ``PlanningVariable`` inside the ``planning_entity``
         """
         from java.util.function import Consumer
+        self._read_changed_attributes()
         converted_modifier = translate_python_bytecode_to_java_bytecode(self._replace_solution_in_callable(modifier),
                                                                         Consumer)
-        self._delegate.changeVariable(convert_to_java_python_like_object(entity), variable, converted_modifier)
-        update_python_object_from_java(self._java_solution)
+        self._delegate.changeVariable(self._to_java_object(entity), variable, converted_modifier)
+        update_python_object_from_java(self._java_solution, self._clone_map)
 
     def lookup_working_object(self, external_object: EntityOrProblemFact) -> Optional[EntityOrProblemFact]:
         """
@@ -145,10 +203,11 @@ class ProblemChangeDirector:
         ------
         If it cannot be looked up or if the `external_object`'s class is not supported.
         """
-        out = self._delegate.lookUpWorkingObject(convert_to_java_python_like_object(external_object)).orElse(None)
+        self._read_changed_attributes()
+        out = self._delegate.lookUpWorkingObject(self._to_java_object(external_object)).orElse(None)
         if out is None:
             return None
-        return unwrap_python_like_object(out)
+        return unwrap_python_like_object(out, self._clone_map)
 
     def lookup_working_object_or_fail(self, external_object: EntityOrProblemFact) -> EntityOrProblemFact:
         """
@@ -168,7 +227,9 @@ class ProblemChangeDirector:
         If there is no working object for `external_object`,
         if it cannot be looked up or if the `external_object`'s class is not supported.
         """
-        return unwrap_python_like_object(self._delegate.lookUpWorkingObjectOrFail(external_object))
+        self._read_changed_attributes()
+        out = self._delegate.lookUpWorkingObjectOrFail(self._to_java_object(external_object))
+        return unwrap_python_like_object(out, self._clone_map)
 
     def remove_entity(self, entity: Entity, modifier: Callable[[Entity], None]) -> None:
         """
@@ -184,10 +245,11 @@ class ProblemChangeDirector:
             Removes the working entity from the ``working solution``.
         """
         from java.util.function import Consumer
+        self._read_changed_attributes()
         converted_modifier = translate_python_bytecode_to_java_bytecode(self._replace_solution_in_callable(modifier),
                                                                         Consumer)
-        self._delegate.removeEntity(convert_to_java_python_like_object(entity), converted_modifier)
-        update_python_object_from_java(self._java_solution)
+        self._delegate.removeEntity(self._to_java_object(entity), converted_modifier)
+        update_python_object_from_java(self._java_solution, self._clone_map)
 
     def remove_problem_fact(self, fact: ProblemFact, modifier: Callable[[ProblemFact], None]) -> None:
         """
@@ -203,10 +265,11 @@ class ProblemChangeDirector:
             Removes the working problem fact from the ``working solution``.
         """
         from java.util.function import Consumer
+        self._read_changed_attributes()
         converted_modifier = translate_python_bytecode_to_java_bytecode(self._replace_solution_in_callable(modifier),
                                                                         Consumer)
-        self._delegate.removeProblemFact(convert_to_java_python_like_object(fact), converted_modifier)
-        update_python_object_from_java(self._java_solution)
+        self._delegate.removeProblemFact(self._to_java_object(fact), converted_modifier)
+        update_python_object_from_java(self._java_solution, self._clone_map)
 
     def update_shadow_variables(self) -> None:
         """
@@ -214,8 +277,21 @@ class ProblemChangeDirector:
         This happens automatically after the entire `ProblemChange` has been processed,
         but this method allows the user to specifically request it in the middle of the `ProblemChange`.
         """
+        self._read_changed_attributes()
         self._delegate.updateShadowVariables()
-        update_python_object_from_java(self._java_solution)
+        update_python_object_from_java(self._java_solution, self._clone_map)
+
+
+@cache
+def _get_annotated_attribute_names(python_class: type, annotation_types: tuple[type, ...]) -> frozenset[str]:
+    out = set()
+    for cls in python_class.__mro__:
+        for name, type_hint in getattr(cls, '__annotations__', {}).items():
+            if get_origin(type_hint) is Annotated and any(metadata in annotation_types
+                                                          or isinstance(metadata, annotation_types)
+                                                          for metadata in type_hint.__metadata__):
+                out.add(name)
+    return frozenset(out)
 
 
 class ProblemChange(Generic[Solution_], ABC):
@@ -286,10 +362,16 @@ class ProblemChangeWrapper:
 
     @JOverride
     def doChange(self, working_solution, problem_change_director: '_ProblemChangeDirector') -> None:
-        wrapped_problem_change_director = ProblemChangeDirector(problem_change_director,
-                                                                working_solution,
-                                                                unwrap_python_like_object(working_solution))
-        self._delegate.do_change(working_solution, wrapped_problem_change_director)
+        from java.util import IdentityHashMap
+        clone_map = PythonCloneMap(IdentityHashMap(), dict())
+        with track_attribute_changes(clone_map):
+            wrapped_problem_change_director = ProblemChangeDirector(problem_change_director,
+                                                                    working_solution,
+                                                                    unwrap_python_like_object(working_solution,
+                                                                                              clone_map),
+                                                                    clone_map)
+            self._delegate.do_change(working_solution, wrapped_problem_change_director)
+            wrapped_problem_change_director._read_changed_attributes()
 
 
 __all__ = ['ProblemChange', 'ProblemChangeDirector']
@@ -31,6 +31,8 @@ class SolutionManager(Generic[Solution_]):
             'SolutionManager[Solution_]':
         """
         Uses a `SolverFactory` or `SolverManager` to build a SolutionManager.
+        The SolutionManager reuses the constraints the `SolverFactory` built,
+        so its `SolverConfig.untranslatable_function_policy` was already applied to them.
 
         Parameters
         ----------
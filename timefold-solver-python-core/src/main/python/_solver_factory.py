@@ -1,5 +1,6 @@
 from ._solver import Solver
 from .config import SolverConfig, SolverConfigOverride
+from .score import ConstraintFunctionTranslationReport, ConstraintNetworkDescription
 
 from typing import TypeVar, Generic, TYPE_CHECKING
 from jpype import JClass
@@ -7,6 +8,7 @@ from jpype import JClass
 if TYPE_CHECKING:
     # These imports require a JVM to be running, so only import if type checking
     from ai.timefold.solver.core.api.solver import SolverFactory as _JavaSolverFactory
+    from ai.timefold.solver.core.api.score.stream import Constraint as _JavaConstraint
 
 
 Solution_ = TypeVar('Solution_')
@@ -23,10 +25,16 @@ class SolverFactory(Generic[Solution_]):
     """
     _delegate: '_JavaSolverFactory'
     _solution_class: JClass
+    _function_translation_reports: list[ConstraintFunctionTranslationReport]
+    _constraints: list['_JavaConstraint']
 
-    def __init__(self, delegate: '_JavaSolverFactory', solution_class: JClass):
+    def __init__(self, delegate: '_JavaSolverFactory', solution_class: JClass,
+                 function_translation_reports: list[ConstraintFunctionTranslationReport] = None,
+                 constraints: list['_JavaConstraint'] = None):
         self._delegate = delegate
         self._solution_class = solution_class
+        self._function_translation_reports = function_translation_reports or []
+        self._constraints = constraints or []
 
     @staticmethod
     def create(solver_config: SolverConfig[Solution_]) -> 'SolverFactory[Solution_]':
@@ -48,9 +56,46 @@ class SolverFactory(Generic[Solution_]):
         Subsequent changes to the config have no effect on the returned instance.
         """
         from ai.timefold.solver.core.api.solver import SolverFactory as JavaSolverFactory
-        solver_config = solver_config._to_java_solver_config()
-        delegate = JavaSolverFactory.create(solver_config)  # noqa
-        return SolverFactory(delegate, solver_config.getSolutionClass())  # noqa
+        from .score._function_translator import record_function_translations
+        java_solver_config = solver_config._to_java_solver_config()
+        # The constraints are built when the Java SolverFactory is created
+        with record_function_translations(solver_config.untranslatable_function_policy) as (reports, constraints):
+            delegate = JavaSolverFactory.create(java_solver_config)  # noqa
+        return SolverFactory(delegate, java_solver_config.getSolutionClass(), reports, constraints)  # noqa
+
+    def get_function_translation_reports(self) -> list[ConstraintFunctionTranslationReport]:
+        """
+        Lists, for each constraint of the `constraint_provider`,
+        which of its functions were translated to Java bytecode and which are called through CPython.
+        Functions called through CPython are significantly slower,
+        so constraints with a non-zero `ConstraintFunctionTranslationReport.fallback_count`
+        are the first candidates to look at when score calculation is slow.
+
+        Returns
+        -------
+        list[ConstraintFunctionTranslationReport]
+            One report per constraint, empty if the score is not calculated with constraint streams.
+        """
+        return list(self._function_translation_reports)
+
+    def describe_constraint_network(self) -> ConstraintNetworkDescription:
+        """
+        Describes how the constraints of the `constraint_provider` were built:
+        the constraint stream nodes each constraint uses, which of them are shared between constraints,
+        which functions were translated to Java bytecode (and the size of their generated classes),
+        and which are called through CPython.
+        Use it to find constraints that do not share nodes they could share
+        (for example, because they use different lambdas for the same filter)
+        or that use untranslated functions.
+
+        Returns
+        -------
+        ConstraintNetworkDescription
+            The description of the constraint network,
+            which has no nodes or constraints if the score is not calculated with constraint streams.
+        """
+        from .score._constraint_network import describe_constraint_network
+        return describe_constraint_network(self._constraints, self._function_translation_reports)
 
     def build_solver(self, solver_config_override: SolverConfigOverride = None) -> Solver[Solution_]:
         """
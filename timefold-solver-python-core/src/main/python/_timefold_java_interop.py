@@ -170,6 +170,25 @@ def set_class_output_directory(path: pathlib.Path):
     PythonBytecodeToJavaBytecodeTranslator.classOutputRootPath = path
 
 
+def set_value_interning_limit(limit: int):
+    """
+    Sets how many distinct values are interned when problems are converted to Java.
+    Equal str, int, bytes, date, datetime and timedelta values (and tuples of them)
+    then share a single instance during solving,
+    which saves memory when a dataset repeats the same values many times.
+    By default, values are not interned.
+
+    Parameters
+    ----------
+    limit : int
+        The maximum number of distinct interned values; 0 disables interning.
+    """
+    ensure_init()
+
+    from _jpyinterpreter import set_value_interning_limit as _set_value_interning_limit
+    _set_value_interning_limit(limit)
+
+
 def get_class(python_class: Union[type, Callable]) -> JClass:
     """Return the Java Class for the given Python Class"""
     from java.lang import Object, Class
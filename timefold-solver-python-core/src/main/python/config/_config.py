@@ -1,4 +1,4 @@
-from ..score import ConstraintFactory, Constraint, IncrementalScoreCalculator
+from ..score import ConstraintFactory, Constraint, IncrementalScoreCalculator, UntranslatableFunctionPolicy
 from .._timefold_java_interop import is_enterprise_installed
 
 from typing import Any, Optional, Callable, TypeVar, Generic, Literal, TYPE_CHECKING
@@ -181,6 +181,12 @@ class SolverConfig(Generic[Solution_]):
     """
     To read it from XML, use `create_from_xml_resource`.
     To build a `SolverFactory` with it, use `SolverFactory.create`.
+
+    `untranslatable_function_policy` determines what happens when a function used in a constraint
+    cannot be translated to Java bytecode.
+    It defaults to `UntranslatableFunctionPolicy.WARN`,
+    so such functions are still called through CPython, but each constraint that uses one logs a warning.
+    Use `UntranslatableFunctionPolicy.ALLOW` to call them silently.
     """
     solution_class: Optional[type[Solution_]] = field(default=None)
     entity_class_list: Optional[list[type]] = field(default=None)
@@ -192,6 +198,7 @@ class SolverConfig(Generic[Solution_]):
     score_director_factory_config: Optional['ScoreDirectorFactoryConfig'] = field(default=None)
     xml_source_text: Optional[str] = field(default=None)
     xml_source_file: Optional[Path] = field(default=None)
+    untranslatable_function_policy: UntranslatableFunctionPolicy = field(default=UntranslatableFunctionPolicy.WARN)
 
     @staticmethod
     def create_from_xml_resource(path: Path) -> 'SolverConfig':
@@ -739,7 +739,9 @@ def planning_solution(planning_solution_class: Type[Solution_]) -> Type[Solution
     from _jpyinterpreter import add_class_annotation
     from .._timefold_java_interop import _add_to_compilation_queue
     from ai.timefold.solver.core.api.domain.solution import PlanningSolution as JavaPlanningSolution
-    out = add_class_annotation(JavaPlanningSolution)(planning_solution_class)
+    from ai.timefold.solver.python import PythonSolutionCloner
+    out = add_class_annotation(JavaPlanningSolution,
+                               solutionCloner=PythonSolutionCloner.class_)(planning_solution_class)
     _add_to_compilation_queue(planning_solution_class)
     return out
 
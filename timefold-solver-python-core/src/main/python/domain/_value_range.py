@@ -50,6 +50,41 @@ class ValueRangeFactory:
             return PythonValueRangeFactory.createIntValueRange(BigInteger(str(start)), BigInteger(str(end)),
                                                                BigInteger(str(step)))
 
+    @staticmethod
+    def create_int_list_value_range(values: 'list[int] | range'):
+        """
+        Build a `CountableValueRange` of the given `int` values.
+        Unlike a `list` attribute annotated with `ValueRangeProvider`,
+        the values are not converted one at a time;
+        a `range` is kept as bounds and a `list` is copied to the JVM in a single call.
+        All values must fit in a signed 64-bit integer.
+
+        Parameters
+        ----------
+        values : list[int] | range
+            The values of the value range, in order.
+
+        Examples
+        --------
+        >>> ValueRangeFactory.create_int_list_value_range(range(0, 10, 3))
+        CountableValueRange([0, 3, 6, 9])
+        >>> ValueRangeFactory.create_int_list_value_range([5, 1, 3])
+        CountableValueRange([5, 1, 3])
+        """
+        ensure_init()
+        import jpype.imports
+        from jpype import JArray, JLong
+        from ai.timefold.solver.python import PythonValueRangeFactory
+        if isinstance(values, range) and values.step > 0:
+            start = values.start
+            end = start + len(values) * values.step
+            if -2 ** 63 <= start and end < 2 ** 63:
+                return PythonValueRangeFactory.createIntValueRange(JLong(start), JLong(end), JLong(values.step))
+        try:
+            return PythonValueRangeFactory.createIntListValueRange(JArray(JLong)(values))
+        except OverflowError as e:
+            raise ValueError('Every value of an int list value range must fit in a signed 64-bit integer.') from e
+
     @staticmethod
     def create_float_value_range(start: Decimal, end: Decimal, step: Decimal = None):
         """
@@ -19,6 +19,7 @@ Examples
 from ._annotations import *
 from ._constraint_builder import *
 from ._constraint_factory import *
+from ._constraint_network import *
 from ._constraint_stream import *
 from ._function_translator import *
 from ._group_by import *
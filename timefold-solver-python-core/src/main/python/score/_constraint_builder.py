@@ -1,6 +1,6 @@
 import timefold.solver.score as score_api
 from .._jpype_type_conversions import to_python_score
-from ._function_translator import function_cast
+from ._function_translator import lazy_function_cast, report_function_translations
 from ..score._score import Score
 from typing import TypeVar, Callable, Generic, Collection, TYPE_CHECKING, Type
 
@@ -64,7 +64,7 @@ class UniConstraintBuilder(Generic[A, ScoreType]):
             this `UniConstraintBuilder`.
         """
         return UniConstraintBuilder(self.delegate.indictWith(
-            function_cast(indictment_function, self.a_type)), self.a_type)
+            lazy_function_cast(indictment_function, self.a_type)), self.a_type)
 
     def justify_with(self, justification_function: Callable[[A, ScoreType], 'score_api.ConstraintJustification']) -> \
             'UniConstraintBuilder[A, ScoreType]':
@@ -89,7 +89,7 @@ class UniConstraintBuilder(Generic[A, ScoreType]):
             return justification_function(a, to_python_score(score))
 
         return UniConstraintBuilder(self.delegate.justifyWith(
-            function_cast(wrapped, self.a_type, Score)), self.a_type)
+            lazy_function_cast(wrapped, self.a_type, Score)), self.a_type)
 
     def as_constraint(self, constraint_package_or_name: str, constraint_name: str = None) -> Constraint:
         """
@@ -112,9 +112,11 @@ class UniConstraintBuilder(Generic[A, ScoreType]):
             A `Constraint`.
         """
         if constraint_name is None:
-            return self.delegate.asConstraint(constraint_package_or_name)
+            constraint = self.delegate.asConstraint(constraint_package_or_name)
         else:
-            return self.delegate.asConstraint(constraint_package_or_name, constraint_name)
+            constraint = self.delegate.asConstraint(constraint_package_or_name, constraint_name)
+        report_function_translations(constraint)
+        return constraint
 
 
 class BiConstraintBuilder(Generic[A, B, ScoreType]):
@@ -156,7 +158,7 @@ class BiConstraintBuilder(Generic[A, B, ScoreType]):
             this `BiConstraintBuilder`.
         """
         return BiConstraintBuilder(self.delegate.indictWith(
-            function_cast(indictment_function, self.a_type, self.b_type)), self.a_type, self.b_type)
+            lazy_function_cast(indictment_function, self.a_type, self.b_type)), self.a_type, self.b_type)
 
     def justify_with(self, justification_function: Callable[[A, B, ScoreType],
                                                             'score_api.ConstraintJustification']) -> \
@@ -182,7 +184,7 @@ class BiConstraintBuilder(Generic[A, B, ScoreType]):
             return justification_function(a, b, to_python_score(score))
 
         return BiConstraintBuilder(self.delegate.justifyWith(
-            function_cast(wrapped, self.a_type, self.b_type, Score)), self.a_type, self.b_type)
+            lazy_function_cast(wrapped, self.a_type, self.b_type, Score)), self.a_type, self.b_type)
 
     def as_constraint(self, constraint_package_or_name: str, constraint_name: str = None) -> Constraint:
         """
@@ -205,9 +207,11 @@ class BiConstraintBuilder(Generic[A, B, ScoreType]):
             A `Constraint`.
         """
         if constraint_name is None:
-            return self.delegate.asConstraint(constraint_package_or_name)
+            constraint = self.delegate.asConstraint(constraint_package_or_name)
         else:
-            return self.delegate.asConstraint(constraint_package_or_name, constraint_name)
+            constraint = self.delegate.asConstraint(constraint_package_or_name, constraint_name)
+        report_function_translations(constraint)
+        return constraint
 
 
 class TriConstraintBuilder(Generic[A, B, C, ScoreType]):
@@ -252,7 +256,7 @@ class TriConstraintBuilder(Generic[A, B, C, ScoreType]):
             this `TriConstraintBuilder`.
         """
         return TriConstraintBuilder(self.delegate.indictWith(
-            function_cast(indictment_function, self.a_type, self.b_type, self.c_type)), self.a_type, self.b_type,
+            lazy_function_cast(indictment_function, self.a_type, self.b_type, self.c_type)), self.a_type, self.b_type,
                                     self.c_type)
 
     def justify_with(self, justification_function: Callable[[A, B, C, ScoreType],
@@ -279,7 +283,7 @@ class TriConstraintBuilder(Generic[A, B, C, ScoreType]):
             return justification_function(a, b, c, to_python_score(score))
 
         return TriConstraintBuilder(self.delegate.justifyWith(
-            function_cast(wrapped, self.a_type, self.b_type, self.c_type, Score)),
+            lazy_function_cast(wrapped, self.a_type, self.b_type, self.c_type, Score)),
             self.a_type, self.b_type, self.c_type)
 
     def as_constraint(self, constraint_package_or_name: str, constraint_name: str = None) -> Constraint:
@@ -303,9 +307,11 @@ class TriConstraintBuilder(Generic[A, B, C, ScoreType]):
             A `Constraint`.
         """
         if constraint_name is None:
-            return self.delegate.asConstraint(constraint_package_or_name)
+            constraint = self.delegate.asConstraint(constraint_package_or_name)
         else:
-            return self.delegate.asConstraint(constraint_package_or_name, constraint_name)
+            constraint = self.delegate.asConstraint(constraint_package_or_name, constraint_name)
+        report_function_translations(constraint)
+        return constraint
 
 
 class QuadConstraintBuilder(Generic[A, B, C, D, ScoreType]):
@@ -352,7 +358,7 @@ class QuadConstraintBuilder(Generic[A, B, C, D, ScoreType]):
             this `QuadConstraintBuilder`.
         """
         return QuadConstraintBuilder(self.delegate.indictWith(
-            function_cast(indictment_function, self.a_type, self.b_type, self.c_type, self.d_type)),
+            lazy_function_cast(indictment_function, self.a_type, self.b_type, self.c_type, self.d_type)),
             self.a_type, self.b_type, self.c_type, self.d_type)
 
     def justify_with(self, justification_function: Callable[[A, B, C, D, ScoreType],
@@ -379,7 +385,7 @@ class QuadConstraintBuilder(Generic[A, B, C, D, ScoreType]):
             return justification_function(a, b, c, d, to_python_score(score))
 
         return QuadConstraintBuilder(self.delegate.justifyWith(
-            function_cast(wrapped, self.a_type, self.b_type, self.c_type, self.d_type, Score)),
+            lazy_function_cast(wrapped, self.a_type, self.b_type, self.c_type, self.d_type, Score)),
             self.a_type, self.b_type, self.c_type, self.d_type)
 
     def as_constraint(self, constraint_package_or_name: str, constraint_name: str = None) -> Constraint:
@@ -403,9 +409,11 @@ class QuadConstraintBuilder(Generic[A, B, C, D, ScoreType]):
             A `Constraint`.
         """
         if constraint_name is None:
-            return self.delegate.asConstraint(constraint_package_or_name)
+            constraint = self.delegate.asConstraint(constraint_package_or_name)
         else:
-            return self.delegate.asConstraint(constraint_package_or_name, constraint_name)
+            constraint = self.delegate.asConstraint(constraint_package_or_name, constraint_name)
+        report_function_translations(constraint)
+        return constraint
 
 
 __all__ = ['Constraint',
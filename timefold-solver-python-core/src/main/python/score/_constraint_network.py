@@ -0,0 +1,233 @@
+from ._function_translator import ConstraintFunctionTranslationReport, FunctionTranslation
+from dataclasses import dataclass
+from typing import Optional, TYPE_CHECKING
+
+if TYPE_CHECKING:
+    # These imports require a JVM to be running, so only import if type checking
+    from ai.timefold.solver.core.api.score.stream import Constraint as _JavaConstraint
+
+
+@dataclass(frozen=True)
+class ConstraintStreamNode:
+    """
+    A node of the constraint network, which is a constraint stream operation
+    (such as a filter, a join or a group by) that constraints can share.
+
+    Attributes
+    ----------
+    node_id : int
+        The id of the node, unique in its `ConstraintNetworkDescription`.
+        Parents always have a lower id than their children.
+    kind : str
+        The kind of operation, such as ``FilterUni`` or ``JoinBi``.
+    description : str
+        A description of the operation.
+    parent_ids : tuple[int, ...]
+        The ids of the nodes the node receives its tuples from.
+    constraint_ids : tuple[str, ...]
+        The ids of the constraints that use the node.
+    """
+    node_id: int
+    kind: str
+    description: str
+    parent_ids: tuple[int, ...]
+    constraint_ids: tuple[str, ...]
+
+    @property
+    def is_shared(self) -> bool:
+        """
+        True if more than one constraint uses the node, so its work is done once for all of them.
+        """
+        return len(self.constraint_ids) > 1
+
+
+@dataclass(frozen=True)
+class ConstraintNetworkEntry:
+    """
+    The part of the constraint network used by a single constraint.
+
+    Attributes
+    ----------
+    constraint_id : str
+        The id of the constraint.
+    node_ids : tuple[int, ...]
+        The ids of the nodes the constraint uses, parents first.
+    functions : tuple[FunctionTranslation, ...]
+        Every function used by the constraint, and whether it was translated to Java bytecode.
+    """
+    constraint_id: str
+    node_ids: tuple[int, ...]
+    functions: tuple[FunctionTranslation, ...]
+
+    @property
+    def bytecode_size(self) -> int:
+        """
+        The total size in bytes of the Java classes generated for the translated functions of the constraint.
+        """
+        return sum(function.bytecode_size for function in self.functions if function.bytecode_size is not None)
+
+
+@dataclass(frozen=True)
+class ConstraintNetworkDescription:
+    """
+    Describes how the constraints of a `constraint_provider` were built:
+    which constraint stream nodes they use and share,
+    and which of their functions were translated to Java bytecode.
+    Nodes that are not shared are evaluated once per constraint that uses them,
+    and functions that were not translated are called through CPython,
+    so both are the first things to look at when score calculation is slow.
+
+    Attributes
+    ----------
+    nodes : tuple[ConstraintStreamNode, ...]
+        Every node of the network, parents first.
+    constraints : tuple[ConstraintNetworkEntry, ...]
+        One entry per constraint, in the order they were built.
+    generated_class_count : int
+        The number of Java classes generated from Python code so far
+        (including domain classes and functions of other constraint providers).
+    generated_bytecode_size : int
+        The total size in bytes of those classes.
+    """
+    nodes: tuple[ConstraintStreamNode, ...]
+    constraints: tuple[ConstraintNetworkEntry, ...]
+    generated_class_count: int
+    generated_bytecode_size: int
+
+    @property
+    def node_count(self) -> int:
+        """
+        The number of nodes in the network.
+        """
+        return len(self.nodes)
+
+    @property
+    def unshared_node_count(self) -> int:
+        """
+        The number of nodes the network would have if constraints did not share nodes.
+        """
+        return sum(len(constraint.node_ids) for constraint in self.constraints)
+
+    @property
+    def sharing_ratio(self) -> float:
+        """
+        The fraction of nodes that sharing saved, from ``0.0`` (no node is shared)
+        to almost ``1.0`` (every constraint uses the same nodes).
+        """
+        if self.unshared_node_count == 0:
+            return 0.0
+        return 1.0 - self.node_count / self.unshared_node_count
+
+    @property
+    def translated_function_count(self) -> int:
+        """
+        The number of functions in the constraints that were translated to Java bytecode.
+        """
+        return sum(1 for constraint in self.constraints for function in constraint.functions
+                   if function.translated)
+
+    @property
+    def fallback_function_count(self) -> int:
+        """
+        The number of functions in the constraints that are called through CPython,
+        because they could not be translated to Java bytecode.
+        """
+        return sum(1 for constraint in self.constraints for function in constraint.functions
+                   if not function.translated)
+
+    def __str__(self) -> str:
+        lines = [f'{self.node_count} nodes ({self.unshared_node_count} without sharing, '
+                 f'{self.sharing_ratio:.0%} shared), '
+                 f'{self.translated_function_count} translated functions, '
+                 f'{self.fallback_function_count} functions called through CPython, '
+                 f'{self.generated_class_count} generated classes ({self.generated_bytecode_size} bytes)']
+        nodes_by_id = {node.node_id: node for node in self.nodes}
+        for constraint in self.constraints:
+            lines.append(f'{constraint.constraint_id}:')
+            for node_id in constraint.node_ids:
+                node = nodes_by_id[node_id]
+                shared = f' (shared by {len(node.constraint_ids)})' if node.is_shared else ''
+                lines.append(f'  #{node.node_id} {node.kind} <- {list(node.parent_ids)}{shared}')
+            for function in constraint.functions:
+                if function.translated:
+                    lines.append(f'  translated: {function.function} '
+                                 f'({function.java_class_name}, {function.bytecode_size} bytes)')
+                else:
+                    lines.append(f'  CPython: {function.function}: {function.reason}')
+        return '\n'.join(lines)
+
+
+def _get_node_kind(stream) -> str:
+    kind = stream.getClass().getSimpleName()
+    kind = kind.removeprefix('Bavet')
+    kind = kind.removesuffix('ConstraintStream')
+    return kind
+
+
+def _collect_streams(constraint: '_JavaConstraint') -> Optional[list]:
+    from java.util import LinkedHashSet
+    if not hasattr(constraint, 'collectActiveConstraintStreams'):
+        # Not a Bavet constraint
+        return None
+    streams = LinkedHashSet()
+    constraint.collectActiveConstraintStreams(streams)
+    return list(streams)
+
+
+def describe_constraint_network(constraints: list['_JavaConstraint'],
+                                reports: list[ConstraintFunctionTranslationReport]) -> ConstraintNetworkDescription:
+    """
+    Describes the network of the given constraints, which must be the constraints (and their reports)
+    built by a single constraint provider, since only streams of the same constraint factory are shared.
+    """
+    from ai.timefold.jpyinterpreter.types import BuiltinTypes
+
+    constraint_streams = [_collect_streams(constraint) or [] for constraint in constraints]
+
+    # Constraints share streams by reusing the same instance,
+    # so the same Java object appears in the streams of every constraint that uses it
+    stream_to_constraint_ids = {}
+    for constraint, streams in zip(constraints, constraint_streams):
+        for stream in streams:
+            stream_to_constraint_ids.setdefault(stream, []).append(constraint.getConstraintId())
+
+    stream_to_parents = {stream: [] for stream in stream_to_constraint_ids}
+    for stream in stream_to_constraint_ids:
+        for child in stream.getChildStreamList():
+            if child in stream_to_parents:
+                stream_to_parents[child].append(stream)
+
+    stream_to_node_id = {}
+
+    def assign_node_id(stream):
+        if stream in stream_to_node_id:
+            return
+        for parent in stream_to_parents[stream]:
+            assign_node_id(parent)
+        stream_to_node_id[stream] = len(stream_to_node_id)
+
+    for streams in constraint_streams:
+        for stream in streams:
+            assign_node_id(stream)
+
+    nodes = tuple(sorted((ConstraintStreamNode(node_id=node_id,
+                                               kind=_get_node_kind(stream),
+                                               description=str(stream),
+                                               parent_ids=tuple(stream_to_node_id[parent]
+                                                                for parent in stream_to_parents[stream]),
+                                               constraint_ids=tuple(stream_to_constraint_ids[stream]))
+                          for stream, node_id in stream_to_node_id.items()),
+                         key=lambda node: node.node_id))
+    entries = tuple(ConstraintNetworkEntry(constraint_id=report.constraint_id,
+                                           node_ids=tuple(sorted(stream_to_node_id[stream] for stream in streams)),
+                                           functions=report.functions)
+                    for report, streams in zip(reports, constraint_streams))
+    class_name_to_bytecode = BuiltinTypes.classNameToBytecode
+    return ConstraintNetworkDescription(nodes=nodes,
+                                        constraints=entries,
+                                        generated_class_count=class_name_to_bytecode.size(),
+                                        generated_bytecode_size=sum(len(bytecode) for bytecode
+                                                                    in class_name_to_bytecode.values()))
+
+
+__all__ = ['ConstraintStreamNode', 'ConstraintNetworkEntry', 'ConstraintNetworkDescription']
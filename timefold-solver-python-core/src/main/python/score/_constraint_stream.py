@@ -40,6 +40,7 @@ class UniConstraintStream(Generic[A]):
         self.delegate = delegate
         self.package = package
         self.a_type = a_type
+        self._filter_chain = None
 
     def get_constraint_factory(self):
         """
@@ -51,9 +52,11 @@ class UniConstraintStream(Generic[A]):
         """
         Exhaustively test each fact against the predicate and match if the predicate returns ``True``.
         """
-        translated_predicate = predicate_cast(predicate, self.a_type)
-        return UniConstraintStream(self.delegate.filter(translated_predicate), self.package,
-                                   self.a_type)
+        delegate, filter_chain = _filter(self, predicate, self.a_type)
+        out = UniConstraintStream(delegate, self.package,
+                                  self.a_type)
+        out._filter_chain = filter_chain
+        return out
 
     def join(self, unistream_or_type: Union['UniConstraintStream[B_]', Type[B_]], *joiners: 'BiJoiner[A, B_]') -> \
             'BiConstraintStream[A,B_]':
@@ -641,6 +644,7 @@ class BiConstraintStream(Generic[A, B]):
         self.package = package
         self.a_type = a_type
         self.b_type = b_type
+        self._filter_chain = None
 
     def get_constraint_factory(self):
         """
@@ -652,11 +656,12 @@ class BiConstraintStream(Generic[A, B]):
         """
         Exhaustively test each fact against the predicate and match if the predicate returns ``True``.
         """
-        translated_predicate = predicate_cast(predicate, self.a_type, self.b_type)
-        return BiConstraintStream(self.delegate.filter(translated_predicate), self.package,
-
-                                  self.a_type,
-                                  self.b_type)
+        delegate, filter_chain = _filter(self, predicate, self.a_type, self.b_type)
+        out = BiConstraintStream(delegate, self.package,
+                                 self.a_type,
+                                 self.b_type)
+        out._filter_chain = filter_chain
+        return out
 
     def join(self, unistream_or_type: Union[UniConstraintStream[C_], Type[C_]],
              *joiners: 'TriJoiner[A,B,C_]') -> 'TriConstraintStream[A,B,C_]':
@@ -1202,6 +1207,7 @@ class TriConstraintStream(Generic[A, B, C]):
         self.a_type = a_type
         self.b_type = b_type
         self.c_type = c_type
+        self._filter_chain = None
 
     def get_constraint_factory(self):
         """
@@ -1213,10 +1219,12 @@ class TriConstraintStream(Generic[A, B, C]):
         """
         Exhaustively test each fact against the predicate and match if the predicate returns ``True``.
         """
-        translated_predicate = predicate_cast(predicate, self.a_type, self.b_type, self.c_type)
-        return TriConstraintStream(self.delegate.filter(translated_predicate), self.package,
-                                   self.a_type,
-                                   self.b_type, self.c_type)
+        delegate, filter_chain = _filter(self, predicate, self.a_type, self.b_type, self.c_type)
+        out = TriConstraintStream(delegate, self.package,
+                                  self.a_type,
+                                  self.b_type, self.c_type)
+        out._filter_chain = filter_chain
+        return out
 
     def join(self, unistream_or_type: Union[UniConstraintStream[D_], Type[D_]],
              *joiners: 'QuadJoiner[A, B, C, D_]') -> 'QuadConstraintStream[A,B,C,D_]':
@@ -1759,6 +1767,7 @@ class QuadConstraintStream(Generic[A, B, C, D]):
         self.b_type = b_type
         self.c_type = c_type
         self.d_type = d_type
+        self._filter_chain = None
 
     def get_constraint_factory(self):
         """
@@ -1770,10 +1779,12 @@ class QuadConstraintStream(Generic[A, B, C, D]):
         """
         Exhaustively test each fact against the predicate and match if the predicate returns ``True``.
         """
-        translated_predicate = predicate_cast(predicate, self.a_type, self.b_type, self.c_type, self.d_type)
-        return QuadConstraintStream(self.delegate.filter(translated_predicate), self.package,
-                                    self.a_type,
-                                    self.b_type, self.c_type, self.d_type)
+        delegate, filter_chain = _filter(self, predicate, self.a_type, self.b_type, self.c_type, self.d_type)
+        out = QuadConstraintStream(delegate, self.package,
+                                   self.a_type,
+                                   self.b_type, self.c_type, self.d_type)
+        out._filter_chain = filter_chain
+        return out
 
     def if_exists(self, item_type: Type[E_], *joiners: 'PentaJoiner[A, B, C, D, E_]') -> \
             'QuadConstraintStream[A,B,C,D]':
@@ -2279,12 +2290,44 @@ class QuadConstraintStream(Generic[A, B, C, D]):
                 self.a_type, self.b_type, self.c_type, self.d_type)
 
 
+def _filter(stream, predicate, *type_args):
+    """
+    Filters the Java stream of the given stream,
+    and returns the filtered Java stream and the filter chain of the result.
+    The filter chain is the stream the filters started from and the translated predicate of all the filters so far,
+    so another filter on the result is fused into a single filter on that stream,
+    and tuples go through one filter node no matter how many filters are chained.
+    The translated predicates are fused by a `FusedPredicate`, which calls them directly from Java,
+    so each predicate is translated once.
+    Only predicates that are translated are fused, since the others are called through CPython either way.
+
+    Fusing re-roots the filter on the stream the chain started from.
+    If a constraint also uses an intermediate filtered stream
+    (ex: ``s = f.filter(a)`` is used both as is and as ``s.filter(b)``),
+    Timefold builds both the intermediate filter node and the fused one,
+    so ``a`` is evaluated by both instead of the fused node sharing the intermediate one.
+    """
+    translated_predicate = predicate_cast(predicate, *type_args)
+    if not is_translated(translated_predicate):
+        return stream.delegate.filter(translated_predicate), None
+
+    if stream._filter_chain is not None:
+        from ai.timefold.solver.python.score import FusedPredicate
+        source, chain_predicate = stream._filter_chain
+        fuse = (FusedPredicate.uni, FusedPredicate.bi, FusedPredicate.tri, FusedPredicate.quad)[len(type_args) - 1]
+        fused_predicate = fuse(chain_predicate, translated_predicate)
+        return source.filter(fused_predicate), (source, fused_predicate)
+
+    return stream.delegate.filter(translated_predicate), (stream.delegate, translated_predicate)
+
+
 # Must be on the bottom, .group_by depends on this module
 from ._constraint_factory import *
 from ._joiners import *
 from ._group_by import *
 from ._constraint_builder import *
 from ._function_translator import *
+from ._function_translator import is_translated
 
 __all__ = [
     'UniConstraintStream',
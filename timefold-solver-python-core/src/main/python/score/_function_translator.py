@@ -2,17 +2,224 @@ from .._jpype_type_conversions import (_convert_to_java_compatible_object, Pytho
                                        PythonTriFunction, PythonQuadFunction, PythonPentaFunction, PythonToIntFunction,
                                        PythonToIntBiFunction, PythonToIntTriFunction, PythonToIntQuadFunction,
                                        PythonPredicate, PythonBiPredicate, PythonTriPredicate, PythonQuadPredicate,
-                                       PythonPentaPredicate)
+                                       PythonPentaPredicate, PythonSupplier)
 from _jpyinterpreter import translate_python_bytecode_to_java_bytecode, check_current_python_version_supported
 import jpype.imports  # noqa
 from jpype import JImplements, JOverride
+from contextlib import contextmanager
+from dataclasses import dataclass, field
+from enum import Enum
+from types import CodeType, FunctionType
+from typing import Callable, Iterator, Optional, TYPE_CHECKING
 import inspect
 import logging
+import threading
+
+if TYPE_CHECKING:
+    from ai.timefold.solver.core.api.score.stream import Constraint as _JavaConstraint
 
 
 logger = logging.getLogger('timefold.solver')
 
 
+class UntranslatableFunctionPolicy(Enum):
+    """
+    Determines what happens when the bytecode of a function used in a constraint
+    (such as a filter, a joiner mapping or a collector mapping)
+    cannot be translated to Java bytecode.
+    Such functions are called through CPython instead,
+    which is significantly slower and holds the GIL for every call.
+    """
+
+    ALLOW = 'ALLOW'
+    """
+    Silently call untranslatable functions through CPython.
+    """
+
+    WARN = 'WARN'
+    """
+    Call untranslatable functions through CPython,
+    and log a warning for every constraint that uses one, including the reason translation failed.
+    This is the default.
+    Before the policy existed, untranslatable functions were called through CPython silently;
+    use `ALLOW` to keep that behavior without the warnings.
+    """
+
+    FAIL = 'FAIL'
+    """
+    Raise an `UntranslatableFunctionError` as soon as a function cannot be translated.
+    """
+
+
+class UntranslatableFunctionError(RuntimeError):
+    def __init__(self, function_translation: 'FunctionTranslation'):
+        super().__init__(f'Unable to translate {function_translation.function} to Java bytecode: '
+                         f'{function_translation.reason}. '
+                         f'Rewrite the function so it can be translated, or set '
+                         f'SolverConfig.untranslatable_function_policy to allow it to be called through CPython.')
+        self.function_translation = function_translation
+
+
+@dataclass(frozen=True)
+class FunctionTranslation:
+    """
+    Whether a function used in a constraint was translated to Java bytecode.
+
+    Attributes
+    ----------
+    function : str
+        The name and source location of the function.
+    translated : bool
+        True if the function was translated to Java bytecode,
+        False if it is called through CPython.
+    reason : str, optional
+        Why the function could not be translated, if it was not.
+    java_class_name : str, optional
+        The name of the Java class the function was translated to, if it was translated.
+    bytecode_size : int, optional
+        The size in bytes of the generated Java class, if the function was translated.
+    """
+    function: str
+    translated: bool
+    reason: Optional[str] = None
+    java_class_name: Optional[str] = None
+    bytecode_size: Optional[int] = None
+
+
+@dataclass(frozen=True)
+class ConstraintFunctionTranslationReport:
+    """
+    Lists which functions of a constraint were translated to Java bytecode,
+    and which are called through CPython.
+
+    Attributes
+    ----------
+    constraint_id : str
+        The id of the constraint.
+    functions : tuple[FunctionTranslation, ...]
+        Every function used by the constraint, in the order they were used to build it.
+    """
+    constraint_id: str
+    functions: tuple[FunctionTranslation, ...]
+
+    @property
+    def translated_count(self) -> int:
+        return sum(1 for function in self.functions if function.translated)
+
+    @property
+    def fallback_count(self) -> int:
+        return sum(1 for function in self.functions if not function.translated)
+
+    @property
+    def fallbacks(self) -> tuple[FunctionTranslation, ...]:
+        return tuple(function for function in self.functions if not function.translated)
+
+
+@dataclass
+class _FunctionTranslationContext:
+    policy: UntranslatableFunctionPolicy = UntranslatableFunctionPolicy.WARN
+    # Functions cast since the last Constraint was built
+    pending_function_translations: list[FunctionTranslation] = field(default_factory=list)
+    # Reports of the constraints built inside record_function_translations
+    reports: Optional[list[ConstraintFunctionTranslationReport]] = None
+    # Constraints built inside record_function_translations, in the same order as their reports
+    constraints: Optional[list['_JavaConstraint']] = None
+    # Canonical key of a function translated inside record_function_translations ->
+    # (function, its default values, translated function)
+    translated_functions: Optional[dict[tuple, tuple]] = None
+
+
+# Constraint providers can be invoked from several threads at once (for example, by a multithreaded
+# SolverManager creating solvers), so each thread has its own context
+_thread_local = threading.local()
+
+
+def _get_context() -> _FunctionTranslationContext:
+    context = getattr(_thread_local, 'context', None)
+    if context is None:
+        context = _FunctionTranslationContext()
+        _thread_local.context = context
+    return context
+
+
+@contextmanager
+def record_function_translations(policy: UntranslatableFunctionPolicy) -> \
+        Iterator[tuple[list[ConstraintFunctionTranslationReport], list['_JavaConstraint']]]:
+    """
+    Applies the policy to every constraint built inside the context by the current thread,
+    and collects their `ConstraintFunctionTranslationReport` and the built Java constraints
+    into the yielded lists.
+    Identical functions cast inside the context are translated once;
+    the translations are forgotten when the context exits.
+    """
+    old_context = _get_context()
+    context = _FunctionTranslationContext(policy, reports=[], constraints=[], translated_functions={})
+    _thread_local.context = context
+    try:
+        yield context.reports, context.constraints
+    finally:
+        _thread_local.context = old_context
+
+
+def _describe_function(function) -> str:
+    code = getattr(function, '__code__', None)
+    name = getattr(function, '__qualname__', repr(function))
+    if code is None:
+        return name
+    return f'{name} ({code.co_filename}:{code.co_firstlineno})'
+
+
+def record_translated_function(function, translated_function) -> None:
+    from ai.timefold.jpyinterpreter.types import BuiltinTypes
+    java_class_name = translated_function.getClass().getName()
+    bytecode = BuiltinTypes.classNameToBytecode.get(java_class_name)
+    _get_context().pending_function_translations.append(
+        FunctionTranslation(_describe_function(function), True,
+                            java_class_name=java_class_name,
+                            bytecode_size=len(bytecode) if bytecode is not None else None))
+
+
+def record_untranslated_function(function, reason: str) -> None:
+    context = _get_context()
+    function_translation = FunctionTranslation(_describe_function(function), False, reason)
+    if context.policy is UntranslatableFunctionPolicy.FAIL:
+        context.pending_function_translations.clear()
+        raise UntranslatableFunctionError(function_translation)
+    context.pending_function_translations.append(function_translation)
+
+
+def _increment_counter(name: str, constraint_id: str, amount: int) -> None:
+    from io.micrometer.core.instrument import Metrics
+    Metrics.counter(name, 'constraint.id', constraint_id).increment(amount)
+
+
+def report_function_translations(constraint: '_JavaConstraint') -> None:
+    """
+    Attributes every function cast since the previous constraint was built to the given constraint,
+    so it must be called right after the constraint is built.
+    """
+    context = _get_context()
+    report = ConstraintFunctionTranslationReport(constraint.getConstraintId(),
+                                                 tuple(context.pending_function_translations))
+    context.pending_function_translations.clear()
+    if context.reports is not None:
+        context.reports.append(report)
+    if context.constraints is not None:
+        context.constraints.append(constraint)
+
+    _increment_counter('timefold.solver.python.functions.translated', report.constraint_id,
+                       report.translated_count)
+    _increment_counter('timefold.solver.python.functions.untranslated', report.constraint_id,
+                       report.fallback_count)
+
+    if report.fallback_count > 0 and context.policy is UntranslatableFunctionPolicy.WARN:
+        fallback_descriptions = '\n'.join(f'- {function.function}: {function.reason}'
+                                           for function in report.fallbacks)
+        logger.warning(f'Constraint ({report.constraint_id}) uses functions that could not be translated to '
+                       f'Java bytecode:\n{fallback_descriptions}\n'
+                       f'These functions are called through CPython, which is significantly slower.')
+
+
 def _check_if_bytecode_translation_possible():
     check_current_python_version_supported()
 
@@ -77,36 +284,186 @@ def _check_if_type_args_are_python_object_wrappers(type_args):
     return False
 
 
-def function_cast(function, *type_args):
+def _get_arg_count(function, type_args) -> int:
     arg_count = len(inspect.signature(function).parameters)
     if len(type_args) != arg_count:
         raise ValueError(f'Invalid function: expected {len(type_args)} arguments but got {arg_count}')
+    return arg_count
+
+
+def _describe_error(error: BaseException) -> str:
+    message = str(error)
+    if message:
+        return f'{type(error).__name__}: {message}'
+    return type(error).__name__
+
+
+_IMMUTABLE_VALUE_TYPES = (int, float, str, bytes, bool, type(None))
+
+
+def _get_value_key(value, functions_in_progress: frozenset = frozenset()) -> tuple:
+    # Immutable builtins are compared by value; type is part of the key so 1, 1.0 and True differ.
+    # Floats are keyed by repr, since 0.0 == -0.0 (which differ in sign) and nan != nan
+    if type(value) is float:
+        return float, repr(value)
+    if type(value) in _IMMUTABLE_VALUE_TYPES:
+        return type(value), value
+    if type(value) is tuple:
+        return tuple, tuple(_get_value_key(item, functions_in_progress) for item in value)
+    if isinstance(value, CodeType):
+        return CodeType, _get_code_key(value)
+    # Functions are compared like the functions being cast, so functions that hold identical functions
+    # (ex: as default values) are also identical; recursive functions are compared by identity
+    if isinstance(value, FunctionType) and value not in functions_in_progress:
+        return FunctionType, _get_function_key(value, functions_in_progress | {value})
+    return object, id(value)
+
+
+def _get_code_key(code: CodeType) -> tuple:
+    # Unlike code equality, ignores the file and line numbers,
+    # so the same lambda written in several constraints has the same key
+    return (code.co_code, code.co_argcount, code.co_posonlyargcount, code.co_kwonlyargcount, code.co_flags,
+            code.co_names, code.co_varnames, code.co_freevars, code.co_cellvars,
+            getattr(code, 'co_exceptiontable', None),
+            tuple(_get_value_key(constant) for constant in code.co_consts))
+
+
+def _get_cell_key(cell) -> tuple:
+    # A cell can be rebound after the function was cast, so cells are compared by identity
+    return object, id(cell)
+
+
+def _get_default_values(function: FunctionType) -> tuple[tuple, tuple]:
+    default_values = function.__defaults__ or ()
+    keyword_default_items = tuple(sorted((function.__kwdefaults__ or {}).items(), key=lambda item: item[0]))
+    return default_values, keyword_default_items
+
+
+def _get_function_key(function: FunctionType, functions_in_progress: frozenset) -> tuple:
+    default_values, keyword_default_items = _get_default_values(function)
+    return (_get_code_key(function.__code__), id(function.__globals__),
+            tuple(_get_cell_key(cell) for cell in function.__closure__ or ()),
+            tuple(_get_value_key(value, functions_in_progress) for value in default_values),
+            tuple((name, _get_value_key(value, functions_in_progress)) for name, value in keyword_default_items))
+
+
+def _get_canonical_key(function, translate: Callable, type_args) -> Optional[tuple[tuple, tuple]]:
+    """
+    Returns a key that is equal for functions with the same code, globals, closure cells and defaults,
+    which are interchangeable once translated, along with the default values
+    (which must be kept alive, since mutable values are keyed by id).
+    Returns None if the function is not a plain Python function.
+    """
+    if not isinstance(function, FunctionType):
+        return None
+    key = (translate, type_args, _get_function_key(function, frozenset({function})))
+    return key, _get_default_values(function)
+
+
+def _cast(function, type_args, translate: Callable, default_cast: Callable):
+    arg_count = _get_arg_count(function, type_args)
 
     if _check_if_type_args_are_python_object_wrappers(type_args):
-        return default_function_cast(function, arg_count)
+        record_untranslated_function(function, 'its arguments are opaque Python objects')
+        return default_cast(function, arg_count)
 
+    try:
+        out = _translate_canonical(function, arg_count, type_args, translate, _get_context().translated_functions)
+    except Exception as e:
+        record_untranslated_function(function, _describe_error(e))
+        return default_cast(function, arg_count)
+    record_translated_function(function, out)
+    return out
+
+
+def _translate_canonical(function, arg_count, type_args, translate: Callable,
+                         translated_functions: Optional[dict[tuple, tuple]]):
+    # Identical functions are translated once, so constraints that use them share constraint stream nodes
+    canonical_key = _get_canonical_key(function, translate, type_args) if translated_functions is not None else None
+    if canonical_key is not None and canonical_key[0] in translated_functions:
+        return translated_functions[canonical_key[0]][2]
+
+    _check_if_bytecode_translation_possible()
+    out = translate(function, arg_count, *type_args)
+    if canonical_key is not None:
+        key, values = canonical_key
+        translated_functions[key] = (function, values, out)
+    return out
+
+
+def translate_function(function, arg_count, *type_args):
     from java.util.function import Function, BiFunction
     from ai.timefold.solver.core.api.function import TriFunction, QuadFunction, PentaFunction
     from ai.timefold.jpyinterpreter import PythonLikeObject
 
-    try:
-        _check_if_bytecode_translation_possible()
-        if arg_count == 1:
-            return translate_python_bytecode_to_java_bytecode(function, Function, *type_args, PythonLikeObject)
-        elif arg_count == 2:
-            return translate_python_bytecode_to_java_bytecode(function, BiFunction, *type_args, PythonLikeObject)
-        elif arg_count == 3:
-            return translate_python_bytecode_to_java_bytecode(function, TriFunction, *type_args, PythonLikeObject)
-        elif arg_count == 4:
-            return translate_python_bytecode_to_java_bytecode(function, QuadFunction, *type_args, PythonLikeObject)
-        elif arg_count == 5:
-            return translate_python_bytecode_to_java_bytecode(function, PentaFunction, *type_args, PythonLikeObject)
-    except:  # noqa
-        return default_function_cast(function, arg_count)
+    if arg_count == 1:
+        return translate_python_bytecode_to_java_bytecode(function, Function, *type_args, PythonLikeObject)
+    elif arg_count == 2:
+        return translate_python_bytecode_to_java_bytecode(function, BiFunction, *type_args, PythonLikeObject)
+    elif arg_count == 3:
+        return translate_python_bytecode_to_java_bytecode(function, TriFunction, *type_args, PythonLikeObject)
+    elif arg_count == 4:
+        return translate_python_bytecode_to_java_bytecode(function, QuadFunction, *type_args, PythonLikeObject)
+    elif arg_count == 5:
+        return translate_python_bytecode_to_java_bytecode(function, PentaFunction, *type_args, PythonLikeObject)
+    raise ValueError(f'Unexpected argument count: {arg_count}')
+
 
+def function_cast(function, *type_args):
+    return _cast(function, type_args, translate_function, default_function_cast)
+
+
+def lazy_function_cast(function, *type_args):
+    """
+    Like `function_cast`, but the function is only translated when it is first called.
+    Used for functions that are only called when constraint matches are enabled,
+    such as justification and indictment mappings;
+    since they are not part of score calculation, their translations are not reported.
+    The `UntranslatableFunctionPolicy` in effect when this is called
+    is applied when the function is translated.
+    """
+    from ai.timefold.solver.python.score import LazyFunction
+
+    arg_count = _get_arg_count(function, type_args)
+    context = _get_context()
+    policy = context.policy
+    translated_functions = context.translated_functions
+    function_supplier = PythonSupplier(lambda: _cast_unreported(function, arg_count, type_args, policy,
+                                                                translated_functions, translate_function,
+                                                                default_function_cast))
+    if arg_count == 1:
+        return LazyFunction.uni(function_supplier)
+    elif arg_count == 2:
+        return LazyFunction.bi(function_supplier)
+    elif arg_count == 3:
+        return LazyFunction.tri(function_supplier)
+    elif arg_count == 4:
+        return LazyFunction.quad(function_supplier)
+    elif arg_count == 5:
+        return LazyFunction.penta(function_supplier)
     raise ValueError(f'Unexpected argument count: {arg_count}')
 
 
+def _cast_unreported(function, arg_count, type_args, policy: UntranslatableFunctionPolicy,
+                     translated_functions: Optional[dict[tuple, tuple]], translate: Callable, default_cast: Callable):
+    if _check_if_type_args_are_python_object_wrappers(type_args):
+        reason = 'its arguments are opaque Python objects'
+    else:
+        try:
+            return _translate_canonical(function, arg_count, type_args, translate, translated_functions)
+        except Exception as e:
+            reason = _describe_error(e)
+
+    function_translation = FunctionTranslation(_describe_function(function), False, reason)
+    if policy is UntranslatableFunctionPolicy.FAIL:
+        raise UntranslatableFunctionError(function_translation)
+    if policy is UntranslatableFunctionPolicy.WARN:
+        logger.warning(f'Function {function_translation.function} could not be translated to Java bytecode: '
+                       f'{reason}.\n'
+                       f'It is called through CPython, which is significantly slower.')
+    return default_cast(function, arg_count)
+
+
 def default_function_cast(function, arg_count):
     if arg_count == 1:
         return PythonFunction(lambda a: _convert_to_java_compatible_object(function(a)))
@@ -122,35 +479,38 @@ def default_function_cast(function, arg_count):
         raise ValueError(f'Unexpected argument count: {arg_count}')
 
 
-def predicate_cast(predicate, *type_args):
-    arg_count = len(inspect.signature(predicate).parameters)
-    if len(type_args) != arg_count:
-        raise ValueError(f'Invalid function: expected {len(type_args)} arguments but got {arg_count}')
-
-    if _check_if_type_args_are_python_object_wrappers(type_args):
-        return default_predicate_cast(predicate, arg_count)
-
+def translate_predicate(predicate, arg_count, *type_args):
     from java.util.function import Predicate, BiPredicate
     from ai.timefold.solver.core.api.function import TriPredicate, QuadPredicate, PentaPredicate
-    try:
-        _check_if_bytecode_translation_possible()
-        if arg_count == 1:
-            return translate_python_bytecode_to_java_bytecode(predicate, Predicate, *type_args)
-        elif arg_count == 2:
-            return translate_python_bytecode_to_java_bytecode(predicate, BiPredicate, *type_args)
-        elif arg_count == 3:
-            return translate_python_bytecode_to_java_bytecode(predicate, TriPredicate, *type_args)
-        elif arg_count == 4:
-            return translate_python_bytecode_to_java_bytecode(predicate, QuadPredicate, *type_args)
-        elif arg_count == 5:
-            return translate_python_bytecode_to_java_bytecode(predicate, PentaPredicate, *type_args)
-    except:  # noqa
-        all_translated_successfully = False
-        return default_predicate_cast(predicate, arg_count)
 
+    if arg_count == 1:
+        return translate_python_bytecode_to_java_bytecode(predicate, Predicate, *type_args)
+    elif arg_count == 2:
+        return translate_python_bytecode_to_java_bytecode(predicate, BiPredicate, *type_args)
+    elif arg_count == 3:
+        return translate_python_bytecode_to_java_bytecode(predicate, TriPredicate, *type_args)
+    elif arg_count == 4:
+        return translate_python_bytecode_to_java_bytecode(predicate, QuadPredicate, *type_args)
+    elif arg_count == 5:
+        return translate_python_bytecode_to_java_bytecode(predicate, PentaPredicate, *type_args)
     raise ValueError(f'Unexpected argument count: {arg_count}')
 
 
+def predicate_cast(predicate, *type_args):
+    return _cast(predicate, type_args, translate_predicate, default_predicate_cast)
+
+
+def is_translated(cast_function) -> bool:
+    """
+    Returns whether a function returned by `predicate_cast` or `to_int_function_cast`
+    was translated to Java bytecode, instead of being called through CPython.
+    """
+    return not isinstance(cast_function, (PythonPredicate, PythonBiPredicate, PythonTriPredicate,
+                                           PythonQuadPredicate, PythonPentaPredicate,
+                                           PythonToIntFunction, PythonToIntBiFunction,
+                                           PythonToIntTriFunction, PythonToIntQuadFunction))
+
+
 def default_predicate_cast(predicate, arg_count):
     if arg_count == 1:
         return PythonPredicate(predicate)
@@ -166,32 +526,25 @@ def default_predicate_cast(predicate, arg_count):
         raise ValueError(f'Unexpected argument count: {arg_count}')
 
 
-def to_int_function_cast(function, *type_args):
-    arg_count = len(inspect.signature(function).parameters)
-    if len(type_args) != arg_count:
-        raise ValueError(f'Invalid function: expected {len(type_args)} arguments but got {arg_count}')
-
-    if _check_if_type_args_are_python_object_wrappers(type_args):
-        return default_to_int_function_cast(function, arg_count)
-
+def translate_to_int_function(function, arg_count, *type_args):
     from java.util.function import ToIntFunction, ToIntBiFunction
     from ai.timefold.solver.core.api.function import ToIntTriFunction, ToIntQuadFunction
-    try:
-        _check_if_bytecode_translation_possible()
-        if arg_count == 1:
-            return translate_python_bytecode_to_java_bytecode(function, ToIntFunction, *type_args)
-        elif arg_count == 2:
-            return translate_python_bytecode_to_java_bytecode(function, ToIntBiFunction, *type_args)
-        elif arg_count == 3:
-            return translate_python_bytecode_to_java_bytecode(function, ToIntTriFunction, *type_args)
-        elif arg_count == 4:
-            return translate_python_bytecode_to_java_bytecode(function, ToIntQuadFunction, *type_args)
-    except:  # noqa
-        return default_to_int_function_cast(function, arg_count)
 
+    if arg_count == 1:
+        return translate_python_bytecode_to_java_bytecode(function, ToIntFunction, *type_args)
+    elif arg_count == 2:
+        return translate_python_bytecode_to_java_bytecode(function, ToIntBiFunction, *type_args)
+    elif arg_count == 3:
+        return translate_python_bytecode_to_java_bytecode(function, ToIntTriFunction, *type_args)
+    elif arg_count == 4:
+        return translate_python_bytecode_to_java_bytecode(function, ToIntQuadFunction, *type_args)
     raise ValueError(f'Unexpected argument count: {arg_count}')
 
 
+def to_int_function_cast(function, *type_args):
+    return _cast(function, type_args, translate_to_int_function, default_to_int_function_cast)
+
+
 def default_to_int_function_cast(function, arg_count):
     if arg_count == 1:
         return PythonToIntFunction(lambda a: _convert_to_java_compatible_object(function(a)))
@@ -207,4 +560,9 @@ def default_to_int_function_cast(function, arg_count):
 
 __all__ = ['predicate_cast',
            'function_cast',
-           'to_int_function_cast']
+           'lazy_function_cast',
+           'to_int_function_cast',
+           'UntranslatableFunctionPolicy',
+           'UntranslatableFunctionError',
+           'FunctionTranslation',
+           'ConstraintFunctionTranslationReport']
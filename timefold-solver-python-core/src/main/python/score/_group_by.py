@@ -20,6 +20,11 @@ class GroupMappingSingleArgConstraintCollector:
     group_mapping: Callable
 
 
+@dataclasses.dataclass
+class CountConstraintCollector(NoArgsConstraintCollector):
+    pass
+
+
 @dataclasses.dataclass
 class KeyValueMappingConstraintCollector:
     collector_creator: Callable
@@ -33,6 +38,11 @@ class GroupIntMappingSingleArgConstraintCollector:
     group_mapping: Callable
 
 
+@dataclasses.dataclass
+class SumConstraintCollector(GroupIntMappingSingleArgConstraintCollector):
+    pass
+
+
 @dataclasses.dataclass
 class GroupMappingIntMappingTwoArgConstraintCollector:
     collector_creator: Callable
@@ -61,8 +71,60 @@ class CollectAndThenCollector:
     mapping_function: Callable
 
 
+def extract_conditional_int_collector(collector_info, *type_arguments):
+    """
+    Extracts ``conditionally(predicate, count())`` and ``conditionally(predicate, sum(mapping))``
+    as a single ``sum`` collector over a `ConditionalIntMapping`,
+    so Timefold does not wrap the sum collector in a conditional collector.
+    The predicate and the mapping are cast on their own first;
+    if either is called through CPython, the unfused conditional collector is used instead.
+
+    Other collectors are not fused into generated collector classes:
+    their mapping functions are already translated to Java bytecode and called directly by Timefold's collectors,
+    so a generated class would not remove a CPython call.
+    The conditional wrapper of ``min``, ``max`` and ``to_list`` is kept,
+    since those collectors have no neutral value for a failed predicate (unlike ``0`` for a sum).
+
+    Returns None if the collector is not such a conditional collector.
+    """
+    from ai.timefold.solver.python.score import ConditionalIntMapping
+
+    if not isinstance(collector_info, ConditionalConstraintCollector):
+        return None
+    delegate = collector_info.delegate
+    if not isinstance(delegate, (CountConstraintCollector, SumConstraintCollector)):
+        return None
+
+    predicate = predicate_cast(collector_info.predicate, *type_arguments)
+    if isinstance(delegate, SumConstraintCollector):
+        mapping = to_int_function_cast(delegate.group_mapping, *type_arguments)
+        delegate_collector = delegate.collector_creator(mapping)
+    else:
+        mapping = None
+        delegate_collector = delegate.collector_creator()
+
+    if not is_translated(predicate) or (mapping is not None and not is_translated(mapping)):
+        return collector_info.collector_creator(predicate, delegate_collector)
+
+    arg_count = len(type_arguments)
+    if arg_count == 1:
+        conditional_mapping = ConditionalIntMapping.uni(predicate, mapping)
+    elif arg_count == 2:
+        conditional_mapping = ConditionalIntMapping.bi(predicate, mapping)
+    elif arg_count == 3:
+        conditional_mapping = ConditionalIntMapping.tri(predicate, mapping)
+    elif arg_count == 4:
+        conditional_mapping = ConditionalIntMapping.quad(predicate, mapping)
+    else:
+        raise ValueError(f'Unexpected argument count: {arg_count}')
+    return ConstraintCollectors._delegate().sum(conditional_mapping)
+
+
 def extract_collector(collector_info, *type_arguments):
-    if isinstance(collector_info, NoArgsConstraintCollector):
+    conditional_int_collector = extract_conditional_int_collector(collector_info, *type_arguments)
+    if conditional_int_collector is not None:
+        return conditional_int_collector
+    elif isinstance(collector_info, NoArgsConstraintCollector):
         return collector_info.collector_creator()
     elif isinstance(collector_info, GroupMappingSingleArgConstraintCollector):
         return collector_info.collector_creator(function_cast(collector_info.group_mapping, *type_arguments))
@@ -362,28 +424,28 @@ class ConstraintCollectors:
         """
         Returns a collector that counts the number of elements that are being grouped.
         """
-        return NoArgsConstraintCollector(ConstraintCollectors._delegate().count)  # noqa
+        return CountConstraintCollector(ConstraintCollectors._delegate().count)  # noqa
 
     @staticmethod
     def count_bi() -> 'BiConstraintCollector[A, B, Any, int]':
         """
         Returns a collector that counts the number of elements that are being grouped.
         """
-        return NoArgsConstraintCollector(ConstraintCollectors._delegate().countBi)  # noqa
+        return CountConstraintCollector(ConstraintCollectors._delegate().countBi)  # noqa
 
     @staticmethod
     def count_tri() -> 'TriConstraintCollector[A, B, C, Any, int]':
         """
         Returns a collector that counts the number of elements that are being grouped.
         """
-        return NoArgsConstraintCollector(ConstraintCollectors._delegate().countTri)  # noqa
+        return CountConstraintCollector(ConstraintCollectors._delegate().countTri)  # noqa
 
     @staticmethod
     def count_quad() -> 'QuadConstraintCollector[A, B, C, D, Any, int]':
         """
         Returns a collector that counts the number of elements that are being grouped.
         """
-        return NoArgsConstraintCollector(ConstraintCollectors._delegate().countQuad)  # noqa
+        return CountConstraintCollector(ConstraintCollectors._delegate().countQuad)  # noqa
 
     @overload  # noqa
     @staticmethod
@@ -610,7 +672,7 @@ class ConstraintCollectors:
         Returns a collector that sums an int property of the elements that are being grouped.
         """
         if zero is None and adder is None and subtractor is None:
-            return GroupIntMappingSingleArgConstraintCollector(ConstraintCollectors._delegate().sum, function)
+            return SumConstraintCollector(ConstraintCollectors._delegate().sum, function)
         elif zero is not None and adder is not None and subtractor is not None:
             raise NotImplementedError  # TODO
         else:
@@ -997,11 +1059,14 @@ class ConstraintCollectors:
 # Must be at the bottom, constraint_stream depends on this module
 from ._constraint_stream import *
 from ._function_translator import *
+from ._function_translator import is_translated
 __all__ = [
     'NoArgsConstraintCollector',
+    'CountConstraintCollector',
     'GroupMappingSingleArgConstraintCollector',
     'KeyValueMappingConstraintCollector',
     'GroupIntMappingSingleArgConstraintCollector',
+    'SumConstraintCollector',
     'GroupMappingIntMappingTwoArgConstraintCollector',
     'ComposeConstraintCollector',
     'ConditionalConstraintCollector',
@@ -20,7 +20,7 @@ from typing import Callable, Generic, List, Type, TypeVar, TYPE_CHECKING, overlo
 
 from .._jpype_type_conversions import PythonBiFunction
 from .._timefold_java_interop import get_class
-from ..score import ConstraintFactory
+from ..score import ConstraintFactory, UntranslatableFunctionPolicy
 from ..config import SolverConfig
 
 if TYPE_CHECKING:
@@ -38,24 +38,39 @@ class ConstraintVerifier(Generic[Solution_]):
     Entry point for the ConstraintVerifier API, which is used to test constraints defined by
     a @constraint_provider function.
     """
-    def __init__(self, delegate):
+    def __init__(self, delegate,
+                 untranslatable_function_policy: UntranslatableFunctionPolicy = UntranslatableFunctionPolicy.WARN):
         self.delegate = delegate
+        self._untranslatable_function_policy = untranslatable_function_policy
 
     @staticmethod
     def create(solver_config: SolverConfig):
+        """
+        Creates a constraint verifier for the constraints of the solver config.
+        Functions in the constraints that cannot be translated to Java bytecode are handled
+        according to its `SolverConfig.untranslatable_function_policy`.
+        """
         from ai.timefold.solver.test.api.score.stream import ConstraintVerifier as JavaConstraintVerifier  # noqa
-        return ConstraintVerifier(JavaConstraintVerifier.create(solver_config._to_java_solver_config()))
+        return ConstraintVerifier(JavaConstraintVerifier.create(solver_config._to_java_solver_config()),
+                                  solver_config.untranslatable_function_policy)
 
     @staticmethod
     def build(constraint_provider: Callable[['ConstraintFactory'], List['Constraint']],
-              planning_solution_class: Type[Solution_], *entity_classes: Type):
+              planning_solution_class: Type[Solution_], *entity_classes: Type,
+              untranslatable_function_policy: UntranslatableFunctionPolicy = UntranslatableFunctionPolicy.WARN):
+        """
+        Creates a constraint verifier for the constraints of the constraint provider.
+        Functions in the constraints that cannot be translated to Java bytecode are handled
+        according to `untranslatable_function_policy`, which defaults to `UntranslatableFunctionPolicy.WARN`.
+        """
         from ai.timefold.solver.test.api.score.stream import ConstraintVerifier as JavaConstraintVerifier  # noqa
         constraint_provider_instance = get_class(constraint_provider).getConstructor().newInstance()
         planning_solution_java_class = get_class(planning_solution_class)
         entity_java_classes = list(map(get_class, entity_classes))
         return ConstraintVerifier(JavaConstraintVerifier.build(constraint_provider_instance,
                                                                planning_solution_java_class,
-                                                               entity_java_classes))
+                                                               entity_java_classes),
+                                  untranslatable_function_policy)
 
     @overload
     def verify_that(self) -> 'MultiConstraintVerification[Solution_]':
@@ -79,12 +94,15 @@ class ConstraintVerifier(Generic[Solution_]):
             the constraint to verify.
             If not provided, all constraints will be tested
         """
-        if constraint_function is None:
-            return MultiConstraintVerification(self.delegate.verifyThat())
-        else:
-            return SingleConstraintVerification(self.delegate.verifyThat(
-                PythonBiFunction(lambda _, constraint_factory:
-                                 constraint_function(ConstraintFactory(constraint_factory)))))
+        from ..score._function_translator import record_function_translations
+        # The constraints are built when they are first verified
+        with record_function_translations(self._untranslatable_function_policy):
+            if constraint_function is None:
+                return MultiConstraintVerification(self.delegate.verifyThat())
+            else:
+                return SingleConstraintVerification(self.delegate.verifyThat(
+                    PythonBiFunction(lambda _, constraint_factory:
+                                     constraint_function(ConstraintFactory(constraint_factory)))))
 
 
 class SingleConstraintVerification(Generic[Solution_]):
@@ -103,9 +121,9 @@ class SingleConstraintVerification(Generic[Solution_]):
         from ai.timefold.jpyinterpreter import CPythonBackedPythonInterpreter  # noqa
         from ai.timefold.jpyinterpreter.types import CPythonBackedPythonLikeObject  # noqa
         from ai.timefold.jpyinterpreter.types.wrappers import OpaquePythonReference  # noqa
-        from java.util import HashMap
+        from ai.timefold.jpyinterpreter.util import PythonIdMap  # noqa
         from _jpyinterpreter import convert_to_java_python_like_object
-        reference_map = HashMap()
+        reference_map = PythonIdMap()
         wrapped_facts = []
 
         for fact in facts:
@@ -145,8 +163,8 @@ class MultiConstraintVerification(Generic[Solution_]):
         from ai.timefold.jpyinterpreter.types import CPythonBackedPythonLikeObject  # noqa
         from ai.timefold.jpyinterpreter.types.wrappers import OpaquePythonReference  # noqa
         from _jpyinterpreter import convert_to_java_python_like_object
-        from java.util import HashMap
-        reference_map = HashMap()
+        from ai.timefold.jpyinterpreter.util import PythonIdMap  # noqa
+        reference_map = PythonIdMap()
         wrapped_facts = []
 
         for fact in facts:
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Random;
 
 import ai.timefold.jpyinterpreter.types.numeric.PythonBoolean;
 import ai.timefold.jpyinterpreter.types.numeric.PythonFloat;
@@ -45,6 +46,49 @@ class PythonValueRangeFactoryTest {
                         PythonInteger.valueOf(18));
     }
 
+    @Test
+    void createIntValueRangeWithLongBounds() {
+        CountableValueRange<PythonInteger> valueRange = PythonValueRangeFactory.createIntValueRange(10L, 20L, 5L);
+        assertThat(valueRange.getSize()).isEqualTo(2L);
+        assertThat(valueRange.get(1L)).isEqualTo(PythonInteger.valueOf(15))
+                .isSameAs(valueRange.get(1L));
+        assertThat(valueRange.contains(PythonInteger.valueOf(15))).isTrue();
+        assertThat(valueRange.contains(PythonInteger.valueOf(12))).isFalse();
+        assertThat(valueRange.contains(PythonInteger.valueOf(20))).isFalse();
+        assertThat(valueRange.contains(PythonInteger.valueOf(BigInteger.TWO.pow(100)))).isFalse();
+        assertThat(valueRange.createRandomIterator(new Random(0L)).next())
+                .isIn(PythonInteger.valueOf(10), PythonInteger.valueOf(15));
+    }
+
+    @Test
+    void createIntValueRangeOutsideLongBounds() {
+        BigInteger from = BigInteger.TWO.pow(70);
+        assertThat(PythonValueRangeFactory.createIntValueRange(from, from.add(BigInteger.TWO)))
+                .extracting(CountableValueRange::createOriginalIterator,
+                        as(InstanceOfAssertFactories.iterator(PythonInteger.class)))
+                .toIterable()
+                .containsExactly(
+                        PythonInteger.valueOf(from),
+                        PythonInteger.valueOf(from.add(BigInteger.ONE)));
+    }
+
+    @Test
+    void createIntListValueRange() {
+        CountableValueRange<PythonInteger> valueRange =
+                PythonValueRangeFactory.createIntListValueRange(new long[] { 5L, 1L, 3L });
+        assertThat(valueRange)
+                .extracting(CountableValueRange::createOriginalIterator,
+                        as(InstanceOfAssertFactories.iterator(PythonInteger.class)))
+                .toIterable()
+                .containsExactly(
+                        PythonInteger.valueOf(5),
+                        PythonInteger.valueOf(1),
+                        PythonInteger.valueOf(3));
+        assertThat(valueRange.get(2L)).isSameAs(valueRange.get(2L));
+        assertThat(valueRange.contains(PythonInteger.valueOf(1))).isTrue();
+        assertThat(valueRange.contains(PythonInteger.valueOf(2))).isFalse();
+    }
+
     @Test
     void createFloatValueRange() {
         assertThat(PythonValueRangeFactory.createFloatValueRange(BigDecimal.valueOf(10), BigDecimal.valueOf(15)))
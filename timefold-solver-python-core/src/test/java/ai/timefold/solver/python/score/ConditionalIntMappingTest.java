@@ -0,0 +1,54 @@
+package ai.timefold.solver.python.score;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+
+import ai.timefold.solver.core.api.function.ToIntQuadFunction;
+import ai.timefold.solver.core.api.function.ToIntTriFunction;
+
+import org.junit.jupiter.api.Test;
+
+class ConditionalIntMappingTest {
+
+    @Test
+    void mapsOnlyMatches() {
+        AtomicInteger mappedCount = new AtomicInteger();
+        ToIntFunction<Integer> mapping = ConditionalIntMapping.uni(a -> a > 1, a -> {
+            mappedCount.incrementAndGet();
+            return a * 10;
+        });
+
+        assertThat(mapping.applyAsInt(1)).isZero();
+        assertThat(mappedCount).hasValue(0);
+        assertThat(mapping.applyAsInt(2)).isEqualTo(20);
+        assertThat(mappedCount).hasValue(1);
+    }
+
+    @Test
+    void countsMatchesWithoutMapping() {
+        ToIntFunction<Integer> uni = ConditionalIntMapping.uni(a -> a > 1, null);
+        ToIntBiFunction<Integer, Integer> bi = ConditionalIntMapping.bi((a, b) -> a < b, null);
+
+        assertThat(uni.applyAsInt(1)).isZero();
+        assertThat(uni.applyAsInt(2)).isOne();
+        assertThat(bi.applyAsInt(2, 1)).isZero();
+        assertThat(bi.applyAsInt(1, 2)).isOne();
+    }
+
+    @Test
+    void passesAllArguments() {
+        ToIntBiFunction<Integer, Integer> bi = ConditionalIntMapping.bi((a, b) -> true, (a, b) -> a * 10 + b);
+        ToIntTriFunction<Integer, Integer, Integer> tri =
+                ConditionalIntMapping.tri((a, b, c) -> true, (a, b, c) -> a * 100 + b * 10 + c);
+        ToIntQuadFunction<Integer, Integer, Integer, Integer> quad =
+                ConditionalIntMapping.quad((a, b, c, d) -> d == 4, (a, b, c, d) -> a * 1000 + b * 100 + c * 10 + d);
+
+        assertThat(bi.applyAsInt(1, 2)).isEqualTo(12);
+        assertThat(tri.applyAsInt(1, 2, 3)).isEqualTo(123);
+        assertThat(quad.applyAsInt(1, 2, 3, 4)).isEqualTo(1234);
+        assertThat(quad.applyAsInt(1, 2, 3, 5)).isZero();
+    }
+}
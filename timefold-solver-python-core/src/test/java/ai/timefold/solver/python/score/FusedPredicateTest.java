@@ -0,0 +1,59 @@
+package ai.timefold.solver.python.score;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import ai.timefold.solver.core.api.function.QuadPredicate;
+import ai.timefold.solver.core.api.function.TriPredicate;
+
+import org.junit.jupiter.api.Test;
+
+class FusedPredicateTest {
+
+    @Test
+    void shortCircuits() {
+        AtomicInteger testedCount = new AtomicInteger();
+        Predicate<Integer> predicate = FusedPredicate.uni(a -> a > 1, a -> {
+            testedCount.incrementAndGet();
+            return a < 3;
+        });
+
+        assertThat(predicate.test(1)).isFalse();
+        assertThat(testedCount).hasValue(0);
+        assertThat(predicate.test(2)).isTrue();
+        assertThat(predicate.test(3)).isFalse();
+        assertThat(testedCount).hasValue(2);
+    }
+
+    @Test
+    void passesAllArguments() {
+        BiPredicate<Integer, Integer> bi = FusedPredicate.bi((a, b) -> a == 1, (a, b) -> b == 2);
+        TriPredicate<Integer, Integer, Integer> tri =
+                FusedPredicate.tri((a, b, c) -> a == 1 && b == 2, (a, b, c) -> c == 3);
+        QuadPredicate<Integer, Integer, Integer, Integer> quad =
+                FusedPredicate.quad((a, b, c, d) -> a == 1 && b == 2, (a, b, c, d) -> c == 3 && d == 4);
+
+        assertThat(bi.test(1, 2)).isTrue();
+        assertThat(bi.test(1, 3)).isFalse();
+        assertThat(tri.test(1, 2, 3)).isTrue();
+        assertThat(tri.test(1, 2, 4)).isFalse();
+        assertThat(quad.test(1, 2, 3, 4)).isTrue();
+        assertThat(quad.test(2, 2, 3, 4)).isFalse();
+    }
+
+    @Test
+    void equalWhenPartsAreEqual() {
+        Predicate<Integer> first = a -> a > 1;
+        Predicate<Integer> second = a -> a < 3;
+
+        assertThat(FusedPredicate.uni(first, second))
+                .isEqualTo(FusedPredicate.uni(first, second))
+                .hasSameHashCodeAs(FusedPredicate.uni(first, second))
+                .isNotEqualTo(FusedPredicate.uni(second, first));
+        assertThat(FusedPredicate.uni(FusedPredicate.uni(first, second), first))
+                .isEqualTo(FusedPredicate.uni(FusedPredicate.uni(first, second), first));
+    }
+}
@@ -0,0 +1,45 @@
+package ai.timefold.solver.python.score;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.function.PentaFunction;
+import ai.timefold.solver.core.api.function.QuadFunction;
+import ai.timefold.solver.core.api.function.TriFunction;
+
+import org.junit.jupiter.api.Test;
+
+class LazyFunctionTest {
+
+    @Test
+    void createsFunctionOnFirstCall() {
+        AtomicInteger createdCount = new AtomicInteger();
+        Function<Integer, Integer> function = LazyFunction.uni(() -> {
+            createdCount.incrementAndGet();
+            return a -> a + 1;
+        });
+        assertThat(createdCount).hasValue(0);
+
+        assertThat(function.apply(1)).isEqualTo(2);
+        assertThat(function.apply(2)).isEqualTo(3);
+        assertThat(createdCount).hasValue(1);
+    }
+
+    @Test
+    void passesAllArguments() {
+        BiFunction<Integer, Integer, Integer> bi = LazyFunction.bi(() -> (a, b) -> a * 10 + b);
+        TriFunction<Integer, Integer, Integer, Integer> tri = LazyFunction.tri(() -> (a, b, c) -> a * 100 + b * 10 + c);
+        QuadFunction<Integer, Integer, Integer, Integer, Integer> quad =
+                LazyFunction.quad(() -> (a, b, c, d) -> a * 1000 + b * 100 + c * 10 + d);
+        PentaFunction<Integer, Integer, Integer, Integer, Integer, Integer> penta =
+                LazyFunction.penta(() -> (a, b, c, d, e) -> a * 10000 + b * 1000 + c * 100 + d * 10 + e);
+
+        assertThat(bi.apply(1, 2)).isEqualTo(12);
+        assertThat(tri.apply(1, 2, 3)).isEqualTo(123);
+        assertThat(quad.apply(1, 2, 3, 4)).isEqualTo(1234);
+        assertThat(penta.apply(1, 2, 3, 4, 5)).isEqualTo(12345);
+    }
+}